@@ -0,0 +1,20 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for alternative-slot suggestions.
+ * Configures whether rejected reservations are answered with bookable alternatives and how many are returned.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.alternatives")
+public class AlternativeSlotConfig {
+
+    private boolean enabled = true;
+    private Integer maxResults = 3;
+}
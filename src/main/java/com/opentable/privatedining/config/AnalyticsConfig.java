@@ -7,7 +7,12 @@ import org.springframework.context.annotation.Configuration;
 
 /**
  * Configuration class for analytics settings.
- * Configures time slot duration and maximum date range for occupancy reports.
+ * Configures time slot duration and maximum date range for occupancy reports,
+ * the memory budget and refresh-ahead and stale-if-error windows of cached reports,
+ * the range limit and worker pool size for asynchronous report jobs,
+ * the nightly compaction of daily occupancy rollups,
+ * the in-memory reservation column store used for analytics scans,
+ * and whether cached reports are shared between instances through a second cache tier in MongoDB.
  */
 @Getter
 @Setter
@@ -18,6 +23,18 @@ public class AnalyticsConfig {
     private Integer timeSlotDurationMinutes = 60;
     private Integer maxRangeDays = 31;
     private Integer cacheTtlMinutes = 10;
-    private Integer cacheMaxSize = 100;
+    private Long cacheMaxWeightBytes = 64L * 1024 * 1024;
+    private Integer cacheRefreshAfterMinutes = 5;
+    private Integer cacheStaleIfErrorMinutes = 60;
+    private Integer cacheRefreshThreads = 2;
+    private boolean sharedCacheEnabled = false;
+    private Integer jobMaxRangeDays = 366;
+    private Integer jobWorkerThreads = 2;
+    private boolean rollupsEnabled = true;
+    private Integer rollupBackfillDays = 31;
+    private String rollupCompactionCron = "0 30 2 * * *";
+    private boolean columnStoreEnabled = false;
+    private Integer columnStoreRefreshMinutes = 15;
+    private Integer columnStoreWindowDays = 90;
 }
 
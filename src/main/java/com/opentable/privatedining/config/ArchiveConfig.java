@@ -0,0 +1,23 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the archival of past reservations.
+ * Reservations that ended more than {@code horizonDays} ago are moved to the archive collection
+ * {@code batchSize} at a time. The horizon must stay longer than the rollup backfill window, since
+ * rollups are compacted from live reservations only.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.archive")
+public class ArchiveConfig {
+
+    private boolean enabled = true;
+    private Integer horizonDays = 90;
+    private Integer batchSize = 1000;
+}
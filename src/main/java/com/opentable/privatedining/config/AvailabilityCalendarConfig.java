@@ -0,0 +1,22 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-memory availability calendar.
+ * Configures the longest calendar a request may ask for, how often loaded spaces are reloaded,
+ * and how long a space may go unread before its calendar is dropped.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.availability-calendar")
+public class AvailabilityCalendarConfig {
+
+    private Integer maxDays = 31;
+    private Integer refreshMinutes = 15;
+    private Integer idleMinutes = 60;
+}
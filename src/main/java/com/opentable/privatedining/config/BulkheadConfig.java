@@ -0,0 +1,95 @@
+package com.opentable.privatedining.config;
+
+import com.opentable.privatedining.service.Bulkhead;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for workload bulkheads.
+ * Booking writes and occupancy analytics get separate concurrency compartments, and the Mongo connection pool
+ * is sized so each compartment has its own connection budget on top of a shared reserve for other traffic.
+ * Analytics yields to bookings: it sheds new reports whenever bookings are queuing.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.bulkhead")
+public class BulkheadConfig {
+
+    public static final String BOOKING_BULKHEAD = "bookingBulkhead";
+    public static final String ANALYTICS_BULKHEAD = "analyticsBulkhead";
+
+    private Compartment booking = new Compartment(32, 64, 2000L);
+    private Compartment analytics = new Compartment(8, 4, 250L);
+    private Integer sharedMongoConnections = 20;
+
+    /**
+     * Creates the bulkhead guarding reservation writes.
+     *
+     * @return the booking bulkhead
+     */
+    @Bean(BOOKING_BULKHEAD)
+    public Bulkhead bookingBulkhead() {
+        return new Bulkhead("booking", booking.getMaxConcurrent(), booking.getMaxQueueDepth(),
+                booking.getMaxWaitMillis(), null);
+    }
+
+    /**
+     * Creates the bulkhead guarding occupancy report generation.
+     *
+     * @return the analytics bulkhead
+     */
+    @Bean(ANALYTICS_BULKHEAD)
+    public Bulkhead analyticsBulkhead() {
+        return new Bulkhead("analytics", analytics.getMaxConcurrent(), analytics.getMaxQueueDepth(),
+                analytics.getMaxWaitMillis(), bookingBulkhead());
+    }
+
+    /**
+     * Sizes the Mongo connection pool as the sum of the compartment budgets plus the shared reserve.
+     * A task inside a bulkhead holds at most one connection at a time, so each compartment's
+     * {@code maxConcurrent} is also its connection budget.
+     *
+     * @return the Mongo client settings customizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer bulkheadConnectionPoolCustomizer() {
+        int maxPoolSize = booking.getMaxConcurrent() + analytics.getMaxConcurrent() + sharedMongoConnections;
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool.maxSize(maxPoolSize));
+    }
+
+    /**
+     * Limits for a single workload compartment.
+     */
+    @Getter
+    @Setter
+    public static class Compartment {
+
+        private Integer maxConcurrent;
+        private Integer maxQueueDepth;
+        private Long maxWaitMillis;
+
+        /**
+         * Default constructor used by configuration binding.
+         */
+        public Compartment() {
+        }
+
+        /**
+         * Constructs a Compartment with the given limits.
+         *
+         * @param maxConcurrent the maximum number of tasks running at once
+         * @param maxQueueDepth the maximum number of callers waiting for a permit
+         * @param maxWaitMillis the maximum time a caller waits for a permit
+         */
+        public Compartment(Integer maxConcurrent, Integer maxQueueDepth, Long maxWaitMillis) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueueDepth = maxQueueDepth;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.opentable.privatedining.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.repository.SharedCacheStore;
+import com.opentable.privatedining.service.OccupancyReportWeigher;
+import com.opentable.privatedining.service.RefreshAheadCache;
+import com.opentable.privatedining.service.SizeEvictionRecorder;
+import com.opentable.privatedining.service.TwoTierCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Configuration class for caching.
- * Configures Caffeine cache for occupancy analytics reports.
+ * Configures Caffeine cache for occupancy analytics reports. With the shared cache enabled, the Caffeine cache is
+ * the first tier of a {@link TwoTierCache} whose second tier is shared by every instance.
+ * Reports are served through a {@link RefreshAheadCache}: past the refresh age they are recomputed in the
+ * background, and they are kept past their time to live to be served while the database is unavailable.
+ * The Caffeine cache is bounded by the estimated memory of its reports rather than their number, and records
+ * statistics, including evictions caused by size, exposed through the cache admin endpoint.
  */
 @Configuration
 @EnableCaching
@@ -26,12 +42,39 @@ public class CacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(OCCUPANCY_REPORTS_CACHE);
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(analyticsConfig.getCacheTtlMinutes(), TimeUnit.MINUTES)
-                .maximumSize(analyticsConfig.getCacheMaxSize()));
+    public CacheManager cacheManager(SharedCacheStore sharedCacheStore,
+                                     ObjectMapper objectMapper,
+                                     SizeEvictionRecorder sizeEvictionRecorder,
+                                     @Qualifier(ExecutorConfig.REPORT_REFRESH_EXECUTOR)
+                                     ExecutorService refreshExecutor) {
+        Duration timeToLive = Duration.ofMinutes(analyticsConfig.getCacheTtlMinutes());
+        Duration refreshAfter = Duration.ofMinutes(analyticsConfig.getCacheRefreshAfterMinutes());
+        Duration staleIfError = Duration.ofMinutes(analyticsConfig.getCacheStaleIfErrorMinutes());
+        Duration retention = timeToLive.plus(staleIfError);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+                return Caffeine.newBuilder()
+                        .expireAfterWrite(retention)
+                        .maximumWeight(analyticsConfig.getCacheMaxWeightBytes())
+                        .weigher(new OccupancyReportWeigher())
+                        .recordStats(() -> sizeEvictionRecorder.statsCounter(name))
+                        .build();
+            }
+
+            @Override
+            protected Cache createCaffeineCache(String name) {
+                Cache cache = super.createCaffeineCache(name);
+                if (analyticsConfig.isSharedCacheEnabled()) {
+                    cache = new TwoTierCache(cache, sharedCacheStore, objectMapper, OccupancyReportDTO.class,
+                            retention, refreshExecutor);
+                }
+                return new RefreshAheadCache(cache,
+                        value -> value instanceof OccupancyReportDTO report ? report.getGeneratedAt() : null,
+                        refreshAfter, timeToLive, staleIfError, refreshExecutor);
+            }
+        };
+        cacheManager.setCacheNames(List.of(OCCUPANCY_REPORTS_CACHE));
         return cacheManager;
     }
 }
-
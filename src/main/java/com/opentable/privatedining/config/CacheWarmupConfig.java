@@ -0,0 +1,28 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the warm-up of the occupancy report cache.
+ * Request counts per report are kept in memory and persisted every {@code flushIntervalSeconds}; reports not
+ * requested for {@code retentionDays} are forgotten. At startup and on {@code cron}, the {@code topReports} most
+ * requested reports are precomputed by {@code concurrency} workers. Startup waits up to
+ * {@code startupTimeoutSeconds} for the warm-up before the instance is marked ready.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.cache-warmup")
+public class CacheWarmupConfig {
+
+    private boolean enabled = true;
+    private Integer topReports = 50;
+    private Integer concurrency = 2;
+    private Integer startupTimeoutSeconds = 60;
+    private Integer flushIntervalSeconds = 60;
+    private String cron = "0 */10 * * * *";
+    private Integer retentionDays = 7;
+}
@@ -0,0 +1,27 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the MongoDB change stream keeping local caches and in-memory indexes coherent across
+ * instances. Requires a replica set. Configures the name under which this instance persists its resume token
+ * (defaults to the host name, so it must be set when several instances share a host), how often the token is
+ * saved, how long to wait before reopening a failed stream, and how many reservation versions are remembered to
+ * recognise this instance's own writes.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.change-stream")
+public class ChangeStreamConfig {
+
+    private boolean enabled = false;
+    private String nodeId;
+    private Integer tokenSaveIntervalSeconds = 5;
+    private Integer retryDelaySeconds = 5;
+    private Integer trackedReservations = 100_000;
+    private boolean preImagesEnabled = true;
+}
@@ -0,0 +1,26 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the cleanup of reservations left behind by deleted restaurants and removed spaces.
+ * Up to {@code asyncThreshold} reservations are removed before the delete request returns; larger tenants are
+ * cleaned up in the background. Reservations are deleted {@code batchSize} at a time.
+ * An instance processing a job holds it for {@code leaseSeconds} past its last batch; jobs whose lease lapsed, such
+ * as those of a stopped instance, are looked for every {@code resumeIntervalSeconds} and taken over.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.cleanup")
+public class CleanupConfig {
+
+    private Integer asyncThreshold = 1000;
+    private Integer batchSize = 1000;
+    private Integer workerThreads = 1;
+    private Integer leaseSeconds = 300;
+    private Integer resumeIntervalSeconds = 60;
+}
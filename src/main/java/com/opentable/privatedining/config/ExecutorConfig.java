@@ -0,0 +1,85 @@
+package com.opentable.privatedining.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuration class for application background executors.
+ * Executors follow {@code spring.threads.virtual.enabled}: with virtual threads on, workers are virtual threads;
+ * otherwise they are daemon platform threads. Pool sizes bound concurrency either way.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String REPORT_JOB_EXECUTOR = "reportJobExecutor";
+    public static final String CLEANUP_EXECUTOR = "cleanupExecutor";
+    public static final String REPORT_REFRESH_EXECUTOR = "reportRefreshExecutor";
+    public static final String REPORT_WARMUP_EXECUTOR = "reportWarmupExecutor";
+
+    private final AnalyticsConfig analyticsConfig;
+    private final CleanupConfig cleanupConfig;
+    private final CacheWarmupConfig cacheWarmupConfig;
+    private final boolean virtualThreadsEnabled;
+
+    public ExecutorConfig(AnalyticsConfig analyticsConfig,
+                          CleanupConfig cleanupConfig,
+                          CacheWarmupConfig cacheWarmupConfig,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        this.analyticsConfig = analyticsConfig;
+        this.cleanupConfig = cleanupConfig;
+        this.cacheWarmupConfig = cacheWarmupConfig;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    /**
+     * Creates the executor that processes asynchronous occupancy report jobs.
+     *
+     * @return the report job executor
+     */
+    @Bean(name = REPORT_JOB_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService reportJobExecutor() {
+        return Executors.newFixedThreadPool(analyticsConfig.getJobWorkerThreads(), threadFactory("report-job-"));
+    }
+
+    /**
+     * Creates the executor that removes the reservations of deleted restaurants and spaces in the background.
+     *
+     * @return the cleanup executor
+     */
+    @Bean(name = CLEANUP_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService cleanupExecutor() {
+        return Executors.newFixedThreadPool(cleanupConfig.getWorkerThreads(), threadFactory("cleanup-"));
+    }
+
+    /**
+     * Creates the executor that recomputes cached occupancy reports in the background.
+     *
+     * @return the report refresh executor
+     */
+    @Bean(name = REPORT_REFRESH_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService reportRefreshExecutor() {
+        return Executors.newFixedThreadPool(analyticsConfig.getCacheRefreshThreads(), threadFactory("report-refresh-"));
+    }
+
+    /**
+     * Creates the executor that precomputes the most requested occupancy reports when warming up the cache.
+     *
+     * @return the report warm-up executor
+     */
+    @Bean(name = REPORT_WARMUP_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService reportWarmupExecutor() {
+        return Executors.newFixedThreadPool(cacheWarmupConfig.getConcurrency(), threadFactory("report-warmup-"));
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        if (virtualThreadsEnabled) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+}
@@ -0,0 +1,24 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for idempotent reservation creation.
+ * Configures how long completed results are replayed, the size of the in-memory result cache,
+ * and how duplicates of a request still in flight wait for it.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.idempotency")
+public class IdempotencyConfig {
+
+    private Integer ttlHours = 24;
+    private Integer cacheMaxSize = 10000;
+    private Integer pendingLeaseSeconds = 60;
+    private Integer waitTimeoutSeconds = 10;
+    private Integer pollIntervalMillis = 100;
+}
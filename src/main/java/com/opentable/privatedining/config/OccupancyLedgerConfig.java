@@ -0,0 +1,28 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the memory-mapped occupancy ledger.
+ * Configures the backing file, its fixed layout (slot size, space directory size and days kept per space),
+ * and the background verification of ledger records against MongoDB.
+ * Changing any layout setting discards the existing file on the next startup.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.ledger")
+public class OccupancyLedgerConfig {
+
+    private boolean enabled = false;
+    private String path = "data/occupancy-ledger.bin";
+    private Integer slotDurationMinutes = 15;
+    private Integer maxSpaces = 1024;
+    private Integer daysPerSpace = 62;
+    private Integer verifyIntervalSeconds = 30;
+    private Integer reverifyMinutes = 60;
+    private Integer verifyBatchSize = 200;
+}
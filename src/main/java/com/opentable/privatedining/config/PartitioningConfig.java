@@ -0,0 +1,22 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the monthly partitioning of reservations.
+ * When enabled, reservations are stored in one collection per month of their start time instead of a single
+ * {@code reservations} collection, and whole months past the archive horizon are archived and dropped at once.
+ * The partition names are cached and listed again from the database periodically.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.partitioning")
+public class PartitioningConfig {
+
+    private boolean enabled = false;
+    private Integer partitionListRefreshSeconds = 60;
+}
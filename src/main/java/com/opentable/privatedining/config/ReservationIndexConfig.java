@@ -0,0 +1,22 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-memory reservation interval index.
+ * Configures whether overlap queries are answered from the index, how many days back it covers and how often loaded
+ * spaces are reloaded.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.reservation-index")
+public class ReservationIndexConfig {
+
+    private boolean enabled = false;
+    private Integer windowDays = 90;
+    private Integer refreshMinutes = 15;
+}
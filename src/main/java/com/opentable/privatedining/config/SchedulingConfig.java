@@ -0,0 +1,13 @@
+package com.opentable.privatedining.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class for scheduled background tasks.
+ * Enables the nightly occupancy rollup compaction and the other periodic background maintenance tasks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,23 @@
+package com.opentable.privatedining.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the one-time migration of reservation documents to the compact storage layout.
+ * When enabled, the default, documents still in the previous layout are rewritten {@code batchSize} at a time on
+ * startup, and storage size and range query throughput are measured before and after with {@code sampleQueries}
+ * range queries. When disabled, startup fails while documents in the previous layout remain.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "private-dining.storage-migration")
+public class StorageMigrationConfig {
+
+    private boolean enabled = true;
+    private Integer batchSize = 1000;
+    private Integer sampleQueries = 200;
+}
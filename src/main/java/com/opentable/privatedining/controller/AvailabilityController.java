@@ -0,0 +1,128 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.AvailabilityCalendarDTO;
+import com.opentable.privatedining.dto.SpaceAvailabilityDTO;
+import com.opentable.privatedining.service.AvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.bson.types.ObjectId;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for searching available private dining spaces across restaurants
+ * and for the per-space availability calendar.
+ */
+@RestController
+@RequestMapping("/v1/availability")
+@Tag(name = "Availability", description = "Private dining availability search API")
+@Validated
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    /**
+     * Constructs a new AvailabilityController with the required dependencies.
+     *
+     * @param availabilityService the service for availability searches
+     */
+    public AvailabilityController(AvailabilityService availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    /**
+     * Searches for spaces that can seat a party for a whole time window.
+     *
+     * @param partySize the party size
+     * @param startTime the window start
+     * @param endTime the window end
+     * @param cuisineType optional cuisine filter
+     * @param restaurantId optional restaurant filter
+     * @param limit the maximum number of results
+     * @return the available spaces, best fit first
+     */
+    @GetMapping
+    @Operation(summary = "Search availability",
+            description = "Find every space that can seat the party for the whole window, checking party size limits, " +
+                    "operating hours and current occupancy. Results are ranked by tightest fit, then by name.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SpaceAvailabilityDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (invalid window, party size, limit or ID format)"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<List<SpaceAvailabilityDTO>> searchAvailability(
+            @Parameter(description = "Number of guests", required = true, example = "30")
+            @RequestParam @Min(value = 1, message = "Party size must be at least 1") int partySize,
+            @Parameter(description = "Start of the window (ISO date-time format)", required = true, example = "2026-01-23T18:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "End of the window (ISO date-time format)", required = true, example = "2026-01-23T21:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "Optional cuisine type filter (case-insensitive)", example = "Italian")
+            @RequestParam(required = false) String cuisineType,
+            @Parameter(description = "Optional restaurant ID filter")
+            @RequestParam(required = false) String restaurantId,
+            @Parameter(description = "Maximum number of results", example = "20")
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must be at most 100") int limit) {
+        ObjectId restaurantObjectId = restaurantId != null ? new ObjectId(restaurantId) : null;
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                partySize, startTime, endTime, cuisineType, restaurantObjectId, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Retrieves the availability calendar of a space for a party size.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param partySize the party size
+     * @param startDate the first day of the calendar, today if omitted
+     * @param days the number of days
+     * @return the calendar
+     */
+    @GetMapping("/calendar")
+    @Operation(summary = "Get availability calendar",
+            description = "Day-by-day view of the slots of a space within operating hours, with the remaining capacity " +
+                    "of each slot and whether it can still take the party. Served from in-memory slot occupancy.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AvailabilityCalendarDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (party size outside space limits, too many days, or invalid ID format)"),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found")
+    })
+    public ResponseEntity<AvailabilityCalendarDTO> getCalendar(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @RequestParam String restaurantId,
+            @Parameter(description = "ID of the space", required = true)
+            @RequestParam UUID spaceId,
+            @Parameter(description = "Number of guests", required = true, example = "12")
+            @RequestParam @Min(value = 1, message = "Party size must be at least 1") int partySize,
+            @Parameter(description = "First day of the calendar (ISO date format), defaults to today", example = "2026-01-20")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Number of days", example = "30")
+            @RequestParam(defaultValue = "30") @Min(value = 1, message = "Days must be at least 1") int days) {
+        AvailabilityCalendarDTO calendar = availabilityService.getCalendar(new ObjectId(restaurantId), spaceId,
+                partySize, startDate != null ? startDate : LocalDate.now(), days);
+        return ResponseEntity.ok(calendar);
+    }
+}
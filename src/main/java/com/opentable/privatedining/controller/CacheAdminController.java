@@ -0,0 +1,161 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.CacheStatsDTO;
+import com.opentable.privatedining.service.CacheAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.bson.types.ObjectId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller inspecting and tuning the caches of the instance serving the request.
+ * Changes apply to that instance only and are lost when it restarts.
+ */
+@RestController
+@RequestMapping("/v1/admin/caches")
+@Validated
+@Tag(name = "Cache Admin", description = "Statistics, top keys, eviction and sizing of the caches of this instance")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    /**
+     * Constructs a new CacheAdminController with the required dependencies.
+     *
+     * @param cacheAdminService the service inspecting and tuning caches
+     */
+    public CacheAdminController(CacheAdminService cacheAdminService) {
+        this.cacheAdminService = cacheAdminService;
+    }
+
+    /**
+     * Retrieves the statistics of every cache.
+     *
+     * @return the statistics, one entry per cache
+     */
+    @GetMapping
+    @Operation(summary = "Get cache statistics",
+            description = "Size, hit ratio, load time, evictions and background refreshes of every cache, " +
+                    "counted since this instance started.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CacheStatsDTO.class))))
+    })
+    public ResponseEntity<List<CacheStatsDTO>> getStats() {
+        return ResponseEntity.ok(cacheAdminService.getStats());
+    }
+
+    /**
+     * Retrieves the statistics of a cache.
+     *
+     * @param name the cache name
+     * @return the cache statistics
+     */
+    @GetMapping("/{name}")
+    @Operation(summary = "Get statistics of a cache", description = "Size and statistics of a single cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Cache not found")
+    })
+    public ResponseEntity<CacheStatsDTO> getCacheStats(
+            @Parameter(description = "Name of the cache", required = true, example = "occupancyReports")
+            @PathVariable String name) {
+        return ResponseEntity.ok(cacheAdminService.getStats(name));
+    }
+
+    /**
+     * Lists the most frequently used keys of a cache.
+     *
+     * @param name the cache name
+     * @param limit the maximum number of keys
+     * @return the keys, most frequently used first
+     */
+    @GetMapping("/{name}/keys")
+    @Operation(summary = "Get top keys of a cache",
+            description = "Keys the cache is most likely to keep, most frequently used first. " +
+                    "Elements of composite keys are joined by '|'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top keys retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Cache not found")
+    })
+    public ResponseEntity<List<String>> getTopKeys(
+            @Parameter(description = "Name of the cache", required = true, example = "occupancyReports")
+            @PathVariable String name,
+            @Parameter(description = "Maximum number of keys", example = "20")
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 1000, message = "Limit must be at most 1000") int limit) {
+        return ResponseEntity.ok(cacheAdminService.getTopKeys(name, limit));
+    }
+
+    /**
+     * Evicts the cached entries of a restaurant.
+     *
+     * @param name the cache name
+     * @param restaurantId the restaurant ID
+     * @return no content
+     */
+    @DeleteMapping("/{name}/restaurants/{restaurantId}")
+    @Operation(summary = "Evict a restaurant from a cache",
+            description = "Evict the entries of a restaurant from this instance and from the shared cache tier.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Entries evicted"),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format"),
+            @ApiResponse(responseCode = "404", description = "Cache not found")
+    })
+    public ResponseEntity<Void> evictRestaurant(
+            @Parameter(description = "Name of the cache", required = true, example = "occupancyReports")
+            @PathVariable String name,
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String restaurantId) {
+        cacheAdminService.evictRestaurant(name, new ObjectId(restaurantId));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Changes the maximum size of a cache.
+     *
+     * @param name the cache name
+     * @param maximumSize the new maximum size, or total weight in bytes when entries are weighed
+     * @return the cache statistics after resizing
+     */
+    @PutMapping("/{name}/maximum-size")
+    @Operation(summary = "Resize a cache",
+            description = "Change the maximum size of a cache on this instance until it restarts. For caches " +
+                    "bounded by memory, such as occupancyReports, the size is a budget in bytes. " +
+                    "Shrinking evicts the least valuable entries.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache resized",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid size, or cache not bounded by size"),
+            @ApiResponse(responseCode = "404", description = "Cache not found")
+    })
+    public ResponseEntity<CacheStatsDTO> resize(
+            @Parameter(description = "Name of the cache", required = true, example = "occupancyReports")
+            @PathVariable String name,
+            @Parameter(description = "New maximum size, in bytes for caches bounded by memory", required = true,
+                    example = "134217728")
+            @RequestParam @Min(value = 1, message = "Maximum size must be at least 1") long maximumSize) {
+        return ResponseEntity.ok(cacheAdminService.resize(name, maximumSize));
+    }
+}
@@ -0,0 +1,96 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.CleanupJobDTO;
+import com.opentable.privatedining.mapper.CleanupJobMapper;
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.service.ReservationCleanupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.bson.types.ObjectId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller reporting the progress of reservation cleanup after a restaurant or space is deleted.
+ * Jobs stay available after the restaurant itself is gone.
+ */
+@RestController
+@RequestMapping("/v1/restaurants/{id}/cleanup-jobs")
+@Tag(name = "Cleanup Jobs", description = "Progress of reservation cleanup for deleted restaurants and spaces")
+public class CleanupJobController {
+
+    private final ReservationCleanupService reservationCleanupService;
+    private final CleanupJobMapper cleanupJobMapper;
+
+    /**
+     * Constructs a new CleanupJobController with the required dependencies.
+     *
+     * @param reservationCleanupService the service for reservation cleanup
+     * @param cleanupJobMapper the mapper for cleanup job entity/DTO conversion
+     */
+    public CleanupJobController(ReservationCleanupService reservationCleanupService,
+                                CleanupJobMapper cleanupJobMapper) {
+        this.reservationCleanupService = reservationCleanupService;
+        this.cleanupJobMapper = cleanupJobMapper;
+    }
+
+    /**
+     * Lists the cleanup jobs of a restaurant.
+     *
+     * @param id the restaurant ID
+     * @return the jobs, most recent first
+     */
+    @GetMapping
+    @Operation(summary = "List cleanup jobs",
+            description = "List the reservation cleanup jobs started by deleting the restaurant or removing its spaces, " +
+                    "most recent first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cleanup jobs retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CleanupJobDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format")
+    })
+    public ResponseEntity<List<CleanupJobDTO>> getJobs(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id) {
+        List<CleanupJobDTO> jobs = reservationCleanupService.getJobs(new ObjectId(id)).stream()
+                .map(cleanupJobMapper::toDTO)
+                .toList();
+        return ResponseEntity.ok(jobs);
+    }
+
+    /**
+     * Retrieves the status and progress of a cleanup job.
+     *
+     * @param id the restaurant ID
+     * @param jobId the job ID
+     * @return the job status
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get cleanup job", description = "Retrieve the status and progress of a cleanup job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cleanup job found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CleanupJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format"),
+            @ApiResponse(responseCode = "404", description = "Cleanup job not found")
+    })
+    public ResponseEntity<CleanupJobDTO> getJob(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "ID of the cleanup job", required = true)
+            @PathVariable String jobId) {
+        CleanupJob job = reservationCleanupService.getJob(new ObjectId(id), new ObjectId(jobId));
+        return ResponseEntity.ok(cleanupJobMapper.toDTO(job));
+    }
+}
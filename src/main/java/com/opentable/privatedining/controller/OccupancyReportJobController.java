@@ -0,0 +1,133 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.ReportJobDTO;
+import com.opentable.privatedining.dto.ReportJobRequestDTO;
+import com.opentable.privatedining.mapper.ReportJobMapper;
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.service.OccupancyReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.bson.types.ObjectId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for asynchronous occupancy report jobs.
+ * Long-range reports are submitted as jobs, processed in the background and fetched once complete.
+ */
+@RestController
+@RequestMapping("/v1/restaurants/{id}/analytics/occupancy/jobs")
+@Tag(name = "Occupancy Report Jobs", description = "Asynchronous long-range occupancy analytics API")
+@Validated
+public class OccupancyReportJobController {
+
+    private final OccupancyReportJobService occupancyReportJobService;
+    private final ReportJobMapper reportJobMapper;
+
+    /**
+     * Constructs a new OccupancyReportJobController with the required dependencies.
+     *
+     * @param occupancyReportJobService the service for report job operations
+     * @param reportJobMapper the mapper for report job entity/DTO conversion
+     */
+    public OccupancyReportJobController(OccupancyReportJobService occupancyReportJobService,
+                                        ReportJobMapper reportJobMapper) {
+        this.occupancyReportJobService = occupancyReportJobService;
+        this.reportJobMapper = reportJobMapper;
+    }
+
+    /**
+     * Submits an occupancy report job for a restaurant.
+     *
+     * @param id the restaurant ID
+     * @param request the report job request
+     * @return the accepted job with HTTP 202 status
+     */
+    @PostMapping
+    @Operation(summary = "Submit occupancy report job",
+            description = "Submit a long-range occupancy report (up to a year by default) for background processing. " +
+                    "Poll the returned job for progress and fetch the result once it has completed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Report job accepted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (invalid date range, exceeds max job range, or invalid ID format)"),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found")
+    })
+    public ResponseEntity<ReportJobDTO> submitJob(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Report job request", required = true)
+            @Valid @RequestBody ReportJobRequestDTO request) {
+        ObjectId restaurantId = new ObjectId(id);
+        ReportJob job = occupancyReportJobService.submitJob(
+                restaurantId, request.getStartDate(), request.getEndDate(), request.getSpaceId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobMapper.toDTO(job));
+    }
+
+    /**
+     * Retrieves the status and progress of an occupancy report job.
+     *
+     * @param id the restaurant ID
+     * @param jobId the job ID
+     * @return the job status
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get occupancy report job", description = "Retrieve the status and progress of a report job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report job found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format"),
+            @ApiResponse(responseCode = "404", description = "Report job not found")
+    })
+    public ResponseEntity<ReportJobDTO> getJob(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "ID of the report job", required = true)
+            @PathVariable String jobId) {
+        ReportJob job = occupancyReportJobService.getJob(new ObjectId(id), new ObjectId(jobId));
+        return ResponseEntity.ok(reportJobMapper.toDTO(job));
+    }
+
+    /**
+     * Retrieves the occupancy report produced by a completed job.
+     *
+     * @param id the restaurant ID
+     * @param jobId the job ID
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return the occupancy report
+     */
+    @GetMapping("/{jobId}/result")
+    @Operation(summary = "Get occupancy report job result",
+            description = "Retrieve the occupancy report of a completed job, in the same format as the synchronous report.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occupancy report retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OccupancyReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format"),
+            @ApiResponse(responseCode = "404", description = "Report job, restaurant or space not found"),
+            @ApiResponse(responseCode = "409", description = "Report job has not completed")
+    })
+    public ResponseEntity<OccupancyReportDTO> getJobResult(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "ID of the report job", required = true)
+            @PathVariable String jobId,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page number must be 0 or greater") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "Page size must be at least 1") int size) {
+        OccupancyReportDTO report = occupancyReportJobService.getJobResult(
+                new ObjectId(id), new ObjectId(jobId), page, size);
+        return ResponseEntity.ok(report);
+    }
+}
@@ -1,8 +1,13 @@
 package com.opentable.privatedining.controller;
 
+import com.opentable.privatedining.config.BulkheadConfig;
+import com.opentable.privatedining.dto.BulkCancellationDTO;
 import com.opentable.privatedining.dto.ReservationDTO;
+import com.opentable.privatedining.dto.ReservationUpdateDTO;
 import com.opentable.privatedining.mapper.ReservationMapper;
 import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.service.Bulkhead;
+import com.opentable.privatedining.service.IdempotencyService;
 import com.opentable.privatedining.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,18 +17,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * REST controller for managing reservations.
- * Provides endpoints for creating, retrieving, and deleting reservations.
+ * Provides endpoints for creating, retrieving, listing by time window, updating, and deleting reservations,
+ * and for cancelling every reservation of a restaurant or space within a time window.
  */
 @Validated
 @RestController
@@ -31,18 +43,29 @@ import java.util.Optional;
 @Tag(name = "Reservation", description = "Reservation management API")
 public class ReservationController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final ReservationService reservationService;
     private final ReservationMapper reservationMapper;
+    private final Bulkhead bookingBulkhead;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Constructs a new ReservationController with the required dependencies.
      *
      * @param reservationService the service for reservation operations
      * @param reservationMapper the mapper for reservation entity/DTO conversion
+     * @param bookingBulkhead the bulkhead isolating reservation writes from other workloads
+     * @param idempotencyService the service replaying retried reservation requests
      */
-    public ReservationController(ReservationService reservationService, ReservationMapper reservationMapper) {
+    public ReservationController(ReservationService reservationService, ReservationMapper reservationMapper,
+                                 @Qualifier(BulkheadConfig.BOOKING_BULKHEAD) Bulkhead bookingBulkhead,
+                                 IdempotencyService idempotencyService) {
         this.reservationService = reservationService;
         this.reservationMapper = reservationMapper;
+        this.bookingBulkhead = bookingBulkhead;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
@@ -61,6 +84,47 @@ public class ReservationController {
                 .toList();
     }
 
+    /**
+     * Lists the reservations of a space that overlap a time window.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param startTime the window start (inclusive)
+     * @param endTime the window end (exclusive)
+     * @return the overlapping reservations ordered by start time, or appropriate error response
+     */
+    @GetMapping("/window")
+    @Operation(summary = "List reservations in window",
+            description = "Retrieve the reservations of a space that overlap [startTime, endTime), ordered by start time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved overlapping reservations",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or ID format"),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found")
+    })
+    public ResponseEntity<List<ReservationDTO>> getReservationsInWindow(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @RequestParam String restaurantId,
+            @Parameter(description = "UUID of the space", required = true)
+            @RequestParam UUID spaceId,
+            @Parameter(description = "Start of the window (ISO date-time format)", required = true, example = "2026-01-20T12:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "End of the window (ISO date-time format)", required = true, example = "2026-01-20T15:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        ObjectId objectId;
+        try {
+            objectId = new ObjectId(restaurantId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<ReservationDTO> reservations = reservationService.getReservationsInWindow(
+                        objectId, spaceId, startTime, endTime)
+                .stream()
+                .map(reservationMapper::toDTO)
+                .toList();
+        return ResponseEntity.ok(reservations);
+    }
+
     /**
      * Retrieves a reservation by its ID.
      *
@@ -90,25 +154,82 @@ public class ReservationController {
 
     /**
      * Creates a new reservation.
+     * With an {@code Idempotency-Key} header, a retry of the same request returns the reservation created by the
+     * first one instead of booking again.
      *
+     * @param idempotencyKey optional key identifying retries of the same request
      * @param reservationDTO the reservation data to create
      * @return the created reservation with HTTP 201 status
      */
     @PostMapping
-    @Operation(summary = "Create new reservation", description = "Create a new reservation in the system")
+    @Operation(summary = "Create new reservation", description = "Create a new reservation in the system. " +
+            "Send an Idempotency-Key header to make retries safe: repeating the request with the same key returns " +
+            "the original reservation with an Idempotent-Replayed: true header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Reservation created successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservationDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid party size for the space capacity"),
             @ApiResponse(responseCode = "404", description = "Restaurant or space not found"),
-            @ApiResponse(responseCode = "409", description = "Reservation time slot conflicts with existing reservation")
+            @ApiResponse(responseCode = "409", description = "Reservation time slot conflicts with existing reservation, " +
+                    "or a request with the same idempotency key is still being processed"),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request"),
+            @ApiResponse(responseCode = "503", description = "Booking workload at capacity, retry later")
     })
     public ResponseEntity<ReservationDTO> createReservation(
+            @Parameter(description = "Optional key making retries of this request safe", example = "5f1c8a2e-booking-42")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+            @Size(max = 255, message = "Idempotency key must be at most 255 characters") String idempotencyKey,
             @Parameter(description = "Reservation object to be created", required = true)
             @Valid @RequestBody ReservationDTO reservationDTO) {
         Reservation reservation = reservationMapper.toModel(reservationDTO);
-        Reservation savedReservation = reservationService.createReservation(reservation);
-        return ResponseEntity.status(HttpStatus.CREATED).body(reservationMapper.toDTO(savedReservation));
+        if (!StringUtils.hasText(idempotencyKey)) {
+            Reservation savedReservation = bookingBulkhead.execute(() -> reservationService.createReservation(reservation));
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservationMapper.toDTO(savedReservation));
+        }
+
+        IdempotencyService.IdempotentResult result = idempotencyService.execute(idempotencyKey, reservation,
+                () -> bookingBulkhead.execute(() -> reservationService.createReservation(reservation)));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (result.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(reservationMapper.toDTO(result.reservation()));
+    }
+
+    /**
+     * Changes the time and/or party size of a reservation in place.
+     *
+     * @param id the reservation ID
+     * @param updateDTO the new values; omitted fields are left unchanged
+     * @return the updated reservation, or appropriate error response
+     */
+    @RequestMapping(value = "/{id}", method = {RequestMethod.PUT, RequestMethod.PATCH})
+    @Operation(summary = "Update reservation",
+            description = "Change the time and/or party size of a reservation in place. New times are aligned and " +
+                    "validated as on creation; when only the party size grows, just the added guests are checked " +
+                    "against the space capacity.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation updated successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReservationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid ID format, times or party size"),
+            @ApiResponse(responseCode = "404", description = "Reservation, restaurant or space not found"),
+            @ApiResponse(responseCode = "409", description = "Capacity exceeded, or the reservation was changed concurrently"),
+            @ApiResponse(responseCode = "503", description = "Booking workload at capacity, retry later")
+    })
+    public ResponseEntity<ReservationDTO> updateReservation(
+            @Parameter(description = "ID of the reservation to update", required = true)
+            @PathVariable String id,
+            @Parameter(description = "New time and/or party size", required = true)
+            @Valid @RequestBody ReservationUpdateDTO updateDTO) {
+        ObjectId objectId;
+        try {
+            objectId = new ObjectId(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Reservation updated = bookingBulkhead.execute(() -> reservationService.updateReservation(
+                objectId, updateDTO.getStartTime(), updateDTO.getEndTime(), updateDTO.getPartySize()));
+        return ResponseEntity.ok(reservationMapper.toDTO(updated));
     }
 
     /**
@@ -122,17 +243,58 @@ public class ReservationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Reservation deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Reservation not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid ID format")
+            @ApiResponse(responseCode = "400", description = "Invalid ID format"),
+            @ApiResponse(responseCode = "503", description = "Booking workload at capacity, retry later")
     })
     public ResponseEntity<Void> deleteReservation(
             @Parameter(description = "ID of the reservation to delete", required = true)
             @PathVariable String id) {
         try {
             ObjectId objectId = new ObjectId(id);
-            boolean deleted = reservationService.deleteReservation(objectId);
+            boolean deleted = bookingBulkhead.execute(() -> reservationService.deleteReservation(objectId));
             return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancels every reservation of a restaurant, or of one of its spaces, that overlaps a time window.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId optional space ID to restrict the cancellation to
+     * @param startTime the window start (inclusive)
+     * @param endTime the window end (exclusive)
+     * @return the number of cancelled reservations, or appropriate error response
+     */
+    @DeleteMapping
+    @Operation(summary = "Cancel reservations in window",
+            description = "Cancel every reservation of a restaurant, or of one of its spaces, that overlaps " +
+                    "[startTime, endTime), e.g. when a room closes for maintenance. Runs as a single bulk delete.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations cancelled",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkCancellationDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or ID format"),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found"),
+            @ApiResponse(responseCode = "503", description = "Booking workload at capacity, retry later")
+    })
+    public ResponseEntity<BulkCancellationDTO> cancelReservations(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @RequestParam String restaurantId,
+            @Parameter(description = "Optional UUID of the space")
+            @RequestParam(required = false) UUID spaceId,
+            @Parameter(description = "Start of the window (ISO date-time format)", required = true, example = "2026-01-20T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "End of the window (ISO date-time format)", required = true, example = "2026-01-23T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        ObjectId objectId;
+        try {
+            objectId = new ObjectId(restaurantId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        BulkCancellationDTO result = bookingBulkhead.execute(() ->
+                reservationService.cancelReservations(objectId, spaceId, startTime, endTime));
+        return ResponseEntity.ok(result);
+    }
+}
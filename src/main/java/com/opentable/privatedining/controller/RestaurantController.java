@@ -1,13 +1,18 @@
 package com.opentable.privatedining.controller;
 
+import com.opentable.privatedining.config.BulkheadConfig;
 import com.opentable.privatedining.dto.OccupancyReportDTO;
 import com.opentable.privatedining.dto.RestaurantDTO;
 import com.opentable.privatedining.dto.SpaceDTO;
+import com.opentable.privatedining.dto.SpaceUpdateDTO;
 import com.opentable.privatedining.mapper.RestaurantMapper;
 import com.opentable.privatedining.mapper.SpaceMapper;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.service.Bulkhead;
 import com.opentable.privatedining.service.OccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReactiveOccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReportWarmupService;
 import com.opentable.privatedining.service.RestaurantService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,12 +24,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -43,25 +53,37 @@ public class RestaurantController {
 
     private final RestaurantService restaurantService;
     private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final ReactiveOccupancyAnalyticsService reactiveOccupancyAnalyticsService;
     private final RestaurantMapper restaurantMapper;
     private final SpaceMapper spaceMapper;
+    private final Bulkhead analyticsBulkhead;
+    private final ReportWarmupService reportWarmupService;
 
     /**
      * Constructs a new RestaurantController with the required dependencies.
      *
      * @param restaurantService the service for restaurant operations
      * @param occupancyAnalyticsService the service for occupancy analytics
+     * @param reactiveOccupancyAnalyticsService the non-blocking service for occupancy analytics
      * @param restaurantMapper the mapper for restaurant entity/DTO conversion
      * @param spaceMapper the mapper for space entity/DTO conversion
+     * @param analyticsBulkhead the bulkhead isolating report generation from bookings
+     * @param reportWarmupService the service counting report requests to warm up the report cache
      */
     public RestaurantController(RestaurantService restaurantService,
                                 OccupancyAnalyticsService occupancyAnalyticsService,
+                                ReactiveOccupancyAnalyticsService reactiveOccupancyAnalyticsService,
                                 RestaurantMapper restaurantMapper,
-                                SpaceMapper spaceMapper) {
+                                SpaceMapper spaceMapper,
+                                @Qualifier(BulkheadConfig.ANALYTICS_BULKHEAD) Bulkhead analyticsBulkhead,
+                                ReportWarmupService reportWarmupService) {
         this.restaurantService = restaurantService;
         this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.reactiveOccupancyAnalyticsService = reactiveOccupancyAnalyticsService;
         this.restaurantMapper = restaurantMapper;
         this.spaceMapper = spaceMapper;
+        this.analyticsBulkhead = analyticsBulkhead;
+        this.reportWarmupService = reportWarmupService;
     }
 
     /**
@@ -135,7 +157,9 @@ public class RestaurantController {
      * @return the updated restaurant if found, or appropriate error response
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Update restaurant", description = "Update an existing restaurant by its ID")
+    @Operation(summary = "Update restaurant",
+            description = "Update the name, address, cuisine type and capacity of an existing restaurant by its ID. " +
+                    "Spaces are managed through the space endpoints and are left unchanged.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Restaurant updated successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = RestaurantDTO.class))),
@@ -245,6 +269,42 @@ public class RestaurantController {
         }
     }
 
+    /**
+     * Partially updates a space of a restaurant.
+     *
+     * @param id the restaurant ID
+     * @param spaceId the UUID of the space to update
+     * @param spaceUpdateDTO the fields to change
+     * @return the updated restaurant if found, or appropriate error response
+     */
+    @PatchMapping("/{id}/spaces/{spaceId}")
+    @Operation(summary = "Update space",
+            description = "Change some fields of a space in place. Omitted fields keep their current value; " +
+                    "other spaces and restaurant fields are not rewritten.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Space updated successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RestaurantDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or ID format")
+    })
+    public ResponseEntity<RestaurantDTO> updateSpace(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "UUID of the space to update", required = true)
+            @PathVariable String spaceId,
+            @Parameter(description = "Space fields to change", required = true)
+            @Valid @RequestBody SpaceUpdateDTO spaceUpdateDTO) {
+        try {
+            ObjectId objectId = new ObjectId(id);
+            UUID spaceUuid = UUID.fromString(spaceId);
+            Optional<Restaurant> updatedRestaurant = restaurantService.updateSpace(objectId, spaceUuid, spaceUpdateDTO);
+            return updatedRestaurant.map(r -> ResponseEntity.ok(restaurantMapper.toDTO(r)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Generates an occupancy analytics report for a restaurant.
      *
@@ -254,17 +314,19 @@ public class RestaurantController {
      * @param spaceId optional space ID to filter the report
      * @param page the page number (0-based)
      * @param size the page size
-     * @return the occupancy report response
+     * @return the occupancy report response, with an {@code Age} header giving its age in seconds
      */
     @GetMapping("/{id}/analytics/occupancy")
     @Operation(summary = "Get occupancy analytics report",
             description = "Generate an analytical report of occupancy levels for a restaurant within a specified date/time range. " +
-                    "Returns hourly breakdown of occupancy per space with utilization metrics.")
+                    "Returns hourly breakdown of occupancy per space with utilization metrics. " +
+                    "Reports may be served from cache; the Age header gives their age in seconds.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Occupancy report generated successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = OccupancyReportDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid parameters (invalid date range, exceeds max 31 days, or invalid ID format)"),
-            @ApiResponse(responseCode = "404", description = "Restaurant or space not found")
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found"),
+            @ApiResponse(responseCode = "503", description = "Analytics workload at capacity, retry later")
     })
     public ResponseEntity<OccupancyReportDTO> getOccupancyReport(
             @Parameter(description = "ID of the restaurant", required = true)
@@ -281,8 +343,57 @@ public class RestaurantController {
             @RequestParam(defaultValue = "10") @Min(value = 1, message = "Page size must be at least 1") int size) {
 
         ObjectId restaurantId = new ObjectId(id);
-        OccupancyReportDTO report = occupancyAnalyticsService.generateOccupancyReport(
+        OccupancyReportDTO report = analyticsBulkhead.execute(() -> occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, spaceId, page, size));
+        // Only reports that were served count towards warm-up; rejected or invalid requests would warm nothing
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, spaceId, page, size);
+        if (report.getGeneratedAt() == null) {
+            return ResponseEntity.ok(report);
+        }
+        long age = Math.max(0, Duration.between(report.getGeneratedAt(), Instant.now()).toSeconds());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(age))
+                .body(report);
+    }
+
+    /**
+     * Generates an occupancy analytics report for a restaurant without blocking a request thread.
+     * The reservation range query is streamed from the reactive Mongo driver into the slot aggregation.
+     *
+     * @param id the restaurant ID
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @param spaceId optional space ID to filter the report
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return a Mono emitting the occupancy report
+     */
+    @GetMapping("/{id}/analytics/occupancy/reactive")
+    @Operation(summary = "Get occupancy analytics report (non-blocking)",
+            description = "Same report as the occupancy analytics endpoint, generated on the reactive Mongo driver " +
+                    "so report traffic does not hold blocking request threads.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occupancy report generated successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OccupancyReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (invalid date range, exceeds max 31 days, or invalid ID format)"),
+            @ApiResponse(responseCode = "404", description = "Restaurant or space not found")
+    })
+    public Mono<OccupancyReportDTO> getOccupancyReportReactive(
+            @Parameter(description = "ID of the restaurant", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Start of the report period (ISO date-time format)", required = true, example = "2026-01-20T09:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "End of the report period (ISO date-time format)", required = true, example = "2026-01-20T18:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "Optional space ID to filter the report to a single space")
+            @RequestParam(required = false) UUID spaceId,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page number must be 0 or greater") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "Page size must be at least 1") int size) {
+
+        ObjectId restaurantId = new ObjectId(id);
+        return reactiveOccupancyAnalyticsService.generateOccupancyReport(
                 restaurantId, startTime, endTime, spaceId, page, size);
-        return ResponseEntity.ok(report);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A bookable alternative to a rejected reservation request")
+public class AlternativeSlotDTO {
+
+    @Schema(description = "Unique identifier of the space", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID spaceId;
+
+    @Schema(description = "Name of the space", example = "Garden Room")
+    private String spaceName;
+
+    @Schema(description = "Start time of the alternative", example = "20-01-2026 20:00")
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    private LocalDateTime startTime;
+
+    @Schema(description = "End time of the alternative", example = "20-01-2026 22:30")
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    private LocalDateTime endTime;
+
+    @Schema(description = "Seats still free in the space during the alternative", example = "14")
+    private int remainingCapacity;
+}
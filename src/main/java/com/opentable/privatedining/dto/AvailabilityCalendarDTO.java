@@ -0,0 +1,35 @@
+package com.opentable.privatedining.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Day-by-day calendar of the slots of a space that can still take a party")
+public class AvailabilityCalendarDTO {
+
+    @Schema(description = "Unique identifier of the restaurant", example = "507f1f77bcf86cd799439011")
+    private String restaurantId;
+
+    @Schema(description = "Unique identifier of the space", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID spaceId;
+
+    @Schema(description = "Name of the space", example = "Garden Room")
+    private String spaceName;
+
+    @Schema(description = "Party size the calendar was computed for", example = "12")
+    private int partySize;
+
+    @Schema(description = "Duration of each slot in minutes", example = "30")
+    private int slotDurationMinutes;
+
+    @Schema(description = "Calendar days, in date order")
+    private List<CalendarDayDTO> days;
+}
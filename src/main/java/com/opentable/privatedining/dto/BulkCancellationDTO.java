@@ -0,0 +1,39 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of cancelling every reservation of a restaurant or space that overlaps a time window")
+public class BulkCancellationDTO {
+
+    @Schema(description = "Unique identifier of the restaurant", example = "507f1f77bcf86cd799439011")
+    private String restaurantId;
+
+    @Schema(description = "Unique identifier of the space, absent when the whole restaurant was targeted",
+            example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID spaceId;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "Start of the window", example = "20-01-2026 00:00")
+    private LocalDateTime startTime;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "End of the window", example = "23-01-2026 00:00")
+    private LocalDateTime endTime;
+
+    @Schema(description = "Number of reservations cancelled", example = "12")
+    private int cancelledReservations;
+
+    @Schema(description = "Number of guests whose seats were released", example = "86")
+    private int releasedGuests;
+}
@@ -0,0 +1,70 @@
+package com.opentable.privatedining.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object describing the size and statistics of a cache on this instance.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Size and statistics of a cache on this instance, counted since startup")
+public class CacheStatsDTO {
+
+    @Schema(description = "Name of the cache", example = "occupancyReports")
+    private String name;
+
+    @Schema(description = "Approximate number of entries", example = "87")
+    private long estimatedSize;
+
+    @Schema(description = "Maximum number of entries, or maximum total weight when entries are weighed, before " +
+            "entries are evicted", example = "67108864")
+    private Long maximumSize;
+
+    @Schema(description = "Approximate total weight of the entries, when entries are weighed", example = "2400000")
+    private Long weightedSize;
+
+    @Schema(description = "Number of lookups that found an entry", example = "950")
+    private long hitCount;
+
+    @Schema(description = "Number of lookups that found no entry", example = "50")
+    private long missCount;
+
+    @Schema(description = "Ratio of lookups that found an entry", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "Number of values computed on a miss", example = "48")
+    private long loadSuccessCount;
+
+    @Schema(description = "Number of values that failed to compute on a miss", example = "2")
+    private long loadFailureCount;
+
+    @Schema(description = "Average time spent computing a value on a miss, in milliseconds", example = "120.5")
+    private double averageLoadMillis;
+
+    @Schema(description = "Number of entries evicted for size or expiry", example = "12")
+    private long evictionCount;
+
+    @Schema(description = "Total weight of the evicted entries", example = "1800000")
+    private long evictionWeight;
+
+    @Schema(description = "Number of entries evicted because the cache exceeded its maximum size or weight",
+            example = "4")
+    private long sizeEvictionCount;
+
+    @Schema(description = "Total weight of the entries evicted because the cache exceeded its maximum size or weight",
+            example = "950000")
+    private long sizeEvictionWeight;
+
+    @Schema(description = "Number of values recomputed in the background", example = "30")
+    private long refreshCount;
+
+    @Schema(description = "Number of background recomputes that failed", example = "0")
+    private long refreshFailureCount;
+
+    @Schema(description = "Number of expired values served because recomputing them failed", example = "0")
+    private long staleServedCount;
+}
@@ -0,0 +1,28 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Availability of a space on one day")
+public class CalendarDayDTO {
+
+    @Schema(description = "The day", example = "23-01-2026")
+    @JsonFormat(pattern = "dd-MM-yyyy")
+    private LocalDate date;
+
+    @Schema(description = "Number of slots that can still take the party", example = "14")
+    private int availableSlots;
+
+    @Schema(description = "Slots within the space's operating hours, in time order")
+    private List<CalendarSlotDTO> slots;
+}
@@ -0,0 +1,31 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Remaining capacity of a space during one time slot")
+public class CalendarSlotDTO {
+
+    @Schema(description = "Start time of the slot", example = "18:00")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @Schema(description = "End time of the slot", example = "18:30")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    @Schema(description = "Seats still free during the slot", example = "28")
+    private int remainingCapacity;
+
+    @Schema(description = "Whether the slot can still take the party", example = "true")
+    private boolean available;
+}
@@ -0,0 +1,53 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object describing the state and progress of a reservation cleanup job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "State and progress of the removal of a deleted restaurant's or space's reservations")
+public class CleanupJobDTO {
+
+    @Schema(description = "Unique identifier of the job", example = "65a1f77bcf86cd7994390abc", type = "string")
+    private String id;
+
+    @Schema(description = "Unique identifier of the restaurant", example = "507f1f77bcf86cd799439011", type = "string")
+    private String restaurantId;
+
+    @Schema(description = "Removed space, or empty when the whole restaurant was deleted", example = "123e4567-e89b-12d3-a456-426614174000", type = "string")
+    private UUID spaceId;
+
+    @Schema(description = "Current job status", example = "RUNNING")
+    private CleanupJobStatus status;
+
+    @Schema(description = "Number of reservations found when the job was submitted", example = "25000")
+    private Long totalReservations;
+
+    @Schema(description = "Number of reservations already removed", example = "12000")
+    private Long deletedReservations;
+
+    @Schema(description = "Reason the job failed, if it did")
+    private String failureReason;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job was submitted", example = "20-01-2026 09:00")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job last made progress", example = "20-01-2026 09:01")
+    private LocalDateTime updatedAt;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job completed", example = "20-01-2026 09:02")
+    private LocalDateTime completedAt;
+}
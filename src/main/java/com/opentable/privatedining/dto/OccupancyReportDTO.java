@@ -2,6 +2,7 @@ package com.opentable.privatedining.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -44,5 +45,10 @@ public class OccupancyReportDTO {
 
     @Schema(description = "Total number of pages", example = "1")
     private int totalPages;
+
+    @Schema(type = "string", description = "When the report was computed; cached reports may be older than the request",
+            example = "2026-01-20T09:00:00Z")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant generatedAt;
 }
 
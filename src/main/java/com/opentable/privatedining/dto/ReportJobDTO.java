@@ -0,0 +1,62 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.opentable.privatedining.model.ReportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object describing the state and progress of an asynchronous occupancy report job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "State and progress of an asynchronous occupancy report job")
+public class ReportJobDTO {
+
+    @Schema(description = "Unique identifier of the job", example = "65a1f77bcf86cd7994390abc", type = "string")
+    private String id;
+
+    @Schema(description = "Unique identifier of the restaurant", example = "507f1f77bcf86cd799439011", type = "string")
+    private String restaurantId;
+
+    @Schema(description = "Space the report is restricted to, if any", example = "123e4567-e89b-12d3-a456-426614174000", type = "string")
+    private UUID spaceId;
+
+    @JsonFormat(pattern = "dd-MM-yyyy")
+    @Schema(type = "string", description = "First day of the report, inclusive", example = "01-01-2026")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "dd-MM-yyyy")
+    @Schema(type = "string", description = "Last day of the report, inclusive", example = "31-03-2026")
+    private LocalDate endDate;
+
+    @Schema(description = "Current job status", example = "RUNNING")
+    private ReportJobStatus status;
+
+    @Schema(description = "Number of days in the report", example = "90")
+    private Integer totalDays;
+
+    @Schema(description = "Number of days already processed", example = "42")
+    private Integer completedDays;
+
+    @Schema(description = "Reason the job failed, if it did")
+    private String failureReason;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job was submitted", example = "20-01-2026 09:00")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job last made progress", example = "20-01-2026 09:01")
+    private LocalDateTime updatedAt;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "When the job completed", example = "20-01-2026 09:02")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,35 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request payload for submitting an asynchronous occupancy report job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request for a long-range occupancy report processed in the background")
+public class ReportJobRequestDTO {
+
+    @NotNull(message = "Start date is required")
+    @JsonFormat(pattern = "dd-MM-yyyy")
+    @Schema(type = "string", description = "First day of the report, inclusive", example = "01-01-2026", pattern = "dd-MM-yyyy")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @JsonFormat(pattern = "dd-MM-yyyy")
+    @Schema(type = "string", description = "Last day of the report, inclusive", example = "31-03-2026", pattern = "dd-MM-yyyy")
+    private LocalDate endDate;
+
+    @Schema(description = "Optional space UUID to restrict the report to a single space", example = "123e4567-e89b-12d3-a456-426614174000", type = "string")
+    private UUID spaceId;
+}
@@ -0,0 +1,40 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.opentable.privatedining.validation.DateTimeFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for in-place reservation updates.
+ * Omitted fields keep their current value.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "New time and/or party size of a reservation; omitted fields are left unchanged")
+public class ReservationUpdateDTO {
+
+    @Future(message = "Start time must be in the future")
+    @DateTimeFormat(pattern = "dd-MM-yyyy HH:mm", message = "Start time must be in format: dd-MM-yyyy HH:mm")
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "New start date and time", example = "15-01-2026 20:00", pattern = "dd-MM-yyyy HH:mm")
+    private LocalDateTime startTime;
+
+    @Future(message = "End time must be in the future")
+    @DateTimeFormat(pattern = "dd-MM-yyyy HH:mm", message = "End time must be in format: dd-MM-yyyy HH:mm")
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm")
+    @Schema(type = "string", description = "New end date and time", example = "15-01-2026 22:00", pattern = "dd-MM-yyyy HH:mm")
+    private LocalDateTime endTime;
+
+    @Positive(message = "Party size must be a positive number")
+    @Schema(description = "New number of people in the party", example = "6")
+    private Integer partySize;
+}
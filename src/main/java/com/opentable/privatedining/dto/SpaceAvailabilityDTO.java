@@ -0,0 +1,43 @@
+package com.opentable.privatedining.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A space that can seat the requested party for the whole requested window")
+public class SpaceAvailabilityDTO {
+
+    @Schema(description = "Unique identifier of the restaurant", example = "507f1f77bcf86cd799439011")
+    private String restaurantId;
+
+    @Schema(description = "Name of the restaurant", example = "The Gourmet Kitchen")
+    private String restaurantName;
+
+    @Schema(description = "Cuisine type of the restaurant", example = "Italian")
+    private String cuisineType;
+
+    @Schema(description = "Unique identifier of the space", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID spaceId;
+
+    @Schema(description = "Name of the space", example = "Garden Room")
+    private String spaceName;
+
+    @Schema(description = "Minimum party size of the space", example = "10")
+    private int minCapacity;
+
+    @Schema(description = "Maximum capacity of the space", example = "40")
+    private int maxCapacity;
+
+    @Schema(description = "Guests already booked in the space during the window", example = "8")
+    private int currentOccupancy;
+
+    @Schema(description = "Seats still free in the space during the window", example = "32")
+    private int remainingCapacity;
+}
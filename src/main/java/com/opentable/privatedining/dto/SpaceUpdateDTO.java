@@ -0,0 +1,49 @@
+package com.opentable.privatedining.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.opentable.privatedining.validation.TimeFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for partially updating a space.
+ * Every field is optional; omitted fields keep their current value.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceUpdateDTO {
+
+    @Size(min = 1, max = 100, message = "Space name must be between 1 and 100 characters")
+    @Schema(description = "New name of the space", example = "Private Dining Room A")
+    private String name;
+
+    @Positive(message = "Minimum capacity must be a positive number")
+    @Schema(description = "New minimum capacity for the space", example = "2")
+    private Integer minCapacity;
+
+    @Positive(message = "Maximum capacity must be a positive number")
+    @Schema(description = "New maximum capacity for the space", example = "12")
+    private Integer maxCapacity;
+
+    @TimeFormat(pattern = "HH:mm", message = "Operating start time must be in format: HH:mm")
+    @JsonFormat(pattern = "HH:mm")
+    @Schema(description = "New operating start time for the space", example = "09:00", type = "string", pattern = "HH:mm")
+    private LocalTime operatingStartTime;
+
+    @TimeFormat(pattern = "HH:mm", message = "Operating end time must be in format: HH:mm")
+    @JsonFormat(pattern = "HH:mm")
+    @Schema(description = "New operating end time for the space", example = "22:00", type = "string", pattern = "HH:mm")
+    private LocalTime operatingEndTime;
+
+    @Positive(message = "Time slot duration must be a positive number")
+    @Schema(description = "New time slot duration in minutes for reservations", example = "60")
+    private Integer timeSlotDurationMinutes;
+}
@@ -0,0 +1,33 @@
+package com.opentable.privatedining.event;
+
+import com.opentable.privatedining.model.Reservation;
+import lombok.Getter;
+
+/**
+ * Application event published when the MongoDB change stream reports a reservation write made by another
+ * instance, or outside the application.
+ * Unlike {@link ReservationChangedEvent}, it may be delivered more than once and after derived state was reloaded
+ * with the write already applied, so listeners must apply it idempotently: keyed updates, or evicting what it
+ * touches. Persisted derived state was already updated by the writing instance and must ignore it.
+ */
+@Getter
+public class RemoteReservationChangeEvent {
+
+    private final Reservation previous;
+    private final Reservation current;
+    private final boolean previousKnown;
+
+    /**
+     * Constructs a new RemoteReservationChangeEvent.
+     *
+     * @param previous the reservation before the write, or null if it did not exist or is unknown
+     * @param current the reservation after the write, or null if it was deleted
+     * @param previousKnown whether the reservation before the write is known; when it is not, listeners cannot
+     *                      tell which of their state the write touched and must drop all of it
+     */
+    public RemoteReservationChangeEvent(Reservation previous, Reservation current, boolean previousKnown) {
+        this.previous = previous;
+        this.current = current;
+        this.previousKnown = previousKnown;
+    }
+}
@@ -0,0 +1,36 @@
+package com.opentable.privatedining.event;
+
+import com.opentable.privatedining.model.Reservation;
+import lombok.Getter;
+
+/**
+ * Application event published after a reservation has been written.
+ * Listeners keep derived state (pre-aggregated analytics, in-memory indexes) in step with the reservations
+ * collection. Events are delivered synchronously on the writing thread, so listeners must stay cheap.
+ * An in-place update is published as the deletion of the previous version followed by the creation of the new one.
+ */
+@Getter
+public class ReservationChangedEvent {
+
+    /**
+     * The kind of change applied to the reservation.
+     */
+    public enum ChangeType {
+        CREATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Reservation reservation;
+
+    /**
+     * Constructs a new ReservationChangedEvent.
+     *
+     * @param changeType the kind of change
+     * @param reservation the reservation as persisted (for deletions, as it was before removal)
+     */
+    public ReservationChangedEvent(ChangeType changeType, Reservation reservation) {
+        this.changeType = changeType;
+        this.reservation = reservation;
+    }
+}
@@ -0,0 +1,25 @@
+package com.opentable.privatedining.event;
+
+import com.opentable.privatedining.model.Reservation;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Application event published after many reservations have been removed with one bulk write.
+ * Listeners apply the whole batch in one pass, taking each of their locks once per space or day
+ * instead of once per reservation.
+ */
+@Getter
+public class ReservationsDeletedEvent {
+
+    private final List<Reservation> reservations;
+
+    /**
+     * Constructs a new ReservationsDeletedEvent.
+     *
+     * @param reservations the reservations as they were before removal
+     */
+    public ReservationsDeletedEvent(List<Reservation> reservations) {
+        this.reservations = List.copyOf(reservations);
+    }
+}
@@ -0,0 +1,30 @@
+package com.opentable.privatedining.exception;
+
+/**
+ * Exception thrown when a workload bulkhead has no free permits and its wait queue is full,
+ * so the request is shed instead of queuing behind other work.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+
+    /**
+     * Constructs a new BulkheadFullException for the given bulkhead.
+     *
+     * @param bulkheadName the name of the bulkhead that rejected the request
+     * @param reason why the request was rejected
+     */
+    public BulkheadFullException(String bulkheadName, String reason) {
+        super(String.format("The %s workload is at capacity (%s). Please retry shortly.", bulkheadName, reason));
+        this.bulkheadName = bulkheadName;
+    }
+
+    /**
+     * Gets the name of the bulkhead that rejected the request.
+     *
+     * @return the bulkhead name
+     */
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+}
@@ -0,0 +1,16 @@
+package com.opentable.privatedining.exception;
+
+/**
+ * Exception thrown when a cache is not managed by the application.
+ */
+public class CacheNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new CacheNotFoundException with the cache name.
+     *
+     * @param name the name of the cache that was not found
+     */
+    public CacheNotFoundException(String name) {
+        super("Cache not found with name: " + name);
+    }
+}
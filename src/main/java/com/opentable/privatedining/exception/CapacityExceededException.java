@@ -9,7 +9,7 @@ import java.util.UUID;
  * Exception thrown when a reservation cannot be accommodated because
  * the combined headcount of concurrent reservations would exceed the space's maximum capacity.
  */
-public class CapacityExceededException extends RuntimeException {
+public class CapacityExceededException extends SlotUnavailableException {
 
     /**
      * Constructs a new CapacityExceededException with detailed capacity information.
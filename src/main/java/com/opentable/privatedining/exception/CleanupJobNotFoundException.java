@@ -0,0 +1,18 @@
+package com.opentable.privatedining.exception;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Exception thrown when a reservation cleanup job is not found for a restaurant.
+ */
+public class CleanupJobNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new CleanupJobNotFoundException with the job ID.
+     *
+     * @param jobId the ID of the job that was not found
+     */
+    public CleanupJobNotFoundException(ObjectId jobId) {
+        super("Cleanup job not found with ID: " + jobId.toString());
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -198,13 +199,13 @@ public class GlobalExceptionHandler {
      *
      * @param ex the exception
      * @param request the web request
-     * @return error response with 409 status
+     * @return error response with 409 status and any alternative slots
      */
     @ExceptionHandler(CapacityExceededException.class)
     public ResponseEntity<Map<String, Object>> handleCapacityExceeded(
             CapacityExceededException ex, WebRequest request) {
         logger.warn("Capacity exceeded: {}", ex.getMessage());
-        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+        return withAlternatives(buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request), ex);
     }
 
     /**
@@ -212,13 +213,13 @@ public class GlobalExceptionHandler {
      *
      * @param ex the exception
      * @param request the web request
-     * @return error response with 400 status
+     * @return error response with 400 status and any alternative slots
      */
     @ExceptionHandler(OutsideOperatingHoursException.class)
     public ResponseEntity<Map<String, Object>> handleOutsideOperatingHours(
             OutsideOperatingHoursException ex, WebRequest request) {
         logger.warn("Outside operating hours: {}", ex.getMessage());
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        return withAlternatives(buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request), ex);
     }
 
     /**
@@ -263,6 +264,111 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
+    /**
+     * Handles report job not found exceptions.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 404 status
+     */
+    @ExceptionHandler(ReportJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleReportJobNotFound(
+            ReportJobNotFoundException ex, WebRequest request) {
+        logger.warn("Report job not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles cleanup job not found exceptions.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 404 status
+     */
+    @ExceptionHandler(CleanupJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleCleanupJobNotFound(
+            CleanupJobNotFoundException ex, WebRequest request) {
+        logger.warn("Cleanup job not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles cache not found exceptions.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 404 status
+     */
+    @ExceptionHandler(CacheNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleCacheNotFound(
+            CacheNotFoundException ex, WebRequest request) {
+        logger.warn("Cache not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles requests for the result of a report job that has not completed.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 409 status
+     */
+    @ExceptionHandler(ReportJobNotReadyException.class)
+    public ResponseEntity<Map<String, Object>> handleReportJobNotReady(
+            ReportJobNotReadyException ex, WebRequest request) {
+        logger.warn("Report job not ready: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles duplicates of an idempotent request whose original is still being processed.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 409 status and a Retry-After header
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyInProgress(
+            IdempotencyKeyInProgressException ex, WebRequest request) {
+        logger.warn("Idempotency key in progress: {}", ex.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles idempotency keys reused with a different request.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 422 status
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReused(
+            IdempotencyKeyReusedException ex, WebRequest request) {
+        logger.warn("Idempotency key reused: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles bulkhead rejections by shedding the request with a retry hint.
+     *
+     * @param ex the exception
+     * @param request the web request
+     * @return error response with 503 status and a Retry-After header
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkheadFull(
+            BulkheadFullException ex, WebRequest request) {
+        logger.warn("Bulkhead full: {}", ex.getMessage());
+        ResponseEntity<Map<String, Object>> response =
+                buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     /**
      * Handles illegal argument exceptions.
      *
@@ -296,4 +402,19 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorDetails, status);
     }
-}
\ No newline at end of file
+
+    /**
+     * Adds the alternative slots of a rejected reservation to an error response, when there are any.
+     *
+     * @param response the error response
+     * @param ex the rejection
+     * @return the error response
+     */
+    private ResponseEntity<Map<String, Object>> withAlternatives(
+            ResponseEntity<Map<String, Object>> response, SlotUnavailableException ex) {
+        if (!ex.getAlternatives().isEmpty() && response.getBody() != null) {
+            response.getBody().put("alternatives", ex.getAlternatives());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,17 @@
+package com.opentable.privatedining.exception;
+
+/**
+ * Exception thrown when the original request of an idempotency key is still running
+ * and did not finish within the wait timeout of a duplicate.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    /**
+     * Constructs a new IdempotencyKeyInProgressException for the given key.
+     *
+     * @param key the idempotency key
+     */
+    public IdempotencyKeyInProgressException(String key) {
+        super(String.format("A request with idempotency key '%s' is still being processed. Please retry shortly.", key));
+    }
+}
@@ -0,0 +1,16 @@
+package com.opentable.privatedining.exception;
+
+/**
+ * Exception thrown when an idempotency key is sent again with a different request than the one it was first used with.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    /**
+     * Constructs a new IdempotencyKeyReusedException for the given key.
+     *
+     * @param key the reused idempotency key
+     */
+    public IdempotencyKeyReusedException(String key) {
+        super(String.format("Idempotency key '%s' was already used with a different request", key));
+    }
+}
@@ -5,7 +5,7 @@ import java.time.LocalTime;
 /**
  * Exception thrown when a reservation time falls outside a space's operating hours.
  */
-public class OutsideOperatingHoursException extends RuntimeException {
+public class OutsideOperatingHoursException extends SlotUnavailableException {
 
     /**
      * Constructs a new OutsideOperatingHoursException with time details.
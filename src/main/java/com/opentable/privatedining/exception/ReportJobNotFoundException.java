@@ -0,0 +1,18 @@
+package com.opentable.privatedining.exception;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Exception thrown when an occupancy report job is not found for a restaurant.
+ */
+public class ReportJobNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new ReportJobNotFoundException with the job ID.
+     *
+     * @param jobId the ID of the job that was not found
+     */
+    public ReportJobNotFoundException(ObjectId jobId) {
+        super("Report job not found with ID: " + jobId.toString());
+    }
+}
@@ -0,0 +1,32 @@
+package com.opentable.privatedining.exception;
+
+import com.opentable.privatedining.model.ReportJobStatus;
+import org.bson.types.ObjectId;
+
+/**
+ * Exception thrown when the result of an occupancy report job is requested before the job has completed.
+ */
+public class ReportJobNotReadyException extends RuntimeException {
+
+    private final ReportJobStatus status;
+
+    /**
+     * Constructs a new ReportJobNotReadyException with the job ID and its current status.
+     *
+     * @param jobId the ID of the job
+     * @param status the current status of the job
+     */
+    public ReportJobNotReadyException(ObjectId jobId, ReportJobStatus status) {
+        super(String.format("Report job %s has no result yet (status: %s)", jobId, status));
+        this.status = status;
+    }
+
+    /**
+     * Gets the status of the job at the time of the request.
+     *
+     * @return the job status
+     */
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,41 @@
+package com.opentable.privatedining.exception;
+
+import com.opentable.privatedining.dto.AlternativeSlotDTO;
+
+import java.util.List;
+
+/**
+ * Base class for exceptions thrown when the requested time slot cannot be booked.
+ * Carries alternative slots the client can book instead, so the error response can offer them.
+ */
+public abstract class SlotUnavailableException extends RuntimeException {
+
+    private transient List<AlternativeSlotDTO> alternatives = List.of();
+
+    /**
+     * Constructs a new SlotUnavailableException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    protected SlotUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the alternative slots suggested for the rejected reservation.
+     *
+     * @return the alternatives, best first; empty if none were found
+     */
+    public List<AlternativeSlotDTO> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Sets the alternative slots suggested for the rejected reservation.
+     *
+     * @param alternatives the alternatives, best first
+     */
+    public void setAlternatives(List<AlternativeSlotDTO> alternatives) {
+        this.alternatives = alternatives != null ? List.copyOf(alternatives) : List.of();
+    }
+}
@@ -0,0 +1,36 @@
+package com.opentable.privatedining.mapper;
+
+import com.opentable.privatedining.dto.CleanupJobDTO;
+import com.opentable.privatedining.model.CleanupJob;
+import org.bson.types.ObjectId;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * MapStruct mapper for converting CleanupJob entities to CleanupJobDTO.
+ */
+@Mapper(componentModel = "spring")
+public interface CleanupJobMapper {
+
+    /**
+     * Converts a CleanupJob entity to a CleanupJobDTO.
+     *
+     * @param cleanupJob the cleanup job entity
+     * @return the cleanup job DTO
+     */
+    @Mapping(target = "id", source = "id", qualifiedByName = "objectIdToString")
+    @Mapping(target = "restaurantId", source = "restaurantId", qualifiedByName = "objectIdToString")
+    CleanupJobDTO toDTO(CleanupJob cleanupJob);
+
+    /**
+     * Converts ObjectId to String.
+     *
+     * @param objectId the ObjectId
+     * @return the string representation
+     */
+    @Named("objectIdToString")
+    default String objectIdToString(ObjectId objectId) {
+        return objectId != null ? objectId.toString() : null;
+    }
+}
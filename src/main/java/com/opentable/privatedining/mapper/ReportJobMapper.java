@@ -0,0 +1,36 @@
+package com.opentable.privatedining.mapper;
+
+import com.opentable.privatedining.dto.ReportJobDTO;
+import com.opentable.privatedining.model.ReportJob;
+import org.bson.types.ObjectId;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * MapStruct mapper for converting ReportJob entities to ReportJobDTO.
+ */
+@Mapper(componentModel = "spring")
+public interface ReportJobMapper {
+
+    /**
+     * Converts a ReportJob entity to a ReportJobDTO.
+     *
+     * @param reportJob the report job entity
+     * @return the report job DTO
+     */
+    @Mapping(target = "id", source = "id", qualifiedByName = "objectIdToString")
+    @Mapping(target = "restaurantId", source = "restaurantId", qualifiedByName = "objectIdToString")
+    ReportJobDTO toDTO(ReportJob reportJob);
+
+    /**
+     * Converts ObjectId to String.
+     *
+     * @param objectId the ObjectId
+     * @return the string representation
+     */
+    @Named("objectIdToString")
+    default String objectIdToString(ObjectId objectId) {
+        return objectId != null ? objectId.toString() : null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A past reservation moved out of the live {@code reservations} collection by the archival job.
+ * Keeps the ID of the original reservation, so archiving the same reservation twice leaves a single copy.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "reservations_archive")
+@CompoundIndex(name = "restaurant_start_idx", def = "{ 'restaurantId': 1, 'startTime': 1 }")
+public class ArchivedReservation {
+
+    @Id
+    private ObjectId id;
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private String customerEmail;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer partySize;
+    private String status;
+    private LocalDateTime archivedAt;
+
+    /**
+     * Constructs an archived copy of a reservation.
+     *
+     * @param reservation the reservation being archived
+     * @param archivedAt when the reservation was archived
+     */
+    public ArchivedReservation(Reservation reservation, LocalDateTime archivedAt) {
+        this.id = reservation.getId();
+        this.restaurantId = reservation.getRestaurantId();
+        this.spaceId = reservation.getSpaceId();
+        this.customerEmail = reservation.getCustomerEmail();
+        this.startTime = reservation.getStartTime();
+        this.endTime = reservation.getEndTime();
+        this.partySize = reservation.getPartySize();
+        this.status = reservation.getStatus();
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Restores the reservation as it was before archival.
+     *
+     * @return the reservation
+     */
+    public Reservation toReservation() {
+        Reservation reservation = new Reservation(restaurantId, spaceId, customerEmail, startTime, endTime,
+                partySize, status);
+        reservation.setId(id);
+        return reservation;
+    }
+}
@@ -0,0 +1,52 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Represents the removal of the reservations left behind by a deleted restaurant or a removed space.
+ * Reservations are deleted in batches; the job records how many are gone so progress can be polled.
+ * A job is processed by one instance at a time: the instance claims it by setting {@link #owner} to a token of its
+ * own, and holds it until {@link #leaseUntil}, extended at every batch. A job whose lease lapsed can be claimed again.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "cleanup_jobs")
+public class CleanupJob {
+
+    @Id
+    private ObjectId id;
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private CleanupJobStatus status;
+    private Long totalReservations;
+    private Long deletedReservations;
+    private String failureReason;
+    private String owner;
+    private LocalDateTime leaseUntil;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Constructs a new pending CleanupJob.
+     *
+     * @param restaurantId the ID of the restaurant whose reservations are removed
+     * @param spaceId the UUID of the removed space, or null when the whole restaurant was deleted
+     * @param totalReservations the number of reservations found when the job was submitted
+     */
+    public CleanupJob(ObjectId restaurantId, UUID spaceId, long totalReservations) {
+        this.restaurantId = restaurantId;
+        this.spaceId = spaceId;
+        this.status = CleanupJobStatus.PENDING;
+        this.totalReservations = totalReservations;
+        this.deletedReservations = 0L;
+    }
+}
@@ -0,0 +1,11 @@
+package com.opentable.privatedining.model;
+
+/**
+ * Lifecycle states of a reservation cleanup job.
+ */
+public enum CleanupJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,43 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Change counter of one restaurant and past day, bumped whenever a reservation change invalidates the day's
+ * {@link DailyOccupancyRollup}. Compaction reads it before aggregating the day and again after writing the rollup,
+ * and drops its rollup if the counter moved. MongoDB removes the record after {@link #expiresAt}, which only
+ * needs to outlast a compaction run.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "daily_occupancy_changes")
+public class DailyOccupancyChange {
+
+    @Id
+    private String key;
+    private ObjectId restaurantId;
+    private LocalDate day;
+    private long version;
+    @Indexed(name = "expires_at_ttl_idx", expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Builds the ID of the change counter of a restaurant and day.
+     *
+     * @param restaurantId the restaurant ID
+     * @param day the day
+     * @return the counter ID
+     */
+    public static String key(ObjectId restaurantId, LocalDate day) {
+        return restaurantId.toHexString() + "|" + day;
+    }
+}
@@ -0,0 +1,74 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Pre-aggregated occupancy of one restaurant for one past day, written once by the nightly compaction.
+ * Slot counters start at midnight and use {@link #slotDurationMinutes}.
+ * Reservations are counted on the day they start; reservations overlapping the day from an earlier
+ * day are kept separately as carried-over counts, which only apply when this day opens a report.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "daily_occupancy_rollups")
+@CompoundIndex(name = "restaurant_day_idx", def = "{ 'restaurantId': 1, 'slotDurationMinutes': 1, 'day': 1 }",
+    unique = true)
+public class DailyOccupancyRollup {
+
+    @Id
+    private ObjectId id;
+    private ObjectId restaurantId;
+    private LocalDate day;
+    private Integer slotDurationMinutes;
+    private Integer totalReservations;
+    private Integer totalGuests;
+    private Integer carriedOverReservations;
+    private Integer carriedOverGuests;
+    private List<SpaceRollup> spaces = new ArrayList<>();
+    private LocalDateTime compactedAt;
+
+    /**
+     * Constructs a new DailyOccupancyRollup for a restaurant and day.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param day the day the rollup covers
+     * @param slotDurationMinutes the slot duration of the counters
+     */
+    public DailyOccupancyRollup(ObjectId restaurantId, LocalDate day, Integer slotDurationMinutes) {
+        this.restaurantId = restaurantId;
+        this.day = day;
+        this.slotDurationMinutes = slotDurationMinutes;
+    }
+
+    /**
+     * Daily summary of a single space.
+     */
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class SpaceRollup {
+
+        private UUID spaceId;
+        private Integer maxCapacity;
+        private Integer reservationCount;
+        private Integer guestCount;
+        private Integer carriedOverReservations;
+        private Integer carriedOverGuests;
+        private int[] slotReservations;
+        private int[] slotOccupancy;
+        private Integer peakOccupancy;
+        private Double averageUtilization;
+    }
+}
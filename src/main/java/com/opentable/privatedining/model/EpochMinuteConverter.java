@@ -0,0 +1,48 @@
+package com.opentable.privatedining.model;
+
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Stores a reservation time as a 32-bit count of minutes since the epoch instead of an 8-byte date.
+ * Reservation times are slot-aligned, so nothing is lost for stored reservations; query bounds with seconds are
+ * rounded down, and upper bounds should be rounded up with {@link #ceilToMinute} first.
+ */
+public class EpochMinuteConverter implements MongoValueConverter<LocalDateTime, Integer> {
+
+    @Override
+    public Integer write(LocalDateTime value, MongoConversionContext context) {
+        return toEpochMinute(value);
+    }
+
+    @Override
+    public LocalDateTime read(Integer value, MongoConversionContext context) {
+        return LocalDateTime.ofEpochSecond(value * 60L, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a time to whole minutes since the epoch, rounding down.
+     *
+     * @param time the time
+     * @return the minutes since the epoch
+     */
+    public static int toEpochMinute(LocalDateTime time) {
+        return Math.toIntExact(Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    /**
+     * Rounds a time up to the next whole minute, so an exclusive upper bound keeps its meaning once stored
+     * times are compared in minutes.
+     *
+     * @param time the time
+     * @return the time itself if on a whole minute, the next whole minute otherwise
+     */
+    public static LocalDateTime ceilToMinute(LocalDateTime time) {
+        LocalDateTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+        return minute.equals(time) ? time : minute.plusMinutes(1);
+    }
+}
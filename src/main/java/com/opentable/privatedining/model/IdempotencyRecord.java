@@ -0,0 +1,53 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Outcome of a reservation request sent with an {@code Idempotency-Key} header.
+ * The key is the document ID, so a second request with the same key cannot claim it again.
+ * A record is {@link IdempotencyStatus#PENDING} while the original request runs and holds the created reservation
+ * once {@link IdempotencyStatus#COMPLETED}. Each claim gets its own {@link #claimToken}, so a request whose lease
+ * was taken over cannot release the new claim. MongoDB removes the record after {@link #expiresAt}.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    private String key;
+    private String requestFingerprint;
+    private String claimToken;
+    private IdempotencyStatus status;
+    private ObjectId reservationId;
+    private Reservation reservation;
+    private LocalDateTime createdAt;
+    @Indexed(name = "expires_at_ttl_idx", expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Constructs a new pending IdempotencyRecord claiming a key.
+     *
+     * @param key the idempotency key sent by the client
+     * @param requestFingerprint the fingerprint of the request the key was first used with
+     * @param createdAt when the key was claimed
+     * @param expiresAt when the claim lapses if the request never completes
+     */
+    public IdempotencyRecord(String key, String requestFingerprint, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.key = key;
+        this.requestFingerprint = requestFingerprint;
+        this.claimToken = UUID.randomUUID().toString();
+        this.status = IdempotencyStatus.PENDING;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+}
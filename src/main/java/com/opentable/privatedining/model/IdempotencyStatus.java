@@ -0,0 +1,9 @@
+package com.opentable.privatedining.model;
+
+/**
+ * Lifecycle states of an idempotency key.
+ */
+public enum IdempotencyStatus {
+    PENDING,
+    COMPLETED
+}
@@ -0,0 +1,58 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Represents an asynchronous occupancy report request over a long date range.
+ * The range is processed one day at a time; each finished day is checkpointed as a {@link ReportJobChunk}.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "report_jobs")
+public class ReportJob {
+
+    @Id
+    private ObjectId id;
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer slotDurationMinutes;
+    private ReportJobStatus status;
+    private Integer totalDays;
+    private Integer completedDays;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Constructs a new pending ReportJob for the given restaurant and inclusive date range.
+     *
+     * @param restaurantId the ID of the restaurant being reported on
+     * @param spaceId optional space UUID to restrict the report to a single space
+     * @param startDate the first day of the report, inclusive
+     * @param endDate the last day of the report, inclusive
+     * @param slotDurationMinutes the slot duration the chunks are aggregated with
+     */
+    public ReportJob(ObjectId restaurantId, UUID spaceId, LocalDate startDate, LocalDate endDate,
+        Integer slotDurationMinutes) {
+        this.restaurantId = restaurantId;
+        this.spaceId = spaceId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.slotDurationMinutes = slotDurationMinutes;
+        this.status = ReportJobStatus.PENDING;
+        this.totalDays = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        this.completedDays = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Checkpointed partial result of a {@link ReportJob}: the slot counters for a single day.
+ * At most one chunk exists per job and day, so a resumed job never double-counts a day.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "report_job_chunks")
+@CompoundIndex(name = "job_day_idx", def = "{ 'jobId': 1, 'day': 1 }", unique = true)
+public class ReportJobChunk {
+
+    @Id
+    private ObjectId id;
+    private ObjectId jobId;
+    private LocalDate day;
+    private Integer totalReservations;
+    private Integer totalGuests;
+    private List<SpaceSlots> spaces = new ArrayList<>();
+
+    /**
+     * Constructs a new ReportJobChunk for a job and day.
+     *
+     * @param jobId the ID of the owning job
+     * @param day the day the counters cover
+     * @param totalReservations the number of reservations counted in this day
+     * @param totalGuests the number of guests counted in this day
+     */
+    public ReportJobChunk(ObjectId jobId, LocalDate day, Integer totalReservations, Integer totalGuests) {
+        this.jobId = jobId;
+        this.day = day;
+        this.totalReservations = totalReservations;
+        this.totalGuests = totalGuests;
+    }
+
+    /**
+     * Slot counters of one space for the day, starting at midnight.
+     */
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class SpaceSlots {
+
+        private UUID spaceId;
+        private Integer reservationCount;
+        private int[] reservations;
+        private int[] occupancy;
+
+        /**
+         * Constructs the slot counters of a space.
+         *
+         * @param spaceId the UUID of the space
+         * @param reservationCount the number of reservations counted for the space
+         * @param reservations the reservation count per slot
+         * @param occupancy the occupancy per slot
+         */
+        public SpaceSlots(UUID spaceId, Integer reservationCount, int[] reservations, int[] occupancy) {
+            this.spaceId = spaceId;
+            this.reservationCount = reservationCount;
+            this.reservations = reservations;
+            this.occupancy = occupancy;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.opentable.privatedining.model;
+
+/**
+ * Lifecycle states of an asynchronous occupancy report job.
+ */
+public enum ReportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
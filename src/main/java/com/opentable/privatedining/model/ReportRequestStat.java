@@ -0,0 +1,60 @@
+package com.opentable.privatedining.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * How often an occupancy report was requested, identified by the parameters of its cache key.
+ * Used to pick the reports precomputed when warming up the report cache. MongoDB removes the record after
+ * {@link #expiresAt}, which moves forward each time the report is requested.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Document(collection = "report_request_stats")
+public class ReportRequestStat {
+
+    @Id
+    private String key;
+    private ObjectId restaurantId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private UUID spaceId;
+    private int page;
+    private int size;
+    @Indexed(name = "request_count_idx", direction = IndexDirection.DESCENDING)
+    private long requestCount;
+    private LocalDateTime lastRequestedAt;
+    @Indexed(name = "expires_at_ttl_idx", expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Constructs a new ReportRequestStat for the report with the given parameters.
+     *
+     * @param restaurantId the restaurant ID
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @param spaceId the space the report is filtered to, or null
+     * @param page the page number (0-based)
+     * @param size the page size
+     */
+    public ReportRequestStat(ObjectId restaurantId, LocalDateTime startTime, LocalDateTime endTime, UUID spaceId,
+                             int page, int size) {
+        this.key = String.join("|", restaurantId.toHexString(), startTime.toString(), endTime.toString(),
+                String.valueOf(spaceId), String.valueOf(page), String.valueOf(size));
+        this.restaurantId = restaurantId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.spaceId = spaceId;
+        this.page = page;
+        this.size = size;
+    }
+}
@@ -7,10 +7,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ValueConverter;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 /**
  * Represents a reservation in the private dining system.
+ * Stored compactly: short field names, the space ID as a standard binary UUID, times as epoch minutes and known
+ * statuses as numeric codes. Queries keep using the property names, which are mapped to the stored ones.
  */
 @NoArgsConstructor
 @Getter
@@ -20,12 +24,23 @@ public class Reservation {
 
     @Id
     private transient ObjectId id;
+    @Field("r")
     private ObjectId restaurantId;
+    @Field("sp")
+    @ValueConverter(StandardUuidConverter.class)
     private UUID spaceId;
+    @Field("e")
     private String customerEmail;
+    @Field("st")
+    @ValueConverter(EpochMinuteConverter.class)
     private LocalDateTime startTime;
+    @Field("et")
+    @ValueConverter(EpochMinuteConverter.class)
     private LocalDateTime endTime;
+    @Field("p")
     private Integer partySize;
+    @Field("s")
+    @ValueConverter(ReservationStatusConverter.class)
     private String status;
 
     /**
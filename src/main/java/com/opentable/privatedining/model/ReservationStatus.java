@@ -0,0 +1,57 @@
+package com.opentable.privatedining.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Reservation statuses with a compact numeric code used in stored reservation documents.
+ * The API and the {@link Reservation} model keep statuses as plain strings; statuses not listed here are stored
+ * as sent.
+ */
+public enum ReservationStatus {
+
+    CONFIRMED(1),
+    PENDING(2),
+    CANCELLED(3),
+    COMPLETED(4),
+    NO_SHOW(5);
+
+    private final int code;
+
+    ReservationStatus(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code stored for this status.
+     *
+     * @return the code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Finds the status with the given name.
+     *
+     * @param name the status name
+     * @return the status, or empty if the name is not a known status
+     */
+    public static Optional<ReservationStatus> fromName(String name) {
+        return Arrays.stream(values()).filter(status -> status.name().equals(name)).findFirst();
+    }
+
+    /**
+     * Finds the status with the given code.
+     *
+     * @param code the stored code
+     * @return the status
+     * @throws IllegalArgumentException if no status has the code
+     */
+    public static ReservationStatus fromCode(int code) {
+        return Arrays.stream(values())
+                .filter(status -> status.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown reservation status code: " + code));
+    }
+}
@@ -0,0 +1,24 @@
+package com.opentable.privatedining.model;
+
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+/**
+ * Stores a reservation status as its {@link ReservationStatus} code, or as the string itself when it is not a
+ * known status.
+ */
+public class ReservationStatusConverter implements MongoValueConverter<String, Object> {
+
+    @Override
+    public Object write(String value, MongoConversionContext context) {
+        return ReservationStatus.fromName(value).<Object>map(ReservationStatus::getCode).orElse(value);
+    }
+
+    @Override
+    public String read(Object value, MongoConversionContext context) {
+        if (value instanceof Number code) {
+            return ReservationStatus.fromCode(code.intValue()).name();
+        }
+        return value.toString();
+    }
+}
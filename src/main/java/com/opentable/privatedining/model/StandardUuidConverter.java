@@ -0,0 +1,37 @@
+package com.opentable.privatedining.model;
+
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Stores a UUID as a standard (binary subtype 4) 16-byte value, independently of the UUID representation
+ * configured for the client.
+ */
+public class StandardUuidConverter implements MongoValueConverter<UUID, Object> {
+
+    @Override
+    public Object write(UUID value, MongoConversionContext context) {
+        ByteBuffer bytes = ByteBuffer.allocate(16);
+        bytes.putLong(value.getMostSignificantBits());
+        bytes.putLong(value.getLeastSignificantBits());
+        return new Binary(BsonBinarySubType.UUID_STANDARD, bytes.array());
+    }
+
+    @Override
+    public UUID read(Object value, MongoConversionContext context) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        Binary binary = (Binary) value;
+        if (binary.getType() != BsonBinarySubType.UUID_STANDARD.getValue()) {
+            throw new IllegalArgumentException("Expected a standard UUID but got binary subtype " + binary.getType());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(binary.getData());
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+}
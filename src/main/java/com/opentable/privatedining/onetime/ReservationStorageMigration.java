@@ -0,0 +1,217 @@
+package com.opentable.privatedining.onetime;
+
+import com.opentable.privatedining.config.StorageMigrationConfig;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Component rewriting reservation documents stored in the previous layout (full field names, legacy UUIDs,
+ * dates and status strings) into the compact layout of {@link Reservation}, on startup.
+ * Each reservation collection is migrated in batches of bulk replacements; documents already in the compact layout
+ * are left alone, so the migration can be interrupted and run again. Document size, data size, index size and the
+ * throughput of a sample of range queries are logged before and after.
+ * Documents in the previous layout cannot be read with the compact mapping, so the migration runs before any other
+ * application runner and is enabled by default; with it disabled, startup fails while such documents remain.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReservationStorageMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationStorageMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ReservationRepository reservationRepository;
+    private final StorageMigrationConfig storageMigrationConfig;
+
+    /**
+     * Constructs a new ReservationStorageMigration with the required dependencies.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     * @param reservationRepository the repository listing the reservation collections
+     * @param storageMigrationConfig the configuration for the storage migration
+     */
+    public ReservationStorageMigration(MongoTemplate mongoTemplate, ReservationRepository reservationRepository,
+                                       StorageMigrationConfig storageMigrationConfig) {
+        this.mongoTemplate = mongoTemplate;
+        this.reservationRepository = reservationRepository;
+        this.storageMigrationConfig = storageMigrationConfig;
+    }
+
+    /**
+     * Migrates every reservation collection, or checks that none is left in the previous layout when the migration
+     * is disabled.
+     *
+     * @param args application arguments
+     * @throws IllegalStateException if the migration is disabled and a collection is still in the previous layout
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String collection : reservationRepository.findCollections()) {
+            if (storageMigrationConfig.isEnabled()) {
+                migrate(collection);
+            } else if (mongoTemplate.exists(legacyQuery(), collection)) {
+                throw new IllegalStateException("Reservation collection " + collection + " has documents in the "
+                        + "previous storage layout, which cannot be read; enable "
+                        + "private-dining.storage-migration.enabled to migrate them");
+            }
+        }
+    }
+
+    /**
+     * Migrates one collection and logs its measurements.
+     *
+     * @return the number of documents rewritten
+     */
+    long migrate(String collection) {
+        Query legacyQuery = legacyQuery();
+        if (!mongoTemplate.exists(legacyQuery, collection)) {
+            logger.info("Reservation collection {} is already in the compact layout", collection);
+            return 0;
+        }
+
+        List<Window> windows = mongoTemplate
+                .find(Query.of(legacyQuery).limit(storageMigrationConfig.getSampleQueries()), Document.class,
+                        collection)
+                .stream()
+                .map(document -> {
+                    LocalDateTime dayStart = toLocalDateTime(document.getDate("startTime")).toLocalDate()
+                            .atStartOfDay();
+                    return new Window(document.getObjectId("restaurantId"), dayStart, dayStart.plusDays(1));
+                })
+                .toList();
+        StorageStats before = measure(collection, windows, true);
+
+        long migrated = 0;
+        Query batchQuery = Query.of(legacyQuery).limit(storageMigrationConfig.getBatchSize());
+        List<Document> batch;
+        while (!(batch = mongoTemplate.find(batchQuery, Document.class, collection)).isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+            for (Document document : batch) {
+                bulk.replaceOne(Query.query(Criteria.where("_id").is(document.get("_id"))), toCompact(document));
+            }
+            int modified = bulk.execute().getModifiedCount();
+            if (modified == 0) {
+                logger.warn("Stopping migration of {}: no documents rewritten from a batch of {}",
+                        collection, batch.size());
+                break;
+            }
+            migrated += modified;
+        }
+
+        StorageStats after = measure(collection, windows, false);
+        logger.info("Migrated {} reservations of {} to the compact layout: average document {} -> {} bytes, "
+                        + "data {} -> {} bytes, indexes {} -> {} bytes, {} range queries {} -> {} per second",
+                migrated, collection, before.averageDocumentBytes(), after.averageDocumentBytes(),
+                before.dataBytes(), after.dataBytes(), before.indexBytes(), after.indexBytes(), windows.size(),
+                before.rangeQueriesPerSecond(), after.rangeQueriesPerSecond());
+        return migrated;
+    }
+
+    /**
+     * Matches documents of the previous layout, which store the start time under its full name.
+     */
+    private static Query legacyQuery() {
+        return Query.query(Criteria.where("startTime").exists(true));
+    }
+
+    /**
+     * Rewrites a document of the previous layout with the current mapping of {@link Reservation}.
+     * UUIDs of the previous layout are decoded by the client with its configured UUID representation.
+     */
+    private Document toCompact(Document legacy) {
+        Reservation reservation = new Reservation(
+                legacy.getObjectId("restaurantId"),
+                legacy.get("spaceId", UUID.class),
+                legacy.getString("customerEmail"),
+                toLocalDateTime(legacy.getDate("startTime")),
+                toLocalDateTime(legacy.getDate("endTime")),
+                legacy.getInteger("partySize"),
+                legacy.getString("status"));
+        reservation.setId(legacy.getObjectId("_id"));
+
+        Document compact = new Document();
+        mongoTemplate.getConverter().write(reservation, compact);
+        return compact;
+    }
+
+    /**
+     * Reads the collection statistics and times the sample range queries against the given layout.
+     */
+    private StorageStats measure(String collection, List<Window> windows, boolean legacyLayout) {
+        Document stats = mongoTemplate.executeCommand(new Document("collStats", collection));
+
+        long started = System.nanoTime();
+        for (Window window : windows) {
+            Document filter = legacyLayout ? legacyFilter(window) : compactFilter(window);
+            mongoTemplate.getCollection(collection).find(filter).into(new ArrayList<>());
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        return new StorageStats(
+                number(stats, "avgObjSize"),
+                number(stats, "size"),
+                number(stats, "totalIndexSize"),
+                windows.isEmpty() || seconds == 0 ? 0 : Math.round(windows.size() / seconds));
+    }
+
+    private static Document legacyFilter(Window window) {
+        return new Document("restaurantId", window.restaurantId())
+                .append("startTime", new Document("$lt", toDate(window.end())))
+                .append("endTime", new Document("$gt", toDate(window.start())));
+    }
+
+    /**
+     * Maps the same range query through the current mapping, as the repository does.
+     */
+    private Document compactFilter(Window window) {
+        Query query = Query.query(Criteria.where("restaurantId").is(window.restaurantId())
+                .and("startTime").lt(window.end())
+                .and("endTime").gt(window.start()));
+        return new QueryMapper(mongoTemplate.getConverter()).getMappedObject(query.getQueryObject(),
+                mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Reservation.class));
+    }
+
+    private static long number(Document stats, String key) {
+        Object value = stats.get(key);
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    /**
+     * Times were stored as dates in the system time zone, as Spring Data converts {@code LocalDateTime}.
+     */
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private record Window(ObjectId restaurantId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record StorageStats(long averageDocumentBytes, long dataBytes, long indexBytes,
+                                long rangeQueriesPerSecond) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ArchivedReservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for ArchivedReservation entities.
+ */
+@Repository
+public interface ArchivedReservationRepository extends MongoRepository<ArchivedReservation, ObjectId> {
+
+    /**
+     * Find all archived reservations for a restaurant within a date/time range.
+     * Used for occupancy analytics over ranges reaching past the archive horizon.
+     */
+    @Query("{ 'restaurantId': ?0, 'startTime': { $lt: ?2 }, 'endTime': { $gt: ?1 } }")
+    List<ArchivedReservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                             LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Find all archived reservations for a specific space within a date/time range.
+     * Used for occupancy analytics over ranges reaching past the archive horizon, with space filtering.
+     */
+    @Query("{ 'restaurantId': ?0, 'spaceId': ?1, 'startTime': { $lt: ?3 }, 'endTime': { $gt: ?2 } }")
+    List<ArchivedReservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                                       LocalDateTime startTime,
+                                                                       LocalDateTime endTime);
+
+    /**
+     * Find up to {@code limit} archived reservations for a restaurant.
+     * Used by cascading cleanup to delete the archived reservations of a deleted restaurant in batches.
+     */
+    List<ArchivedReservation> findByRestaurantId(ObjectId restaurantId, Limit limit);
+
+    /**
+     * Find up to {@code limit} archived reservations for a specific space.
+     * Used by cascading cleanup to delete the archived reservations of a removed space in batches.
+     */
+    List<ArchivedReservation> findByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId, Limit limit);
+
+    /**
+     * Count the archived reservations for a restaurant.
+     */
+    long countByRestaurantId(ObjectId restaurantId);
+
+    /**
+     * Count the archived reservations for a specific space.
+     */
+    long countByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId);
+
+    /**
+     * Delete the archived reservations with the given IDs with a single deleteMany.
+     */
+    long deleteByIdIn(Collection<ObjectId> ids);
+}
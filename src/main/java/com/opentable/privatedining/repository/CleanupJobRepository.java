@@ -0,0 +1,29 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for CleanupJob entities.
+ * Processing writes go through {@link CleanupJobRepositoryCustom}, conditioned on the instance holding the job.
+ */
+@Repository
+public interface CleanupJobRepository extends MongoRepository<CleanupJob, ObjectId>, CleanupJobRepositoryCustom {
+
+    /**
+     * Find all jobs in any of the given states.
+     * Used to resume unfinished jobs after a restart.
+     */
+    List<CleanupJob> findByStatusIn(Collection<CleanupJobStatus> statuses);
+
+    /**
+     * Find all jobs of a restaurant, most recent first.
+     */
+    List<CleanupJob> findByRestaurantIdOrderByCreatedAtDesc(ObjectId restaurantId);
+}
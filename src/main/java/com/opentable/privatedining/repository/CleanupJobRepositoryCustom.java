@@ -0,0 +1,28 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.CleanupJob;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Conditional updates of cleanup jobs, so that a job is processed by a single instance at a time.
+ */
+public interface CleanupJobRepositoryCustom {
+
+    /**
+     * Claim a pending or running job whose lease is free or lapsed with a single findAndModify, marking it running.
+     *
+     * @return the claimed job, or empty if it is finished or held by another owner
+     */
+    Optional<CleanupJob> claim(ObjectId jobId, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Write the status, progress, failure reason, timestamps and lease of a job, provided it is still running and
+     * held by the job's owner. A finished job also has its owner and lease removed.
+     *
+     * @return false if the job was finished or taken over by another owner meanwhile
+     */
+    boolean saveProgress(CleanupJob job);
+}
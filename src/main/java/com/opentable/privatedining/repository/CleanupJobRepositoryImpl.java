@@ -0,0 +1,65 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate implementation of {@link CleanupJobRepositoryCustom}.
+ */
+public class CleanupJobRepositoryImpl implements CleanupJobRepositoryCustom {
+
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new CleanupJobRepositoryImpl.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     */
+    public CleanupJobRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<CleanupJob> claim(ObjectId jobId, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        Query query = Query.query(Criteria.where("_id").is(jobId)
+                .and("status").in(List.of(CleanupJobStatus.PENDING, CleanupJobStatus.RUNNING))
+                .orOperator(Criteria.where("leaseUntil").is(null), Criteria.where("leaseUntil").lt(now)));
+        Update update = new Update()
+                .set("status", CleanupJobStatus.RUNNING)
+                .set("owner", owner)
+                .set("leaseUntil", leaseUntil)
+                .set("updatedAt", now);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, CleanupJob.class));
+    }
+
+    @Override
+    public boolean saveProgress(CleanupJob job) {
+        Query query = Query.query(Criteria.where("_id").is(job.getId())
+                .and("owner").is(job.getOwner())
+                .and("status").is(CleanupJobStatus.RUNNING));
+        Update update = new Update()
+                .set("status", job.getStatus())
+                .set("deletedReservations", job.getDeletedReservations())
+                .set("failureReason", job.getFailureReason())
+                .set("updatedAt", job.getUpdatedAt())
+                .set("completedAt", job.getCompletedAt());
+        if (job.getStatus() == CleanupJobStatus.RUNNING) {
+            update.set("leaseUntil", job.getLeaseUntil());
+        } else {
+            update.unset("owner").unset("leaseUntil");
+        }
+        return mongoTemplate.updateFirst(query, update, CleanupJob.class).getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.DailyOccupancyChange;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for DailyOccupancyChange entities.
+ */
+@Repository
+public interface DailyOccupancyChangeRepository extends MongoRepository<DailyOccupancyChange, String>,
+        DailyOccupancyChangeRepositoryCustom {
+}
@@ -0,0 +1,16 @@
+package com.opentable.privatedining.repository;
+
+import org.bson.types.ObjectId;
+
+import java.time.LocalDate;
+
+/**
+ * Counter updates of daily occupancy changes.
+ */
+public interface DailyOccupancyChangeRepositoryCustom {
+
+    /**
+     * Increment the change counter of a restaurant and day with a single upsert, and push its expiry forward.
+     */
+    void recordChange(ObjectId restaurantId, LocalDate day);
+}
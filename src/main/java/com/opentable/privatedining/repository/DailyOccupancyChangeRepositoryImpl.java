@@ -0,0 +1,41 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.DailyOccupancyChange;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * MongoTemplate implementation of {@link DailyOccupancyChangeRepositoryCustom}.
+ */
+public class DailyOccupancyChangeRepositoryImpl implements DailyOccupancyChangeRepositoryCustom {
+
+    private static final long RETENTION_HOURS = 24;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new DailyOccupancyChangeRepositoryImpl.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     */
+    public DailyOccupancyChangeRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void recordChange(ObjectId restaurantId, LocalDate day) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(DailyOccupancyChange.key(restaurantId, day))),
+                new Update()
+                        .setOnInsert("restaurantId", restaurantId)
+                        .setOnInsert("day", day)
+                        .inc("version", 1)
+                        .set("expiresAt", LocalDateTime.now().plusHours(RETENTION_HOURS)),
+                DailyOccupancyChange.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.DailyOccupancyRollup;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for DailyOccupancyRollup entities.
+ */
+@Repository
+public interface DailyOccupancyRollupRepository extends MongoRepository<DailyOccupancyRollup, ObjectId> {
+
+    /**
+     * Find the rollups of a restaurant for the days in [fromDay, toDay).
+     * Used to stitch historical days into occupancy reports and to find days still to compact.
+     */
+    @Query("{ 'restaurantId': ?0, 'slotDurationMinutes': ?1, 'day': { $gte: ?2, $lt: ?3 } }")
+    List<DailyOccupancyRollup> findByRestaurantIdAndDayRange(ObjectId restaurantId, Integer slotDurationMinutes,
+                                                             LocalDate fromDay, LocalDate toDay);
+
+    /**
+     * Delete the rollups of a restaurant for a day, whatever their slot duration.
+     * Used when a late change invalidates an already compacted day.
+     */
+    void deleteByRestaurantIdAndDay(ObjectId restaurantId, LocalDate day);
+}
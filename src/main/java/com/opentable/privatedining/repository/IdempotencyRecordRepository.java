@@ -0,0 +1,27 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.IdempotencyRecord;
+import com.opentable.privatedining.model.IdempotencyStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for IdempotencyRecord entities.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String> {
+
+    /**
+     * Delete a key if it is still in the given state and expired before the given time.
+     * Used to take over a pending key whose original request died before completing.
+     */
+    long deleteByKeyAndStatusAndExpiresAtBefore(String key, IdempotencyStatus status, LocalDateTime time);
+
+    /**
+     * Delete a key if it is still in the given state and held by the given claim.
+     * Used to release a key after a failed request, unless another request took it over meanwhile.
+     */
+    long deleteByKeyAndStatusAndClaimToken(String key, IdempotencyStatus status, String claimToken);
+}
@@ -0,0 +1,103 @@
+package com.opentable.privatedining.repository;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * {@link SharedCacheStore} kept in the {@code cache_entries} collection.
+ * A TTL index on the expiry time lets MongoDB remove expired entries; as it only runs once a minute, reads also
+ * filter on the expiry time. Entries are stored with short field names: cache ({@code c}), group ({@code g}),
+ * value ({@code v}) and expiry ({@code x}).
+ */
+@Repository
+public class MongoSharedCacheStore implements SharedCacheStore {
+
+    static final String COLLECTION = "cache_entries";
+
+    private final MongoTemplate mongoTemplate;
+    private volatile boolean indexed;
+
+    /**
+     * Constructs a new MongoSharedCacheStore.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     */
+    public MongoSharedCacheStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<byte[]> get(String cacheName, String key) {
+        Document entry = mongoTemplate.getCollection(COLLECTION)
+                .find(Filters.and(Filters.eq("_id", id(cacheName, key)), Filters.gt("x", new Date())))
+                .first();
+        return entry != null && entry.get("v") instanceof Binary value
+                ? Optional.of(value.getData())
+                : Optional.empty();
+    }
+
+    @Override
+    public void put(String cacheName, String key, String group, byte[] value, Duration timeToLive) {
+        ensureIndexes();
+        String id = id(cacheName, key);
+        mongoTemplate.getCollection(COLLECTION).replaceOne(Filters.eq("_id", id),
+                new Document("_id", id)
+                        .append("c", cacheName)
+                        .append("g", group)
+                        .append("v", new Binary(value))
+                        .append("x", new Date(System.currentTimeMillis() + timeToLive.toMillis())),
+                new ReplaceOptions().upsert(true));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        mongoTemplate.getCollection(COLLECTION).deleteOne(Filters.eq("_id", id(cacheName, key)));
+    }
+
+    @Override
+    public void evictGroup(String cacheName, String group) {
+        delete(Filters.and(Filters.eq("c", cacheName), Filters.eq("g", group)));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        delete(Filters.eq("c", cacheName));
+    }
+
+    private void delete(Bson filter) {
+        mongoTemplate.getCollection(COLLECTION).deleteMany(filter);
+    }
+
+    private static String id(String cacheName, String key) {
+        return cacheName + ":" + key;
+    }
+
+    /**
+     * Creates the TTL and group indexes on first write.
+     */
+    private void ensureIndexes() {
+        if (indexed) {
+            return;
+        }
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("x", Sort.Direction.ASC)
+                .expire(Duration.ZERO)
+                .named("expiry_ttl_idx"));
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                .on("c", Sort.Direction.ASC)
+                .on("g", Sort.Direction.ASC)
+                .named("cache_group_idx"));
+        indexed = true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ArchivedReservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive repository interface for ArchivedReservation entities.
+ * Used by the non-blocking analytics path for report ranges reaching past the archive horizon.
+ */
+@Repository
+public interface ReactiveArchivedReservationRepository extends ReactiveMongoRepository<ArchivedReservation, ObjectId> {
+
+    /**
+     * Stream all archived reservations for a restaurant within a date/time range.
+     * Used for occupancy analytics over ranges reaching past the archive horizon.
+     */
+    @Query("{ 'restaurantId': ?0, 'startTime': { $lt: ?2 }, 'endTime': { $gt: ?1 } }")
+    Flux<ArchivedReservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                             LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Stream all archived reservations for a specific space within a date/time range.
+     * Used for occupancy analytics over ranges reaching past the archive horizon, with space filtering.
+     */
+    @Query("{ 'restaurantId': ?0, 'spaceId': ?1, 'startTime': { $lt: ?3 }, 'endTime': { $gt: ?2 } }")
+    Flux<ArchivedReservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                                       LocalDateTime startTime,
+                                                                       LocalDateTime endTime);
+}
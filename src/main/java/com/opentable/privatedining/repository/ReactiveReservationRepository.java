@@ -0,0 +1,17 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for Reservation entities.
+ * Used by the non-blocking analytics path so report queries do not hold request threads.
+ * Time range queries come from {@link ReactiveReservationRepositoryCustom}, which reads the monthly partitions when
+ * partitioning is enabled.
+ */
+@Repository
+public interface ReactiveReservationRepository extends ReactiveMongoRepository<Reservation, ObjectId>,
+        ReactiveReservationRepositoryCustom {
+}
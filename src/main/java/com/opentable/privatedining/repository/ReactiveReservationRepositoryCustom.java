@@ -0,0 +1,29 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive time range queries that follow the optional monthly partitioning of reservations, reading the same
+ * collections as {@link ReservationRepositoryCustom}.
+ */
+public interface ReactiveReservationRepositoryCustom {
+
+    /**
+     * Stream all reservations for a restaurant within a date/time range.
+     * Used for occupancy analytics reporting.
+     */
+    Flux<Reservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                     LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Stream all reservations for a specific space within a date/time range.
+     * Used for occupancy analytics reporting with space filtering.
+     */
+    Flux<Reservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                               LocalDateTime startTime, LocalDateTime endTime);
+}
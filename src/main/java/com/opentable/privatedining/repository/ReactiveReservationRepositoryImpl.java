@@ -0,0 +1,61 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.config.PartitioningConfig;
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ReactiveMongoTemplate implementation of {@link ReactiveReservationRepositoryCustom}.
+ * Streams the unpartitioned collection and then the partitions of every month of the range, one after the other,
+ * as the blocking {@link ReservationRepositoryImpl} reads them.
+ */
+public class ReactiveReservationRepositoryImpl implements ReactiveReservationRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final PartitioningConfig partitioningConfig;
+
+    /**
+     * Constructs a new ReactiveReservationRepositoryImpl.
+     *
+     * @param reactiveMongoTemplate the reactive MongoDB template for database operations
+     * @param partitioningConfig the configuration for monthly partitioning
+     */
+    public ReactiveReservationRepositoryImpl(ReactiveMongoTemplate reactiveMongoTemplate,
+                                             PartitioningConfig partitioningConfig) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.partitioningConfig = partitioningConfig;
+    }
+
+    @Override
+    public Flux<Reservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                            LocalDateTime startTime, LocalDateTime endTime) {
+        return find(ReservationRepositoryImpl.overlapping(startTime, endTime)
+                .and("restaurantId").is(restaurantId), startTime, endTime);
+    }
+
+    @Override
+    public Flux<Reservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                                      LocalDateTime startTime,
+                                                                      LocalDateTime endTime) {
+        return find(ReservationRepositoryImpl.overlapping(startTime, endTime)
+                .and("restaurantId").is(restaurantId).and("spaceId").is(spaceId), startTime, endTime);
+    }
+
+    /**
+     * Streams the matching reservations of every collection of the range in turn, so only one cursor is open at a
+     * time. A partition that does not exist yet streams nothing.
+     */
+    private Flux<Reservation> find(Criteria criteria, LocalDateTime startTime, LocalDateTime endTime) {
+        return Flux.fromIterable(ReservationRepositoryImpl.rangeCollections(partitioningConfig.isEnabled(),
+                        startTime, endTime))
+                .concatMap(collection -> reactiveMongoTemplate.find(Query.query(criteria), Reservation.class,
+                        collection));
+    }
+}
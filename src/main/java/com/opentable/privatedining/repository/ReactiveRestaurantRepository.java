@@ -0,0 +1,13 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Restaurant;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for Restaurant entities.
+ */
+@Repository
+public interface ReactiveRestaurantRepository extends ReactiveMongoRepository<Restaurant, ObjectId> {
+}
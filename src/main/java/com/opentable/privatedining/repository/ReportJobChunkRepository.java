@@ -0,0 +1,20 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ReportJobChunk;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ReportJobChunk entities.
+ */
+@Repository
+public interface ReportJobChunkRepository extends MongoRepository<ReportJobChunk, ObjectId> {
+
+    /**
+     * Find all checkpointed chunks of a job.
+     */
+    List<ReportJobChunk> findByJobId(ObjectId jobId);
+}
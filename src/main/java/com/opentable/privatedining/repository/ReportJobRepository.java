@@ -0,0 +1,23 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.model.ReportJobStatus;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for ReportJob entities.
+ */
+@Repository
+public interface ReportJobRepository extends MongoRepository<ReportJob, ObjectId> {
+
+    /**
+     * Find all jobs in any of the given states.
+     * Used to resume unfinished jobs after a restart.
+     */
+    List<ReportJob> findByStatusIn(Collection<ReportJobStatus> statuses);
+}
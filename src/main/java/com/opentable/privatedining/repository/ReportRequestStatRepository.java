@@ -0,0 +1,22 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ReportRequestStat;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ReportRequestStat entities.
+ * Counter updates come from {@link ReportRequestStatRepositoryCustom}.
+ */
+@Repository
+public interface ReportRequestStatRepository
+        extends MongoRepository<ReportRequestStat, String>, ReportRequestStatRepositoryCustom {
+
+    /**
+     * Find the most requested reports, most requested first.
+     */
+    List<ReportRequestStat> findByOrderByRequestCountDesc(Limit limit);
+}
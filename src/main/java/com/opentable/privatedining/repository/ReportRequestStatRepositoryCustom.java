@@ -0,0 +1,17 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ReportRequestStat;
+
+import java.util.Collection;
+
+/**
+ * Counter updates of report request statistics.
+ */
+public interface ReportRequestStatRepositoryCustom {
+
+    /**
+     * Add request counts with one unordered bulk of upserts. Each statistic's {@code requestCount} is added to the
+     * stored count with {@code $inc}, and its {@code lastRequestedAt} and {@code expiresAt} replace the stored ones.
+     */
+    void addRequests(Collection<ReportRequestStat> stats);
+}
@@ -0,0 +1,48 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.ReportRequestStat;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+/**
+ * MongoTemplate implementation of {@link ReportRequestStatRepositoryCustom}.
+ */
+public class ReportRequestStatRepositoryImpl implements ReportRequestStatRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new ReportRequestStatRepositoryImpl.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     */
+    public ReportRequestStatRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void addRequests(Collection<ReportRequestStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReportRequestStat.class);
+        for (ReportRequestStat stat : stats) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(stat.getKey())), new Update()
+                    .setOnInsert("restaurantId", stat.getRestaurantId())
+                    .setOnInsert("startTime", stat.getStartTime())
+                    .setOnInsert("endTime", stat.getEndTime())
+                    .setOnInsert("spaceId", stat.getSpaceId())
+                    .setOnInsert("page", stat.getPage())
+                    .setOnInsert("size", stat.getSize())
+                    .inc("requestCount", stat.getRequestCount())
+                    .set("lastRequestedAt", stat.getLastRequestedAt())
+                    .set("expiresAt", stat.getExpiresAt()));
+        }
+        bulk.execute();
+    }
+}
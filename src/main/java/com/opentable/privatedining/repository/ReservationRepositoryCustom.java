@@ -0,0 +1,158 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reservation data access that follows the optional monthly partitioning of reservations.
+ * With partitioning enabled, reservations are stored in one collection per month of their start time
+ * ({@code reservations_yyyy_MM}); time range queries only read the months that intersect the range, other queries
+ * read every partition. Reservations stored in {@code reservations} before partitioning was enabled are still read.
+ * With partitioning disabled, every method works on {@code reservations} alone.
+ */
+public interface ReservationRepositoryCustom {
+
+    /**
+     * Insert or replace a reservation in the partition of its start time.
+     * Used on creation; time changes go through {@link #updateTimeAndPartySize}.
+     */
+    <S extends Reservation> S save(S reservation);
+
+    /**
+     * Find a reservation by ID in whichever partition holds it.
+     */
+    Optional<Reservation> findById(ObjectId id);
+
+    /**
+     * Find all reservations, across partitions.
+     */
+    List<Reservation> findAll();
+
+    /**
+     * Delete a reservation by ID from whichever partition holds it.
+     */
+    void deleteById(ObjectId id);
+
+    /**
+     * Find all reservations that overlap with the given time range for a specific space.
+     * Two time ranges overlap if: newStart < existingEnd AND newEnd > existingStart
+     */
+    List<Reservation> findOverlappingReservations(ObjectId restaurantId, UUID spaceId,
+                                                  LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Find all reservations for a restaurant.
+     * Used to bulk-load the in-memory analytics column store.
+     */
+    List<Reservation> findByRestaurantId(ObjectId restaurantId);
+
+    /**
+     * Find up to {@code limit} reservations for a restaurant.
+     * Used to clean up the reservations of a deleted restaurant batch by batch.
+     */
+    List<Reservation> findByRestaurantId(ObjectId restaurantId, Limit limit);
+
+    /**
+     * Find up to {@code limit} reservations for a specific space.
+     * Used to clean up the reservations of a removed space batch by batch.
+     */
+    List<Reservation> findByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId, Limit limit);
+
+    /**
+     * Find up to {@code limit} reservations that ended before the given time.
+     * Used to move past reservations to the archive batch by batch.
+     */
+    List<Reservation> findByEndTimeBefore(LocalDateTime endTime, Limit limit);
+
+    /**
+     * Find all reservations for a restaurant that end after the given time.
+     * Used to load the analytics window of a restaurant into the column store.
+     */
+    List<Reservation> findByRestaurantIdAndEndTimeAfter(ObjectId restaurantId, LocalDateTime endTime);
+
+    /**
+     * Find all reservations for a specific space that end after the given time.
+     * Used to load the window of a space into the in-memory reservation interval index.
+     */
+    List<Reservation> findByRestaurantIdAndSpaceIdAndEndTimeAfter(ObjectId restaurantId, UUID spaceId,
+                                                                  LocalDateTime endTime);
+
+    /**
+     * Count the reservations for a restaurant.
+     */
+    long countByRestaurantId(ObjectId restaurantId);
+
+    /**
+     * Count the reservations for a specific space.
+     */
+    long countByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId);
+
+    /**
+     * Find all reservations for a restaurant within a date/time range.
+     * Used for occupancy analytics reporting.
+     */
+    List<Reservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                     LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Find all reservations for any of the given restaurants within a date/time range.
+     * Used to evaluate every candidate space of an availability search with a single query per partition.
+     */
+    List<Reservation> findByRestaurantIdInAndTimeRange(Collection<ObjectId> restaurantIds,
+                                                       LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Find all reservations for a specific space within a date/time range.
+     * Used for occupancy analytics reporting with space filtering.
+     */
+    List<Reservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                               LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Delete the reservations with the given IDs with a single deleteMany per partition.
+     * Used by bulk cancellation and cascading cleanup, which read the matching reservations first to update
+     * derived state, and by archival once the reservations read have been copied to the archive.
+     */
+    long deleteByIdIn(Collection<ObjectId> ids);
+
+    /**
+     * Atomically set the time and party size of a reservation, provided they still hold the expected values.
+     * Used by in-place updates; a count of zero means the reservation was deleted or changed concurrently.
+     * A reservation moved to another month is inserted into the new partition before it is removed from its old
+     * one, so it is never missing from capacity checks; the insert is undone if the reservation changed meanwhile.
+     */
+    long updateTimeAndPartySize(ObjectId id, LocalDateTime expectedStartTime, LocalDateTime expectedEndTime,
+                                Integer expectedPartySize, LocalDateTime startTime, LocalDateTime endTime,
+                                Integer partySize);
+
+    /**
+     * Find the names of the collections holding reservations: {@code reservations} and, with partitioning enabled,
+     * every monthly partition.
+     */
+    List<String> findCollections();
+
+    /**
+     * Find the monthly partitions whose reservations all ended before the given time.
+     * Always empty with partitioning disabled.
+     */
+    List<YearMonth> findPartitionsEndedBefore(LocalDateTime endTime);
+
+    /**
+     * Find up to {@code limit} reservations of a monthly partition in ID order, after the given ID if any.
+     * Used to copy a whole partition to the archive before dropping it.
+     */
+    List<Reservation> findInPartition(YearMonth month, ObjectId afterId, Limit limit);
+
+    /**
+     * Drop a monthly partition with all its reservations.
+     */
+    void dropPartition(YearMonth month);
+}
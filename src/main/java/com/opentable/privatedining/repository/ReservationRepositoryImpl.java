@@ -0,0 +1,432 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.config.PartitioningConfig;
+import com.opentable.privatedining.model.EpochMinuteConverter;
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * MongoTemplate implementation of {@link ReservationRepositoryCustom}.
+ * Reservations never span more than one day (see {@code MultiDayReservationException}), so a reservation
+ * overlapping a range always starts on or after the first day of the range; time range queries therefore read the
+ * partitions from the month of the range start to the month of the range end.
+ */
+public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+
+    static final String COLLECTION = "reservations";
+
+    private static final String PARTITION_PREFIX = COLLECTION + "_";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("uuuu_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(Pattern.quote(PARTITION_PREFIX) + "\\d{4}_\\d{2}");
+
+    private final MongoTemplate mongoTemplate;
+    private final PartitioningConfig partitioningConfig;
+    private final Set<String> indexedPartitions = ConcurrentHashMap.newKeySet();
+    private final Set<String> knownPartitions = new ConcurrentSkipListSet<>();
+    private volatile long partitionsListedAt;
+
+    /**
+     * Constructs a new ReservationRepositoryImpl.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     * @param partitioningConfig the configuration for monthly partitioning
+     */
+    public ReservationRepositoryImpl(MongoTemplate mongoTemplate, PartitioningConfig partitioningConfig) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitioningConfig = partitioningConfig;
+    }
+
+    @Override
+    public <S extends Reservation> S save(S reservation) {
+        String target = writeCollection(reservation.getStartTime());
+        if (reservation.getId() == null || !partitioningConfig.isEnabled()) {
+            return mongoTemplate.save(reservation, target);
+        }
+        // Saved before being removed from the partition of its previous month, if it moved
+        Optional<String> previous = findCollection(reservation.getId());
+        S saved = mongoTemplate.save(reservation, target);
+        previous.filter(collection -> !collection.equals(target))
+                .ifPresent(collection -> mongoTemplate.remove(byId(reservation.getId()), collection));
+        return saved;
+    }
+
+    @Override
+    public Optional<Reservation> findById(ObjectId id) {
+        return findInCollections(collection -> mongoTemplate.findById(id, Reservation.class, collection));
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        List<Reservation> reservations = new ArrayList<>();
+        for (String collection : allCollections()) {
+            reservations.addAll(mongoTemplate.findAll(Reservation.class, collection));
+        }
+        return reservations;
+    }
+
+    @Override
+    public void deleteById(ObjectId id) {
+        findInCollections(collection -> mongoTemplate.remove(byId(id), collection).getDeletedCount() > 0
+                ? collection : null);
+    }
+
+    @Override
+    public List<Reservation> findOverlappingReservations(ObjectId restaurantId, UUID spaceId,
+                                                         LocalDateTime startTime, LocalDateTime endTime) {
+        return findByRestaurantIdAndSpaceIdAndTimeRange(restaurantId, spaceId, startTime, endTime);
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantId(ObjectId restaurantId) {
+        return findByRestaurantId(restaurantId, Limit.unlimited());
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantId(ObjectId restaurantId, Limit limit) {
+        return find(Criteria.where("restaurantId").is(restaurantId), allCollections(), limit);
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId, Limit limit) {
+        return find(Criteria.where("restaurantId").is(restaurantId).and("spaceId").is(spaceId),
+                allCollections(), limit);
+    }
+
+    @Override
+    public List<Reservation> findByEndTimeBefore(LocalDateTime endTime, Limit limit) {
+        List<String> collections = allCollections().stream()
+                .filter(collection -> !isPartition(collection) || partitionStart(collection).isBefore(endTime))
+                .toList();
+        return find(Criteria.where("endTime").lt(EpochMinuteConverter.ceilToMinute(endTime)), collections, limit);
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdAndEndTimeAfter(ObjectId restaurantId, LocalDateTime endTime) {
+        return find(Criteria.where("restaurantId").is(restaurantId).and("endTime").gt(endTime),
+                endingAfterCollections(endTime), Limit.unlimited());
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdAndSpaceIdAndEndTimeAfter(ObjectId restaurantId, UUID spaceId,
+                                                                         LocalDateTime endTime) {
+        return find(Criteria.where("restaurantId").is(restaurantId).and("spaceId").is(spaceId)
+                        .and("endTime").gt(endTime),
+                endingAfterCollections(endTime), Limit.unlimited());
+    }
+
+    @Override
+    public long countByRestaurantId(ObjectId restaurantId) {
+        return count(Criteria.where("restaurantId").is(restaurantId));
+    }
+
+    @Override
+    public long countByRestaurantIdAndSpaceId(ObjectId restaurantId, UUID spaceId) {
+        return count(Criteria.where("restaurantId").is(restaurantId).and("spaceId").is(spaceId));
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdAndTimeRange(ObjectId restaurantId,
+                                                            LocalDateTime startTime, LocalDateTime endTime) {
+        return find(overlapping(startTime, endTime).and("restaurantId").is(restaurantId),
+                rangeCollections(startTime, endTime), Limit.unlimited());
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdInAndTimeRange(Collection<ObjectId> restaurantIds,
+                                                              LocalDateTime startTime, LocalDateTime endTime) {
+        return find(overlapping(startTime, endTime).and("restaurantId").in(restaurantIds),
+                rangeCollections(startTime, endTime), Limit.unlimited());
+    }
+
+    @Override
+    public List<Reservation> findByRestaurantIdAndSpaceIdAndTimeRange(ObjectId restaurantId, UUID spaceId,
+                                                                      LocalDateTime startTime,
+                                                                      LocalDateTime endTime) {
+        return find(overlapping(startTime, endTime).and("restaurantId").is(restaurantId).and("spaceId").is(spaceId),
+                rangeCollections(startTime, endTime), Limit.unlimited());
+    }
+
+    @Override
+    public long deleteByIdIn(Collection<ObjectId> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        long deleted = 0;
+        for (String collection : allCollections()) {
+            deleted += mongoTemplate.remove(query, collection).getDeletedCount();
+            if (deleted == ids.size()) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public long updateTimeAndPartySize(ObjectId id, LocalDateTime expectedStartTime, LocalDateTime expectedEndTime,
+                                       Integer expectedPartySize, LocalDateTime startTime, LocalDateTime endTime,
+                                       Integer partySize) {
+        Query expected = Query.query(Criteria.where("_id").is(id)
+                .and("startTime").is(expectedStartTime)
+                .and("endTime").is(expectedEndTime)
+                .and("partySize").is(expectedPartySize));
+        String target = writeCollection(startTime);
+
+        List<String> sources = new ArrayList<>(List.of(readCollection(expectedStartTime)));
+        if (!sources.contains(COLLECTION)) {
+            sources.add(COLLECTION);
+        }
+        for (String source : sources) {
+            if (source.equals(target)) {
+                Update update = new Update().set("startTime", startTime).set("endTime", endTime)
+                        .set("partySize", partySize);
+                long matched = mongoTemplate.updateFirst(expected, update, Reservation.class, source)
+                        .getMatchedCount();
+                if (matched > 0) {
+                    return matched;
+                }
+                continue;
+            }
+            // Moving to another month: the reservation is written to the new partition before it is removed
+            // from the old one, so capacity checks always count it
+            Reservation moved = mongoTemplate.findOne(expected, Reservation.class, source);
+            if (moved == null) {
+                continue;
+            }
+            moved.setStartTime(startTime);
+            moved.setEndTime(endTime);
+            moved.setPartySize(partySize);
+            mongoTemplate.insert(moved, target);
+            long removed;
+            try {
+                removed = mongoTemplate.remove(expected, Reservation.class, source).getDeletedCount();
+            } catch (RuntimeException e) {
+                mongoTemplate.remove(byId(id), target);
+                throw e;
+            }
+            if (removed == 0) {
+                // Changed or deleted concurrently since it was read
+                mongoTemplate.remove(byId(id), target);
+                return 0;
+            }
+            return 1;
+        }
+        return 0;
+    }
+
+    @Override
+    public List<String> findCollections() {
+        return allCollections();
+    }
+
+    @Override
+    public List<YearMonth> findPartitionsEndedBefore(LocalDateTime endTime) {
+        return allCollections().stream()
+                .filter(this::isPartition)
+                .map(ReservationRepositoryImpl::partitionMonth)
+                .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(endTime))
+                .toList();
+    }
+
+    @Override
+    public List<Reservation> findInPartition(YearMonth month, ObjectId afterId, Limit limit) {
+        Query query = afterId != null ? Query.query(Criteria.where("_id").gt(afterId)) : new Query();
+        query.with(Sort.by("_id")).limit(limit);
+        return mongoTemplate.find(query, Reservation.class, partitionName(month));
+    }
+
+    @Override
+    public void dropPartition(YearMonth month) {
+        String partition = partitionName(month);
+        mongoTemplate.dropCollection(partition);
+        indexedPartitions.remove(partition);
+        knownPartitions.remove(partition);
+    }
+
+    /**
+     * The collection holding a reservation.
+     */
+    private Optional<String> findCollection(ObjectId id) {
+        return findInCollections(collection -> mongoTemplate.exists(byId(id), collection) ? collection : null);
+    }
+
+    /**
+     * Applies a lookup to each collection in turn until one returns a result. When none does, the partitions are
+     * listed again and the lookup is applied to the new ones, in case another instance has created them since they
+     * were last listed.
+     */
+    private <T> Optional<T> findInCollections(Function<String, T> lookup) {
+        List<String> searched = allCollections();
+        Optional<T> found = findInCollections(lookup, searched);
+        if (found.isPresent() || !partitioningConfig.isEnabled()) {
+            return found;
+        }
+        listPartitions();
+        return findInCollections(lookup, allCollections().stream()
+                .filter(collection -> !searched.contains(collection))
+                .toList());
+    }
+
+    private static <T> Optional<T> findInCollections(Function<String, T> lookup, List<String> collections) {
+        for (String collection : collections) {
+            T result = lookup.apply(collection);
+            if (result != null) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<Reservation> find(Criteria criteria, List<String> collections, Limit limit) {
+        List<Reservation> reservations = new ArrayList<>();
+        for (String collection : collections) {
+            Query query = Query.query(criteria);
+            if (limit.isLimited()) {
+                int remaining = limit.max() - reservations.size();
+                if (remaining <= 0) {
+                    break;
+                }
+                query.limit(remaining);
+            }
+            reservations.addAll(mongoTemplate.find(query, Reservation.class, collection));
+        }
+        return reservations;
+    }
+
+    private long count(Criteria criteria) {
+        long count = 0;
+        for (String collection : allCollections()) {
+            count += mongoTemplate.count(Query.query(criteria), Reservation.class, collection);
+        }
+        return count;
+    }
+
+    /**
+     * Matches reservations overlapping a range. Stored times are whole minutes, so the exclusive upper bound is
+     * rounded up to keep its meaning.
+     */
+    static Criteria overlapping(LocalDateTime startTime, LocalDateTime endTime) {
+        return Criteria.where("startTime").lt(EpochMinuteConverter.ceilToMinute(endTime)).and("endTime").gt(startTime);
+    }
+
+    private static Query byId(ObjectId id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    /**
+     * The collection a reservation starting at the given time is written to, creating the partition's index on
+     * first use.
+     */
+    private String writeCollection(LocalDateTime startTime) {
+        String collection = readCollection(startTime);
+        if (!collection.equals(COLLECTION) && indexedPartitions.add(collection)) {
+            mongoTemplate.indexOps(collection, Reservation.class).ensureIndex(new Index()
+                    .on("restaurantId", Sort.Direction.ASC)
+                    .on("startTime", Sort.Direction.ASC)
+                    .named("restaurant_start_idx"));
+            knownPartitions.add(collection);
+        }
+        return collection;
+    }
+
+    private String readCollection(LocalDateTime startTime) {
+        return partitioningConfig.isEnabled() ? partitionName(YearMonth.from(startTime)) : COLLECTION;
+    }
+
+    /**
+     * The collections that may hold reservations overlapping a range: the unpartitioned collection and the
+     * partitions of every month from the range start to the range end.
+     */
+    private List<String> rangeCollections(LocalDateTime startTime, LocalDateTime endTime) {
+        return rangeCollections(partitioningConfig.isEnabled(), startTime, endTime);
+    }
+
+    static List<String> rangeCollections(boolean partitioned, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!partitioned) {
+            return List.of(COLLECTION);
+        }
+        List<String> collections = new ArrayList<>();
+        collections.add(COLLECTION);
+        YearMonth lastMonth = YearMonth.from(endTime.minusNanos(1));
+        for (YearMonth month = YearMonth.from(startTime); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            collections.add(partitionName(month));
+        }
+        return collections;
+    }
+
+    /**
+     * Gets the collections that may hold reservations ending after the given time. Reservations stay within one
+     * day, so one ending after it starts at most a day before it.
+     */
+    private List<String> endingAfterCollections(LocalDateTime endTime) {
+        LocalDateTime earliestStart = endTime.minusDays(1);
+        return allCollections().stream()
+                .filter(collection -> !isPartition(collection)
+                        || partitionStart(collection).plusMonths(1).isAfter(earliestStart))
+                .toList();
+    }
+
+    /**
+     * Every collection holding reservations: the unpartitioned collection first, then the partitions oldest first.
+     * Partition names are cached, kept up to date with the partitions this instance creates and drops, and listed
+     * again from the database every {@code partition-list-refresh-seconds} to pick up those of other instances.
+     */
+    private List<String> allCollections() {
+        if (!partitioningConfig.isEnabled()) {
+            return List.of(COLLECTION);
+        }
+        long refreshNanos = TimeUnit.SECONDS.toNanos(partitioningConfig.getPartitionListRefreshSeconds());
+        if (partitionsListedAt == 0 || System.nanoTime() - partitionsListedAt > refreshNanos) {
+            listPartitions();
+        }
+        List<String> collections = new ArrayList<>();
+        collections.add(COLLECTION);
+        collections.addAll(knownPartitions);
+        return collections;
+    }
+
+    private void listPartitions() {
+        Set<String> listed = mongoTemplate.getCollectionNames().stream()
+                .filter(this::isPartition)
+                .collect(Collectors.toSet());
+        knownPartitions.addAll(listed);
+        knownPartitions.removeIf(partition -> !listed.contains(partition) && !indexedPartitions.contains(partition));
+        partitionsListedAt = System.nanoTime();
+    }
+
+    private boolean isPartition(String collection) {
+        return PARTITION_NAME.matcher(collection).matches();
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_FORMAT);
+    }
+
+    private static YearMonth partitionMonth(String partition) {
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_FORMAT);
+    }
+
+    private static LocalDateTime partitionStart(String partition) {
+        return partitionMonth(partition).atDay(1).atStartOfDay();
+    }
+}
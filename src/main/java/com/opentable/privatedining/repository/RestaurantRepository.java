@@ -1,13 +1,21 @@
 package com.opentable.privatedining.repository;
 
 import com.opentable.privatedining.model.Restaurant;
+import java.util.List;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository interface for Restaurant entities.
+ * Targeted updates of single fields and spaces come from {@link RestaurantRepositoryCustom}.
  */
 @Repository
-public interface RestaurantRepository extends MongoRepository<Restaurant, ObjectId> {
+public interface RestaurantRepository extends MongoRepository<Restaurant, ObjectId>, RestaurantRepositoryCustom {
+
+    /**
+     * Find all restaurants serving a cuisine, ignoring case.
+     * Used to narrow availability searches.
+     */
+    List<Restaurant> findByCuisineTypeIgnoreCase(String cuisineType);
 }
\ No newline at end of file
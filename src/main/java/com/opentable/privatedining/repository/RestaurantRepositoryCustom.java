@@ -0,0 +1,47 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import org.bson.types.ObjectId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Targeted updates of restaurant documents.
+ * Each method is a single findAndModify touching only the changed fields, so concurrent changes to other fields or
+ * other spaces of the same restaurant are not overwritten.
+ */
+public interface RestaurantRepositoryCustom {
+
+    /**
+     * Set the top-level details of a restaurant ({@code name}, {@code address}, {@code cuisineType},
+     * {@code capacity}), leaving its spaces untouched.
+     *
+     * @return the updated restaurant, or empty if it doesn't exist
+     */
+    Optional<Restaurant> updateDetails(ObjectId restaurantId, Restaurant details);
+
+    /**
+     * Append a space to a restaurant with {@code $push}.
+     *
+     * @return the updated restaurant, or empty if it doesn't exist
+     */
+    Optional<Restaurant> pushSpace(ObjectId restaurantId, Space space);
+
+    /**
+     * Remove a space from a restaurant with {@code $pull}.
+     *
+     * @return the updated restaurant, or empty if the restaurant doesn't exist or has no such space
+     */
+    Optional<Restaurant> pullSpace(ObjectId restaurantId, UUID spaceId);
+
+    /**
+     * Set fields of one space in place with {@code $set} on {@code spaces.$[s]}.
+     *
+     * @param fields the new values, keyed by {@link Space} property name
+     * @return the updated restaurant, or empty if the restaurant doesn't exist or has no such space
+     */
+    Optional<Restaurant> updateSpace(ObjectId restaurantId, UUID spaceId, Map<String, Object> fields);
+}
@@ -0,0 +1,83 @@
+package com.opentable.privatedining.repository;
+
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * MongoTemplate implementation of {@link RestaurantRepositoryCustom}.
+ */
+public class RestaurantRepositoryImpl implements RestaurantRepositoryCustom {
+
+    private static final String SPACES = "spaces";
+    private static final String SPACE_FILTER = "s";
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+    private final String spaceIdField;
+
+    /**
+     * Constructs a new RestaurantRepositoryImpl.
+     *
+     * @param mongoTemplate the MongoDB template for database operations
+     */
+    public RestaurantRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        // Embedded "id" properties are stored as "_id"; resolve the name instead of assuming it
+        this.spaceIdField = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(Space.class)
+                .getRequiredPersistentProperty("id")
+                .getFieldName();
+    }
+
+    @Override
+    public Optional<Restaurant> updateDetails(ObjectId restaurantId, Restaurant details) {
+        Update update = new Update()
+                .set("name", details.getName())
+                .set("address", details.getAddress())
+                .set("cuisineType", details.getCuisineType())
+                .set("capacity", details.getCapacity());
+        return findAndModify(byId(restaurantId), update);
+    }
+
+    @Override
+    public Optional<Restaurant> pushSpace(ObjectId restaurantId, Space space) {
+        return findAndModify(byId(restaurantId), new Update().push(SPACES, space));
+    }
+
+    @Override
+    public Optional<Restaurant> pullSpace(ObjectId restaurantId, UUID spaceId) {
+        return findAndModify(bySpace(restaurantId, spaceId),
+                new Update().pull(SPACES, new Document(spaceIdField, spaceId)));
+    }
+
+    @Override
+    public Optional<Restaurant> updateSpace(ObjectId restaurantId, UUID spaceId, Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach((property, value) -> update.set(SPACES + ".$[" + SPACE_FILTER + "]." + property, value));
+        update.filterArray(Criteria.where(SPACE_FILTER + "." + spaceIdField).is(spaceId));
+        return findAndModify(bySpace(restaurantId, spaceId), update);
+    }
+
+    private Optional<Restaurant> findAndModify(Query query, Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, Restaurant.class));
+    }
+
+    private static Query byId(ObjectId restaurantId) {
+        return Query.query(Criteria.where("_id").is(restaurantId));
+    }
+
+    private Query bySpace(ObjectId restaurantId, UUID spaceId) {
+        return Query.query(Criteria.where("_id").is(restaurantId).and(SPACES + "." + spaceIdField).is(spaceId));
+    }
+}
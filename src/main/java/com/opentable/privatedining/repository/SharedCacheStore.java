@@ -0,0 +1,37 @@
+package com.opentable.privatedining.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Key-value store shared by every instance, backing the second tier of the report cache.
+ * Values are opaque bytes; entries belong to a named cache and to a group (the restaurant of a report), so all
+ * the entries of a group can be evicted at once. Expired entries must never be returned.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * Get the value of an entry, if present and not expired.
+     */
+    Optional<byte[]> get(String cacheName, String key);
+
+    /**
+     * Insert or replace an entry, expiring after the given time to live.
+     */
+    void put(String cacheName, String key, String group, byte[] value, Duration timeToLive);
+
+    /**
+     * Remove an entry.
+     */
+    void evict(String cacheName, String key);
+
+    /**
+     * Remove every entry of a group.
+     */
+    void evictGroup(String cacheName, String group);
+
+    /**
+     * Remove every entry of a cache.
+     */
+    void clear(String cacheName);
+}
@@ -0,0 +1,143 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AlternativeSlotConfig;
+import com.opentable.privatedining.dto.AlternativeSlotDTO;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service suggesting bookable alternatives when a reservation is rejected for capacity or operating hours.
+ * Every space of the restaurant that can host the party is considered, at every slot start of the requested day.
+ * The day's reservations are fetched with one range query and each candidate is checked in memory with the same rule
+ * as {@link CapacityValidationService}. Candidates closest to the requested start come first.
+ */
+@Service
+public class AlternativeSlotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlternativeSlotService.class);
+
+    private final ReservationRepository reservationRepository;
+    private final AlternativeSlotConfig alternativeSlotConfig;
+
+    /**
+     * Constructs a new AlternativeSlotService with the required dependencies.
+     *
+     * @param reservationRepository the repository for reservation data access
+     * @param alternativeSlotConfig the configuration for alternative-slot suggestions
+     */
+    public AlternativeSlotService(ReservationRepository reservationRepository,
+                                  AlternativeSlotConfig alternativeSlotConfig) {
+        this.reservationRepository = reservationRepository;
+        this.alternativeSlotConfig = alternativeSlotConfig;
+    }
+
+    /**
+     * Finds alternatives to a rejected reservation on the same day, in the requested space and its sibling spaces.
+     * Alternatives keep the requested duration (rounded up to the slot of each space) and are ranked by distance
+     * from the requested start, then requested space first, then tightest fit.
+     * Failures are logged and yield no alternatives, so the original rejection is always reported.
+     *
+     * @param restaurant the restaurant of the reservation
+     * @param requestedSpace the space that was requested
+     * @param reservation the rejected reservation, with slot-aligned times
+     * @return up to the configured number of alternatives, best first
+     */
+    public List<AlternativeSlotDTO> findAlternatives(Restaurant restaurant, Space requestedSpace,
+                                                     Reservation reservation) {
+        if (!alternativeSlotConfig.isEnabled() || alternativeSlotConfig.getMaxResults() <= 0) {
+            return List.of();
+        }
+        try {
+            return search(restaurant, requestedSpace, reservation);
+        } catch (RuntimeException e) {
+            logger.warn("Alternative slot search failed for restaurant {}", restaurant.getId(), e);
+            return List.of();
+        }
+    }
+
+    private List<AlternativeSlotDTO> search(Restaurant restaurant, Space requestedSpace, Reservation reservation) {
+        int partySize = reservation.getPartySize();
+        List<Space> spaces = restaurant.getSpaces().stream()
+                .filter(space -> partySize >= space.getMinCapacity() && partySize <= space.getMaxCapacity())
+                .toList();
+        if (spaces.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime requestedStart = reservation.getStartTime();
+        long durationMinutes = Duration.between(requestedStart, reservation.getEndTime()).toMinutes();
+        LocalDate date = requestedStart.toLocalDate();
+        Map<UUID, List<Reservation>> reservationsBySpace = reservationRepository
+                .findByRestaurantIdAndTimeRange(restaurant.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(Reservation::getSpaceId));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Space space : spaces) {
+            boolean isRequestedSpace = space.getId().equals(requestedSpace.getId());
+            List<Reservation> booked = reservationsBySpace.getOrDefault(space.getId(), List.of());
+            int slotMinutes = space.getTimeSlotDurationMinutes();
+            LocalDateTime opening = date.atTime(space.getOperatingStartTime());
+            LocalDateTime closing = date.atTime(space.getOperatingEndTime());
+
+            for (LocalDateTime hour = opening.withMinute(0); hour.isBefore(closing); hour = hour.plusHours(1)) {
+                // Starts at these minutes are kept unchanged by the slot alignment on reservation creation
+                for (int minute = 0; minute < 60; minute += slotMinutes) {
+                    LocalDateTime start = hour.plusMinutes(minute);
+                    LocalDateTime end = alignToSlotCeiling(start.plusMinutes(durationMinutes), slotMinutes);
+                    if (start.isBefore(opening) || end.isAfter(closing) || !end.toLocalDate().equals(date)
+                            || (isRequestedSpace && start.equals(requestedStart))) {
+                        continue;
+                    }
+                    int occupancy = booked.stream()
+                            .filter(r -> r.getStartTime().isBefore(end) && r.getEndTime().isAfter(start))
+                            .mapToInt(Reservation::getPartySize)
+                            .sum();
+                    if (occupancy + partySize <= space.getMaxCapacity()) {
+                        candidates.add(new Candidate(space, start, end, space.getMaxCapacity() - occupancy,
+                                Math.abs(Duration.between(requestedStart, start).toMinutes()), isRequestedSpace));
+                    }
+                }
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(Candidate::distanceMinutes)
+                        .thenComparing(Candidate::requestedSpace, Comparator.reverseOrder())
+                        .thenComparingInt(Candidate::remainingCapacity))
+                .limit(alternativeSlotConfig.getMaxResults())
+                .map(candidate -> new AlternativeSlotDTO(candidate.space().getId(), candidate.space().getName(),
+                        candidate.startTime(), candidate.endTime(), candidate.remainingCapacity()))
+                .toList();
+    }
+
+    /**
+     * Rounds up to the next slot boundary within the hour, as reservation creation does for end times.
+     */
+    private static LocalDateTime alignToSlotCeiling(LocalDateTime time, int slotMinutes) {
+        int remainder = time.getMinute() % slotMinutes;
+        if (remainder == 0) {
+            return time;
+        }
+        return time.withMinute(0).plusMinutes((time.getMinute() / slotMinutes) * slotMinutes + slotMinutes);
+    }
+
+    private record Candidate(Space space, LocalDateTime startTime, LocalDateTime endTime, int remainingCapacity,
+                             long distanceMinutes, boolean requestedSpace) {
+    }
+}
@@ -0,0 +1,319 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AvailabilityCalendarConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory slot occupancy per space and day, backing the availability calendar.
+ * Each loaded day is a small int array holding, per time slot of the space, the guests of all reservations
+ * overlapping that slot. Days are loaded in bulk with one range query on first use, kept current from
+ * {@link ReservationChangedEvent}s, periodically reloaded to pick up writes made by other instances,
+ * and dropped once in the past or when the space has not been read for a while.
+ */
+@Service
+public class AvailabilityCalendar {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityCalendar.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityCalendarConfig calendarConfig;
+
+    private final Map<SpaceKey, SpaceCalendar> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new AvailabilityCalendar with the required dependencies.
+     *
+     * @param reservationRepository the repository for reservation data access
+     * @param calendarConfig the configuration for the availability calendar
+     */
+    public AvailabilityCalendar(ReservationRepository reservationRepository,
+                                AvailabilityCalendarConfig calendarConfig) {
+        this.reservationRepository = reservationRepository;
+        this.calendarConfig = calendarConfig;
+    }
+
+    /**
+     * Returns the slot occupancy of a space for consecutive days.
+     * Slot {@code i} of a day covers minutes {@code [i * slotMinutes, (i + 1) * slotMinutes)} after midnight.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param slotMinutes the slot duration of the space
+     * @param fromDate the first day
+     * @param days the number of days
+     * @return one array of per-slot occupancy per day, owned by the caller
+     */
+    public int[][] getSlotOccupancy(ObjectId restaurantId, UUID spaceId, int slotMinutes,
+                                    LocalDate fromDate, int days) {
+        SpaceKey key = new SpaceKey(restaurantId, spaceId);
+        SpaceCalendar calendar = calendars.computeIfAbsent(key, k -> new SpaceCalendar());
+        calendar.lastReadAt = System.currentTimeMillis();
+        LocalDate toDate = fromDate.plusDays(days);
+
+        calendar.lock.readLock().lock();
+        try {
+            if (calendar.slotMinutes == slotMinutes && calendar.covers(fromDate, toDate)) {
+                return copy(calendar.days, fromDate, days);
+            }
+        } finally {
+            calendar.lock.readLock().unlock();
+        }
+        return copy(load(key, calendar, slotMinutes, fromDate, toDate), fromDate, days);
+    }
+
+    /**
+     * Applies a reservation change to the loaded days of its space.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (reservation == null || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+            return;
+        }
+        SpaceCalendar calendar = calendars.get(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+        if (calendar == null) {
+            return;
+        }
+        int delta = event.getChangeType() == ReservationChangedEvent.ChangeType.CREATED
+                ? reservation.getPartySize()
+                : -reservation.getPartySize();
+        calendar.lock.writeLock().lock();
+        try {
+            calendar.writes++;
+            apply(calendar.days, calendar.slotMinutes, reservation, delta);
+        } finally {
+            calendar.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the guests of a batch of deleted reservations from the loaded days of their spaces,
+     * taking each space's lock once.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        Map<SpaceKey, List<Reservation>> bySpace = event.getReservations().stream()
+                .filter(reservation -> reservation.getStartTime() != null && reservation.getEndTime() != null)
+                .collect(Collectors.groupingBy(r -> new SpaceKey(r.getRestaurantId(), r.getSpaceId())));
+        bySpace.forEach((key, reservations) -> {
+            SpaceCalendar calendar = calendars.get(key);
+            if (calendar == null) {
+                return;
+            }
+            calendar.lock.writeLock().lock();
+            try {
+                calendar.writes++;
+                for (Reservation reservation : reservations) {
+                    apply(calendar.days, calendar.slotMinutes, reservation, -reservation.getPartySize());
+                }
+            } finally {
+                calendar.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drops the loaded days touched by a write made by another instance, so they are reloaded on their next read.
+     * Slot counters cannot tell whether the write is already counted, so it is never applied as a delta.
+     * An unknown previous version drops every space.
+     *
+     * @param event the remote reservation change event
+     */
+    @EventListener
+    public void onRemoteReservationChange(RemoteReservationChangeEvent event) {
+        if (!event.isPreviousKnown()) {
+            calendars.values().forEach(calendar -> evictDays(calendar, null));
+            return;
+        }
+        for (Reservation reservation : new Reservation[] {event.getPrevious(), event.getCurrent()}) {
+            if (reservation == null || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+                continue;
+            }
+            SpaceCalendar calendar = calendars.get(
+                    new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+            if (calendar != null) {
+                evictDays(calendar, reservation);
+            }
+        }
+    }
+
+    /**
+     * Drops the days a reservation touches, or every day if the reservation is null.
+     */
+    private static void evictDays(SpaceCalendar calendar, Reservation reservation) {
+        calendar.lock.writeLock().lock();
+        try {
+            calendar.writes++;
+            if (reservation == null) {
+                calendar.days.clear();
+                return;
+            }
+            for (LocalDate date = reservation.getStartTime().toLocalDate();
+                 date.atStartOfDay().isBefore(reservation.getEndTime()); date = date.plusDays(1)) {
+                calendar.days.remove(date);
+            }
+        } finally {
+            calendar.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops idle spaces and past days, and reloads the remaining days from MongoDB.
+     */
+    @Scheduled(fixedDelayString = "${private-dining.availability-calendar.refresh-minutes:15}",
+            initialDelayString = "${private-dining.availability-calendar.refresh-minutes:15}",
+            timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(calendarConfig.getIdleMinutes());
+        LocalDate today = LocalDate.now();
+        calendars.forEach((key, calendar) -> {
+            if (calendar.lastReadAt <= idleBefore) {
+                calendars.remove(key);
+                return;
+            }
+            LocalDate fromDate;
+            LocalDate toDate;
+            int slotMinutes;
+            calendar.lock.writeLock().lock();
+            try {
+                calendar.days.headMap(today).clear();
+                if (calendar.days.isEmpty()) {
+                    return;
+                }
+                fromDate = calendar.days.firstKey();
+                toDate = calendar.days.lastKey().plusDays(1);
+                slotMinutes = calendar.slotMinutes;
+            } finally {
+                calendar.lock.writeLock().unlock();
+            }
+            try {
+                load(key, calendar, slotMinutes, fromDate, toDate);
+            } catch (RuntimeException e) {
+                logger.warn("Availability calendar refresh failed for space {}; dropping its days", key.spaceId(), e);
+                calendars.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Loads the days [fromDate, toDate) of a space with one range query. The days are only published if no change
+     * to the space arrived during the load; otherwise they are returned for the current request and the next
+     * request loads again. A change of slot duration discards every day loaded with the previous one.
+     */
+    private Map<LocalDate, int[]> load(SpaceKey key, SpaceCalendar calendar, int slotMinutes,
+                                       LocalDate fromDate, LocalDate toDate) {
+        long writes;
+        calendar.lock.readLock().lock();
+        try {
+            writes = calendar.writes;
+        } finally {
+            calendar.lock.readLock().unlock();
+        }
+
+        Map<LocalDate, int[]> loaded = new HashMap<>();
+        int slotsPerDay = (MINUTES_PER_DAY + slotMinutes - 1) / slotMinutes;
+        for (LocalDate date = fromDate; date.isBefore(toDate); date = date.plusDays(1)) {
+            loaded.put(date, new int[slotsPerDay]);
+        }
+        for (Reservation reservation : reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                key.restaurantId(), key.spaceId(), fromDate.atStartOfDay(), toDate.atStartOfDay())) {
+            apply(loaded, slotMinutes, reservation, reservation.getPartySize());
+        }
+
+        Map<LocalDate, int[]> result = new HashMap<>();
+        loaded.forEach((date, slots) -> result.put(date, slots.clone()));
+        calendar.lock.writeLock().lock();
+        try {
+            if (calendar.writes == writes) {
+                if (calendar.slotMinutes != slotMinutes) {
+                    calendar.days.clear();
+                    calendar.slotMinutes = slotMinutes;
+                }
+                calendar.days.putAll(loaded);
+            }
+        } finally {
+            calendar.lock.writeLock().unlock();
+        }
+        logger.debug("Loaded {} days of space {} into the availability calendar", loaded.size(), key.spaceId());
+        return result;
+    }
+
+    /**
+     * Adds a delta to every slot a reservation overlaps, on each of the given days it touches.
+     */
+    private static void apply(Map<LocalDate, int[]> days, int slotMinutes, Reservation reservation, int delta) {
+        LocalDateTime startTime = reservation.getStartTime();
+        LocalDateTime endTime = reservation.getEndTime();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+            int[] slots = days.get(date);
+            if (slots == null) {
+                continue;
+            }
+            LocalDateTime midnight = date.atStartOfDay();
+            long startMinute = Math.max(0, ChronoUnit.MINUTES.between(midnight, startTime));
+            long endMinute = Math.min(MINUTES_PER_DAY, ChronoUnit.MINUTES.between(midnight, endTime));
+            int firstSlot = (int) (startMinute / slotMinutes);
+            int endSlot = (int) Math.min(slots.length, (endMinute + slotMinutes - 1) / slotMinutes);
+            for (int slot = firstSlot; slot < endSlot; slot++) {
+                slots[slot] += delta;
+            }
+        }
+    }
+
+    private static int[][] copy(Map<LocalDate, int[]> days, LocalDate fromDate, int count) {
+        int[][] result = new int[count][];
+        for (int i = 0; i < count; i++) {
+            result[i] = days.get(fromDate.plusDays(i)).clone();
+        }
+        return result;
+    }
+
+    private record SpaceKey(ObjectId restaurantId, UUID spaceId) {
+    }
+
+    /**
+     * The loaded days of one space, with a counter of changes applied to them.
+     */
+    private static final class SpaceCalendar {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<LocalDate, int[]> days = new TreeMap<>();
+        private int slotMinutes;
+        private long writes;
+        private volatile long lastReadAt;
+
+        private boolean covers(LocalDate fromDate, LocalDate toDate) {
+            return days.subMap(fromDate, toDate).size() == ChronoUnit.DAYS.between(fromDate, toDate);
+        }
+    }
+}
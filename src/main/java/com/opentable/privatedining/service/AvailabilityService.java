@@ -0,0 +1,262 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AvailabilityCalendarConfig;
+import com.opentable.privatedining.dto.AvailabilityCalendarDTO;
+import com.opentable.privatedining.dto.CalendarDayDTO;
+import com.opentable.privatedining.dto.CalendarSlotDTO;
+import com.opentable.privatedining.dto.SpaceAvailabilityDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.InvalidPartySizeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service answering "which spaces can seat this party during this window" across restaurants.
+ * Candidate spaces are filtered on party size and operating hours first; the occupancy of every remaining candidate
+ * is then computed from a single reservation range query, using the same rule as {@link CapacityValidationService}:
+ * the sum of the party sizes of all reservations overlapping the window, after aligning it to the space's slots
+ * exactly as reservation creation does.
+ * Month views of a single space are served from the in-memory {@link AvailabilityCalendar}.
+ */
+@Service
+public class AvailabilityService {
+
+    private static final Comparator<SpaceAvailabilityDTO> BY_NAME = Comparator
+            .comparing(SpaceAvailabilityDTO::getRestaurantName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(SpaceAvailabilityDTO::getSpaceName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityCalendar availabilityCalendar;
+    private final AvailabilityCalendarConfig calendarConfig;
+
+    /**
+     * Constructs a new AvailabilityService with the required dependencies.
+     *
+     * @param restaurantRepository the repository for restaurant data access
+     * @param reservationRepository the repository for reservation data access
+     * @param availabilityCalendar the in-memory slot occupancy per space and day
+     * @param calendarConfig the configuration for the availability calendar
+     */
+    public AvailabilityService(RestaurantRepository restaurantRepository,
+                               ReservationRepository reservationRepository,
+                               AvailabilityCalendar availabilityCalendar,
+                               AvailabilityCalendarConfig calendarConfig) {
+        this.restaurantRepository = restaurantRepository;
+        this.reservationRepository = reservationRepository;
+        this.availabilityCalendar = availabilityCalendar;
+        this.calendarConfig = calendarConfig;
+    }
+
+    /**
+     * Searches for spaces that can seat a party for the whole window.
+     * Results are ranked by tightest fit (fewest seats left over after seating the party), so large rooms stay
+     * free for large groups, then by restaurant and space name.
+     *
+     * @param partySize the party size
+     * @param startTime the window start
+     * @param endTime the window end
+     * @param cuisineType optional cuisine filter (case-insensitive)
+     * @param restaurantId optional restaurant filter
+     * @param limit the maximum number of results
+     * @return the available spaces, best fit first
+     * @throws InvalidDateRangeException if the window is empty or spans multiple days
+     * @throws RestaurantNotFoundException if the restaurant filter names an unknown restaurant
+     */
+    public List<SpaceAvailabilityDTO> searchAvailability(int partySize, LocalDateTime startTime, LocalDateTime endTime,
+                                                         String cuisineType, ObjectId restaurantId, int limit) {
+        if (!endTime.isAfter(startTime)) {
+            throw new InvalidDateRangeException(startTime, endTime, "end time must be after start time");
+        }
+        if (!startTime.toLocalDate().equals(endTime.toLocalDate())) {
+            throw new InvalidDateRangeException(startTime, endTime, "window must start and end on the same day");
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Restaurant restaurant : findRestaurants(cuisineType, restaurantId)) {
+            for (Space space : restaurant.getSpaces()) {
+                Candidate candidate = align(restaurant, space, startTime, endTime);
+                if (candidate != null && canHost(space, partySize, candidate.startTime().toLocalTime(),
+                        candidate.endTime().toLocalTime())) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<ObjectId> restaurantIds = new LinkedHashSet<>();
+        LocalDateTime rangeStart = candidates.get(0).startTime();
+        LocalDateTime rangeEnd = candidates.get(0).endTime();
+        for (Candidate candidate : candidates) {
+            restaurantIds.add(candidate.restaurant().getId());
+            rangeStart = candidate.startTime().isBefore(rangeStart) ? candidate.startTime() : rangeStart;
+            rangeEnd = candidate.endTime().isAfter(rangeEnd) ? candidate.endTime() : rangeEnd;
+        }
+        Map<SpaceKey, List<Reservation>> reservationsBySpace = new HashMap<>();
+        for (Reservation reservation : reservationRepository.findByRestaurantIdInAndTimeRange(
+                restaurantIds, rangeStart, rangeEnd)) {
+            reservationsBySpace.computeIfAbsent(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()),
+                    key -> new ArrayList<>()).add(reservation);
+        }
+
+        List<SpaceAvailabilityDTO> results = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            Restaurant restaurant = candidate.restaurant();
+            Space space = candidate.space();
+            int currentOccupancy = 0;
+            for (Reservation reservation : reservationsBySpace.getOrDefault(
+                    new SpaceKey(restaurant.getId(), space.getId()), List.of())) {
+                if (reservation.getStartTime().isBefore(candidate.endTime())
+                        && reservation.getEndTime().isAfter(candidate.startTime())) {
+                    currentOccupancy += reservation.getPartySize();
+                }
+            }
+            if (currentOccupancy + partySize <= space.getMaxCapacity()) {
+                results.add(new SpaceAvailabilityDTO(
+                        restaurant.getId().toString(),
+                        restaurant.getName(),
+                        restaurant.getCuisineType(),
+                        space.getId(),
+                        space.getName(),
+                        space.getMinCapacity(),
+                        space.getMaxCapacity(),
+                        currentOccupancy,
+                        space.getMaxCapacity() - currentOccupancy));
+            }
+        }
+
+        return results.stream()
+                .sorted(Comparator.comparingInt(SpaceAvailabilityDTO::getRemainingCapacity).thenComparing(BY_NAME))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Builds the availability calendar of a space: for each day, the slots within operating hours and whether each
+     * can still take the party. A slot is available when the guests already booked during it plus the party stay
+     * within the space's maximum capacity, which is exactly the capacity check for a one-slot reservation.
+     * Longer reservations are still validated on creation.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param partySize the party size
+     * @param startDate the first day of the calendar
+     * @param days the number of days
+     * @return the calendar
+     * @throws InvalidDateRangeException if the number of days exceeds the configured maximum
+     * @throws RestaurantNotFoundException if the restaurant doesn't exist
+     * @throws SpaceNotFoundException if the space doesn't exist
+     * @throws InvalidPartySizeException if the party size is outside the space's capacity limits
+     */
+    public AvailabilityCalendarDTO getCalendar(ObjectId restaurantId, UUID spaceId, int partySize,
+                                               LocalDate startDate, int days) {
+        if (days > calendarConfig.getMaxDays()) {
+            throw new InvalidDateRangeException(String.format(
+                    "Calendar of %d days exceeds maximum of %d days", days, calendarConfig.getMaxDays()));
+        }
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+        Space space = restaurant.getSpaces().stream()
+                .filter(s -> s.getId().equals(spaceId))
+                .findFirst()
+                .orElseThrow(() -> new SpaceNotFoundException(restaurantId, spaceId));
+        if (partySize < space.getMinCapacity() || partySize > space.getMaxCapacity()) {
+            throw new InvalidPartySizeException(partySize, space.getMinCapacity(), space.getMaxCapacity());
+        }
+
+        int slotMinutes = space.getTimeSlotDurationMinutes();
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, slotMinutes, startDate, days);
+        int openingMinute = space.getOperatingStartTime().toSecondOfDay() / 60;
+        int closingMinute = space.getOperatingEndTime().toSecondOfDay() / 60;
+
+        List<CalendarDayDTO> calendarDays = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            List<CalendarSlotDTO> slots = new ArrayList<>();
+            int availableSlots = 0;
+            for (int slot = 0; slot < occupancy[day].length; slot++) {
+                int slotStart = slot * slotMinutes;
+                int slotEnd = slotStart + slotMinutes;
+                if (slotStart < openingMinute || slotEnd > closingMinute) {
+                    continue;
+                }
+                int remainingCapacity = Math.max(0, space.getMaxCapacity() - occupancy[day][slot]);
+                boolean available = remainingCapacity >= partySize;
+                if (available) {
+                    availableSlots++;
+                }
+                slots.add(new CalendarSlotDTO(LocalTime.ofSecondOfDay(slotStart * 60L),
+                        LocalTime.ofSecondOfDay(slotEnd * 60L % 86_400), remainingCapacity, available));
+            }
+            calendarDays.add(new CalendarDayDTO(startDate.plusDays(day), availableSlots, slots));
+        }
+        return new AvailabilityCalendarDTO(restaurantId.toString(), spaceId, space.getName(), partySize,
+                slotMinutes, calendarDays);
+    }
+
+    private List<Restaurant> findRestaurants(String cuisineType, ObjectId restaurantId) {
+        if (restaurantId != null) {
+            Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                    .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+            if (cuisineType != null && !cuisineType.equalsIgnoreCase(restaurant.getCuisineType())) {
+                return List.of();
+            }
+            return List.of(restaurant);
+        }
+        if (cuisineType != null) {
+            return restaurantRepository.findByCuisineTypeIgnoreCase(cuisineType);
+        }
+        return restaurantRepository.findAll();
+    }
+
+    /**
+     * Aligns the search window to the slots of a space, as reservation creation does before its capacity check.
+     * Returns null when the aligned window is shorter than one slot, which creation would reject.
+     */
+    private Candidate align(Restaurant restaurant, Space space, LocalDateTime startTime, LocalDateTime endTime) {
+        int slotMinutes = space.getTimeSlotDurationMinutes();
+        LocalDateTime alignedStart = ReservationService.alignStartTimeToNearestSlot(startTime, slotMinutes);
+        LocalDateTime alignedEnd = ReservationService.alignEndTimeToSlotCeiling(endTime, slotMinutes);
+        if (Duration.between(alignedStart, alignedEnd).toMinutes() < slotMinutes) {
+            return null;
+        }
+        return new Candidate(restaurant, space, alignedStart, alignedEnd);
+    }
+
+    /**
+     * Checks the static constraints of a space: party size and operating hours, as enforced on reservation creation.
+     */
+    private boolean canHost(Space space, int partySize, LocalTime startTime, LocalTime endTime) {
+        return space.getMinCapacity() != null && space.getMaxCapacity() != null
+                && partySize >= space.getMinCapacity() && partySize <= space.getMaxCapacity()
+                && !startTime.isBefore(space.getOperatingStartTime())
+                && !endTime.isAfter(space.getOperatingEndTime());
+    }
+
+    private record Candidate(Restaurant restaurant, Space space, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    private record SpaceKey(ObjectId restaurantId, UUID spaceId) {
+    }
+}
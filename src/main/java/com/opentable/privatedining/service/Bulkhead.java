@@ -0,0 +1,149 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.exception.BulkheadFullException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency compartment for one class of workload.
+ * At most {@code maxConcurrent} tasks run at once; up to {@code maxQueueDepth} further callers wait in FIFO order
+ * for at most {@code maxWaitMillis}, and anything beyond that is rejected with {@link BulkheadFullException}.
+ * A bulkhead may yield to another one: it then sheds new work whenever the other bulkhead has callers waiting,
+ * so lower-priority load is dropped first.
+ * Uses {@link Semaphore} rather than monitors so waiting virtual threads are never pinned to a carrier.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueueDepth;
+    private final long maxWaitMillis;
+    private final Bulkhead yieldsTo;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a new Bulkhead.
+     *
+     * @param name the workload name, used in errors and logs
+     * @param maxConcurrent the maximum number of tasks running at once
+     * @param maxQueueDepth the maximum number of callers waiting for a permit
+     * @param maxWaitMillis the maximum time a caller waits for a permit
+     * @param yieldsTo optional higher-priority bulkhead this one sheds load for, or null
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueueDepth, long maxWaitMillis, Bulkhead yieldsTo) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Bulkhead " + name + " needs at least one permit");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueDepth = Math.max(0, maxQueueDepth);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+        this.yieldsTo = yieldsTo;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Runs a task inside the bulkhead on the calling thread.
+     *
+     * @param task the task to run
+     * @param <T> the result type
+     * @return the task result
+     * @throws BulkheadFullException if no permit could be obtained
+     */
+    public <T> T execute(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Obtains a permit, waiting in the bounded queue if necessary.
+     */
+    private void acquire() {
+        if (yieldsTo != null && yieldsTo.getQueueDepth() > 0) {
+            throw reject("yielding to " + yieldsTo.getName() + " workload");
+        }
+        try {
+            // The timed form honours fairness; plain tryAcquire() would barge ahead of queued callers
+            if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting");
+        }
+        if (waiting.incrementAndGet() > maxQueueDepth) {
+            waiting.decrementAndGet();
+            throw reject("queue depth " + maxQueueDepth + " reached");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw reject("no permit within " + maxWaitMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private BulkheadFullException reject(String reason) {
+        rejected.increment();
+        return new BulkheadFullException(name, reason);
+    }
+
+    /**
+     * Gets the workload name.
+     *
+     * @return the bulkhead name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the maximum number of concurrently running tasks.
+     *
+     * @return the permit count
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     *
+     * @return the active task count
+     */
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of callers currently waiting for a permit.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * Gets the number of requests rejected since startup.
+     *
+     * @return the rejected request count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
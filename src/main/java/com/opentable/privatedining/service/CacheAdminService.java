@@ -0,0 +1,163 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.opentable.privatedining.dto.CacheStatsDTO;
+import com.opentable.privatedining.exception.CacheNotFoundException;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service inspecting and tuning the application caches of this instance.
+ * Statistics come from Caffeine, which records them for every cache, plus the evictions caused by size counted by
+ * {@link SizeEvictionRecorder} and the background refresh counters of {@link RefreshAheadCache}. Changes made here
+ * only apply to this instance and last until it restarts; evictions also reach the shared cache tier.
+ */
+@Service
+public class CacheAdminService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminService.class);
+
+    private final CacheManager cacheManager;
+    private final SizeEvictionRecorder sizeEvictionRecorder;
+
+    /**
+     * Constructs a new CacheAdminService with the required dependencies.
+     *
+     * @param cacheManager the cache manager holding the application caches
+     * @param sizeEvictionRecorder the recorder counting evictions caused by size
+     */
+    public CacheAdminService(CacheManager cacheManager, SizeEvictionRecorder sizeEvictionRecorder) {
+        this.cacheManager = cacheManager;
+        this.sizeEvictionRecorder = sizeEvictionRecorder;
+    }
+
+    /**
+     * Returns the statistics of every cache.
+     *
+     * @return the statistics, one entry per cache
+     */
+    public List<CacheStatsDTO> getStats() {
+        return cacheManager.getCacheNames().stream()
+                .map(this::getStats)
+                .toList();
+    }
+
+    /**
+     * Returns the statistics of a cache.
+     *
+     * @param name the cache name
+     * @return the cache statistics
+     * @throws CacheNotFoundException if there is no such cache
+     */
+    public CacheStatsDTO getStats(String name) {
+        Cache cache = getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(cache);
+        CacheStats stats = nativeCache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = nativeCache.policy().eviction();
+
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setName(name);
+        dto.setEstimatedSize(nativeCache.estimatedSize());
+        dto.setMaximumSize(eviction.map(Policy.Eviction::getMaximum).orElse(null));
+        dto.setWeightedSize(eviction.filter(Policy.Eviction::isWeighted)
+                .map(policy -> policy.weightedSize().orElse(0))
+                .orElse(null));
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setLoadSuccessCount(stats.loadSuccessCount());
+        dto.setLoadFailureCount(stats.loadFailureCount());
+        dto.setAverageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0);
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setEvictionWeight(stats.evictionWeight());
+        dto.setSizeEvictionCount(sizeEvictionRecorder.getEvictionCount(name));
+        dto.setSizeEvictionWeight(sizeEvictionRecorder.getEvictionWeight(name));
+        if (cache instanceof RefreshAheadCache refreshAheadCache) {
+            dto.setRefreshCount(refreshAheadCache.getRefreshCount());
+            dto.setRefreshFailureCount(refreshAheadCache.getRefreshFailureCount());
+            dto.setStaleServedCount(refreshAheadCache.getStaleServedCount());
+        }
+        return dto;
+    }
+
+    /**
+     * Returns the keys of a cache most likely to be kept, as ranked by its eviction policy: the most frequently
+     * used entries first.
+     *
+     * @param name the cache name
+     * @param limit the maximum number of keys
+     * @return the keys, with the elements of list keys joined by {@code |}
+     * @throws CacheNotFoundException if there is no such cache
+     */
+    public List<String> getTopKeys(String name, int limit) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(getCache(name));
+        Collection<Object> keys = nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit).keySet())
+                .orElseGet(() -> nativeCache.asMap().keySet());
+        return keys.stream()
+                .limit(limit)
+                .map(TwoTierCache::sharedKey)
+                .toList();
+    }
+
+    /**
+     * Evicts the entries of a restaurant from a cache whose keys start with the restaurant ID, or every entry of
+     * any other cache.
+     *
+     * @param name the cache name
+     * @param restaurantId the restaurant ID
+     * @throws CacheNotFoundException if there is no such cache
+     */
+    public void evictRestaurant(String name, ObjectId restaurantId) {
+        Cache cache = getCache(name);
+        if (cache instanceof RefreshAheadCache refreshAheadCache) {
+            refreshAheadCache.evictGroup(restaurantId);
+        } else {
+            cache.clear();
+        }
+        logger.info("Evicted the entries of restaurant {} from the {} cache", restaurantId, name);
+    }
+
+    /**
+     * Changes the maximum size of a cache, evicting entries if it shrinks.
+     *
+     * @param name the cache name
+     * @param maximumSize the new maximum size, or total weight in bytes when entries are weighed
+     * @return the cache statistics after resizing
+     * @throws CacheNotFoundException if there is no such cache
+     * @throws IllegalArgumentException if the cache is not bounded by size
+     */
+    public CacheStatsDTO resize(String name, long maximumSize) {
+        Policy.Eviction<Object, Object> eviction = nativeCache(getCache(name)).policy().eviction()
+                .orElseThrow(() -> new IllegalArgumentException("Cache " + name + " is not bounded by size"));
+        long previous = eviction.getMaximum();
+        eviction.setMaximum(maximumSize);
+        logger.info("Resized the {} cache from {} to {}", name, previous, maximumSize);
+        return getStats(name);
+    }
+
+    private Cache getCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new CacheNotFoundException(name);
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache;
+        }
+        throw new IllegalStateException("Cache " + cache.getName() + " is not a Caffeine cache");
+    }
+}
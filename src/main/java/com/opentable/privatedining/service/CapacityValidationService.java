@@ -9,24 +9,34 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 /**
  * Service responsible for validating space capacity for reservations.
  * Allows concurrent reservations as long as the total headcount remains within the space's maximum capacity.
+ * Occupancy is read from the off-heap {@link OccupancyLedger} when it can answer; otherwise overlapping reservations
+ * come from the {@link ReservationIntervalIndex} when enabled, and from MongoDB as a last resort.
  */
 @Service
 public class CapacityValidationService {
 
     private final ReservationRepository reservationRepository;
+    private final OccupancyLedger occupancyLedger;
+    private final ReservationIntervalIndex reservationIntervalIndex;
 
     /**
-     * Constructs a new CapacityValidationService with the required repository.
+     * Constructs a new CapacityValidationService with the required dependencies.
      *
      * @param reservationRepository the repository for reservation data access
+     * @param occupancyLedger the off-heap occupancy ledger
+     * @param reservationIntervalIndex the in-memory reservation interval index
      */
-    public CapacityValidationService(ReservationRepository reservationRepository) {
+    public CapacityValidationService(ReservationRepository reservationRepository, OccupancyLedger occupancyLedger,
+                                     ReservationIntervalIndex reservationIntervalIndex) {
         this.reservationRepository = reservationRepository;
+        this.occupancyLedger = occupancyLedger;
+        this.reservationIntervalIndex = reservationIntervalIndex;
     }
 
     /**
@@ -92,6 +102,37 @@ public class CapacityValidationService {
         }
     }
 
+    /**
+     * Validates that a persisted reservation can take more guests without changing its times.
+     * The current occupancy of its slots already includes the reservation, so only the added guests are checked,
+     * and the check is answered from the ledger when it covers the slots.
+     *
+     * @param reservation the reservation as persisted
+     * @param space the space being reserved
+     * @param additionalGuests the number of guests added to the party
+     * @throws CapacityExceededException if the added guests would exceed max capacity
+     */
+    public void validateAdditionalGuests(Reservation reservation, Space space, int additionalGuests) {
+        int currentOccupancy = calculateCurrentOccupancy(
+            reservation.getRestaurantId(),
+            reservation.getSpaceId(),
+            reservation.getStartTime(),
+            reservation.getEndTime()
+        );
+
+        if (currentOccupancy + additionalGuests > space.getMaxCapacity()) {
+            throw new CapacityExceededException(
+                reservation.getRestaurantId(),
+                reservation.getSpaceId(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                additionalGuests,
+                currentOccupancy,
+                space.getMaxCapacity()
+            );
+        }
+    }
+
     /**
      * Calculates the current total occupancy (sum of party sizes) for overlapping reservations.
      *
@@ -103,7 +144,12 @@ public class CapacityValidationService {
      */
     public int calculateCurrentOccupancy(ObjectId restaurantId, UUID spaceId,
                                          LocalDateTime startTime, LocalDateTime endTime) {
-        List<Reservation> overlappingReservations = reservationRepository.findOverlappingReservations(
+        OptionalInt ledgerOccupancy = occupancyLedger.getOccupancy(restaurantId, spaceId, startTime, endTime);
+        if (ledgerOccupancy.isPresent()) {
+            return ledgerOccupancy.getAsInt();
+        }
+
+        List<Reservation> overlappingReservations = findOverlappingReservations(
             restaurantId, spaceId, startTime, endTime);
 
         return overlappingReservations.stream()
@@ -124,7 +170,7 @@ public class CapacityValidationService {
     public int calculateCurrentOccupancyExcluding(ObjectId restaurantId, UUID spaceId,
                                                    LocalDateTime startTime, LocalDateTime endTime,
                                                    ObjectId excludeReservationId) {
-        List<Reservation> overlappingReservations = reservationRepository.findOverlappingReservations(
+        List<Reservation> overlappingReservations = findOverlappingReservations(
             restaurantId, spaceId, startTime, endTime);
 
         return overlappingReservations.stream()
@@ -149,5 +195,14 @@ public class CapacityValidationService {
         int currentOccupancy = calculateCurrentOccupancy(restaurantId, spaceId, startTime, endTime);
         return Math.max(0, maxCapacity - currentOccupancy);
     }
-}
 
+    /**
+     * Finds the reservations overlapping a time range, from the interval index when enabled.
+     */
+    private List<Reservation> findOverlappingReservations(ObjectId restaurantId, UUID spaceId,
+                                                          LocalDateTime startTime, LocalDateTime endTime) {
+        return reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime)
+            .orElseGet(() -> reservationRepository.findOverlappingReservations(
+                restaurantId, spaceId, startTime, endTime));
+    }
+}
@@ -0,0 +1,445 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.config.ChangeStreamConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service keeping the caches and in-memory indexes of this instance coherent with writes made by other instances.
+ * <p>
+ * It follows a MongoDB change stream on the reservation collections (monthly partitions included) and
+ * {@code restaurants}. A restaurant change evicts the cached occupancy reports of that restaurant. A reservation
+ * change evicts the cached reports of the restaurants it touches and is published as a
+ * {@link RemoteReservationChangeEvent} carrying the reservation before and after the write, which in-memory derived
+ * state applies or evicts. Persisted derived state (rollups) is updated by the writing instance and ignores it.
+ * <p>
+ * The version of every reservation this instance last wrote or applied is remembered, so the echo of its own
+ * writes is recognised and skipped. The version before a write comes from the pre-image MongoDB records when
+ * {@code changeStreamPreAndPostImages} is enabled on the collection, or else from the remembered version; when
+ * neither is available, derived state is dropped and reloaded from MongoDB.
+ * <p>
+ * With monthly partitions, moving a reservation to another month inserts it into the new partition before removing
+ * it from the old one. The removal is recognised as part of the move, and ignored, when the reservation was last
+ * seen in another collection or still exists.
+ * <p>
+ * The resume token is persisted per instance in {@code change_stream_tokens}, so a restarted instance replays the
+ * changes it missed. When the stream cannot be resumed, derived state is dropped instead. Disabled by default;
+ * change streams require a replica set.
+ */
+@Service
+public class ChangeStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    static final String TOKENS_COLLECTION = "change_stream_tokens";
+    private static final String RESTAURANTS_COLLECTION = "restaurants";
+    private static final String RESERVATION_COLLECTIONS = "reservations(_\\d{4}_\\d{2})?";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int CHANGE_STREAM_NOT_SUPPORTED = 40573;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReservationRepository reservationRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeStreamConfig changeStreamConfig;
+
+    private final Cache<ObjectId, Optional<Version>> knownVersions;
+    private final Cache<ObjectId, String> knownCollections;
+    private final Set<String> preImageCollections = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private Thread watcher;
+    private String nodeId;
+    private long tokenSavedAt;
+
+    /**
+     * Constructs a new ChangeStreamService with the required dependencies.
+     *
+     * @param mongoTemplate the MongoDB template used to open the change stream and persist its resume token
+     * @param reservationRepository the repository listing the reservation collections
+     * @param cacheManager the cache manager holding cached occupancy reports
+     * @param eventPublisher the publisher notifying in-memory derived state of remote reservation changes
+     * @param changeStreamConfig the configuration for the change stream
+     */
+    public ChangeStreamService(MongoTemplate mongoTemplate,
+                               ReservationRepository reservationRepository,
+                               CacheManager cacheManager,
+                               ApplicationEventPublisher eventPublisher,
+                               ChangeStreamConfig changeStreamConfig) {
+        this.mongoTemplate = mongoTemplate;
+        this.reservationRepository = reservationRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.changeStreamConfig = changeStreamConfig;
+        this.knownVersions = Caffeine.newBuilder()
+                .maximumSize(changeStreamConfig.getTrackedReservations())
+                .build();
+        this.knownCollections = Caffeine.newBuilder()
+                .maximumSize(changeStreamConfig.getTrackedReservations())
+                .build();
+    }
+
+    /**
+     * Starts following the change stream on a dedicated thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!changeStreamConfig.isEnabled()) {
+            return;
+        }
+        nodeId = resolveNodeId();
+        if (changeStreamConfig.isPreImagesEnabled()) {
+            reservationRepository.findCollections().forEach(this::enablePreImages);
+        }
+        running = true;
+        watcher = Thread.ofPlatform().name("change-stream").daemon(true).start(this::watch);
+    }
+
+    /**
+     * Stops following the change stream, saving the latest resume token.
+     *
+     * @throws InterruptedException if interrupted while waiting for the stream to close
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (watcher != null) {
+            watcher.join(TimeUnit.SECONDS.toMillis(changeStreamConfig.getRetryDelaySeconds() + 1));
+        }
+    }
+
+    /**
+     * Remembers the version of a reservation written by this instance, to recognise the echo of the write.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (!changeStreamConfig.isEnabled() || reservation == null || reservation.getId() == null) {
+            return;
+        }
+        knownVersions.put(reservation.getId(),
+                event.getChangeType() == ReservationChangedEvent.ChangeType.CREATED
+                        ? Optional.of(Version.of(reservation))
+                        : Optional.empty());
+    }
+
+    /**
+     * Remembers the reservations deleted in bulk by this instance, to recognise the echo of the deletions.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        if (!changeStreamConfig.isEnabled()) {
+            return;
+        }
+        event.getReservations().stream()
+                .map(Reservation::getId)
+                .filter(Objects::nonNull)
+                .forEach(id -> knownVersions.put(id, Optional.empty()));
+    }
+
+    /**
+     * Follows the change stream until stopped, reopening it after failures.
+     */
+    private void watch() {
+        while (running) {
+            BsonDocument resumeToken = loadResumeToken();
+            if (resumeToken == null) {
+                // Writes made since this instance last followed the stream cannot be replayed
+                invalidateAll();
+            }
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open(resumeToken)) {
+                logger.info("Following reservation and restaurant changes as {}{}", nodeId,
+                        resumeToken != null ? " from the saved resume token" : "");
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        onChange(change);
+                    }
+                    saveResumeToken(cursor.getResumeToken(), !running);
+                }
+            } catch (RuntimeException e) {
+                int code = e instanceof MongoException mongoException ? mongoException.getCode() : 0;
+                if (code == CHANGE_STREAM_NOT_SUPPORTED) {
+                    logger.error("Change streams require a replica set; caches are not kept coherent across "
+                            + "instances", e);
+                    running = false;
+                    return;
+                }
+                if (code == CHANGE_STREAM_HISTORY_LOST) {
+                    logger.warn("Saved change stream position is no longer in the oplog; starting from now");
+                    mongoTemplate.getCollection(TOKENS_COLLECTION).deleteOne(Filters.eq("_id", nodeId));
+                } else {
+                    logger.warn("Change stream failed; reopening in {} seconds",
+                            changeStreamConfig.getRetryDelaySeconds(), e);
+                }
+                if (!sleep(TimeUnit.SECONDS.toMillis(changeStreamConfig.getRetryDelaySeconds()))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.and(
+                        Filters.in("operationType", "insert", "update", "replace", "delete"),
+                        Filters.regex("ns.coll",
+                                "^(" + RESERVATION_COLLECTIONS + "|" + RESTAURANTS_COLLECTION + ")$")))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (changeStreamConfig.isPreImagesEnabled()) {
+            stream = stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    /**
+     * Applies one change; a failure drops all derived state rather than stalling the stream on the change.
+     */
+    private void onChange(ChangeStreamDocument<Document> change) {
+        BsonValue key = change.getDocumentKey() != null ? change.getDocumentKey().get("_id") : null;
+        if (change.getNamespace() == null || key == null || !key.isObjectId()) {
+            return;
+        }
+        String collection = change.getNamespace().getCollectionName();
+        ObjectId id = key.asObjectId().getValue();
+        try {
+            if (RESTAURANTS_COLLECTION.equals(collection)) {
+                evictReports(id);
+            } else {
+                onReservationChange(collection, change.getOperationType(), id,
+                        change.getFullDocument(), change.getFullDocumentBeforeChange());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to apply change to {} {}; dropping derived state", collection, id, e);
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Translates a reservation change into report cache evictions and a {@link RemoteReservationChangeEvent}.
+     *
+     * @param collection the collection written to
+     * @param operationType the kind of write
+     * @param id the reservation ID
+     * @param fullDocument the reservation after the write, or null if deleted
+     * @param fullDocumentBeforeChange the reservation before the write, if MongoDB recorded it
+     */
+    void onReservationChange(String collection, OperationType operationType, ObjectId id,
+                             Document fullDocument, Document fullDocumentBeforeChange) {
+        if (operationType == OperationType.INSERT && changeStreamConfig.isPreImagesEnabled()) {
+            enablePreImages(collection);
+        }
+        if (operationType == OperationType.DELETE && isMoveToOtherCollection(collection, id)) {
+            logger.debug("Reservation {} moved out of {}; ignoring its removal", id, collection);
+            return;
+        }
+        Reservation current = operationType != OperationType.DELETE && fullDocument != null
+                ? mongoTemplate.getConverter().read(Reservation.class, fullDocument)
+                : null;
+        Version currentVersion = current != null ? Version.of(current) : null;
+        if (current != null) {
+            knownCollections.put(id, collection);
+        } else {
+            knownCollections.invalidate(id);
+        }
+
+        Optional<Version> known = knownVersions.getIfPresent(id);
+        if (known != null && Objects.equals(known.orElse(null), currentVersion)) {
+            // Written by this instance, or already applied
+            return;
+        }
+
+        Reservation previous = null;
+        boolean previousKnown = true;
+        if (operationType != OperationType.INSERT && fullDocumentBeforeChange != null) {
+            previous = mongoTemplate.getConverter().read(Reservation.class, fullDocumentBeforeChange);
+        } else if (known != null) {
+            previous = known.map(version -> version.toReservation(id)).orElse(null);
+        } else if (operationType != OperationType.INSERT) {
+            previousKnown = false;
+        }
+        knownVersions.put(id, Optional.ofNullable(currentVersion));
+
+        if (!previousKnown) {
+            logger.debug("No previous version of reservation {}; dropping derived state", id);
+            evictReports(null);
+        } else {
+            if (previous != null) {
+                evictReports(previous.getRestaurantId());
+            }
+            if (current != null && (previous == null
+                    || !Objects.equals(previous.getRestaurantId(), current.getRestaurantId()))) {
+                evictReports(current.getRestaurantId());
+            }
+        }
+        eventPublisher.publishEvent(new RemoteReservationChangeEvent(previous, current, previousKnown));
+    }
+
+    /**
+     * Tells whether the removal of a reservation from a collection is the second half of a move to another
+     * partition: the reservation was last seen in another collection, or still exists in one.
+     */
+    private boolean isMoveToOtherCollection(String collection, ObjectId id) {
+        String knownCollection = knownCollections.getIfPresent(id);
+        if (knownCollection != null) {
+            return !knownCollection.equals(collection);
+        }
+        return reservationRepository.findById(id).isPresent();
+    }
+
+    /**
+     * Evicts the cached occupancy reports of a restaurant, or every cached report if the restaurant is null.
+     * Report keys start with the restaurant ID. With the shared cache tier, shared entries are evicted as well.
+     */
+    private void evictReports(ObjectId restaurantId) {
+        org.springframework.cache.Cache reports = cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        if (reports == null) {
+            return;
+        }
+        if (restaurantId != null && reports instanceof RefreshAheadCache refreshAheadCache) {
+            refreshAheadCache.evictGroup(restaurantId);
+        } else if (restaurantId != null && reports.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key ->
+                    key instanceof List<?> parts && !parts.isEmpty() && restaurantId.equals(parts.get(0)));
+        } else {
+            reports.clear();
+        }
+    }
+
+    private void invalidateAll() {
+        evictReports(null);
+        knownVersions.invalidateAll();
+        knownCollections.invalidateAll();
+        eventPublisher.publishEvent(new RemoteReservationChangeEvent(null, null, false));
+    }
+
+    /**
+     * Asks MongoDB to record pre-images of the collection's documents, once per collection. Requires MongoDB 6.0.
+     */
+    private void enablePreImages(String collection) {
+        if (!preImageCollections.add(collection)) {
+            return;
+        }
+        try {
+            mongoTemplate.executeCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (RuntimeException e) {
+            logger.warn("Cannot enable change stream pre-images on {}; previous versions will come from memory",
+                    collection, e);
+        }
+    }
+
+    private BsonDocument loadResumeToken() {
+        Document saved = mongoTemplate.getCollection(TOKENS_COLLECTION).find(Filters.eq("_id", nodeId)).first();
+        if (saved == null || !(saved.get("token") instanceof Document token)) {
+            return null;
+        }
+        return token.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    /**
+     * Persists the resume token, at most once per save interval unless forced.
+     */
+    private void saveResumeToken(BsonDocument resumeToken, boolean force) {
+        long now = System.currentTimeMillis();
+        if (resumeToken == null
+                || !force && now - tokenSavedAt < TimeUnit.SECONDS.toMillis(
+                        changeStreamConfig.getTokenSaveIntervalSeconds())) {
+            return;
+        }
+        mongoTemplate.getCollection(TOKENS_COLLECTION).replaceOne(Filters.eq("_id", nodeId),
+                new Document("_id", nodeId).append("token", resumeToken).append("savedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+        tokenSavedAt = now;
+    }
+
+    private String resolveNodeId() {
+        if (changeStreamConfig.getNodeId() != null && !changeStreamConfig.getNodeId().isBlank()) {
+            return changeStreamConfig.getNodeId();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The fields of a reservation that derived state depends on.
+     */
+    private record Version(ObjectId restaurantId, UUID spaceId, LocalDateTime startTime, LocalDateTime endTime,
+                           Integer partySize, String status) {
+
+        static Version of(Reservation reservation) {
+            return new Version(reservation.getRestaurantId(), reservation.getSpaceId(), reservation.getStartTime(),
+                    reservation.getEndTime(), reservation.getPartySize(), reservation.getStatus());
+        }
+
+        Reservation toReservation(ObjectId id) {
+            Reservation reservation = new Reservation(restaurantId, spaceId, null, startTime, endTime, partySize,
+                    status);
+            reservation.setId(id);
+            return reservation;
+        }
+    }
+}
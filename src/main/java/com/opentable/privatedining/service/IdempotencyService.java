@@ -0,0 +1,221 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.config.IdempotencyConfig;
+import com.opentable.privatedining.exception.IdempotencyKeyInProgressException;
+import com.opentable.privatedining.exception.IdempotencyKeyReusedException;
+import com.opentable.privatedining.model.IdempotencyRecord;
+import com.opentable.privatedining.model.IdempotencyStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service making reservation creation safe to retry with an {@code Idempotency-Key} header.
+ * The first request with a key claims it with an insert into the unique-keyed {@code idempotency_keys} collection,
+ * runs, and stores the created reservation. Later requests with the key get the stored reservation back without
+ * running the restaurant lookup, validations or insert again; recent results are served from a bounded in-memory
+ * cache. Duplicates arriving while the original still runs wait for it: on the same instance through the original's
+ * future, across instances by polling the stored record. Only successful creations are stored; a failed request
+ * releases its key so the client can retry.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final IdempotencyConfig idempotencyConfig;
+
+    private final Cache<String, IdempotencyRecord> completedRecords;
+    private final Map<String, InFlight> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new IdempotencyService with the required dependencies.
+     *
+     * @param recordRepository the repository for idempotency records
+     * @param idempotencyConfig the configuration for idempotent requests
+     */
+    public IdempotencyService(IdempotencyRecordRepository recordRepository, IdempotencyConfig idempotencyConfig) {
+        this.recordRepository = recordRepository;
+        this.idempotencyConfig = idempotencyConfig;
+        this.completedRecords = Caffeine.newBuilder()
+                .expireAfterWrite(idempotencyConfig.getTtlHours(), TimeUnit.HOURS)
+                .maximumSize(idempotencyConfig.getCacheMaxSize())
+                .build();
+    }
+
+    /**
+     * Creates a reservation at most once per idempotency key.
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the reservation as requested, before any processing
+     * @param action creates the reservation; only run if the key has not been used yet
+     * @return the created reservation, and whether it was replayed from an earlier request
+     * @throws IdempotencyKeyReusedException if the key was first used with a different request
+     * @throws IdempotencyKeyInProgressException if the original request did not finish within the wait timeout
+     */
+    public IdempotentResult execute(String key, Reservation request, Supplier<Reservation> action) {
+        String fingerprint = fingerprint(request);
+        IdempotencyRecord cached = completedRecords.getIfPresent(key);
+        if (cached != null) {
+            return replay(key, cached, fingerprint);
+        }
+
+        InFlight inFlight = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight original = inFlightRequests.putIfAbsent(key, inFlight);
+        if (original != null) {
+            requireSameRequest(key, original.fingerprint(), fingerprint);
+            return new IdempotentResult(await(key, original.result()), true);
+        }
+        try {
+            IdempotentResult result = claimAndExecute(key, fingerprint, action);
+            inFlight.result().complete(result.reservation());
+            return result;
+        } catch (RuntimeException e) {
+            inFlight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, inFlight);
+        }
+    }
+
+    /**
+     * Claims the key in MongoDB and runs the action, or replays the result if another instance already completed it.
+     * A pending claim past its lease belonged to a request that died and is taken over.
+     */
+    private IdempotentResult claimAndExecute(String key, String fingerprint, Supplier<Reservation> action) {
+        LocalDateTime waitDeadline = LocalDateTime.now().plusSeconds(idempotencyConfig.getWaitTimeoutSeconds());
+        String claimToken;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            IdempotencyRecord claim = new IdempotencyRecord(key, fingerprint, now,
+                    now.plusSeconds(idempotencyConfig.getPendingLeaseSeconds()));
+            try {
+                recordRepository.insert(claim);
+                claimToken = claim.getClaimToken();
+                break;
+            } catch (DuplicateKeyException e) {
+                Optional<IdempotencyRecord> existing = recordRepository.findById(key);
+                if (existing.isPresent()) {
+                    IdempotencyRecord record = existing.get();
+                    if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                        completedRecords.put(key, record);
+                        return replay(key, record, fingerprint);
+                    }
+                    requireSameRequest(key, record.getRequestFingerprint(), fingerprint);
+                    if (record.getExpiresAt().isBefore(now)) {
+                        recordRepository.deleteByKeyAndStatusAndExpiresAtBefore(key, IdempotencyStatus.PENDING, now);
+                        continue;
+                    }
+                }
+                if (now.isAfter(waitDeadline)) {
+                    throw new IdempotencyKeyInProgressException(key);
+                }
+                sleep(key);
+            }
+        }
+
+        Reservation created;
+        try {
+            created = action.get();
+        } catch (RuntimeException e) {
+            recordRepository.deleteByKeyAndStatusAndClaimToken(key, IdempotencyStatus.PENDING, claimToken);
+            throw e;
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord(key, fingerprint, LocalDateTime.now(),
+                LocalDateTime.now().plusHours(idempotencyConfig.getTtlHours()));
+        record.setStatus(IdempotencyStatus.COMPLETED);
+        record.setReservationId(created.getId());
+        record.setReservation(created);
+        completedRecords.put(key, record);
+        try {
+            recordRepository.save(record);
+        } catch (RuntimeException e) {
+            // The reservation exists; failing now would invite a retry that books it twice
+            logger.warn("Failed to store result of idempotency key {}; replays are limited to this instance", key, e);
+        }
+        return new IdempotentResult(created, false);
+    }
+
+    private IdempotentResult replay(String key, IdempotencyRecord record, String fingerprint) {
+        requireSameRequest(key, record.getRequestFingerprint(), fingerprint);
+        Reservation reservation = record.getReservation();
+        reservation.setId(record.getReservationId());
+        logger.debug("Replaying reservation {} for idempotency key {}", record.getReservationId(), key);
+        return new IdempotentResult(reservation, true);
+    }
+
+    private Reservation await(String key, CompletableFuture<Reservation> result) {
+        try {
+            return result.get(idempotencyConfig.getWaitTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+
+    private void sleep(String key) {
+        try {
+            Thread.sleep(idempotencyConfig.getPollIntervalMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+
+    private static void requireSameRequest(String key, String storedFingerprint, String fingerprint) {
+        if (!Objects.equals(storedFingerprint, fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+    }
+
+    /**
+     * Identifies a request by the fields the client sent, so a key reused for a different booking is detected.
+     */
+    static String fingerprint(Reservation request) {
+        return String.join("|",
+                String.valueOf(request.getRestaurantId()),
+                String.valueOf(request.getSpaceId()),
+                String.valueOf(request.getCustomerEmail()),
+                String.valueOf(request.getStartTime()),
+                String.valueOf(request.getEndTime()),
+                String.valueOf(request.getPartySize()),
+                String.valueOf(request.getStatus()));
+    }
+
+    /**
+     * The reservation returned for an idempotent request.
+     *
+     * @param reservation the created reservation
+     * @param replayed whether it was created by an earlier request with the same key
+     */
+    public record IdempotentResult(Reservation reservation, boolean replayed) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<Reservation> result) {
+    }
+}
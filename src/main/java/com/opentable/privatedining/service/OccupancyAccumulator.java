@@ -0,0 +1,404 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.OccupancySummaryDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+import com.opentable.privatedining.dto.TimeSlotOccupancyDTO;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Space;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Incremental slot aggregation engine behind the occupancy reports.
+ * Reservations are added one at a time and folded into per-space slot counters, so callers can
+ * stream them from any source without materialising the full list. The report is produced by {@link #build}.
+ * Instances are not thread-safe; a single report is expected to be accumulated by one thread at a time.
+ */
+public class OccupancyAccumulator {
+
+    private final List<Space> spaces;
+    private final Map<UUID, Integer> spaceIndexes;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final LocalDateTime firstSlotStart;
+    private final long firstSlotMinute;
+    private final int slotDurationMinutes;
+    private final int slotCount;
+    private final int[][] slotReservations;
+    private final int[][] slotOccupancy;
+    private final int[] spaceReservations;
+    private int totalReservations;
+    private int totalGuests;
+
+    /**
+     * Creates an empty accumulator for the given spaces and report period.
+     * Slots start at the report start truncated to the hour and cover the period up to the end time.
+     *
+     * @param spaces the spaces included in the report, in report order
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @param slotDurationMinutes the slot duration in minutes
+     */
+    public OccupancyAccumulator(List<Space> spaces, LocalDateTime startTime, LocalDateTime endTime,
+                                int slotDurationMinutes) {
+        this.spaces = spaces;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.slotDurationMinutes = slotDurationMinutes;
+        this.firstSlotStart = startTime.truncatedTo(ChronoUnit.HOURS);
+        this.firstSlotMinute = toEpochMinuteFloor(firstSlotStart);
+
+        long periodSeconds = ChronoUnit.SECONDS.between(firstSlotStart, endTime);
+        this.slotCount = (int) Math.max(0, Math.ceilDiv(periodSeconds, slotDurationMinutes * 60L));
+
+        this.spaceIndexes = new HashMap<>();
+        for (int i = 0; i < spaces.size(); i++) {
+            spaceIndexes.putIfAbsent(spaces.get(i).getId(), i);
+        }
+        this.slotReservations = new int[spaces.size()][slotCount];
+        this.slotOccupancy = new int[spaces.size()][slotCount];
+        this.spaceReservations = new int[spaces.size()];
+    }
+
+    /**
+     * Adds a reservation to the report.
+     *
+     * @param reservation the reservation overlapping the report period
+     */
+    public void add(Reservation reservation) {
+        add(reservation.getSpaceId(), reservation.getStartTime(), reservation.getEndTime(),
+                reservation.getPartySize());
+    }
+
+    /**
+     * Adds a reservation to the report from its individual fields.
+     * Reservations for spaces outside the report still count towards the summary totals.
+     *
+     * @param spaceId the space of the reservation
+     * @param start the reservation start time
+     * @param end the reservation end time
+     * @param partySize the party size
+     */
+    public void add(UUID spaceId, LocalDateTime start, LocalDateTime end, int partySize) {
+        add(spaceIndexOf(spaceId), toEpochMinuteFloor(start), toEpochMinuteCeil(end), partySize);
+    }
+
+    /**
+     * Adds a reservation given as primitive columns.
+     * Reservations for spaces outside the report still count towards the summary totals.
+     *
+     * @param spaceIndex the index of the space in this report (see {@link #spaceIndexOf}), or -1 if not part of it
+     * @param startMinute the reservation start as an epoch minute
+     * @param endMinute the reservation end as an epoch minute
+     * @param partySize the party size
+     */
+    public void add(int spaceIndex, long startMinute, long endMinute, int partySize) {
+        totalReservations++;
+        totalGuests += partySize;
+        if (spaceIndex < 0) {
+            return;
+        }
+        spaceReservations[spaceIndex]++;
+        addSlots(spaceIndex, startMinute, endMinute, partySize);
+    }
+
+    /**
+     * Adds a reservation's occupancy to its slots without counting it in the reservation totals.
+     * Used when the reservation has already been counted by an earlier chunk of the same report.
+     *
+     * @param spaceId the space of the reservation
+     * @param start the reservation start time
+     * @param end the reservation end time
+     * @param partySize the party size
+     */
+    public void addOccupancy(UUID spaceId, LocalDateTime start, LocalDateTime end, int partySize) {
+        addOccupancy(spaceIndexOf(spaceId), toEpochMinuteFloor(start), toEpochMinuteCeil(end), partySize);
+    }
+
+    /**
+     * Adds a reservation's occupancy, given as primitive columns, without counting it in the reservation totals.
+     *
+     * @param spaceIndex the index of the space in this report (see {@link #spaceIndexOf}), or -1 if not part of it
+     * @param startMinute the reservation start as an epoch minute
+     * @param endMinute the reservation end as an epoch minute
+     * @param partySize the party size
+     */
+    public void addOccupancy(int spaceIndex, long startMinute, long endMinute, int partySize) {
+        if (spaceIndex >= 0) {
+            addSlots(spaceIndex, startMinute, endMinute, partySize);
+        }
+    }
+
+    /**
+     * Merges pre-aggregated slot counters for one space into the report.
+     * The counters must use the same slot duration as this report and start on one of its slot boundaries;
+     * slots falling outside the report period are ignored.
+     *
+     * @param spaceId the space the counters belong to
+     * @param from the start time of the first slot in the arrays
+     * @param reservationCount the number of reservations behind the counters
+     * @param reservations the reservation count per slot
+     * @param occupancy the occupancy per slot
+     * @throws IllegalArgumentException if {@code from} is not on a slot boundary of this report
+     */
+    public void mergeSlots(UUID spaceId, LocalDateTime from, int reservationCount,
+                           int[] reservations, int[] occupancy) {
+        int spaceIndex = spaceIndexOf(spaceId);
+        if (spaceIndex < 0) {
+            return;
+        }
+        long offsetMinutes = toEpochMinuteFloor(from) - firstSlotMinute;
+        if (offsetMinutes % slotDurationMinutes != 0) {
+            throw new IllegalArgumentException("Slot counters starting at " + from
+                    + " are not aligned to " + slotDurationMinutes + "-minute report slots");
+        }
+        long firstSlot = offsetMinutes / slotDurationMinutes;
+
+        spaceReservations[spaceIndex] += reservationCount;
+        for (int i = 0; i < reservations.length; i++) {
+            long slot = firstSlot + i;
+            if (slot >= 0 && slot < slotCount) {
+                slotReservations[spaceIndex][(int) slot] += reservations[i];
+                slotOccupancy[spaceIndex][(int) slot] += occupancy[i];
+            }
+        }
+    }
+
+    /**
+     * Adds pre-aggregated reservation and guest counts to the summary totals.
+     *
+     * @param reservations the number of reservations
+     * @param guests the number of guests
+     */
+    public void addTotals(int reservations, int guests) {
+        totalReservations += reservations;
+        totalGuests += guests;
+    }
+
+    /**
+     * Returns a copy of the per-slot reservation counts for a space.
+     *
+     * @param spaceId the space UUID
+     * @return the reservation count per slot, or an empty array if the space is not part of the report
+     */
+    public int[] getSlotReservations(UUID spaceId) {
+        int spaceIndex = spaceIndexOf(spaceId);
+        return spaceIndex >= 0 ? slotReservations[spaceIndex].clone() : new int[0];
+    }
+
+    /**
+     * Returns a copy of the per-slot occupancy for a space.
+     *
+     * @param spaceId the space UUID
+     * @return the occupancy per slot, or an empty array if the space is not part of the report
+     */
+    public int[] getSlotOccupancy(UUID spaceId) {
+        int spaceIndex = spaceIndexOf(spaceId);
+        return spaceIndex >= 0 ? slotOccupancy[spaceIndex].clone() : new int[0];
+    }
+
+    /**
+     * Returns the number of reservations counted for a space.
+     *
+     * @param spaceId the space UUID
+     * @return the reservation count, or 0 if the space is not part of the report
+     */
+    public int getSpaceReservations(UUID spaceId) {
+        int spaceIndex = spaceIndexOf(spaceId);
+        return spaceIndex >= 0 ? spaceReservations[spaceIndex] : 0;
+    }
+
+    /**
+     * Returns the number of reservations counted in the summary.
+     *
+     * @return the total reservation count
+     */
+    public int getTotalReservations() {
+        return totalReservations;
+    }
+
+    /**
+     * Returns the number of guests counted in the summary.
+     *
+     * @return the total guest count
+     */
+    public int getTotalGuests() {
+        return totalGuests;
+    }
+
+    /**
+     * Returns the index of a space within this report.
+     *
+     * @param spaceId the space UUID
+     * @return the index of the space, or -1 if the space is not part of the report
+     */
+    public int spaceIndexOf(UUID spaceId) {
+        Integer index = spaceIndexes.get(spaceId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Adds a party to every slot overlapping the half-open interval [startMinute, endMinute).
+     */
+    private void addSlots(int spaceIndex, long startMinute, long endMinute, int partySize) {
+        int from = (int) Math.max(0, Math.floorDiv(startMinute - firstSlotMinute, slotDurationMinutes));
+        int to = (int) Math.min(slotCount - 1L,
+                Math.ceilDiv(endMinute - firstSlotMinute, (long) slotDurationMinutes) - 1);
+
+        int[] reservations = slotReservations[spaceIndex];
+        int[] occupancy = slotOccupancy[spaceIndex];
+        for (int slot = from; slot <= to; slot++) {
+            reservations[slot]++;
+            occupancy[slot] += partySize;
+        }
+    }
+
+    /**
+     * Builds the paginated report from the accumulated counters.
+     *
+     * @param restaurantId the restaurant ID
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return the occupancy report
+     */
+    public OccupancyReportDTO build(ObjectId restaurantId, int page, int size) {
+        List<SpaceOccupancyReportDTO> allSpaceReports = new ArrayList<>(spaces.size());
+        for (int i = 0; i < spaces.size(); i++) {
+            allSpaceReports.add(buildSpaceReport(i));
+        }
+
+        OccupancySummaryDTO summary = buildSummary(allSpaceReports);
+
+        int totalElements = allSpaceReports.size();
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        int fromIndex = (int) Math.min((long) page * size, totalElements);
+        int toIndex = Math.min(fromIndex + size, totalElements);
+
+        return new OccupancyReportDTO(
+                restaurantId.toHexString(),
+                startTime,
+                endTime,
+                summary,
+                new ArrayList<>(allSpaceReports.subList(fromIndex, toIndex)),
+                page,
+                size,
+                totalElements,
+                totalPages,
+                Instant.now()
+        );
+    }
+
+    /**
+     * Builds the report for a single space, including its slot breakdown.
+     */
+    private SpaceOccupancyReportDTO buildSpaceReport(int spaceIndex) {
+        Space space = spaces.get(spaceIndex);
+        int maxCapacity = space.getMaxCapacity();
+        int[] reservations = slotReservations[spaceIndex];
+        int[] occupancy = slotOccupancy[spaceIndex];
+
+        List<TimeSlotOccupancyDTO> hourlyBreakdown = new ArrayList<>(slotCount);
+        int peakOccupancy = 0;
+        double utilizationSum = 0.0;
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            LocalDateTime slotStart = firstSlotStart.plusMinutes((long) slot * slotDurationMinutes);
+            double utilization = maxCapacity > 0
+                    ? roundToTwoDecimals((double) occupancy[slot] / maxCapacity * 100)
+                    : 0.0;
+
+            hourlyBreakdown.add(new TimeSlotOccupancyDTO(
+                    slotStart,
+                    slotStart.plusMinutes(slotDurationMinutes),
+                    reservations[slot],
+                    occupancy[slot],
+                    maxCapacity,
+                    utilization
+            ));
+
+            peakOccupancy = Math.max(peakOccupancy, occupancy[slot]);
+            utilizationSum += utilization;
+        }
+
+        double averageUtilization = slotCount > 0 ? utilizationSum / slotCount : 0.0;
+
+        return new SpaceOccupancyReportDTO(
+                space.getId(),
+                space.getName(),
+                maxCapacity,
+                spaceReservations[spaceIndex],
+                peakOccupancy,
+                roundToTwoDecimals(averageUtilization),
+                hourlyBreakdown
+        );
+    }
+
+    /**
+     * Calculates the summary metrics from all space reports.
+     */
+    private OccupancySummaryDTO buildSummary(List<SpaceOccupancyReportDTO> spaceReports) {
+        int peakOccupancy = spaceReports.stream()
+                .mapToInt(SpaceOccupancyReportDTO::getPeakOccupancy)
+                .max()
+                .orElse(0);
+
+        double averageUtilization = spaceReports.stream()
+                .mapToDouble(SpaceOccupancyReportDTO::getAverageUtilization)
+                .average()
+                .orElse(0.0);
+
+        int totalMaxCapacity = spaces.stream()
+                .mapToInt(Space::getMaxCapacity)
+                .sum();
+
+        double overallUtilization = totalMaxCapacity > 0
+                ? (double) peakOccupancy / totalMaxCapacity * 100
+                : 0.0;
+
+        return new OccupancySummaryDTO(
+                totalReservations,
+                totalGuests,
+                peakOccupancy,
+                roundToTwoDecimals(averageUtilization),
+                roundToTwoDecimals(overallUtilization)
+        );
+    }
+
+    /**
+     * Converts a date-time to minutes since the epoch, rounding down to the whole minute.
+     *
+     * @param time the date-time
+     * @return the epoch minute
+     */
+    public static long toEpochMinuteFloor(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Converts a date-time to minutes since the epoch, rounding up to the whole minute.
+     *
+     * @param time the date-time
+     * @return the epoch minute
+     */
+    public static long toEpochMinuteCeil(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC) + (time.getNano() > 0 ? 1 : 0);
+        return Math.ceilDiv(seconds, 60L);
+    }
+
+    /**
+     * Rounds a double value to two decimal places.
+     */
+    private static double roundToTwoDecimals(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
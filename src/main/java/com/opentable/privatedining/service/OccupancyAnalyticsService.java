@@ -1,13 +1,15 @@
 package com.opentable.privatedining.service;
 
 import com.opentable.privatedining.config.AnalyticsConfig;
-import com.opentable.privatedining.dto.*;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
 import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.RestaurantNotFoundException;
 import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.DailyOccupancyRollup;
 import com.opentable.privatedining.model.Reservation;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
 import com.opentable.privatedining.repository.ReservationRepository;
 import com.opentable.privatedining.repository.RestaurantRepository;
 import org.bson.types.ObjectId;
@@ -16,23 +18,36 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for generating occupancy analytics reports.
  * Provides detailed breakdown of occupancy levels for restaurant spaces over a specified time range.
+ * Whole past days are read from the pre-aggregated daily rollups when available; the rest of the range
+ * is computed live from reservations, scanning the in-memory column store when it is enabled.
+ * Parts of the range reaching past the archive horizon also read the archived reservations, and skip the column
+ * store, which only holds live ones.
+ * Reports are cached with {@code sync = true}, so the cache can recompute them in the background once they age.
  */
 @Service
 public class OccupancyAnalyticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(OccupancyAnalyticsService.class);
 
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
     private final ReservationRepository reservationRepository;
     private final RestaurantRepository restaurantRepository;
+    private final DailyOccupancyRollupRepository rollupRepository;
+    private final ReservationColumnStore columnStore;
+    private final ReservationArchiveService reservationArchiveService;
     private final AnalyticsConfig analyticsConfig;
 
     /**
@@ -40,13 +55,22 @@ public class OccupancyAnalyticsService {
      *
      * @param reservationRepository the repository for reservation data access
      * @param restaurantRepository the repository for restaurant data access
+     * @param rollupRepository the repository for pre-aggregated daily occupancy rollups
+     * @param columnStore the in-memory columnar reservation store
+     * @param reservationArchiveService the service reading archived reservations
      * @param analyticsConfig the configuration for analytics settings
      */
     public OccupancyAnalyticsService(ReservationRepository reservationRepository,
                                       RestaurantRepository restaurantRepository,
+                                      DailyOccupancyRollupRepository rollupRepository,
+                                      ReservationColumnStore columnStore,
+                                      ReservationArchiveService reservationArchiveService,
                                       AnalyticsConfig analyticsConfig) {
         this.reservationRepository = reservationRepository;
         this.restaurantRepository = restaurantRepository;
+        this.rollupRepository = rollupRepository;
+        this.columnStore = columnStore;
+        this.reservationArchiveService = reservationArchiveService;
         this.analyticsConfig = analyticsConfig;
     }
 
@@ -64,7 +88,9 @@ public class OccupancyAnalyticsService {
      * @throws RestaurantNotFoundException if the restaurant is not found
      * @throws SpaceNotFoundException if the specified space is not found
      */
-    @Cacheable(value = "occupancyReports", key = "{#restaurantId, #startTime, #endTime, #spaceId, #page, #size}")
+    // sync hands the loader to RefreshAheadCache, which de-duplicates loads outside any cache lock
+    @Cacheable(value = "occupancyReports", key = "{#restaurantId, #startTime, #endTime, #spaceId, #page, #size}",
+            sync = true)
     public OccupancyReportDTO generateOccupancyReport(
             ObjectId restaurantId,
             LocalDateTime startTime,
@@ -80,45 +106,138 @@ public class OccupancyAnalyticsService {
 
         List<Space> spacesToReport = getSpacesToReport(restaurant, spaceId);
 
-        List<Reservation> reservations = fetchReservations(restaurantId, startTime, endTime, spaceId);
+        OccupancyAccumulator accumulator = new OccupancyAccumulator(
+                spacesToReport, startTime, endTime, analyticsConfig.getTimeSlotDurationMinutes());
+
+        if (!addFromRollups(accumulator, restaurantId, startTime, endTime, spaceId)
+                && (reservationArchiveService.reachesArchive(startTime)
+                        || !columnStore.scan(accumulator, restaurantId, startTime, endTime, spaceId, true))) {
+            List<Reservation> reservations = fetchReservations(restaurantId, startTime, endTime, spaceId);
+
+            logger.debug("Generating occupancy report for restaurant {} with {} reservations across {} spaces",
+                    restaurantId, reservations.size(), spacesToReport.size());
+
+            reservations.forEach(accumulator::add);
+        }
+
+        return accumulator.build(restaurantId, page, size);
+    }
 
-        logger.debug("Generating occupancy report for restaurant {} with {} reservations across {} spaces",
-                restaurantId, reservations.size(), spacesToReport.size());
+    /**
+     * Fills the accumulator from the daily rollups of the whole past days in the range, computing the
+     * remaining parts of the range live. Each reservation is counted in the totals once: in the part of the
+     * range it starts in, or in the first part if it started before the report period.
+     *
+     * @return false if rollups are disabled, not applicable to the report slots or absent for the range,
+     *         in which case the accumulator is left untouched
+     */
+    private boolean addFromRollups(OccupancyAccumulator accumulator, ObjectId restaurantId,
+                                   LocalDateTime startTime, LocalDateTime endTime, UUID spaceId) {
+        if (!analyticsConfig.isRollupsEnabled()) {
+            return false;
+        }
+        int slotDurationMinutes = analyticsConfig.getTimeSlotDurationMinutes();
+        if (MINUTES_PER_DAY % slotDurationMinutes != 0) {
+            return false;
+        }
 
-        // Generate reports for all spaces (needed for summary)
-        List<SpaceOccupancyReportDTO> allSpaceReports = new ArrayList<>();
-        for (Space space : spacesToReport) {
-            SpaceOccupancyReportDTO spaceReport = generateSpaceReport(space, reservations, startTime, endTime);
-            allSpaceReports.add(spaceReport);
+        LocalDate firstDay = startTime.toLocalDate().atStartOfDay().equals(startTime)
+                ? startTime.toLocalDate()
+                : startTime.toLocalDate().plusDays(1);
+        LocalDate endDay = endTime.toLocalDate().isBefore(LocalDate.now()) ? endTime.toLocalDate() : LocalDate.now();
+        if (!firstDay.isBefore(endDay)
+                || ChronoUnit.MINUTES.between(startTime.truncatedTo(ChronoUnit.HOURS), firstDay.atStartOfDay())
+                        % slotDurationMinutes != 0) {
+            return false;
         }
 
-        // Calculate summary from all spaces
-        OccupancySummaryDTO summary = calculateSummary(allSpaceReports, reservations, spacesToReport);
+        Map<LocalDate, DailyOccupancyRollup> rollups = rollupRepository.findByRestaurantIdAndDayRange(
+                        restaurantId, slotDurationMinutes, firstDay, endDay).stream()
+                .collect(Collectors.toMap(DailyOccupancyRollup::getDay, Function.identity(), (first, second) -> first));
+        if (rollups.isEmpty()) {
+            return false;
+        }
 
-        // Apply pagination to space reports
-        int totalElements = allSpaceReports.size();
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        int fromIndex = Math.min(page * size, totalElements);
-        int toIndex = Math.min(fromIndex + size, totalElements);
-        List<SpaceOccupancyReportDTO> paginatedReports = allSpaceReports.subList(fromIndex, toIndex);
+        LocalDateTime liveStart = startTime;
+        for (LocalDate day = firstDay; day.isBefore(endDay); day = day.plusDays(1)) {
+            DailyOccupancyRollup rollup = rollups.get(day);
+            if (rollup == null) {
+                continue;
+            }
+            LocalDateTime dayStart = day.atStartOfDay();
+            if (liveStart.isBefore(dayStart)) {
+                addLive(accumulator, restaurantId, startTime, liveStart, dayStart, spaceId);
+            }
+            addRollup(accumulator, rollup, dayStart.equals(startTime), spaceId);
+            liveStart = dayStart.plusDays(1);
+        }
+        if (liveStart.isBefore(endTime)) {
+            addLive(accumulator, restaurantId, startTime, liveStart, endTime, spaceId);
+        }
 
-        return new OccupancyReportDTO(
-                restaurantId.toHexString(),
-                startTime,
-                endTime,
-                summary,
-                paginatedReports,
-                page,
-                size,
-                totalElements,
-                totalPages
-        );
+        logger.debug("Generated occupancy report for restaurant {} from {} daily rollups",
+                restaurantId, rollups.size());
+        return true;
+    }
+
+    /**
+     * Adds one daily rollup. Carried-over reservations only count when the day opens the report.
+     */
+    private void addRollup(OccupancyAccumulator accumulator, DailyOccupancyRollup rollup,
+                           boolean opensReport, UUID spaceId) {
+        LocalDateTime dayStart = rollup.getDay().atStartOfDay();
+        int reservations = spaceId == null ? rollup.getTotalReservations() : 0;
+        int guests = spaceId == null ? rollup.getTotalGuests() : 0;
+        if (spaceId == null && opensReport) {
+            reservations += rollup.getCarriedOverReservations();
+            guests += rollup.getCarriedOverGuests();
+        }
+
+        for (DailyOccupancyRollup.SpaceRollup spaceRollup : rollup.getSpaces()) {
+            if (spaceId != null && !spaceId.equals(spaceRollup.getSpaceId())) {
+                continue;
+            }
+            int spaceReservations = spaceRollup.getReservationCount()
+                    + (opensReport ? spaceRollup.getCarriedOverReservations() : 0);
+            accumulator.mergeSlots(spaceRollup.getSpaceId(), dayStart, spaceReservations,
+                    spaceRollup.getSlotReservations(), spaceRollup.getSlotOccupancy());
+            if (spaceId != null) {
+                reservations += spaceReservations;
+                guests += spaceRollup.getGuestCount() + (opensReport ? spaceRollup.getCarriedOverGuests() : 0);
+            }
+        }
+        accumulator.addTotals(reservations, guests);
+    }
+
+    /**
+     * Computes a part of the report range live. Reservations that started in an earlier part of the
+     * range have already been counted there, so only their occupancy is added.
+     */
+    private void addLive(OccupancyAccumulator accumulator, ObjectId restaurantId, LocalDateTime reportStart,
+                         LocalDateTime from, LocalDateTime to, UUID spaceId) {
+        boolean opensReport = from.equals(reportStart);
+        if (!reservationArchiveService.reachesArchive(from)
+                && columnStore.scan(accumulator, restaurantId, from, to, spaceId, opensReport)) {
+            return;
+        }
+        for (Reservation reservation : fetchReservations(restaurantId, from, to, spaceId)) {
+            if (opensReport || !reservation.getStartTime().isBefore(from)) {
+                accumulator.add(reservation);
+            } else {
+                accumulator.addOccupancy(reservation.getSpaceId(), reservation.getStartTime(),
+                        reservation.getEndTime(), reservation.getPartySize());
+            }
+        }
     }
 
     /**
      * Validates that the date range is valid and within allowed limits.
+     *
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @throws InvalidDateRangeException if the date range is invalid
      */
-    private void validateDateRange(LocalDateTime startTime, LocalDateTime endTime) {
+    public void validateDateRange(LocalDateTime startTime, LocalDateTime endTime) {
         if (startTime == null || endTime == null) {
             throw new InvalidDateRangeException("Start time and end time are required");
         }
@@ -135,8 +254,13 @@ public class OccupancyAnalyticsService {
 
     /**
      * Gets the list of spaces to include in the report.
+     *
+     * @param restaurant the restaurant being reported on
+     * @param spaceId optional space ID to filter the report to a single space
+     * @return the spaces to report on
+     * @throws SpaceNotFoundException if the specified space is not found
      */
-    private List<Space> getSpacesToReport(Restaurant restaurant, UUID spaceId) {
+    public List<Space> getSpacesToReport(Restaurant restaurant, UUID spaceId) {
         if (spaceId == null) {
             return restaurant.getSpaces();
         }
@@ -149,145 +273,18 @@ public class OccupancyAnalyticsService {
     }
 
     /**
-     * Fetches reservations based on whether a specific space is requested.
+     * Fetches reservations based on whether a specific space is requested, including archived ones
+     * when the range reaches past the archive horizon.
      */
     private List<Reservation> fetchReservations(ObjectId restaurantId, LocalDateTime startTime,
                                                  LocalDateTime endTime, UUID spaceId) {
-        if (spaceId != null) {
-            return reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
-                    restaurantId, spaceId, startTime, endTime);
-        }
-        return reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
-    }
-
-    /**
-     * Generates an occupancy report for a single space.
-     */
-    private SpaceOccupancyReportDTO generateSpaceReport(Space space, List<Reservation> allReservations,
-                                                      LocalDateTime startTime, LocalDateTime endTime) {
-        List<Reservation> spaceReservations = allReservations.stream()
-                .filter(r -> r.getSpaceId().equals(space.getId()))
-                .toList();
-
-        List<TimeSlotOccupancyDTO> hourlyBreakdown = generateHourlyBreakdown(
-                space, spaceReservations, startTime, endTime);
-
-        int peakOccupancy = hourlyBreakdown.stream()
-                .mapToInt(TimeSlotOccupancyDTO::getOccupancy)
-                .max()
-                .orElse(0);
-
-        double averageUtilization = hourlyBreakdown.stream()
-                .mapToDouble(TimeSlotOccupancyDTO::getUtilizationPercentage)
-                .average()
-                .orElse(0.0);
-
-        return new SpaceOccupancyReportDTO(
-                space.getId(),
-                space.getName(),
-                space.getMaxCapacity(),
-                spaceReservations.size(),
-                peakOccupancy,
-                roundToTwoDecimals(averageUtilization),
-                hourlyBreakdown
-        );
-    }
-
-    /**
-     * Generates hourly breakdown of occupancy for a space.
-     */
-    private List<TimeSlotOccupancyDTO> generateHourlyBreakdown(Space space, List<Reservation> reservations,
-                                                            LocalDateTime startTime, LocalDateTime endTime) {
-        List<TimeSlotOccupancyDTO> slots = new ArrayList<>();
-        int slotDurationMinutes = analyticsConfig.getTimeSlotDurationMinutes();
-
-        LocalDateTime current = startTime.truncatedTo(ChronoUnit.HOURS);
-
-        while (current.isBefore(endTime)) {
-            LocalDateTime slotEnd = current.plusMinutes(slotDurationMinutes);
-
-            final LocalDateTime slotStart = current;
-
-            // Count reservations and occupancy for this slot
-            List<Reservation> overlappingReservations = reservations.stream()
-                    .filter(r -> overlaps(r, slotStart, slotEnd))
-                    .toList();
-
-            int reservationCount = overlappingReservations.size();
-            int occupancy = overlappingReservations.stream()
-                    .mapToInt(Reservation::getPartySize)
-                    .sum();
-
-            double utilization = space.getMaxCapacity() > 0
-                    ? (double) occupancy / space.getMaxCapacity() * 100
-                    : 0.0;
-
-            slots.add(new TimeSlotOccupancyDTO(
-                    slotStart,
-                    slotEnd,
-                    reservationCount,
-                    occupancy,
-                    space.getMaxCapacity(),
-                    roundToTwoDecimals(utilization)
-            ));
-
-            current = slotEnd;
+        List<Reservation> reservations = spaceId != null
+                ? reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                        restaurantId, spaceId, startTime, endTime)
+                : reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
+        if (reservationArchiveService.reachesArchive(startTime)) {
+            return reservationArchiveService.withArchived(reservations, restaurantId, spaceId, startTime, endTime);
         }
-
-        return slots;
-    }
-
-    /**
-     * Checks if a reservation overlaps with a given time slot.
-     */
-    private boolean overlaps(Reservation reservation, LocalDateTime slotStart, LocalDateTime slotEnd) {
-        return reservation.getStartTime().isBefore(slotEnd) && reservation.getEndTime().isAfter(slotStart);
-    }
-
-    /**
-     * Calculates the summary metrics from all space reports.
-     */
-    private OccupancySummaryDTO calculateSummary(List<SpaceOccupancyReportDTO> spaceReports,
-                                               List<Reservation> reservations,
-                                               List<Space> spaces) {
-        int totalReservations = reservations.size();
-
-        int totalGuests = reservations.stream()
-                .mapToInt(Reservation::getPartySize)
-                .sum();
-
-        int peakOccupancy = spaceReports.stream()
-                .mapToInt(SpaceOccupancyReportDTO::getPeakOccupancy)
-                .max()
-                .orElse(0);
-
-        double averageUtilization = spaceReports.stream()
-                .mapToDouble(SpaceOccupancyReportDTO::getAverageUtilization)
-                .average()
-                .orElse(0.0);
-
-        int totalMaxCapacity = spaces.stream()
-                .mapToInt(Space::getMaxCapacity)
-                .sum();
-
-        double overallUtilization = totalMaxCapacity > 0
-                ? (double) peakOccupancy / totalMaxCapacity * 100
-                : 0.0;
-
-        return new OccupancySummaryDTO(
-                totalReservations,
-                totalGuests,
-                peakOccupancy,
-                roundToTwoDecimals(averageUtilization),
-                roundToTwoDecimals(overallUtilization)
-        );
-    }
-
-    /**
-     * Rounds a double value to two decimal places.
-     */
-    private double roundToTwoDecimals(double value) {
-        return Math.round(value * 100.0) / 100.0;
+        return reservations;
     }
 }
-
@@ -0,0 +1,573 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.OccupancyLedgerConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Off-heap ledger of per-space, per-slot occupancy counters, persisted in a memory-mapped file.
+ * <p>
+ * The file holds a header, a directory of (restaurant, space) pairs and one fixed-size record per space and day,
+ * addressed by space index and {@code epochDay % daysPerSpace}. A record stores, for every slot of the day, the
+ * guests present in the slot and the guests whose reservation starts in it. Because the counters live in the
+ * mapped file rather than on the heap, they survive restarts and add no GC pressure.
+ * <p>
+ * Records are built from MongoDB in the background the first time a day is asked for, kept current from
+ * {@link ReservationChangedEvent}s, and periodically re-verified against MongoDB; every record left by a previous
+ * run is re-verified after startup. Disabled by default.
+ */
+@Service
+public class OccupancyLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyLedger.class);
+
+    private static final int MAGIC = 0x4F434C47;
+    private static final int VERSION = 1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int HEADER_BYTES = 64;
+    private static final int DIRECTORY_ENTRY_BYTES = 32;
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final int FLAG_PRESENT = 1;
+    private static final int FLAG_MISALIGNED = 2;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReservationRepository reservationRepository;
+    private final OccupancyLedgerConfig ledgerConfig;
+
+    private final Map<SpaceKey, Integer> directory = new ConcurrentHashMap<>();
+    private final Set<RecordKey> pendingBuilds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock directoryLock = new ReentrantLock();
+    private final ReentrantLock[] recordLocks = new ReentrantLock[LOCK_STRIPES];
+
+    private MappedByteBuffer buffer;
+    private SpaceKey[] spaceKeys;
+    private AtomicLongArray spaceWrites;
+    private int slotDurationMinutes;
+    private int slotsPerDay;
+    private int daysPerSpace;
+    private int recordBytes;
+    private int recordsOffset;
+    private long openedAtEpochSecond;
+    private int sweepCursor;
+
+    /**
+     * Constructs a new OccupancyLedger with the required dependencies.
+     *
+     * @param reservationRepository the repository for reservation data access
+     * @param ledgerConfig the configuration for the occupancy ledger
+     */
+    public OccupancyLedger(ReservationRepository reservationRepository, OccupancyLedgerConfig ledgerConfig) {
+        this.reservationRepository = reservationRepository;
+        this.ledgerConfig = ledgerConfig;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            recordLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Maps the ledger file, creating or resetting it if its layout does not match the configuration,
+     * and loads the space directory.
+     *
+     * @throws IllegalStateException if the configured layout is invalid or does not fit in a single mapping
+     * @throws UncheckedIOException if the ledger file cannot be mapped
+     */
+    @PostConstruct
+    public void open() {
+        if (!ledgerConfig.isEnabled()) {
+            return;
+        }
+        slotDurationMinutes = ledgerConfig.getSlotDurationMinutes();
+        if (slotDurationMinutes <= 0 || MINUTES_PER_DAY % slotDurationMinutes != 0) {
+            throw new IllegalStateException("Ledger slot duration must divide a day evenly: " + slotDurationMinutes);
+        }
+        int maxSpaces = ledgerConfig.getMaxSpaces();
+        slotsPerDay = MINUTES_PER_DAY / slotDurationMinutes;
+        daysPerSpace = ledgerConfig.getDaysPerSpace();
+        recordBytes = RECORD_HEADER_BYTES + 2 * slotsPerDay * Integer.BYTES;
+        long size = HEADER_BYTES + (long) maxSpaces * DIRECTORY_ENTRY_BYTES
+                + (long) maxSpaces * daysPerSpace * recordBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Occupancy ledger of " + size + " bytes exceeds a single mapping");
+        }
+        recordsOffset = HEADER_BYTES + maxSpaces * DIRECTORY_ENTRY_BYTES;
+
+        Path path = Paths.get(ledgerConfig.getPath());
+        try {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                boolean compatible = channel.size() == size && headerMatches(channel.map(
+                        FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES), maxSpaces);
+                if (!compatible) {
+                    logger.info("Initialising occupancy ledger at {} ({} bytes)", path, size);
+                    channel.truncate(0);
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (!compatible) {
+                    writeHeader(maxSpaces);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map occupancy ledger at " + path, e);
+        }
+
+        spaceKeys = new SpaceKey[maxSpaces];
+        spaceWrites = new AtomicLongArray(maxSpaces);
+        int spaceCount = buffer.getInt(20);
+        for (int index = 0; index < spaceCount; index++) {
+            SpaceKey key = readDirectoryEntry(index);
+            spaceKeys[index] = key;
+            directory.put(key, index);
+        }
+        openedAtEpochSecond = Instant.now().getEpochSecond();
+        logger.info("Occupancy ledger opened with {} spaces; records will be re-verified in the background",
+                spaceCount);
+    }
+
+    /**
+     * Flushes the ledger to disk on shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Returns the sum of party sizes of the reservations overlapping a window, if the ledger can answer it exactly.
+     * That is the case when the window lies within one day, starts and ends on slot boundaries, and the day's record
+     * is loaded and only holds slot-aligned reservations. Unknown days are queued for a background build.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param startTime the start of the window
+     * @param endTime the end of the window
+     * @return the occupancy, or empty if the caller must query MongoDB
+     */
+    public OptionalInt getOccupancy(ObjectId restaurantId, UUID spaceId,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+        if (buffer == null) {
+            return OptionalInt.empty();
+        }
+        LocalDate day = startTime.toLocalDate();
+        int startMinute = minuteOfDay(day, startTime);
+        int endMinute = minuteOfDay(day, endTime);
+        if (startMinute < 0 || endMinute < 0 || endMinute > MINUTES_PER_DAY || endMinute <= startMinute) {
+            return OptionalInt.empty();
+        }
+        int spaceIndex = spaceIndexOf(new SpaceKey(restaurantId, spaceId));
+        if (spaceIndex < 0) {
+            return OptionalInt.empty();
+        }
+
+        int firstSlot = startMinute / slotDurationMinutes;
+        int endSlot = endMinute / slotDurationMinutes;
+        int offset = recordOffset(spaceIndex, day);
+        ReentrantLock lock = lockFor(spaceIndex, day);
+        lock.lock();
+        try {
+            int flags = buffer.getInt(offset + 4);
+            if ((flags & FLAG_PRESENT) == 0 || buffer.getInt(offset) != (int) day.toEpochDay()) {
+                pendingBuilds.add(new RecordKey(spaceIndex, day));
+                return OptionalInt.empty();
+            }
+            if ((flags & FLAG_MISALIGNED) != 0) {
+                return OptionalInt.empty();
+            }
+            // Guests already seated in the first slot, plus every party arriving later in the window
+            int occupancy = buffer.getInt(occupancyOffset(offset, firstSlot));
+            for (int slot = firstSlot + 1; slot < endSlot; slot++) {
+                occupancy += buffer.getInt(startsOffset(offset, slot));
+            }
+            return OptionalInt.of(occupancy);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a reservation change to the ledger record of its day, if loaded.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (buffer == null || reservation == null || reservation.getStartTime() == null
+                || reservation.getEndTime() == null) {
+            return;
+        }
+        Integer spaceIndex = directory.get(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+        if (spaceIndex == null) {
+            return;
+        }
+        int sign = event.getChangeType() == ReservationChangedEvent.ChangeType.CREATED ? 1 : -1;
+        applyToRecord(spaceIndex, reservation.getStartTime().toLocalDate(), List.of(reservation), sign);
+    }
+
+    /**
+     * Removes a batch of deleted reservations from the ledger, updating each loaded record once.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        if (buffer == null) {
+            return;
+        }
+        Map<RecordKey, List<Reservation>> byRecord = new HashMap<>();
+        for (Reservation reservation : event.getReservations()) {
+            if (reservation.getStartTime() == null || reservation.getEndTime() == null) {
+                continue;
+            }
+            Integer spaceIndex = directory.get(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+            if (spaceIndex != null) {
+                byRecord.computeIfAbsent(new RecordKey(spaceIndex, reservation.getStartTime().toLocalDate()),
+                        key -> new ArrayList<>()).add(reservation);
+            }
+        }
+        byRecord.forEach((key, reservations) -> applyToRecord(key.spaceIndex(), key.day(), reservations, -1));
+    }
+
+    /**
+     * Invalidates the records touched by a write made by another instance and queues them for a rebuild.
+     * Counters cannot tell whether the write is already counted, so it is never applied as a delta.
+     * An unknown previous version invalidates every record.
+     *
+     * @param event the remote reservation change event
+     */
+    @EventListener
+    public void onRemoteReservationChange(RemoteReservationChangeEvent event) {
+        if (buffer == null) {
+            return;
+        }
+        if (!event.isPreviousKnown()) {
+            int recordCount = buffer.getInt(20) * daysPerSpace;
+            for (int record = 0; record < recordCount; record++) {
+                spaceWrites.incrementAndGet(record / daysPerSpace);
+                int offset = recordsOffset + record * recordBytes;
+                ReentrantLock lock = lockFor(record / daysPerSpace, LocalDate.ofEpochDay(buffer.getInt(offset)));
+                lock.lock();
+                try {
+                    buffer.putInt(offset + 4, buffer.getInt(offset + 4) & ~FLAG_PRESENT);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return;
+        }
+        for (Reservation reservation : new Reservation[] {event.getPrevious(), event.getCurrent()}) {
+            if (reservation == null || reservation.getStartTime() == null) {
+                continue;
+            }
+            Integer spaceIndex = directory.get(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+            if (spaceIndex == null) {
+                continue;
+            }
+            LocalDate day = reservation.getStartTime().toLocalDate();
+            int offset = recordOffset(spaceIndex, day);
+            ReentrantLock lock = lockFor(spaceIndex, day);
+            lock.lock();
+            try {
+                spaceWrites.incrementAndGet(spaceIndex);
+                int flags = buffer.getInt(offset + 4);
+                if ((flags & FLAG_PRESENT) != 0 && buffer.getInt(offset) == (int) day.toEpochDay()) {
+                    buffer.putInt(offset + 4, flags & ~FLAG_PRESENT);
+                    pendingBuilds.add(new RecordKey(spaceIndex, day));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds (sign 1) or removes (sign -1) reservations starting on a day to or from its record, if loaded.
+     * A reservation the record cannot represent marks the record misaligned instead.
+     */
+    private void applyToRecord(int spaceIndex, LocalDate day, List<Reservation> reservations, int sign) {
+        int offset = recordOffset(spaceIndex, day);
+        ReentrantLock lock = lockFor(spaceIndex, day);
+        lock.lock();
+        try {
+            spaceWrites.incrementAndGet(spaceIndex);
+            int flags = buffer.getInt(offset + 4);
+            if ((flags & FLAG_PRESENT) == 0 || buffer.getInt(offset) != (int) day.toEpochDay()) {
+                return;
+            }
+            int[] occupancy = new int[slotsPerDay];
+            int[] starts = new int[slotsPerDay];
+            for (Reservation reservation : reservations) {
+                if (!count(reservation, sign, occupancy, starts)) {
+                    buffer.putInt(offset + 4, flags | FLAG_MISALIGNED);
+                    return;
+                }
+            }
+            for (int slot = 0; slot < slotsPerDay; slot++) {
+                if (occupancy[slot] != 0) {
+                    int slotOffset = occupancyOffset(offset, slot);
+                    buffer.putInt(slotOffset, buffer.getInt(slotOffset) + occupancy[slot]);
+                }
+                if (starts[slot] != 0) {
+                    int slotOffset = startsOffset(offset, slot);
+                    buffer.putInt(slotOffset, buffer.getInt(slotOffset) + starts[slot]);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builds the records queued by {@link #getOccupancy} and re-verifies stale records against MongoDB,
+     * up to the configured batch size per run. Records written before this run started are always stale.
+     *
+     * @return the number of records built or verified
+     */
+    @Scheduled(fixedDelayString = "${private-dining.ledger.verify-interval-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public int verify() {
+        if (buffer == null) {
+            return 0;
+        }
+        int batchSize = ledgerConfig.getVerifyBatchSize();
+        int processed = 0;
+
+        Iterator<RecordKey> pending = pendingBuilds.iterator();
+        while (pending.hasNext() && processed < batchSize) {
+            RecordKey key = pending.next();
+            pending.remove();
+            rebuild(key.spaceIndex(), key.day());
+            processed++;
+        }
+
+        long staleBefore = Math.max(openedAtEpochSecond + 1,
+                Instant.now().minus(ledgerConfig.getReverifyMinutes(), ChronoUnit.MINUTES).getEpochSecond());
+        int recordCount = buffer.getInt(20) * daysPerSpace;
+        for (int scanned = 0; scanned < recordCount && processed < batchSize; scanned++) {
+            sweepCursor = (sweepCursor + 1) % recordCount;
+            int offset = recordsOffset + sweepCursor * recordBytes;
+            if ((buffer.getInt(offset + 4) & FLAG_PRESENT) != 0 && buffer.getLong(offset + 8) < staleBefore) {
+                rebuild(sweepCursor / daysPerSpace, LocalDate.ofEpochDay(buffer.getInt(offset)));
+                processed++;
+            }
+        }
+
+        if (processed > 0) {
+            buffer.force();
+            logger.debug("Occupancy ledger built or verified {} records", processed);
+        }
+        return processed;
+    }
+
+    /**
+     * Recomputes a record from MongoDB. The result is discarded if a reservation of the space changed while
+     * MongoDB was being read, in which case the record is picked up again by a later run.
+     */
+    private void rebuild(int spaceIndex, LocalDate day) {
+        SpaceKey key = spaceKeys[spaceIndex];
+        long writes = spaceWrites.get(spaceIndex);
+        LocalDateTime dayStart = day.atStartOfDay();
+
+        int flags = FLAG_PRESENT;
+        int[] occupancy = new int[slotsPerDay];
+        int[] starts = new int[slotsPerDay];
+        for (Reservation reservation : reservationRepository.findOverlappingReservations(
+                key.restaurantId(), key.spaceId(), dayStart, dayStart.plusDays(1))) {
+            if (!reservation.getStartTime().toLocalDate().equals(day) || !count(reservation, 1, occupancy, starts)) {
+                flags |= FLAG_MISALIGNED;
+            }
+        }
+
+        int offset = recordOffset(spaceIndex, day);
+        ReentrantLock lock = lockFor(spaceIndex, day);
+        lock.lock();
+        try {
+            if (spaceWrites.get(spaceIndex) != writes) {
+                if ((buffer.getInt(offset + 4) & FLAG_PRESENT) == 0) {
+                    pendingBuilds.add(new RecordKey(spaceIndex, day));
+                }
+                return;
+            }
+            boolean existed = (buffer.getInt(offset + 4) & FLAG_PRESENT) != 0
+                    && buffer.getInt(offset) == (int) day.toEpochDay();
+            if (existed && !matches(offset, flags, occupancy, starts)) {
+                logger.info("Corrected occupancy ledger record of space {} for {}", key.spaceId(), day);
+            }
+            buffer.putInt(offset, (int) day.toEpochDay());
+            buffer.putInt(offset + 4, flags);
+            buffer.putLong(offset + 8, Instant.now().getEpochSecond());
+            for (int slot = 0; slot < slotsPerDay; slot++) {
+                buffer.putInt(occupancyOffset(offset, slot), occupancy[slot]);
+                buffer.putInt(startsOffset(offset, slot), starts[slot]);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a reservation's slots to the counters of its start day.
+     *
+     * @return false if the reservation is not aligned to slot boundaries, leaving the counters untouched
+     */
+    private boolean count(Reservation reservation, int sign, int[] occupancy, int[] starts) {
+        LocalDate day = reservation.getStartTime().toLocalDate();
+        int startMinute = minuteOfDay(day, reservation.getStartTime());
+        int endMinute = minuteOfDay(day, reservation.getEndTime());
+        if (startMinute < 0 || endMinute < 0 || endMinute > MINUTES_PER_DAY || endMinute <= startMinute) {
+            return false;
+        }
+        int partySize = sign * reservation.getPartySize();
+        starts[startMinute / slotDurationMinutes] += partySize;
+        for (int slot = startMinute / slotDurationMinutes; slot < endMinute / slotDurationMinutes; slot++) {
+            occupancy[slot] += partySize;
+        }
+        return true;
+    }
+
+    private boolean matches(int offset, int flags, int[] occupancy, int[] starts) {
+        int[] storedOccupancy = new int[slotsPerDay];
+        int[] storedStarts = new int[slotsPerDay];
+        for (int slot = 0; slot < slotsPerDay; slot++) {
+            storedOccupancy[slot] = buffer.getInt(occupancyOffset(offset, slot));
+            storedStarts[slot] = buffer.getInt(startsOffset(offset, slot));
+        }
+        return buffer.getInt(offset + 4) == flags
+                && Arrays.equals(storedOccupancy, occupancy)
+                && Arrays.equals(storedStarts, starts);
+    }
+
+    /**
+     * Returns the minute of {@code day} at which a time falls, with the following midnight as 1440.
+     *
+     * @return the minute, or -1 if the time is not on a slot boundary
+     */
+    private int minuteOfDay(LocalDate day, LocalDateTime time) {
+        long minutes = ChronoUnit.MINUTES.between(day.atStartOfDay(), time);
+        if (time.getSecond() != 0 || time.getNano() != 0 || minutes % slotDurationMinutes != 0) {
+            return -1;
+        }
+        return (int) Math.min(minutes, Integer.MAX_VALUE);
+    }
+
+    private int spaceIndexOf(SpaceKey key) {
+        Integer index = directory.get(key);
+        if (index != null) {
+            return index;
+        }
+        directoryLock.lock();
+        try {
+            index = directory.get(key);
+            if (index != null) {
+                return index;
+            }
+            int spaceCount = buffer.getInt(20);
+            if (spaceCount == spaceKeys.length) {
+                logger.warn("Occupancy ledger directory is full ({} spaces)", spaceCount);
+                return -1;
+            }
+            writeDirectoryEntry(spaceCount, key);
+            spaceKeys[spaceCount] = key;
+            buffer.putInt(20, spaceCount + 1);
+            directory.put(key, spaceCount);
+            return spaceCount;
+        } finally {
+            directoryLock.unlock();
+        }
+    }
+
+    private boolean headerMatches(MappedByteBuffer header, int maxSpaces) {
+        return header.getInt(0) == MAGIC
+                && header.getInt(4) == VERSION
+                && header.getInt(8) == slotDurationMinutes
+                && header.getInt(12) == maxSpaces
+                && header.getInt(16) == daysPerSpace;
+    }
+
+    private void writeHeader(int maxSpaces) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slotDurationMinutes);
+        buffer.putInt(12, maxSpaces);
+        buffer.putInt(16, daysPerSpace);
+        buffer.putInt(20, 0);
+    }
+
+    private SpaceKey readDirectoryEntry(int index) {
+        int offset = HEADER_BYTES + index * DIRECTORY_ENTRY_BYTES;
+        byte[] restaurantId = new byte[12];
+        buffer.get(offset, restaurantId);
+        UUID spaceId = new UUID(buffer.getLong(offset + 12), buffer.getLong(offset + 20));
+        return new SpaceKey(new ObjectId(restaurantId), spaceId);
+    }
+
+    private void writeDirectoryEntry(int index, SpaceKey key) {
+        int offset = HEADER_BYTES + index * DIRECTORY_ENTRY_BYTES;
+        buffer.put(offset, key.restaurantId().toByteArray());
+        buffer.putLong(offset + 12, key.spaceId().getMostSignificantBits());
+        buffer.putLong(offset + 20, key.spaceId().getLeastSignificantBits());
+    }
+
+    private int recordOffset(int spaceIndex, LocalDate day) {
+        return recordsOffset + (spaceIndex * daysPerSpace + (int) Math.floorMod(day.toEpochDay(), daysPerSpace))
+                * recordBytes;
+    }
+
+    private int occupancyOffset(int recordOffset, int slot) {
+        return recordOffset + RECORD_HEADER_BYTES + slot * Integer.BYTES;
+    }
+
+    private int startsOffset(int recordOffset, int slot) {
+        return recordOffset + RECORD_HEADER_BYTES + (slotsPerDay + slot) * Integer.BYTES;
+    }
+
+    private ReentrantLock lockFor(int spaceIndex, LocalDate day) {
+        return recordLocks[Math.floorMod(spaceIndex * 31 + Long.hashCode(day.toEpochDay()), LOCK_STRIPES)];
+    }
+
+    private record SpaceKey(ObjectId restaurantId, UUID spaceId) {
+    }
+
+    private record RecordKey(int spaceIndex, LocalDate day) {
+    }
+}
@@ -0,0 +1,328 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.config.ExecutorConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.ReportJobNotFoundException;
+import com.opentable.privatedining.exception.ReportJobNotReadyException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.model.ReportJobChunk;
+import com.opentable.privatedining.model.ReportJobStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReportJobChunkRepository;
+import com.opentable.privatedining.repository.ReportJobRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Service for long-range occupancy reports generated in the background.
+ * A submitted job is split into day-sized chunks that are aggregated one at a time on the report job executor.
+ * Each finished day is checkpointed as a {@link ReportJobChunk}, so a job interrupted by a restart resumes from
+ * the first missing day instead of starting over. The final report is stitched together from the chunks on request.
+ * Days before the archive horizon are aggregated from live and archived reservations.
+ */
+@Service
+public class OccupancyReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyReportJobService.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportJobChunkRepository reportJobChunkRepository;
+    private final ReservationRepository reservationRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final ReservationArchiveService reservationArchiveService;
+    private final AnalyticsConfig analyticsConfig;
+    private final Executor reportJobExecutor;
+
+    /**
+     * Constructs a new OccupancyReportJobService with the required dependencies.
+     *
+     * @param reportJobRepository the repository for report job data access
+     * @param reportJobChunkRepository the repository for checkpointed report chunks
+     * @param reservationRepository the repository for reservation data access
+     * @param restaurantRepository the repository for restaurant data access
+     * @param occupancyAnalyticsService the synchronous analytics service, used for shared space selection
+     * @param reservationArchiveService the service reading archived reservations
+     * @param analyticsConfig the configuration for analytics settings
+     * @param reportJobExecutor the executor that processes report jobs
+     */
+    public OccupancyReportJobService(ReportJobRepository reportJobRepository,
+                                     ReportJobChunkRepository reportJobChunkRepository,
+                                     ReservationRepository reservationRepository,
+                                     RestaurantRepository restaurantRepository,
+                                     OccupancyAnalyticsService occupancyAnalyticsService,
+                                     ReservationArchiveService reservationArchiveService,
+                                     AnalyticsConfig analyticsConfig,
+                                     @Qualifier(ExecutorConfig.REPORT_JOB_EXECUTOR) Executor reportJobExecutor) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportJobChunkRepository = reportJobChunkRepository;
+        this.reservationRepository = reservationRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.reservationArchiveService = reservationArchiveService;
+        this.analyticsConfig = analyticsConfig;
+        this.reportJobExecutor = reportJobExecutor;
+    }
+
+    /**
+     * Submits a report job for a restaurant and schedules it for background processing.
+     *
+     * @param restaurantId the restaurant ID
+     * @param startDate the first day of the report, inclusive
+     * @param endDate the last day of the report, inclusive
+     * @param spaceId optional space ID to restrict the report to a single space
+     * @return the persisted pending job
+     * @throws InvalidDateRangeException if the date range is invalid or exceeds the job range limit
+     * @throws RestaurantNotFoundException if the restaurant is not found
+     * @throws SpaceNotFoundException if the specified space is not found
+     */
+    public ReportJob submitJob(ObjectId restaurantId, LocalDate startDate, LocalDate endDate, UUID spaceId) {
+        validateJobRange(startDate, endDate);
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+        occupancyAnalyticsService.getSpacesToReport(restaurant, spaceId);
+
+        ReportJob job = new ReportJob(restaurantId, spaceId, startDate, endDate,
+                analyticsConfig.getTimeSlotDurationMinutes());
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        ReportJob savedJob = reportJobRepository.save(job);
+
+        logger.info("Submitted occupancy report job {} for restaurant {} covering {} days",
+                savedJob.getId(), restaurantId, savedJob.getTotalDays());
+        schedule(savedJob.getId());
+        return savedJob;
+    }
+
+    /**
+     * Gets a report job belonging to a restaurant.
+     *
+     * @param restaurantId the restaurant ID
+     * @param jobId the job ID
+     * @return the job
+     * @throws ReportJobNotFoundException if no such job exists for the restaurant
+     */
+    public ReportJob getJob(ObjectId restaurantId, ObjectId jobId) {
+        return reportJobRepository.findById(jobId)
+                .filter(job -> job.getRestaurantId().equals(restaurantId))
+                .orElseThrow(() -> new ReportJobNotFoundException(jobId));
+    }
+
+    /**
+     * Builds the occupancy report of a completed job from its checkpointed chunks.
+     *
+     * @param restaurantId the restaurant ID
+     * @param jobId the job ID
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return the occupancy report covering the whole job range
+     * @throws ReportJobNotFoundException if no such job exists for the restaurant
+     * @throws ReportJobNotReadyException if the job has not completed
+     * @throws RestaurantNotFoundException if the restaurant has since been removed
+     */
+    public OccupancyReportDTO getJobResult(ObjectId restaurantId, ObjectId jobId, int page, int size) {
+        ReportJob job = getJob(restaurantId, jobId);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ReportJobNotReadyException(jobId, job.getStatus());
+        }
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+        List<Space> spacesToReport = occupancyAnalyticsService.getSpacesToReport(restaurant, job.getSpaceId());
+
+        OccupancyAccumulator accumulator = new OccupancyAccumulator(spacesToReport,
+                job.getStartDate().atStartOfDay(), job.getEndDate().plusDays(1).atStartOfDay(),
+                job.getSlotDurationMinutes());
+        for (ReportJobChunk chunk : reportJobChunkRepository.findByJobId(jobId)) {
+            LocalDateTime dayStart = chunk.getDay().atStartOfDay();
+            for (ReportJobChunk.SpaceSlots slots : chunk.getSpaces()) {
+                accumulator.mergeSlots(slots.getSpaceId(), dayStart, slots.getReservationCount(),
+                        slots.getReservations(), slots.getOccupancy());
+            }
+            accumulator.addTotals(chunk.getTotalReservations(), chunk.getTotalGuests());
+        }
+
+        return accumulator.build(restaurantId, page, size);
+    }
+
+    /**
+     * Resumes jobs left pending or running by a previous instance once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<ReportJob> unfinished = reportJobRepository.findByStatusIn(
+                List.of(ReportJobStatus.PENDING, ReportJobStatus.RUNNING));
+        for (ReportJob job : unfinished) {
+            logger.info("Resuming occupancy report job {} at {}/{} days",
+                    job.getId(), job.getCompletedDays(), job.getTotalDays());
+            schedule(job.getId());
+        }
+    }
+
+    /**
+     * Processes a job to completion, skipping days that were checkpointed by an earlier run.
+     *
+     * @param jobId the job ID
+     */
+    void runJob(ObjectId jobId) {
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == ReportJobStatus.COMPLETED || job.getStatus() == ReportJobStatus.FAILED) {
+            return;
+        }
+
+        try {
+            Restaurant restaurant = restaurantRepository.findById(job.getRestaurantId())
+                    .orElseThrow(() -> new RestaurantNotFoundException(job.getRestaurantId()));
+            List<Space> spacesToReport = occupancyAnalyticsService.getSpacesToReport(restaurant, job.getSpaceId());
+
+            Set<LocalDate> completedDays = reportJobChunkRepository.findByJobId(jobId).stream()
+                    .map(ReportJobChunk::getDay)
+                    .collect(Collectors.toSet());
+            job.setStatus(ReportJobStatus.RUNNING);
+            checkpoint(job, completedDays.size());
+
+            for (LocalDate day = job.getStartDate(); !day.isAfter(job.getEndDate()); day = day.plusDays(1)) {
+                if (completedDays.contains(day)) {
+                    continue;
+                }
+                saveChunk(buildChunk(job, spacesToReport, day));
+                completedDays.add(day);
+                checkpoint(job, completedDays.size());
+            }
+
+            job.setStatus(ReportJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            checkpoint(job, completedDays.size());
+            logger.info("Completed occupancy report job {} ({} days)", jobId, job.getTotalDays());
+        } catch (RuntimeException e) {
+            logger.error("Occupancy report job {} failed", jobId, e);
+            job.setStatus(ReportJobStatus.FAILED);
+            job.setFailureReason(e.getMessage());
+            job.setUpdatedAt(LocalDateTime.now());
+            reportJobRepository.save(job);
+        }
+    }
+
+    /**
+     * Aggregates the reservations of a single day into a chunk.
+     * A reservation overlapping several days is counted in the totals of the day it starts on
+     * (or the first day of the job), while its occupancy is added to every day it overlaps.
+     */
+    private ReportJobChunk buildChunk(ReportJob job, List<Space> spacesToReport, LocalDate day) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+        boolean firstDay = day.equals(job.getStartDate());
+
+        OccupancyAccumulator accumulator = new OccupancyAccumulator(
+                spacesToReport, dayStart, dayEnd, job.getSlotDurationMinutes());
+        for (Reservation reservation : fetchReservations(job, dayStart, dayEnd)) {
+            if (firstDay || !reservation.getStartTime().isBefore(dayStart)) {
+                accumulator.add(reservation);
+            } else {
+                accumulator.addOccupancy(reservation.getSpaceId(), reservation.getStartTime(),
+                        reservation.getEndTime(), reservation.getPartySize());
+            }
+        }
+
+        ReportJobChunk chunk = new ReportJobChunk(job.getId(), day,
+                accumulator.getTotalReservations(), accumulator.getTotalGuests());
+        for (Space space : spacesToReport) {
+            chunk.getSpaces().add(new ReportJobChunk.SpaceSlots(space.getId(),
+                    accumulator.getSpaceReservations(space.getId()),
+                    accumulator.getSlotReservations(space.getId()),
+                    accumulator.getSlotOccupancy(space.getId())));
+        }
+        return chunk;
+    }
+
+    /**
+     * Saves a chunk, tolerating a chunk for the same day written by a concurrent run of the job.
+     */
+    private void saveChunk(ReportJobChunk chunk) {
+        try {
+            reportJobChunkRepository.save(chunk);
+        } catch (DuplicateKeyException e) {
+            logger.debug("Chunk for job {} on {} already checkpointed", chunk.getJobId(), chunk.getDay());
+        }
+    }
+
+    /**
+     * Records the job's progress.
+     */
+    private void checkpoint(ReportJob job, int completedDays) {
+        job.setCompletedDays(completedDays);
+        job.setUpdatedAt(LocalDateTime.now());
+        reportJobRepository.save(job);
+    }
+
+    /**
+     * Fetches reservations based on whether the job is restricted to a specific space, including archived ones
+     * when the day reaches past the archive horizon.
+     */
+    private List<Reservation> fetchReservations(ReportJob job, LocalDateTime startTime, LocalDateTime endTime) {
+        List<Reservation> reservations = job.getSpaceId() != null
+                ? reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                        job.getRestaurantId(), job.getSpaceId(), startTime, endTime)
+                : reservationRepository.findByRestaurantIdAndTimeRange(job.getRestaurantId(), startTime, endTime);
+        if (reservationArchiveService.reachesArchive(startTime)) {
+            return reservationArchiveService.withArchived(reservations, job.getRestaurantId(), job.getSpaceId(),
+                    startTime, endTime);
+        }
+        return reservations;
+    }
+
+    /**
+     * Validates the job date range against the job range limit.
+     * Day chunks must line up with report slots, so the slot duration has to divide a day evenly.
+     */
+    private void validateJobRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new InvalidDateRangeException("Start date and end date are required");
+        }
+
+        LocalDateTime startTime = startDate.atStartOfDay();
+        LocalDateTime endTime = endDate.plusDays(1).atStartOfDay();
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidDateRangeException(startTime, endTime, "End date must not be before start date");
+        }
+
+        long days = endDate.toEpochDay() - startDate.toEpochDay() + 1;
+        if (days > analyticsConfig.getJobMaxRangeDays()) {
+            throw new InvalidDateRangeException(startTime, endTime, analyticsConfig.getJobMaxRangeDays());
+        }
+
+        if (MINUTES_PER_DAY % analyticsConfig.getTimeSlotDurationMinutes() != 0) {
+            throw new IllegalStateException("Report jobs require a time slot duration that divides a day evenly, got "
+                    + analyticsConfig.getTimeSlotDurationMinutes() + " minutes");
+        }
+    }
+
+    private void schedule(ObjectId jobId) {
+        reportJobExecutor.execute(() -> runJob(jobId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+
+/**
+ * Weighs cached occupancy reports by their estimated heap footprint in bytes, so the cache is bounded by memory
+ * rather than by entry count. A report grows with its spaces times their time slots, from a few hundred bytes to
+ * several megabytes.
+ * <p>
+ * The estimate counts a fixed cost per report, per space and per slot, measured for a 64-bit JVM with compressed
+ * references. It only needs to be proportionate, not exact. Values of other types weigh as much as an empty report.
+ */
+public class OccupancyReportWeigher implements Weigher<Object, Object> {
+
+    /** Report fields, summary, cache key and entry overhead. */
+    static final long REPORT_BYTES = 512;
+
+    /** Space fields, ID, name and slot list. */
+    static final long SPACE_BYTES = 256;
+
+    /** Slot fields and its two {@code LocalDateTime}s. */
+    static final long SLOT_BYTES = 192;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = value instanceof OccupancyReportDTO report ? estimateBytes(report) : REPORT_BYTES;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates the heap footprint of a report.
+     *
+     * @param report the report
+     * @return the estimated size in bytes
+     */
+    public static long estimateBytes(OccupancyReportDTO report) {
+        long bytes = REPORT_BYTES;
+        if (report.getSpaceReports() == null) {
+            return bytes;
+        }
+        for (SpaceOccupancyReportDTO spaceReport : report.getSpaceReports()) {
+            bytes += SPACE_BYTES;
+            if (spaceReport.getSpaceName() != null) {
+                bytes += spaceReport.getSpaceName().length();
+            }
+            if (spaceReport.getHourlyBreakdown() != null) {
+                bytes += SLOT_BYTES * spaceReport.getHourlyBreakdown().size();
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,289 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.DailyOccupancyChange;
+import com.opentable.privatedining.model.DailyOccupancyRollup;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyChangeRepository;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining the pre-aggregated daily occupancy rollups.
+ * A nightly compaction writes one immutable {@link DailyOccupancyRollup} per restaurant for every past day
+ * within the backfill window that has none yet. A change to a reservation on an already compacted day drops
+ * that day's rollup, so reports fall back to live computation for it until the next compaction. Each such change
+ * also bumps the day's {@link DailyOccupancyChange} counter, so a compaction racing with the change discards
+ * the rollup it built from the older reservations.
+ */
+@Service
+public class OccupancyRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyRollupService.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final DailyOccupancyRollupRepository rollupRepository;
+    private final DailyOccupancyChangeRepository changeRepository;
+    private final ReservationRepository reservationRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final AnalyticsConfig analyticsConfig;
+
+    /**
+     * Constructs a new OccupancyRollupService with the required dependencies.
+     *
+     * @param rollupRepository the repository for daily occupancy rollups
+     * @param changeRepository the repository for the change counters of compacted days
+     * @param reservationRepository the repository for reservation data access
+     * @param restaurantRepository the repository for restaurant data access
+     * @param analyticsConfig the configuration for analytics settings
+     */
+    public OccupancyRollupService(DailyOccupancyRollupRepository rollupRepository,
+                                  DailyOccupancyChangeRepository changeRepository,
+                                  ReservationRepository reservationRepository,
+                                  RestaurantRepository restaurantRepository,
+                                  AnalyticsConfig analyticsConfig) {
+        this.rollupRepository = rollupRepository;
+        this.changeRepository = changeRepository;
+        this.reservationRepository = reservationRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.analyticsConfig = analyticsConfig;
+    }
+
+    /**
+     * Compacts every past day within the backfill window that has no rollup yet, for all restaurants.
+     *
+     * @return the number of rollups written
+     */
+    @Scheduled(cron = "${private-dining.analytics.rollup-compaction-cron:0 30 2 * * *}")
+    public int compactRollups() {
+        if (!analyticsConfig.isRollupsEnabled()) {
+            return 0;
+        }
+        int slotDurationMinutes = analyticsConfig.getTimeSlotDurationMinutes();
+        if (MINUTES_PER_DAY % slotDurationMinutes != 0) {
+            logger.warn("Skipping occupancy rollup compaction: {}-minute slots do not divide a day evenly",
+                    slotDurationMinutes);
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate fromDay = today.minusDays(analyticsConfig.getRollupBackfillDays());
+        int written = 0;
+        for (Restaurant restaurant : restaurantRepository.findAll()) {
+            try {
+                written += compactRestaurant(restaurant, fromDay, today, slotDurationMinutes);
+            } catch (RuntimeException e) {
+                logger.error("Occupancy rollup compaction failed for restaurant {}", restaurant.getId(), e);
+            }
+        }
+        logger.info("Occupancy rollup compaction wrote {} daily rollups", written);
+        return written;
+    }
+
+    /**
+     * Drops the rollups of past days touched by a reservation change.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (reservation == null || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+            return;
+        }
+
+        for (LocalDate day : pastDays(reservation, LocalDate.now())) {
+            changeRepository.recordChange(reservation.getRestaurantId(), day);
+            rollupRepository.deleteByRestaurantIdAndDay(reservation.getRestaurantId(), day);
+            logger.debug("Invalidated occupancy rollup of restaurant {} for {}", reservation.getRestaurantId(), day);
+        }
+    }
+
+    /**
+     * Drops the rollups of every past day touched by a bulk deletion, once per restaurant and day.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        LocalDate today = LocalDate.now();
+        Map<ObjectId, Set<LocalDate>> daysByRestaurant = new HashMap<>();
+        for (Reservation reservation : event.getReservations()) {
+            if (reservation.getStartTime() != null && reservation.getEndTime() != null) {
+                daysByRestaurant.computeIfAbsent(reservation.getRestaurantId(), id -> new TreeSet<>())
+                        .addAll(pastDays(reservation, today));
+            }
+        }
+        daysByRestaurant.forEach((restaurantId, days) -> days.forEach(day -> {
+            changeRepository.recordChange(restaurantId, day);
+            rollupRepository.deleteByRestaurantIdAndDay(restaurantId, day);
+        }));
+        logger.debug("Invalidated occupancy rollups of {} restaurants after a bulk deletion", daysByRestaurant.size());
+    }
+
+    /**
+     * Lists the days before today that a reservation overlaps.
+     */
+    private static List<LocalDate> pastDays(Reservation reservation, LocalDate today) {
+        List<LocalDate> days = new ArrayList<>();
+        LocalDate lastDay = reservation.getEndTime().minusNanos(1).toLocalDate();
+        for (LocalDate day = reservation.getStartTime().toLocalDate();
+             !day.isAfter(lastDay) && day.isBefore(today); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * Writes the missing rollups of a restaurant for the days in [fromDay, toDay).
+     */
+    private int compactRestaurant(Restaurant restaurant, LocalDate fromDay, LocalDate toDay, int slotDurationMinutes) {
+        Set<LocalDate> compactedDays = rollupRepository.findByRestaurantIdAndDayRange(
+                        restaurant.getId(), slotDurationMinutes, fromDay, toDay).stream()
+                .map(DailyOccupancyRollup::getDay)
+                .collect(Collectors.toSet());
+
+        int written = 0;
+        for (LocalDate day = fromDay; day.isBefore(toDay); day = day.plusDays(1)) {
+            if (compactedDays.contains(day)) {
+                continue;
+            }
+            long version = changeVersion(restaurant.getId(), day);
+            DailyOccupancyRollup rollup = buildRollup(restaurant, day, slotDurationMinutes);
+            if (changeVersion(restaurant.getId(), day) != version) {
+                logger.debug("Skipping occupancy rollup of restaurant {} for {}: changed while compacting",
+                        restaurant.getId(), day);
+                continue;
+            }
+            try {
+                rollupRepository.insert(rollup);
+            } catch (DuplicateKeyException e) {
+                logger.debug("Occupancy rollup of restaurant {} for {} already written", restaurant.getId(), day);
+                continue;
+            }
+            // A change invalidating the day between the check and the insert found no rollup to delete
+            if (changeVersion(restaurant.getId(), day) != version) {
+                rollupRepository.deleteByRestaurantIdAndDay(restaurant.getId(), day);
+                logger.debug("Dropped occupancy rollup of restaurant {} for {}: changed while compacting",
+                        restaurant.getId(), day);
+                continue;
+            }
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Reads the change counter of a restaurant and day; zero if the day has not changed recently.
+     */
+    private long changeVersion(ObjectId restaurantId, LocalDate day) {
+        return changeRepository.findById(DailyOccupancyChange.key(restaurantId, day))
+                .map(DailyOccupancyChange::getVersion)
+                .orElse(0L);
+    }
+
+    /**
+     * Aggregates the reservations of a restaurant overlapping a day into a rollup.
+     *
+     * @param restaurant the restaurant
+     * @param day the day to aggregate
+     * @param slotDurationMinutes the slot duration in minutes
+     * @return the rollup, not yet persisted
+     */
+    public DailyOccupancyRollup buildRollup(Restaurant restaurant, LocalDate day, int slotDurationMinutes) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+        List<Space> spaces = restaurant.getSpaces();
+
+        OccupancyAccumulator accumulator = new OccupancyAccumulator(spaces, dayStart, dayEnd, slotDurationMinutes);
+        Tally restaurantTally = new Tally();
+        Map<UUID, Tally> spaceTallies = new HashMap<>();
+        for (Space space : spaces) {
+            spaceTallies.put(space.getId(), new Tally());
+        }
+
+        for (Reservation reservation : reservationRepository.findByRestaurantIdAndTimeRange(
+                restaurant.getId(), dayStart, dayEnd)) {
+            accumulator.addOccupancy(reservation.getSpaceId(), reservation.getStartTime(),
+                    reservation.getEndTime(), reservation.getPartySize());
+            boolean carriedOver = reservation.getStartTime().isBefore(dayStart);
+            restaurantTally.count(carriedOver, reservation.getPartySize());
+            Tally spaceTally = spaceTallies.get(reservation.getSpaceId());
+            if (spaceTally != null) {
+                spaceTally.count(carriedOver, reservation.getPartySize());
+            }
+        }
+
+        DailyOccupancyRollup rollup = new DailyOccupancyRollup(restaurant.getId(), day, slotDurationMinutes);
+        rollup.setTotalReservations(restaurantTally.reservations);
+        rollup.setTotalGuests(restaurantTally.guests);
+        rollup.setCarriedOverReservations(restaurantTally.carriedOverReservations);
+        rollup.setCarriedOverGuests(restaurantTally.carriedOverGuests);
+        rollup.setCompactedAt(LocalDateTime.now());
+
+        OccupancyReportDTO dayReport = accumulator.build(restaurant.getId(), 0, Math.max(1, spaces.size()));
+        for (SpaceOccupancyReportDTO spaceReport : dayReport.getSpaceReports()) {
+            Tally spaceTally = spaceTallies.get(spaceReport.getSpaceId());
+            DailyOccupancyRollup.SpaceRollup spaceRollup = new DailyOccupancyRollup.SpaceRollup();
+            spaceRollup.setSpaceId(spaceReport.getSpaceId());
+            spaceRollup.setMaxCapacity(spaceReport.getMaxCapacity());
+            spaceRollup.setReservationCount(spaceTally.reservations);
+            spaceRollup.setGuestCount(spaceTally.guests);
+            spaceRollup.setCarriedOverReservations(spaceTally.carriedOverReservations);
+            spaceRollup.setCarriedOverGuests(spaceTally.carriedOverGuests);
+            spaceRollup.setSlotReservations(accumulator.getSlotReservations(spaceReport.getSpaceId()));
+            spaceRollup.setSlotOccupancy(accumulator.getSlotOccupancy(spaceReport.getSpaceId()));
+            spaceRollup.setPeakOccupancy(spaceReport.getPeakOccupancy());
+            spaceRollup.setAverageUtilization(spaceReport.getAverageUtilization());
+            rollup.getSpaces().add(spaceRollup);
+        }
+        return rollup;
+    }
+
+    /**
+     * Reservation and guest counters, split by whether the reservation started on an earlier day.
+     */
+    private static final class Tally {
+
+        private int reservations;
+        private int guests;
+        private int carriedOverReservations;
+        private int carriedOverGuests;
+
+        private void count(boolean carriedOver, int partySize) {
+            if (carriedOver) {
+                carriedOverReservations++;
+                carriedOverGuests += partySize;
+            } else {
+                reservations++;
+                guests += partySize;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReactiveArchivedReservationRepository;
+import com.opentable.privatedining.repository.ReactiveReservationRepository;
+import com.opentable.privatedining.repository.ReactiveRestaurantRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of {@link OccupancyAnalyticsService}.
+ * Streams reservations from the reactive Mongo driver straight into the slot aggregation with bounded demand,
+ * so long report queries neither hold a request thread nor buffer the whole result set in memory.
+ * Ranges starting before the archive horizon also stream {@code reservations_archive} after the live collections.
+ */
+@Service
+public class ReactiveOccupancyAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveOccupancyAnalyticsService.class);
+
+    /**
+     * Number of reservations requested from the driver at a time.
+     */
+    static final int PREFETCH = 256;
+
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReactiveArchivedReservationRepository archivedReservationRepository;
+    private final ReactiveRestaurantRepository restaurantRepository;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final ReservationArchiveService reservationArchiveService;
+    private final AnalyticsConfig analyticsConfig;
+
+    /**
+     * Constructs a new ReactiveOccupancyAnalyticsService with the required dependencies.
+     *
+     * @param reservationRepository the reactive repository for reservation data access
+     * @param archivedReservationRepository the reactive repository for archived reservation data access
+     * @param restaurantRepository the reactive repository for restaurant data access
+     * @param occupancyAnalyticsService the blocking analytics service, used for shared request validation
+     * @param reservationArchiveService the service telling which ranges reach the archive
+     * @param analyticsConfig the configuration for analytics settings
+     */
+    public ReactiveOccupancyAnalyticsService(ReactiveReservationRepository reservationRepository,
+                                             ReactiveArchivedReservationRepository archivedReservationRepository,
+                                             ReactiveRestaurantRepository restaurantRepository,
+                                             OccupancyAnalyticsService occupancyAnalyticsService,
+                                             ReservationArchiveService reservationArchiveService,
+                                             AnalyticsConfig analyticsConfig) {
+        this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.reservationArchiveService = reservationArchiveService;
+        this.analyticsConfig = analyticsConfig;
+    }
+
+    /**
+     * Generates an occupancy report for a restaurant within the specified time range.
+     * Produces the same report as {@link OccupancyAnalyticsService#generateOccupancyReport}.
+     *
+     * @param restaurantId the restaurant ID
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @param spaceId optional space ID to filter the report to a single space
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return a Mono emitting the occupancy report, or an error signal with
+     *         {@link InvalidDateRangeException}, {@link RestaurantNotFoundException} or {@link SpaceNotFoundException}
+     */
+    public Mono<OccupancyReportDTO> generateOccupancyReport(
+            ObjectId restaurantId,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            UUID spaceId,
+            int page,
+            int size) {
+
+        return Mono.defer(() -> {
+            occupancyAnalyticsService.validateDateRange(startTime, endTime);
+
+            return restaurantRepository.findById(restaurantId)
+                    .switchIfEmpty(Mono.error(() -> new RestaurantNotFoundException(restaurantId)))
+                    .flatMap(restaurant -> {
+                        List<Space> spacesToReport = occupancyAnalyticsService.getSpacesToReport(restaurant, spaceId);
+                        OccupancyAccumulator accumulator = new OccupancyAccumulator(
+                                spacesToReport, startTime, endTime, analyticsConfig.getTimeSlotDurationMinutes());
+
+                        return fetchReservations(restaurantId, startTime, endTime, spaceId)
+                                .limitRate(PREFETCH)
+                                .doOnNext(accumulator::add)
+                                .count()
+                                .map(count -> {
+                                    logger.debug("Streamed {} reservations into reactive occupancy report for "
+                                            + "restaurant {} across {} spaces", count, restaurantId, spacesToReport.size());
+                                    return accumulator.build(restaurantId, page, size);
+                                });
+                    });
+        });
+    }
+
+    /**
+     * Streams reservations based on whether a specific space is requested.
+     * When the range reaches past the archive horizon, the archived reservations follow the live ones. A
+     * reservation caught in both collections by an interrupted archival run is streamed once, as its live copy, the
+     * way {@link ReservationArchiveService#merge} keeps it; only the IDs of live reservations that ended before the
+     * horizon are remembered for that, since no other live reservation can have an archived copy.
+     */
+    private Flux<Reservation> fetchReservations(ObjectId restaurantId, LocalDateTime startTime,
+                                                LocalDateTime endTime, UUID spaceId) {
+        Flux<Reservation> live = spaceId != null
+                ? reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                        restaurantId, spaceId, startTime, endTime)
+                : reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
+        if (!reservationArchiveService.reachesArchive(startTime)) {
+            return live;
+        }
+
+        return Flux.defer(() -> {
+            LocalDateTime cutoff = reservationArchiveService.archiveCutoff();
+            Set<ObjectId> archivableIds = new HashSet<>();
+            Flux<ArchivedReservation> archived = spaceId != null
+                    ? archivedReservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                            restaurantId, spaceId, startTime, endTime)
+                    : archivedReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
+
+            return live
+                    .doOnNext(reservation -> {
+                        if (reservation.getEndTime().isBefore(cutoff)) {
+                            archivableIds.add(reservation.getId());
+                        }
+                    })
+                    .concatWith(archived
+                            .filter(reservation -> !archivableIds.contains(reservation.getId()))
+                            .map(ArchivedReservation::toReservation));
+        });
+    }
+}
@@ -0,0 +1,256 @@
+package com.opentable.privatedining.service;
+
+import com.mongodb.MongoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache serving values by age, as told by the time each value was computed.
+ * <ul>
+ *   <li>Younger than the refresh age: served as is.</li>
+ *   <li>Younger than the time to live: served as is and recomputed in the background (refresh-ahead).</li>
+ *   <li>Older: recomputed before being served, once for all concurrent callers. If recomputing fails because the
+ *       database is unavailable, the old value is served for up to the stale-if-error window past the time to
+ *       live.</li>
+ * </ul>
+ * Lookups must pass the value loader, as {@code @Cacheable(sync = true)} does, so the value can be recomputed. The
+ * loader never runs inside the underlying cache's {@code get(key, loader)}, whose Caffeine compute would hold a
+ * map lock and pin a virtual thread for the whole computation; concurrent callers of a missing or expired key
+ * share one computation instead. The underlying cache must keep entries for the time to live plus the
+ * stale-if-error window.
+ */
+public class RefreshAheadCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final Cache delegate;
+    private final Function<Object, Instant> computedAt;
+    private final Duration refreshAfter;
+    private final Duration timeToLive;
+    private final Duration staleIfError;
+    private final Executor refreshExecutor;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> recomputing = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    /**
+     * Constructs a new RefreshAheadCache.
+     *
+     * @param delegate the cache holding the values
+     * @param computedAt the function telling when a value was computed, or null if unknown
+     * @param refreshAfter the age after which values are recomputed in the background; zero disables refresh-ahead
+     * @param timeToLive the age after which values are recomputed before being served
+     * @param staleIfError how long past the time to live a value is served when recomputing it fails
+     * @param refreshExecutor the executor recomputing values in the background
+     */
+    public RefreshAheadCache(Cache delegate, Function<Object, Instant> computedAt, Duration refreshAfter,
+                             Duration timeToLive, Duration staleIfError, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.computedAt = computedAt;
+        this.refreshAfter = refreshAfter;
+        this.timeToLive = timeToLive;
+        this.staleIfError = staleIfError;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached == null) {
+            try {
+                return (T) recompute(key, valueLoader);
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        T value = (T) cached.get();
+        Instant valueComputedAt = value != null ? computedAt.apply(value) : null;
+        if (valueComputedAt == null) {
+            return value;
+        }
+
+        Duration age = Duration.between(valueComputedAt, Instant.now());
+        if (age.compareTo(timeToLive) < 0) {
+            if (!refreshAfter.isZero() && age.compareTo(refreshAfter) >= 0) {
+                refresh(key, valueLoader);
+            }
+            return value;
+        }
+
+        try {
+            return (T) recompute(key, valueLoader);
+        } catch (Exception e) {
+            if (age.compareTo(timeToLive.plus(staleIfError)) < 0 && isDatabaseFailure(e)) {
+                logger.warn("Serving {} from the {} cache, computed {}s ago, after recomputing it failed",
+                        key, getName(), age.toSeconds(), e);
+                staleServed.increment();
+                return value;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        evictions.incrementAndGet();
+        delegate.clear();
+    }
+
+    /**
+     * Evicts every entry of a group: the entries whose list key starts with it.
+     *
+     * @param group the first element of the keys to evict
+     */
+    public void evictGroup(Object group) {
+        evictions.incrementAndGet();
+        if (delegate instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictGroup(group);
+        } else if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key ->
+                    key instanceof List<?> parts && !parts.isEmpty() && group.equals(parts.get(0)));
+        } else {
+            delegate.clear();
+        }
+    }
+
+    /**
+     * Returns the number of values recomputed in the background.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of background recomputes that failed.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Returns the number of expired values served because recomputing them failed.
+     */
+    public long getStaleServedCount() {
+        return staleServed.sum();
+    }
+
+    /**
+     * Recomputes a value in the background, unless it is already being recomputed. The result is dropped if
+     * entries were evicted meanwhile, as it may predate the write that caused the eviction.
+     */
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long evictionsBefore = evictions.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object loaded = valueLoader.call();
+                    if (evictions.get() == evictionsBefore) {
+                        delegate.put(key, loaded);
+                    }
+                    refreshes.increment();
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    logger.warn("Failed to refresh {} in the {} cache; serving the cached value", key, getName(), e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Computes a missing or expired value before it is served. Concurrent callers for the same key share one
+     * computation, as background refreshes do, so a report is computed once rather than once per caller.
+     */
+    private Object recompute(Object key, Callable<?> valueLoader) throws Exception {
+        CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = recomputing.putIfAbsent(key, inFlight);
+        if (existing == null) {
+            try {
+                Object recomputed = valueLoader.call();
+                delegate.put(key, recomputed);
+                inFlight.complete(recomputed);
+                return recomputed;
+            } catch (Exception e) {
+                inFlight.completeExceptionally(e);
+                throw e;
+            } finally {
+                recomputing.remove(key, inFlight);
+            }
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDatabaseFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessException || cause instanceof MongoException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
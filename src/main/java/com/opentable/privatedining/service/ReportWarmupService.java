@@ -0,0 +1,217 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.CacheWarmupConfig;
+import com.opentable.privatedining.config.ExecutorConfig;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.ReportRequestStat;
+import com.opentable.privatedining.repository.ReportRequestStatRepository;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service warming up the occupancy report cache, so the first requests after a deploy don't all pay for a
+ * recompute.
+ * <p>
+ * Report requests are counted in memory per cache key and the counts are added to {@code report_request_stats}
+ * periodically and on shutdown. At startup, the most requested reports are precomputed on a bounded pool before
+ * the instance is marked ready: application runners complete before readiness is published. The warm-up is
+ * repeated on a schedule, which recomputes the reports that have aged out of the cache. Reports whose restaurant,
+ * space or range is no longer valid are forgotten.
+ */
+@Service
+public class ReportWarmupService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportWarmupService.class);
+
+    private final ReportRequestStatRepository reportRequestStatRepository;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final CacheWarmupConfig cacheWarmupConfig;
+    private final Executor warmupExecutor;
+
+    private final Map<ReportKey, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ReportWarmupService with the required dependencies.
+     *
+     * @param reportRequestStatRepository the repository persisting report request counts
+     * @param occupancyAnalyticsService the service generating and caching occupancy reports
+     * @param cacheWarmupConfig the configuration for the cache warm-up
+     * @param warmupExecutor the bounded executor precomputing reports
+     */
+    public ReportWarmupService(ReportRequestStatRepository reportRequestStatRepository,
+                               OccupancyAnalyticsService occupancyAnalyticsService,
+                               CacheWarmupConfig cacheWarmupConfig,
+                               @Qualifier(ExecutorConfig.REPORT_WARMUP_EXECUTOR) Executor warmupExecutor) {
+        this.reportRequestStatRepository = reportRequestStatRepository;
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+        this.cacheWarmupConfig = cacheWarmupConfig;
+        this.warmupExecutor = warmupExecutor;
+    }
+
+    /**
+     * Counts a request for an occupancy report.
+     *
+     * @param restaurantId the restaurant ID
+     * @param startTime the start of the report period
+     * @param endTime the end of the report period
+     * @param spaceId the space the report is filtered to, or null
+     * @param page the page number (0-based)
+     * @param size the page size
+     */
+    public void recordRequest(ObjectId restaurantId, LocalDateTime startTime, LocalDateTime endTime, UUID spaceId,
+                              int page, int size) {
+        if (!cacheWarmupConfig.isEnabled()) {
+            return;
+        }
+        requestCounts.computeIfAbsent(new ReportKey(restaurantId, startTime, endTime, spaceId, page, size),
+                key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Adds the request counts gathered since the last flush to the persisted ones.
+     *
+     * @return the number of reports whose count was updated
+     */
+    @Scheduled(fixedDelayString = "${private-dining.cache-warmup.flush-interval-seconds:60}",
+            initialDelayString = "${private-dining.cache-warmup.flush-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public int flushRequestCounts() {
+        if (requestCounts.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusDays(cacheWarmupConfig.getRetentionDays());
+        Map<ReportKey, Long> flushed = new HashMap<>();
+        List<ReportRequestStat> stats = new ArrayList<>();
+        for (ReportKey key : requestCounts.keySet()) {
+            LongAdder count = requestCounts.remove(key);
+            if (count == null) {
+                continue;
+            }
+            flushed.put(key, count.sum());
+            ReportRequestStat stat = key.toStat();
+            stat.setRequestCount(count.sum());
+            stat.setLastRequestedAt(now);
+            stat.setExpiresAt(expiresAt);
+            stats.add(stat);
+        }
+        try {
+            reportRequestStatRepository.addRequests(stats);
+        } catch (RuntimeException e) {
+            // Put the counts back so the next flush retries them along with the requests counted meanwhile
+            flushed.forEach((key, count) -> requestCounts.computeIfAbsent(key, k -> new LongAdder()).add(count));
+            logger.warn("Failed to persist request counts of {} occupancy reports; retrying on the next flush",
+                    stats.size(), e);
+            return 0;
+        }
+        return stats.size();
+    }
+
+    /**
+     * Persists the request counts not flushed yet on shutdown, so they survive the deploy.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushRequestCounts();
+    }
+
+    /**
+     * Warms up the cache at startup, waiting for the warm-up up to the startup timeout.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!cacheWarmupConfig.isEnabled()) {
+            return;
+        }
+        try {
+            int warmed = warmUp().get(cacheWarmupConfig.getStartupTimeoutSeconds(), TimeUnit.SECONDS);
+            logger.info("Warmed up the occupancy report cache with {} reports", warmed);
+        } catch (TimeoutException e) {
+            logger.warn("Occupancy report cache warm-up still running after {}s; continuing startup",
+                    cacheWarmupConfig.getStartupTimeoutSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            logger.warn("Failed to warm up the occupancy report cache", e);
+        }
+    }
+
+    /**
+     * Warms up the cache on the configured schedule.
+     */
+    @Scheduled(cron = "${private-dining.cache-warmup.cron:0 */10 * * * *}")
+    public void scheduledWarmUp() {
+        if (cacheWarmupConfig.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Precomputes the most requested reports in the background. Reports still cached are served from the cache.
+     *
+     * @return a future completing with the number of reports warmed up once all of them are done
+     */
+    public CompletableFuture<Integer> warmUp() {
+        List<ReportRequestStat> stats = reportRequestStatRepository.findByOrderByRequestCountDesc(
+                Limit.of(cacheWarmupConfig.getTopReports()));
+        AtomicInteger warmed = new AtomicInteger();
+        CompletableFuture<?>[] tasks = stats.stream()
+                .map(stat -> CompletableFuture.runAsync(() -> {
+                    if (warm(stat)) {
+                        warmed.incrementAndGet();
+                    }
+                }, warmupExecutor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks).thenApply(done -> warmed.get());
+    }
+
+    private boolean warm(ReportRequestStat stat) {
+        try {
+            occupancyAnalyticsService.generateOccupancyReport(stat.getRestaurantId(), stat.getStartTime(),
+                    stat.getEndTime(), stat.getSpaceId(), stat.getPage(), stat.getSize());
+            return true;
+        } catch (RestaurantNotFoundException | SpaceNotFoundException | InvalidDateRangeException e) {
+            logger.debug("Forgetting occupancy report {}: {}", stat.getKey(), e.getMessage());
+            reportRequestStatRepository.deleteById(stat.getKey());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to warm up occupancy report {}", stat.getKey(), e);
+        }
+        return false;
+    }
+
+    /**
+     * The parameters of an occupancy report cache key.
+     */
+    private record ReportKey(ObjectId restaurantId, LocalDateTime startTime, LocalDateTime endTime, UUID spaceId,
+                             int page, int size) {
+
+        ReportRequestStat toStat() {
+            return new ReportRequestStat(restaurantId, startTime, endTime, spaceId, page, size);
+        }
+    }
+}
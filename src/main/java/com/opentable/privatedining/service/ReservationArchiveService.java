@@ -0,0 +1,203 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.ArchiveConfig;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ArchivedReservationRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service keeping the live {@code reservations} collection down to recent and upcoming bookings.
+ * Reservations that ended before the archive horizon are copied to {@code reservations_archive} and then deleted
+ * from the live collection, batch by batch, by a nightly job. Capacity checks and availability only look at
+ * upcoming slots and keep querying the live collection; analytics ask this service for the archived part of any
+ * range reaching past the horizon, and reservation lookups fall back to it for reservations no longer live.
+ * With monthly partitioning, months that ended entirely before the horizon are copied to the archive and their
+ * partition is dropped, instead of deleting their reservations batch by batch.
+ * Archival is not a cancellation, so no reservation events are published and derived occupancy state is kept.
+ */
+@Service
+public class ReservationArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationArchiveService.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ArchiveConfig archiveConfig;
+
+    /**
+     * Constructs a new ReservationArchiveService with the required dependencies.
+     *
+     * @param reservationRepository the repository for live reservation data access
+     * @param archivedReservationRepository the repository for archived reservation data access
+     * @param archiveConfig the configuration for reservation archival
+     */
+    public ReservationArchiveService(ReservationRepository reservationRepository,
+                                     ArchivedReservationRepository archivedReservationRepository,
+                                     ArchiveConfig archiveConfig) {
+        this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.archiveConfig = archiveConfig;
+    }
+
+    /**
+     * Moves every reservation that ended before the archive horizon to the archive.
+     * Each batch is written to the archive before it is deleted from the live collection, so an interrupted run
+     * loses nothing: the next run archives the leftover reservations again, replacing their earlier copies.
+     *
+     * @return the number of reservations archived
+     */
+    @Scheduled(cron = "${private-dining.archive.cron:0 0 3 * * *}")
+    public long archivePastReservations() {
+        if (!archiveConfig.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime cutoff = archiveCutoff();
+        Limit limit = Limit.of(archiveConfig.getBatchSize());
+        long archived = 0;
+
+        for (YearMonth month : reservationRepository.findPartitionsEndedBefore(cutoff)) {
+            archived += archivePartition(month, limit);
+        }
+
+        List<Reservation> batch;
+        while (!(batch = reservationRepository.findByEndTimeBefore(cutoff, limit)).isEmpty()) {
+            LocalDateTime archivedAt = LocalDateTime.now();
+            archivedReservationRepository.saveAll(batch.stream()
+                    .map(reservation -> new ArchivedReservation(reservation, archivedAt))
+                    .toList());
+            long deleted = reservationRepository.deleteByIdIn(batch.stream().map(Reservation::getId).toList());
+            if (deleted == 0) {
+                logger.warn("Stopping reservation archival: no reservations deleted from a batch of {}",
+                        batch.size());
+                break;
+            }
+            archived += deleted;
+        }
+
+        if (archived > 0) {
+            logger.info("Archived {} reservations that ended before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Copies a whole monthly partition to the archive, then drops it.
+     */
+    private long archivePartition(YearMonth month, Limit limit) {
+        long copied = 0;
+        List<Reservation> batch;
+        ObjectId lastId = null;
+        while (!(batch = reservationRepository.findInPartition(month, lastId, limit)).isEmpty()) {
+            LocalDateTime archivedAt = LocalDateTime.now();
+            archivedReservationRepository.saveAll(batch.stream()
+                    .map(reservation -> new ArchivedReservation(reservation, archivedAt))
+                    .toList());
+            copied += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        reservationRepository.dropPartition(month);
+        logger.info("Archived and dropped reservation partition {} ({} reservations)", month, copied);
+        return copied;
+    }
+
+    /**
+     * Gets the archive horizon: reservations ending before it may have been moved to the archive.
+     *
+     * @return the start of the first day that is never archived
+     */
+    public LocalDateTime archiveCutoff() {
+        return LocalDate.now().minusDays(archiveConfig.getHorizonDays()).atStartOfDay();
+    }
+
+    /**
+     * Checks whether a range starting at the given time may overlap archived reservations.
+     *
+     * @param startTime the start of the range
+     * @return true if the range starts before the archive horizon
+     */
+    public boolean reachesArchive(LocalDateTime startTime) {
+        return startTime.isBefore(archiveCutoff());
+    }
+
+    /**
+     * Adds the archived reservations overlapping a range to the live ones.
+     * A reservation caught in both collections by an interrupted archival run is returned once, as its live copy.
+     *
+     * @param liveReservations the live reservations overlapping the range
+     * @param restaurantId the restaurant ID
+     * @param spaceId optional space ID to restrict the archived reservations to a single space
+     * @param startTime the start of the range
+     * @param endTime the end of the range
+     * @return the live and archived reservations overlapping the range
+     */
+    public List<Reservation> withArchived(List<Reservation> liveReservations, ObjectId restaurantId, UUID spaceId,
+                                          LocalDateTime startTime, LocalDateTime endTime) {
+        List<ArchivedReservation> archived = spaceId != null
+                ? archivedReservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                        restaurantId, spaceId, startTime, endTime)
+                : archivedReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
+        return merge(archived.stream().map(ArchivedReservation::toReservation).toList(), liveReservations);
+    }
+
+    /**
+     * Finds an archived reservation by its ID.
+     *
+     * @param id the reservation ID
+     * @return optional containing the reservation as it was before archival, if archived
+     */
+    public Optional<Reservation> findArchived(ObjectId id) {
+        return archivedReservationRepository.findById(id).map(ArchivedReservation::toReservation);
+    }
+
+    /**
+     * Finds every archived reservation.
+     *
+     * @return the reservations as they were before archival
+     */
+    public List<Reservation> findAllArchived() {
+        return archivedReservationRepository.findAll().stream()
+                .map(ArchivedReservation::toReservation)
+                .toList();
+    }
+
+    /**
+     * Merges archived reservations into live ones. A reservation caught in both collections by an interrupted
+     * archival run is returned once, as its live copy.
+     *
+     * @param archivedReservations the archived reservations
+     * @param liveReservations the live reservations
+     * @return the live and archived reservations
+     */
+    public static List<Reservation> merge(List<Reservation> archivedReservations,
+                                          List<Reservation> liveReservations) {
+        if (archivedReservations.isEmpty()) {
+            return liveReservations;
+        }
+
+        Map<ObjectId, Reservation> reservations = new LinkedHashMap<>();
+        for (Reservation archivedReservation : archivedReservations) {
+            reservations.put(archivedReservation.getId(), archivedReservation);
+        }
+        for (Reservation reservation : liveReservations) {
+            reservations.put(reservation.getId(), reservation);
+        }
+        return new ArrayList<>(reservations.values());
+    }
+}
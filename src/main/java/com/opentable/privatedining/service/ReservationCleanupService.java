@@ -0,0 +1,286 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.config.CleanupConfig;
+import com.opentable.privatedining.config.ExecutorConfig;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.exception.CleanupJobNotFoundException;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ArchivedReservationRepository;
+import com.opentable.privatedining.repository.CleanupJobRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service removing the reservations left behind when a restaurant is deleted or a space is removed.
+ * Reservations are read and deleted in batches, each batch with a single {@code deleteMany} on the IDs read, and
+ * published as one {@link ReservationsDeletedEvent} so the in-memory occupancy structures drop them in one pass.
+ * Reservations already moved to the archive are then deleted from it the same way; they are no longer part of the
+ * in-memory occupancy structures, so no event is published for them.
+ * Small tenants fit in one batch and are cleaned up before the delete request returns; larger ones are handed to the
+ * cleanup executor. Either way the work is tracked as a {@link CleanupJob} whose progress can be polled, and jobs
+ * interrupted by a restart are resumed. Every instance looks for unfinished jobs, but a job is only processed by the
+ * instance that claimed it; its progress is written only while that claim holds, so a job completed by one instance
+ * is never overwritten by another.
+ */
+@Service
+public class ReservationCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationCleanupService.class);
+
+    private final CleanupJobRepository cleanupJobRepository;
+    private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final CleanupConfig cleanupConfig;
+    private final Executor cleanupExecutor;
+
+    /**
+     * Constructs a new ReservationCleanupService with the required dependencies.
+     *
+     * @param cleanupJobRepository the repository for cleanup job data access
+     * @param reservationRepository the repository for reservation data access
+     * @param archivedReservationRepository the repository for archived reservation data access
+     * @param eventPublisher the publisher notifying derived occupancy state of removed reservations
+     * @param cacheManager the cache manager holding cached occupancy reports
+     * @param cleanupConfig the configuration for reservation cleanup
+     * @param cleanupExecutor the executor that processes large cleanup jobs
+     */
+    public ReservationCleanupService(CleanupJobRepository cleanupJobRepository,
+                                     ReservationRepository reservationRepository,
+                                     ArchivedReservationRepository archivedReservationRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     CacheManager cacheManager,
+                                     CleanupConfig cleanupConfig,
+                                     @Qualifier(ExecutorConfig.CLEANUP_EXECUTOR) Executor cleanupExecutor) {
+        this.cleanupJobRepository = cleanupJobRepository;
+        this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.cleanupConfig = cleanupConfig;
+        this.cleanupExecutor = cleanupExecutor;
+    }
+
+    /**
+     * Removes the reservations of a deleted restaurant, or of one of its removed spaces.
+     * Runs inline when the reservations fit under the async threshold, in the background otherwise.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the UUID of the removed space, or null to remove every reservation of the restaurant
+     * @return the job, completed if the cleanup ran inline
+     */
+    public CleanupJob submitCleanup(ObjectId restaurantId, UUID spaceId) {
+        long total = spaceId != null
+                ? reservationRepository.countByRestaurantIdAndSpaceId(restaurantId, spaceId)
+                        + archivedReservationRepository.countByRestaurantIdAndSpaceId(restaurantId, spaceId)
+                : reservationRepository.countByRestaurantId(restaurantId)
+                        + archivedReservationRepository.countByRestaurantId(restaurantId);
+
+        CleanupJob job = new CleanupJob(restaurantId, spaceId, total);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        boolean inline = total <= cleanupConfig.getAsyncThreshold();
+        if (inline) {
+            // Created already claimed, so no other instance resumes it while it runs
+            job.setStatus(CleanupJobStatus.RUNNING);
+            job.setOwner(UUID.randomUUID().toString());
+            job.setLeaseUntil(job.getCreatedAt().plusSeconds(cleanupConfig.getLeaseSeconds()));
+        }
+        CleanupJob savedJob = cleanupJobRepository.save(job);
+
+        if (inline) {
+            process(savedJob);
+        } else {
+            logger.info("Scheduling cleanup job {} for {} reservations of restaurant {}",
+                    savedJob.getId(), total, restaurantId);
+            schedule(savedJob.getId());
+        }
+        return savedJob;
+    }
+
+    /**
+     * Gets a cleanup job belonging to a restaurant.
+     *
+     * @param restaurantId the restaurant ID
+     * @param jobId the job ID
+     * @return the job
+     * @throws CleanupJobNotFoundException if no such job exists for the restaurant
+     */
+    public CleanupJob getJob(ObjectId restaurantId, ObjectId jobId) {
+        return cleanupJobRepository.findById(jobId)
+                .filter(job -> job.getRestaurantId().equals(restaurantId))
+                .orElseThrow(() -> new CleanupJobNotFoundException(jobId));
+    }
+
+    /**
+     * Lists the cleanup jobs of a restaurant, most recent first.
+     * Available after the restaurant itself has been deleted.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the jobs
+     */
+    public List<CleanupJob> getJobs(ObjectId restaurantId) {
+        return cleanupJobRepository.findByRestaurantIdOrderByCreatedAtDesc(restaurantId);
+    }
+
+    /**
+     * Resumes jobs left pending or running by a previous instance once the application is ready, and then
+     * periodically, so the jobs of an instance that stopped are taken over once their lease lapses.
+     * Jobs still leased by a running instance are left to it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${private-dining.cleanup.resume-interval-seconds:60}",
+            initialDelayString = "${private-dining.cleanup.resume-interval-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void resumeUnfinishedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CleanupJob> unfinished = cleanupJobRepository.findByStatusIn(
+                List.of(CleanupJobStatus.PENDING, CleanupJobStatus.RUNNING));
+        for (CleanupJob job : unfinished) {
+            if (job.getLeaseUntil() != null && !job.getLeaseUntil().isBefore(now)) {
+                continue;
+            }
+            logger.info("Resuming cleanup job {} at {}/{} reservations",
+                    job.getId(), job.getDeletedReservations(), job.getTotalReservations());
+            schedule(job.getId());
+        }
+    }
+
+    /**
+     * Claims a job and processes it to completion. Each batch re-reads the reservations still present, so a resumed
+     * job simply carries on with whatever an earlier run did not delete. A job that is finished or held by another
+     * instance is left alone.
+     *
+     * @param jobId the job ID
+     */
+    void runJob(ObjectId jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        cleanupJobRepository.claim(jobId, UUID.randomUUID().toString(), now,
+                        now.plusSeconds(cleanupConfig.getLeaseSeconds()))
+                .ifPresentOrElse(this::process,
+                        () -> logger.debug("Cleanup job {} is finished or held by another instance", jobId));
+    }
+
+    /**
+     * Processes a claimed job. A batch that deletes nothing was removed by someone else meanwhile, so the next read
+     * moves on; a batch read again unchanged after deleting nothing leaves nothing this job can delete, and ends that
+     * phase quietly. Processing stops as soon as the claim is lost.
+     */
+    private void process(CleanupJob job) {
+        try {
+            List<Reservation> batch;
+            List<ObjectId> undeletable = List.of();
+            while (!(batch = fetchBatch(job)).isEmpty()) {
+                List<ObjectId> ids = batch.stream().map(Reservation::getId).toList();
+                if (ids.equals(undeletable)) {
+                    break;
+                }
+                long deleted = reservationRepository.deleteByIdIn(ids);
+                if (deleted == 0) {
+                    undeletable = ids;
+                    continue;
+                }
+                eventPublisher.publishEvent(new ReservationsDeletedEvent(batch));
+                job.setDeletedReservations(job.getDeletedReservations() + deleted);
+                if (!checkpoint(job)) {
+                    return;
+                }
+            }
+
+            List<ArchivedReservation> archivedBatch;
+            undeletable = List.of();
+            while (!(archivedBatch = fetchArchivedBatch(job)).isEmpty()) {
+                List<ObjectId> ids = archivedBatch.stream().map(ArchivedReservation::getId).toList();
+                if (ids.equals(undeletable)) {
+                    break;
+                }
+                long deleted = archivedReservationRepository.deleteByIdIn(ids);
+                if (deleted == 0) {
+                    undeletable = ids;
+                    continue;
+                }
+                job.setDeletedReservations(job.getDeletedReservations() + deleted);
+                if (!checkpoint(job)) {
+                    return;
+                }
+            }
+
+            evictOccupancyReports();
+            job.setStatus(CleanupJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            if (checkpoint(job)) {
+                logger.info("Completed cleanup job {} ({} reservations of restaurant {})",
+                        job.getId(), job.getDeletedReservations(), job.getRestaurantId());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Cleanup job {} failed", job.getId(), e);
+            job.setStatus(CleanupJobStatus.FAILED);
+            job.setFailureReason(e.getMessage());
+            checkpoint(job);
+        }
+    }
+
+    private List<Reservation> fetchBatch(CleanupJob job) {
+        Limit limit = Limit.of(cleanupConfig.getBatchSize());
+        if (job.getSpaceId() != null) {
+            return reservationRepository.findByRestaurantIdAndSpaceId(job.getRestaurantId(), job.getSpaceId(), limit);
+        }
+        return reservationRepository.findByRestaurantId(job.getRestaurantId(), limit);
+    }
+
+    private List<ArchivedReservation> fetchArchivedBatch(CleanupJob job) {
+        Limit limit = Limit.of(cleanupConfig.getBatchSize());
+        if (job.getSpaceId() != null) {
+            return archivedReservationRepository.findByRestaurantIdAndSpaceId(job.getRestaurantId(),
+                    job.getSpaceId(), limit);
+        }
+        return archivedReservationRepository.findByRestaurantId(job.getRestaurantId(), limit);
+    }
+
+    /**
+     * Records the job's progress and extends its lease.
+     *
+     * @return false if the job was taken over by another instance, which then carries on with it
+     */
+    private boolean checkpoint(CleanupJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        job.setLeaseUntil(job.getUpdatedAt().plusSeconds(cleanupConfig.getLeaseSeconds()));
+        if (cleanupJobRepository.saveProgress(job)) {
+            return true;
+        }
+        logger.info("Cleanup job {} was taken over by another instance; leaving it", job.getId());
+        return false;
+    }
+
+    private void evictOccupancyReports() {
+        Cache cache = cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void schedule(ObjectId jobId) {
+        cleanupExecutor.execute(() -> runJob(jobId));
+    }
+}
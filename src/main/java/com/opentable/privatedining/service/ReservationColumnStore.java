@@ -0,0 +1,204 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory columnar copy of the reservations collection used by occupancy analytics scans.
+ * Each restaurant is bulk-loaded into an immutable {@link ReservationColumns} snapshot on first use, holding only
+ * the reservations that end within the configured window or later; scans starting before the window are left to
+ * Mongo. Writes are applied as deltas from {@link ReservationChangedEvent}s, and loaded restaurants are periodically
+ * reloaded from Mongo to pick up changes made outside this instance. Disabled by default.
+ */
+@Service
+public class ReservationColumnStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationColumnStore.class);
+
+    private final ReservationRepository reservationRepository;
+    private final AnalyticsConfig analyticsConfig;
+
+    private final Map<ObjectId, ReservationColumns> snapshots = new ConcurrentHashMap<>();
+    private final Map<ObjectId, AtomicLong> modCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ReservationColumnStore with the required dependencies.
+     *
+     * @param reservationRepository the repository for reservation data access
+     * @param analyticsConfig the configuration for analytics settings
+     */
+    public ReservationColumnStore(ReservationRepository reservationRepository, AnalyticsConfig analyticsConfig) {
+        this.reservationRepository = reservationRepository;
+        this.analyticsConfig = analyticsConfig;
+    }
+
+    /**
+     * Scans the reservations of a restaurant overlapping [from, to) into an accumulator.
+     *
+     * @param accumulator the accumulator to fill
+     * @param restaurantId the restaurant ID
+     * @param from the start of the scanned range
+     * @param to the end of the scanned range
+     * @param spaceId optional space ID to restrict the scan to
+     * @param countCarriedOver whether reservations starting before {@code from} count in the totals;
+     *                         otherwise only their occupancy is added
+     * @return false if the column store is disabled or the range starts before its window, in which case the
+     *         accumulator is left untouched
+     */
+    public boolean scan(OccupancyAccumulator accumulator, ObjectId restaurantId, LocalDateTime from,
+                        LocalDateTime to, UUID spaceId, boolean countCarriedOver) {
+        if (!analyticsConfig.isColumnStoreEnabled()) {
+            return false;
+        }
+        LocalDateTime windowStart = windowStart();
+        if (from.isBefore(windowStart)) {
+            logger.debug("Range of restaurant {} starts before the column store window; not scanning", restaurantId);
+            return false;
+        }
+        long fromMinute = OccupancyAccumulator.toEpochMinuteFloor(from);
+        int scanned = getColumns(restaurantId, windowStart).scan(fromMinute,
+                OccupancyAccumulator.toEpochMinuteCeil(to), spaceId, countCarriedOver ? Long.MIN_VALUE : fromMinute,
+                accumulator);
+        logger.debug("Scanned {} reservations of restaurant {} from the column store", scanned, restaurantId);
+        return true;
+    }
+
+    /**
+     * Applies a reservation change to the snapshot of its restaurant, if loaded.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (reservation == null || reservation.getRestaurantId() == null) {
+            return;
+        }
+        ObjectId restaurantId = reservation.getRestaurantId();
+        modCount(restaurantId).incrementAndGet();
+        snapshots.computeIfPresent(restaurantId, (id, columns) ->
+                event.getChangeType() == ReservationChangedEvent.ChangeType.CREATED
+                        ? columns.with(reservation)
+                        : columns.without(reservation.getId()));
+    }
+
+    /**
+     * Drops the snapshots of the restaurants touched by a bulk deletion; they are reloaded on their next scan
+     * rather than copied once per removed reservation.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        event.getReservations().stream()
+                .map(Reservation::getRestaurantId)
+                .filter(restaurantId -> restaurantId != null)
+                .distinct()
+                .forEach(restaurantId -> {
+                    modCount(restaurantId).incrementAndGet();
+                    snapshots.remove(restaurantId);
+                });
+    }
+
+    /**
+     * Applies a write made by another instance to the snapshots it touches, replacing the reservation by ID so that
+     * a repeated delivery changes nothing. An unknown previous version drops every snapshot.
+     *
+     * @param event the remote reservation change event
+     */
+    @EventListener
+    public void onRemoteReservationChange(RemoteReservationChangeEvent event) {
+        if (!event.isPreviousKnown()) {
+            snapshots.keySet().forEach(restaurantId -> {
+                modCount(restaurantId).incrementAndGet();
+                snapshots.remove(restaurantId);
+            });
+            return;
+        }
+        Reservation previous = event.getPrevious();
+        Reservation current = event.getCurrent();
+        if (previous != null && previous.getRestaurantId() != null
+                && (current == null || !previous.getRestaurantId().equals(current.getRestaurantId()))) {
+            modCount(previous.getRestaurantId()).incrementAndGet();
+            snapshots.computeIfPresent(previous.getRestaurantId(), (id, columns) -> {
+                ReservationColumns without = columns.without(previous.getId());
+                return without != null ? without : columns;
+            });
+        }
+        if (current != null && current.getRestaurantId() != null) {
+            modCount(current.getRestaurantId()).incrementAndGet();
+            snapshots.computeIfPresent(current.getRestaurantId(), (id, columns) -> {
+                ReservationColumns without = columns.without(current.getId());
+                return (without != null ? without : columns).with(current);
+            });
+        }
+    }
+
+    /**
+     * Reloads every loaded restaurant from Mongo.
+     */
+    @Scheduled(fixedDelayString = "${private-dining.analytics.column-store-refresh-minutes:15}",
+            initialDelayString = "${private-dining.analytics.column-store-refresh-minutes:15}",
+            timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        for (ObjectId restaurantId : snapshots.keySet()) {
+            try {
+                load(restaurantId, windowStart());
+            } catch (RuntimeException e) {
+                logger.warn("Column store refresh failed for restaurant {}; dropping its snapshot", restaurantId, e);
+                snapshots.remove(restaurantId);
+            }
+        }
+    }
+
+    private ReservationColumns getColumns(ObjectId restaurantId, LocalDateTime windowStart) {
+        ReservationColumns columns = snapshots.get(restaurantId);
+        return columns != null ? columns : load(restaurantId, windowStart);
+    }
+
+    /**
+     * Bulk-loads the reservations of a restaurant ending within the window or later. The snapshot is only
+     * published if no delta arrived during the load; otherwise it is returned for the current scan and the next
+     * scan loads again.
+     */
+    private ReservationColumns load(ObjectId restaurantId, LocalDateTime windowStart) {
+        AtomicLong modCount = modCount(restaurantId);
+        long expected = modCount.get();
+        List<Reservation> reservations =
+                reservationRepository.findByRestaurantIdAndEndTimeAfter(restaurantId, windowStart);
+        ReservationColumns loaded = ReservationColumns.of(reservations);
+        snapshots.compute(restaurantId, (id, current) -> modCount.get() == expected ? loaded : null);
+        logger.debug("Loaded {} reservations of restaurant {} into the column store", loaded.size(), restaurantId);
+        return loaded;
+    }
+
+    /**
+     * The earliest time the column store answers scans for. A snapshot loaded earlier covers from an earlier time,
+     * so it always covers the current window.
+     */
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(analyticsConfig.getColumnStoreWindowDays());
+    }
+
+    private AtomicLong modCount(ObjectId restaurantId) {
+        return modCounts.computeIfAbsent(restaurantId, id -> new AtomicLong());
+    }
+}
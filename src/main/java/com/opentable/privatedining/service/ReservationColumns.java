@@ -0,0 +1,354 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable columnar snapshot of one restaurant's reservations.
+ * Each reservation is a row across parallel primitive arrays (space index, start and end epoch minute,
+ * party size) sorted by start, so overlap scans walk contiguous memory instead of chasing object references.
+ * Spaces are dictionary-encoded: {@link #spaceIds} maps a space index back to its UUID.
+ * Changes produce a new snapshot; instances can be shared freely between threads. So that a write does not copy
+ * every array, added rows go to a small {@link #pending} snapshot and removed rows are masked, until
+ * {@value #MAX_PENDING_CHANGES} changes have built up and are merged into the arrays in one pass.
+ */
+public final class ReservationColumns {
+
+    static final int MAX_PENDING_CHANGES = 256;
+
+    /**
+     * Empty side snapshot of rows added since the last merge. Side snapshots have no pending rows of their own.
+     */
+    private static final ReservationColumns NO_CHANGES = new ReservationColumns(
+            new UUID[0], new ObjectId[0], new int[0], new long[0], new long[0], new int[0], 0, null, Set.of());
+
+    private final UUID[] spaceIds;
+    private final ObjectId[] ids;
+    private final int[] spaceIndexes;
+    private final long[] startMinutes;
+    private final long[] endMinutes;
+    private final int[] partySizes;
+    private final long maxDurationMinutes;
+    private final ReservationColumns pending;
+    private final Set<Integer> removedRows;
+
+    private ReservationColumns(UUID[] spaceIds, ObjectId[] ids, int[] spaceIndexes, long[] startMinutes,
+                               long[] endMinutes, int[] partySizes, long maxDurationMinutes,
+                               ReservationColumns pending, Set<Integer> removedRows) {
+        this.spaceIds = spaceIds;
+        this.ids = ids;
+        this.spaceIndexes = spaceIndexes;
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+        this.partySizes = partySizes;
+        this.maxDurationMinutes = maxDurationMinutes;
+        this.pending = pending;
+        this.removedRows = removedRows;
+    }
+
+    /**
+     * Builds a snapshot from a list of reservations.
+     *
+     * @param reservations the reservations of a restaurant, in any order
+     * @return the columnar snapshot
+     */
+    public static ReservationColumns of(List<Reservation> reservations) {
+        List<Reservation> sorted = new ArrayList<>(reservations);
+        sorted.sort(Comparator.comparing(Reservation::getStartTime));
+        int size = sorted.size();
+
+        List<UUID> dictionary = new ArrayList<>();
+        ObjectId[] ids = new ObjectId[size];
+        int[] spaceIndexes = new int[size];
+        long[] startMinutes = new long[size];
+        long[] endMinutes = new long[size];
+        int[] partySizes = new int[size];
+        long maxDuration = 0;
+        for (int row = 0; row < size; row++) {
+            Reservation reservation = sorted.get(row);
+            int spaceIndex = dictionary.indexOf(reservation.getSpaceId());
+            if (spaceIndex < 0) {
+                spaceIndex = dictionary.size();
+                dictionary.add(reservation.getSpaceId());
+            }
+            ids[row] = reservation.getId();
+            spaceIndexes[row] = spaceIndex;
+            startMinutes[row] = OccupancyAccumulator.toEpochMinuteFloor(reservation.getStartTime());
+            endMinutes[row] = OccupancyAccumulator.toEpochMinuteCeil(reservation.getEndTime());
+            partySizes[row] = reservation.getPartySize();
+            maxDuration = Math.max(maxDuration, endMinutes[row] - startMinutes[row]);
+        }
+        return new ReservationColumns(dictionary.toArray(new UUID[0]), ids, spaceIndexes,
+                startMinutes, endMinutes, partySizes, maxDuration, NO_CHANGES, Set.of());
+    }
+
+    /**
+     * Returns a snapshot with one more reservation, inserted in start order.
+     *
+     * @param reservation the reservation to add
+     * @return the new snapshot
+     */
+    public ReservationColumns with(Reservation reservation) {
+        if (pending != null) {
+            return withChanges(pending.with(reservation), removedRows);
+        }
+        long startMinute = OccupancyAccumulator.toEpochMinuteFloor(reservation.getStartTime());
+        long endMinute = OccupancyAccumulator.toEpochMinuteCeil(reservation.getEndTime());
+
+        UUID[] newSpaceIds = spaceIds;
+        int spaceIndex = indexOfSpace(reservation.getSpaceId());
+        if (spaceIndex < 0) {
+            spaceIndex = spaceIds.length;
+            newSpaceIds = Arrays.copyOf(spaceIds, spaceIds.length + 1);
+            newSpaceIds[spaceIndex] = reservation.getSpaceId();
+        }
+
+        int row = firstRowStartingAtOrAfter(startMinute + 1);
+        return new ReservationColumns(newSpaceIds,
+                insert(ids, row, reservation.getId()),
+                insert(spaceIndexes, row, spaceIndex),
+                insert(startMinutes, row, startMinute),
+                insert(endMinutes, row, endMinute),
+                insert(partySizes, row, reservation.getPartySize()),
+                Math.max(maxDurationMinutes, endMinute - startMinute), null, Set.of());
+    }
+
+    /**
+     * Returns a snapshot without the reservation with the given ID.
+     *
+     * @param id the reservation ID
+     * @return the new snapshot, or null if the reservation is not part of this snapshot
+     */
+    public ReservationColumns without(ObjectId id) {
+        if (pending != null) {
+            ReservationColumns pendingWithout = pending.without(id);
+            if (pendingWithout != null) {
+                return withChanges(pendingWithout, removedRows);
+            }
+            for (int row = 0; row < ids.length; row++) {
+                if (id != null && id.equals(ids[row]) && !removedRows.contains(row)) {
+                    Set<Integer> removed = new HashSet<>(removedRows);
+                    removed.add(row);
+                    return withChanges(pending, Collections.unmodifiableSet(removed));
+                }
+            }
+            return null;
+        }
+        for (int row = 0; row < ids.length; row++) {
+            if (id != null && id.equals(ids[row])) {
+                return new ReservationColumns(spaceIds,
+                        remove(ids, row),
+                        remove(spaceIndexes, row),
+                        remove(startMinutes, row),
+                        remove(endMinutes, row),
+                        remove(partySizes, row),
+                        maxDurationMinutes, null, Set.of());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Feeds every reservation overlapping [fromMinute, toMinute) into an accumulator.
+     * Only rows starting within the window are candidates once the longest stored duration is accounted for,
+     * so the scan is bounded by a binary search on the start column.
+     *
+     * @param fromMinute the window start as an epoch minute
+     * @param toMinute the window end as an epoch minute
+     * @param spaceId optional space to restrict the scan to
+     * @param countFromMinute reservations starting before this minute only contribute occupancy, not counts
+     * @param accumulator the accumulator to fill
+     * @return the number of reservations scanned into the accumulator
+     */
+    public int scan(long fromMinute, long toMinute, UUID spaceId, long countFromMinute,
+                    OccupancyAccumulator accumulator) {
+        int spaceFilter = -1;
+        if (spaceId != null) {
+            spaceFilter = indexOfSpace(spaceId);
+            if (spaceFilter < 0) {
+                return pending != null
+                        ? pending.scan(fromMinute, toMinute, spaceId, countFromMinute, accumulator)
+                        : 0;
+            }
+        }
+
+        int[] remap = new int[spaceIds.length];
+        for (int i = 0; i < spaceIds.length; i++) {
+            remap[i] = accumulator.spaceIndexOf(spaceIds[i]);
+        }
+
+        int matched = 0;
+        int end = firstRowStartingAtOrAfter(toMinute);
+        for (int row = firstRowStartingAtOrAfter(fromMinute - maxDurationMinutes); row < end; row++) {
+            if (endMinutes[row] <= fromMinute || (spaceFilter >= 0 && spaceIndexes[row] != spaceFilter)
+                    || (!removedRows.isEmpty() && removedRows.contains(row))) {
+                continue;
+            }
+            int spaceIndex = remap[spaceIndexes[row]];
+            if (startMinutes[row] >= countFromMinute) {
+                accumulator.add(spaceIndex, startMinutes[row], endMinutes[row], partySizes[row]);
+            } else {
+                accumulator.addOccupancy(spaceIndex, startMinutes[row], endMinutes[row], partySizes[row]);
+            }
+            matched++;
+        }
+        if (pending != null && pending.size() > 0) {
+            matched += pending.scan(fromMinute, toMinute, spaceId, countFromMinute, accumulator);
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the number of reservations in this snapshot.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return ids.length - removedRows.size() + (pending != null ? pending.size() : 0);
+    }
+
+    /**
+     * Returns a snapshot sharing these arrays with the given pending changes, or merges them in once too many
+     * have built up.
+     */
+    private ReservationColumns withChanges(ReservationColumns added, Set<Integer> removed) {
+        if (added.size() + removed.size() >= MAX_PENDING_CHANGES) {
+            return merge(added, removed);
+        }
+        return new ReservationColumns(spaceIds, ids, spaceIndexes, startMinutes, endMinutes, partySizes,
+                maxDurationMinutes, added, removed);
+    }
+
+    /**
+     * Merges the rows of these arrays that are not removed with the added rows, both sorted by start, into new
+     * arrays without pending changes.
+     */
+    private ReservationColumns merge(ReservationColumns added, Set<Integer> removed) {
+        List<UUID> dictionary = new ArrayList<>(Arrays.asList(spaceIds));
+        int[] addedSpaceIndexes = new int[added.spaceIds.length];
+        for (int i = 0; i < added.spaceIds.length; i++) {
+            int spaceIndex = dictionary.indexOf(added.spaceIds[i]);
+            if (spaceIndex < 0) {
+                spaceIndex = dictionary.size();
+                dictionary.add(added.spaceIds[i]);
+            }
+            addedSpaceIndexes[i] = spaceIndex;
+        }
+
+        int size = ids.length - removed.size() + added.ids.length;
+        ObjectId[] mergedIds = new ObjectId[size];
+        int[] mergedSpaceIndexes = new int[size];
+        long[] mergedStartMinutes = new long[size];
+        long[] mergedEndMinutes = new long[size];
+        int[] mergedPartySizes = new int[size];
+        int row = 0;
+        int addedRow = 0;
+        int out = 0;
+        while (out < size) {
+            if (row < ids.length && removed.contains(row)) {
+                row++;
+                continue;
+            }
+            if (addedRow >= added.ids.length
+                    || (row < ids.length && startMinutes[row] <= added.startMinutes[addedRow])) {
+                mergedIds[out] = ids[row];
+                mergedSpaceIndexes[out] = spaceIndexes[row];
+                mergedStartMinutes[out] = startMinutes[row];
+                mergedEndMinutes[out] = endMinutes[row];
+                mergedPartySizes[out] = partySizes[row];
+                row++;
+            } else {
+                mergedIds[out] = added.ids[addedRow];
+                mergedSpaceIndexes[out] = addedSpaceIndexes[added.spaceIndexes[addedRow]];
+                mergedStartMinutes[out] = added.startMinutes[addedRow];
+                mergedEndMinutes[out] = added.endMinutes[addedRow];
+                mergedPartySizes[out] = added.partySizes[addedRow];
+                addedRow++;
+            }
+            out++;
+        }
+        return new ReservationColumns(dictionary.toArray(new UUID[0]), mergedIds, mergedSpaceIndexes,
+                mergedStartMinutes, mergedEndMinutes, mergedPartySizes,
+                Math.max(maxDurationMinutes, added.maxDurationMinutes), NO_CHANGES, Set.of());
+    }
+
+    private int indexOfSpace(UUID spaceId) {
+        for (int i = 0; i < spaceIds.length; i++) {
+            if (spaceIds[i].equals(spaceId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search for the first row whose start is at or after the given minute.
+     */
+    private int firstRowStartingAtOrAfter(long minute) {
+        int low = 0;
+        int high = startMinutes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startMinutes[mid] < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] insert(int[] array, int index, int value) {
+        int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static long[] insert(long[] array, int index, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static ObjectId[] insert(ObjectId[] array, int index, ObjectId value) {
+        ObjectId[] result = new ObjectId[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static int[] remove(int[] array, int index) {
+        int[] result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static long[] remove(long[] array, int index) {
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static ObjectId[] remove(ObjectId[] array, int index) {
+        ObjectId[] result = new ObjectId[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+}
@@ -0,0 +1,237 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.ReservationIndexConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index answering "which reservations of a space intersect [start, end)" without a MongoDB query.
+ * Each (restaurant, space) pair gets a {@link ReservationIntervalTree}, loaded on first use, kept current from
+ * {@link ReservationChangedEvent}s and periodically reloaded to pick up writes made by other instances.
+ * Only reservations ending within the last {@code windowDays} or later are loaded, so a space's tree does not grow
+ * with its whole history; queries starting before that window are left to MongoDB and the archive.
+ * Disabled by default.
+ */
+@Service
+public class ReservationIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationIntervalIndex.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationIndexConfig indexConfig;
+
+    private final Map<SpaceKey, SpaceEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ReservationIntervalIndex with the required dependencies.
+     *
+     * @param reservationRepository the repository for reservation data access
+     * @param indexConfig the configuration for the reservation index
+     */
+    public ReservationIntervalIndex(ReservationRepository reservationRepository, ReservationIndexConfig indexConfig) {
+        this.reservationRepository = reservationRepository;
+        this.indexConfig = indexConfig;
+    }
+
+    /**
+     * Finds the reservations of a space overlapping the half-open window [startTime, endTime).
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space ID
+     * @param startTime the window start
+     * @param endTime the window end
+     * @return the overlapping reservations ordered by start time, or empty if the index is disabled or the window
+     *         starts before the indexed window
+     */
+    public Optional<List<Reservation>> findOverlapping(ObjectId restaurantId, UUID spaceId,
+                                                       LocalDateTime startTime, LocalDateTime endTime) {
+        if (!indexConfig.isEnabled() || startTime.isBefore(windowStart())) {
+            return Optional.empty();
+        }
+        SpaceEntry entry = entries.computeIfAbsent(new SpaceKey(restaurantId, spaceId), key -> new SpaceEntry());
+        entry.lock.readLock().lock();
+        try {
+            if (entry.tree != null) {
+                return Optional.of(entry.tree.findOverlapping(startTime, endTime));
+            }
+        } finally {
+            entry.lock.readLock().unlock();
+        }
+        return Optional.of(load(restaurantId, spaceId, entry).findOverlapping(startTime, endTime));
+    }
+
+    /**
+     * Applies a reservation change to the tree of its space, if loaded.
+     *
+     * @param event the reservation change event
+     */
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Reservation reservation = event.getReservation();
+        if (reservation == null || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+            return;
+        }
+        SpaceEntry entry = entries.get(new SpaceKey(reservation.getRestaurantId(), reservation.getSpaceId()));
+        if (entry == null) {
+            return;
+        }
+        entry.lock.writeLock().lock();
+        try {
+            entry.writes++;
+            if (entry.tree == null) {
+                return;
+            }
+            if (event.getChangeType() == ReservationChangedEvent.ChangeType.CREATED) {
+                entry.tree.insert(reservation);
+            } else {
+                entry.tree.remove(reservation);
+            }
+        } finally {
+            entry.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a batch of deleted reservations from the trees of their spaces, taking each space's lock once.
+     *
+     * @param event the bulk deletion event
+     */
+    @EventListener
+    public void onReservationsDeleted(ReservationsDeletedEvent event) {
+        Map<SpaceKey, List<Reservation>> bySpace = event.getReservations().stream()
+                .filter(reservation -> reservation.getStartTime() != null && reservation.getEndTime() != null)
+                .collect(Collectors.groupingBy(r -> new SpaceKey(r.getRestaurantId(), r.getSpaceId())));
+        bySpace.forEach((key, reservations) -> {
+            SpaceEntry entry = entries.get(key);
+            if (entry == null) {
+                return;
+            }
+            entry.lock.writeLock().lock();
+            try {
+                entry.writes++;
+                if (entry.tree != null) {
+                    reservations.forEach(entry.tree::remove);
+                }
+            } finally {
+                entry.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Applies a write made by another instance. Trees are keyed by start time and ID, so removing the previous
+     * version and inserting the current one is safe to repeat; an unknown previous version drops every tree.
+     *
+     * @param event the remote reservation change event
+     */
+    @EventListener
+    public void onRemoteReservationChange(RemoteReservationChangeEvent event) {
+        if (!event.isPreviousKnown()) {
+            entries.values().forEach(entry -> {
+                entry.lock.writeLock().lock();
+                try {
+                    entry.writes++;
+                    entry.tree = null;
+                } finally {
+                    entry.lock.writeLock().unlock();
+                }
+            });
+            return;
+        }
+        if (event.getPrevious() != null) {
+            onReservationChanged(new ReservationChangedEvent(
+                    ReservationChangedEvent.ChangeType.DELETED, event.getPrevious()));
+        }
+        if (event.getCurrent() != null) {
+            onReservationChanged(new ReservationChangedEvent(
+                    ReservationChangedEvent.ChangeType.CREATED, event.getCurrent()));
+        }
+    }
+
+    /**
+     * Reloads every loaded space from MongoDB.
+     */
+    @Scheduled(fixedDelayString = "${private-dining.reservation-index.refresh-minutes:15}",
+            initialDelayString = "${private-dining.reservation-index.refresh-minutes:15}",
+            timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        entries.forEach((key, entry) -> {
+            try {
+                load(key.restaurantId(), key.spaceId(), entry);
+            } catch (RuntimeException e) {
+                logger.warn("Reservation index refresh failed for space {}; dropping its tree", key.spaceId(), e);
+                entries.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Loads the reservations of a space ending within the window or later from MongoDB. The tree is only published
+     * if no change to the space arrived during the load; otherwise it is returned for the current query and the next
+     * query loads again.
+     */
+    private ReservationIntervalTree load(ObjectId restaurantId, UUID spaceId, SpaceEntry entry) {
+        long writes;
+        entry.lock.readLock().lock();
+        try {
+            writes = entry.writes;
+        } finally {
+            entry.lock.readLock().unlock();
+        }
+
+        ReservationIntervalTree tree = ReservationIntervalTree.of(
+                reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(restaurantId, spaceId,
+                        windowStart()));
+
+        entry.lock.writeLock().lock();
+        try {
+            if (entry.writes == writes) {
+                entry.tree = tree;
+            }
+        } finally {
+            entry.lock.writeLock().unlock();
+        }
+        logger.debug("Loaded {} reservations of space {} into the interval index", tree.size(), spaceId);
+        return tree;
+    }
+
+    /**
+     * The earliest time the index answers queries for. A tree loaded earlier covers from an earlier time, so it
+     * always covers the current window.
+     */
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(indexConfig.getWindowDays());
+    }
+
+    private record SpaceKey(ObjectId restaurantId, UUID spaceId) {
+    }
+
+    /**
+     * The tree of one space, with a counter of changes applied to it.
+     */
+    private static final class SpaceEntry {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private ReservationIntervalTree tree;
+        private long writes;
+    }
+}
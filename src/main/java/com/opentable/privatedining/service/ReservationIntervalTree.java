@@ -0,0 +1,220 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Augmented interval tree over the reservations of a single space.
+ * Reservations are kept in an AVL tree ordered by start time (then ID), and every node records the latest end time
+ * in its subtree. Overlap queries prune subtrees that end before the window or start after it, so a query visits
+ * O(log n + k) nodes for k results; inserts and deletes are O(log n). Not thread-safe.
+ */
+public class ReservationIntervalTree {
+
+    private static final Comparator<ObjectId> ID_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private Node root;
+    private int size;
+
+    /**
+     * Builds a tree from a list of reservations.
+     *
+     * @param reservations the reservations, in any order
+     * @return the tree
+     */
+    public static ReservationIntervalTree of(List<Reservation> reservations) {
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+        reservations.forEach(tree::insert);
+        return tree;
+    }
+
+    /**
+     * Inserts a reservation. A reservation with the same start time and ID replaces the existing one.
+     *
+     * @param reservation the reservation to insert
+     */
+    public void insert(Reservation reservation) {
+        root = insert(root, reservation);
+    }
+
+    /**
+     * Removes a reservation, located by its start time and ID.
+     *
+     * @param reservation the reservation to remove
+     * @return true if the reservation was found and removed
+     */
+    public boolean remove(Reservation reservation) {
+        int sizeBefore = size;
+        root = remove(root, reservation);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Finds the reservations overlapping the half-open window [startTime, endTime).
+     *
+     * @param startTime the window start
+     * @param endTime the window end
+     * @return the overlapping reservations, ordered by start time
+     */
+    public List<Reservation> findOverlapping(LocalDateTime startTime, LocalDateTime endTime) {
+        List<Reservation> result = new ArrayList<>();
+        collect(root, startTime, endTime, result);
+        return result;
+    }
+
+    /**
+     * Finds the reservations in progress at an instant.
+     *
+     * @param time the instant
+     * @return the reservations with startTime &lt;= time &lt; endTime, ordered by start time
+     */
+    public List<Reservation> findContaining(LocalDateTime time) {
+        return findOverlapping(time, time.plusNanos(1));
+    }
+
+    /**
+     * Returns the number of reservations in the tree.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    private void collect(Node node, LocalDateTime startTime, LocalDateTime endTime, List<Reservation> result) {
+        if (node == null || !node.maxEnd.isAfter(startTime)) {
+            return;
+        }
+        collect(node.left, startTime, endTime, result);
+        if (!node.reservation.getStartTime().isBefore(endTime)) {
+            return;
+        }
+        if (node.reservation.getEndTime().isAfter(startTime)) {
+            result.add(node.reservation);
+        }
+        collect(node.right, startTime, endTime, result);
+    }
+
+    private Node insert(Node node, Reservation reservation) {
+        if (node == null) {
+            size++;
+            return new Node(reservation);
+        }
+        int order = compare(reservation, node.reservation);
+        if (order < 0) {
+            node.left = insert(node.left, reservation);
+        } else if (order > 0) {
+            node.right = insert(node.right, reservation);
+        } else {
+            node.reservation = reservation;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, Reservation reservation) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(reservation, node.reservation);
+        if (order < 0) {
+            node.left = remove(node.left, reservation);
+        } else if (order > 0) {
+            node.right = remove(node.right, reservation);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.reservation = successor.reservation;
+            node.right = removeFirst(node.right);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return rebalance(node);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.reservation.getEndTime();
+        if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.right.maxEnd;
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compare(Reservation first, Reservation second) {
+        int order = first.getStartTime().compareTo(second.getStartTime());
+        return order != 0 ? order : ID_ORDER.compare(first.getId(), second.getId());
+    }
+
+    private static final class Node {
+
+        private Reservation reservation;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Reservation reservation) {
+            this.reservation = reservation;
+            this.maxEnd = reservation.getEndTime();
+        }
+    }
+}
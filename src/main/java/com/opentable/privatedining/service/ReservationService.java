@@ -3,19 +3,31 @@ package com.opentable.privatedining.service;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.bson.types.ObjectId;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.dto.BulkCancellationDTO;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.exception.CapacityExceededException;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.InvalidPartySizeException;
 import com.opentable.privatedining.exception.InvalidReservationDurationException;
 import com.opentable.privatedining.exception.MultiDayReservationException;
 import com.opentable.privatedining.exception.OutsideOperatingHoursException;
+import com.opentable.privatedining.exception.ReservationConflictException;
+import com.opentable.privatedining.exception.ReservationNotFoundException;
 import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SlotUnavailableException;
 import com.opentable.privatedining.exception.SpaceNotFoundException;
 import com.opentable.privatedining.model.Reservation;
 import com.opentable.privatedining.model.Restaurant;
@@ -24,6 +36,7 @@ import com.opentable.privatedining.repository.ReservationRepository;
 
 /**
  * Service class for managing reservation operations.
+ * Every write evicts the cached occupancy reports of the written restaurant only; other restaurants keep theirs.
  */
 @Service
 public class ReservationService {
@@ -31,6 +44,11 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final RestaurantService restaurantService;
     private final CapacityValidationService capacityValidationService;
+    private final ReservationIntervalIndex reservationIntervalIndex;
+    private final AlternativeSlotService alternativeSlotService;
+    private final ReservationArchiveService reservationArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * Constructs a new ReservationService with the required dependencies.
@@ -38,38 +56,55 @@ public class ReservationService {
      * @param reservationRepository the repository for reservation data access
      * @param restaurantService the service for restaurant operations
      * @param capacityValidationService the service for capacity validation
+     * @param reservationIntervalIndex the in-memory reservation interval index
+     * @param alternativeSlotService the service suggesting alternatives to rejected reservations
+     * @param reservationArchiveService the service reading archived reservations
+     * @param eventPublisher the publisher for reservation change events
+     * @param cacheManager the cache manager holding the occupancy report cache
      */
     public ReservationService(ReservationRepository reservationRepository,
                               RestaurantService restaurantService,
-                              CapacityValidationService capacityValidationService) {
+                              CapacityValidationService capacityValidationService,
+                              ReservationIntervalIndex reservationIntervalIndex,
+                              AlternativeSlotService alternativeSlotService,
+                              ReservationArchiveService reservationArchiveService,
+                              ApplicationEventPublisher eventPublisher,
+                              CacheManager cacheManager) {
         this.reservationRepository = reservationRepository;
         this.restaurantService = restaurantService;
         this.capacityValidationService = capacityValidationService;
+        this.reservationIntervalIndex = reservationIntervalIndex;
+        this.alternativeSlotService = alternativeSlotService;
+        this.reservationArchiveService = reservationArchiveService;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
     }
 
     /**
-     * Retrieves all reservations.
+     * Retrieves all reservations, including archived ones.
      *
      * @return list of all reservations
      */
     public List<Reservation> getAllReservations() {
-        return reservationRepository.findAll();
+        return ReservationArchiveService.merge(reservationArchiveService.findAllArchived(),
+                reservationRepository.findAll());
     }
 
     /**
-     * Retrieves a reservation by its ID.
+     * Retrieves a reservation by its ID, from the archive if it is no longer live.
      *
      * @param id the reservation ID
      * @return optional containing the reservation if found
      */
     public Optional<Reservation> getReservationById(ObjectId id) {
-        return reservationRepository.findById(id);
+        return reservationRepository.findById(id).or(() -> reservationArchiveService.findArchived(id));
     }
 
     /**
      * Creates a new reservation with validation.
      * Validates restaurant and space existence, operating hours, party size, and capacity.
      * Automatically aligns reservation times to time slot boundaries.
+     * Rejections for operating hours or capacity carry alternative slots in the same and sibling spaces.
      *
      * @param reservation the reservation to create
      * @return the created reservation
@@ -81,7 +116,6 @@ public class ReservationService {
      * @throws InvalidPartySizeException if party size exceeds space capacity
      * @throws com.opentable.privatedining.exception.CapacityExceededException if combined capacity would be exceeded
      */
-    @CacheEvict(value = "occupancyReports", allEntries = true)
     public Reservation createReservation(Reservation reservation) {
         // Validate that the restaurant exists
         Optional<com.opentable.privatedining.model.Restaurant> restaurantOpt =
@@ -96,50 +130,102 @@ public class ReservationService {
             .findFirst()
             .orElseThrow(() -> new SpaceNotFoundException(reservation.getRestaurantId(), reservation.getSpaceId()));
 
-        // Validate that reservation does not span multiple days
-        if (!reservation.getStartTime().toLocalDate().equals(reservation.getEndTime().toLocalDate())) {
-            throw new MultiDayReservationException(
-                reservation.getStartTime().toLocalDate(),
-                reservation.getEndTime().toLocalDate());
+        // Validate the day, slot alignment, duration and operating hours
+        try {
+            alignAndValidateTimes(reservation, space);
+        } catch (OutsideOperatingHoursException e) {
+            throw withAlternatives(e, restaurant, space, reservation);
         }
 
-        // Align reservation times to time slots
-        int slotDuration = space.getTimeSlotDurationMinutes();
-        LocalDateTime alignedStartTime = alignStartTimeToNearestSlot(reservation.getStartTime(), slotDuration);
-        LocalDateTime alignedEndTime = alignEndTimeToSlotCeiling(reservation.getEndTime(), slotDuration);
+        // Validate party size is within space capacity (per-reservation validation)
+        validatePartySize(reservation, space);
 
-        // Ensure minimum reservation duration of one slot
-        long durationMinutes = Duration.between(alignedStartTime, alignedEndTime).toMinutes();
-        if (durationMinutes < slotDuration) {
-            throw new InvalidReservationDurationException(slotDuration);
+        // Validate capacity allows concurrent reservations (combined headcount must not exceed maxCapacity)
+        try {
+            capacityValidationService.validateCapacity(reservation, space);
+        } catch (CapacityExceededException e) {
+            throw withAlternatives(e, restaurant, space, reservation);
         }
 
-        // Update reservation with aligned times
-        reservation.setStartTime(alignedStartTime);
-        reservation.setEndTime(alignedEndTime);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(
+            new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, savedReservation));
+        evictReports(savedReservation.getRestaurantId());
+        return savedReservation;
+    }
 
-        // Validate reservation is within operating hours (after alignment)
-        LocalTime reservationStartTime = reservation.getStartTime().toLocalTime();
-        LocalTime reservationEndTime = reservation.getEndTime().toLocalTime();
-        LocalTime operatingStart = space.getOperatingStartTime();
-        LocalTime operatingEnd = space.getOperatingEndTime();
+    /**
+     * Changes the time and/or party size of a reservation in place.
+     * The new values go through the same alignment and validation as on creation. Capacity is validated against the
+     * other reservations when the times change; when only the party size grows, just the added guests are validated.
+     * The write is a single atomic {@code $set} conditioned on the values that were validated, so a concurrent change
+     * is reported instead of overwritten.
+     *
+     * @param id the reservation ID
+     * @param startTime the new start time, or null to keep the current one
+     * @param endTime the new end time, or null to keep the current one
+     * @param partySize the new party size, or null to keep the current one
+     * @return the updated reservation
+     * @throws ReservationNotFoundException if the reservation doesn't exist
+     * @throws RestaurantNotFoundException if the restaurant doesn't exist
+     * @throws SpaceNotFoundException if the space doesn't exist
+     * @throws MultiDayReservationException if the new times span multiple days
+     * @throws InvalidReservationDurationException if the new duration is less than minimum slot duration
+     * @throws OutsideOperatingHoursException if the new times are outside operating hours
+     * @throws InvalidPartySizeException if the new party size is outside the space capacity
+     * @throws CapacityExceededException if combined capacity would be exceeded
+     * @throws ReservationConflictException if the reservation was changed concurrently
+     */
+    public Reservation updateReservation(ObjectId id, LocalDateTime startTime, LocalDateTime endTime,
+                                         Integer partySize) {
+        Reservation existing = reservationRepository.findById(id)
+            .orElseThrow(() -> new ReservationNotFoundException(id));
+        Restaurant restaurant = restaurantService.getRestaurantById(existing.getRestaurantId())
+            .orElseThrow(() -> new RestaurantNotFoundException(existing.getRestaurantId()));
+        Space space = restaurant.getSpaces().stream().filter(s -> s.getId().equals(existing.getSpaceId()))
+            .findFirst()
+            .orElseThrow(() -> new SpaceNotFoundException(existing.getRestaurantId(), existing.getSpaceId()));
 
-        if (reservationStartTime.isBefore(operatingStart) || reservationEndTime.isAfter(operatingEnd)) {
-            throw new OutsideOperatingHoursException(
-                reservationStartTime, reservationEndTime, operatingStart, operatingEnd);
-        }
+        Reservation updated = new Reservation(existing.getRestaurantId(), existing.getSpaceId(),
+            existing.getCustomerEmail(),
+            startTime != null ? startTime : existing.getStartTime(),
+            endTime != null ? endTime : existing.getEndTime(),
+            partySize != null ? partySize : existing.getPartySize(),
+            existing.getStatus());
+        updated.setId(id);
 
-        // Validate party size is within space capacity (per-reservation validation)
-        if (reservation.getPartySize() < space.getMinCapacity() ||
-            reservation.getPartySize() > space.getMaxCapacity()) {
-            throw new InvalidPartySizeException(
-                reservation.getPartySize(), space.getMinCapacity(), space.getMaxCapacity());
+        if (startTime != null || endTime != null) {
+            alignAndValidateTimes(updated, space);
+        }
+        boolean timesChanged = !updated.getStartTime().equals(existing.getStartTime())
+            || !updated.getEndTime().equals(existing.getEndTime());
+        int addedGuests = updated.getPartySize() - existing.getPartySize();
+        if (!timesChanged && addedGuests == 0) {
+            return existing;
+        }
+        if (addedGuests != 0) {
+            validatePartySize(updated, space);
         }
 
-        // Validate capacity allows concurrent reservations (combined headcount must not exceed maxCapacity)
-        capacityValidationService.validateCapacity(reservation, space);
+        if (timesChanged) {
+            capacityValidationService.validateCapacityExcluding(updated, space, id);
+        } else if (addedGuests > 0) {
+            capacityValidationService.validateAdditionalGuests(existing, space, addedGuests);
+        }
 
-        return reservationRepository.save(reservation);
+        long modified = reservationRepository.updateTimeAndPartySize(id,
+            existing.getStartTime(), existing.getEndTime(), existing.getPartySize(),
+            updated.getStartTime(), updated.getEndTime(), updated.getPartySize());
+        if (modified == 0) {
+            throw new ReservationConflictException(
+                String.format("Reservation %s was changed or deleted concurrently. Please retry.", id));
+        }
+        eventPublisher.publishEvent(
+            new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+        eventPublisher.publishEvent(
+            new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, updated));
+        evictReports(updated.getRestaurantId());
+        return updated;
     }
 
     /**
@@ -148,16 +234,59 @@ public class ReservationService {
      * @param id the reservation ID
      * @return true if the reservation was deleted, false if not found
      */
-    @CacheEvict(value = "occupancyReports", allEntries = true)
     public boolean deleteReservation(ObjectId id) {
         Optional<Reservation> existingReservation = reservationRepository.findById(id);
         if (existingReservation.isPresent()) {
             reservationRepository.deleteById(id);
+            eventPublisher.publishEvent(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existingReservation.get()));
+            evictReports(existingReservation.get().getRestaurantId());
             return true;
         }
         return false;
     }
 
+    /**
+     * Cancels every reservation of a restaurant, or of one of its spaces, that overlaps a time window.
+     * The matching reservations are read with one range query and removed with one {@code deleteMany} on their IDs;
+     * derived occupancy state is then updated from a single {@link ReservationsDeletedEvent} and the restaurant's
+     * cached reports are evicted once.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId optional space UUID to restrict the cancellation to
+     * @param startTime the window start (inclusive)
+     * @param endTime the window end (exclusive)
+     * @return the number of cancelled reservations and released guests
+     * @throws InvalidDateRangeException if the window is empty or inverted
+     * @throws RestaurantNotFoundException if the restaurant doesn't exist
+     * @throws SpaceNotFoundException if the space doesn't exist
+     */
+    public BulkCancellationDTO cancelReservations(ObjectId restaurantId, UUID spaceId,
+                                                  LocalDateTime startTime, LocalDateTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new InvalidDateRangeException(startTime, endTime, "End time must be after start time");
+        }
+        Restaurant restaurant = restaurantService.getRestaurantById(restaurantId)
+            .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+        if (spaceId != null && restaurant.getSpaces().stream().noneMatch(s -> s.getId().equals(spaceId))) {
+            throw new SpaceNotFoundException(restaurantId, spaceId);
+        }
+
+        List<Reservation> cancelled = spaceId != null
+            ? reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(restaurantId, spaceId, startTime, endTime)
+            : reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime);
+        if (cancelled.isEmpty()) {
+            return new BulkCancellationDTO(restaurantId.toString(), spaceId, startTime, endTime, 0, 0);
+        }
+
+        reservationRepository.deleteByIdIn(cancelled.stream().map(Reservation::getId).toList());
+        eventPublisher.publishEvent(new ReservationsDeletedEvent(cancelled));
+        evictReports(restaurantId);
+        int releasedGuests = cancelled.stream().mapToInt(Reservation::getPartySize).sum();
+        return new BulkCancellationDTO(restaurantId.toString(), spaceId, startTime, endTime,
+            cancelled.size(), releasedGuests);
+    }
+
     /**
      * Retrieves all reservations for a specific restaurant.
      *
@@ -165,7 +294,7 @@ public class ReservationService {
      * @return list of reservations for the restaurant
      */
     public List<Reservation> getReservationsByRestaurant(ObjectId restaurantId) {
-        return reservationRepository.findAll().stream()
+        return getAllReservations().stream()
             .filter(reservation -> reservation.getRestaurantId().equals(restaurantId))
                 .toList();
     }
@@ -178,18 +307,130 @@ public class ReservationService {
      * @return list of reservations for the space
      */
     public List<Reservation> getReservationsBySpace(ObjectId restaurantId, UUID spaceId) {
-        return reservationRepository.findAll().stream()
+        return getAllReservations().stream()
             .filter(reservation -> reservation.getRestaurantId().equals(restaurantId) &&
                 reservation.getSpaceId().equals(spaceId))
             .toList();
     }
 
+    /**
+     * Retrieves the reservations of a space that overlap a time window, including archived ones when the window
+     * starts before the archive horizon.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the space UUID
+     * @param startTime the window start (inclusive)
+     * @param endTime the window end (exclusive)
+     * @return the overlapping reservations, ordered by start time
+     * @throws InvalidDateRangeException if the window is empty or inverted
+     * @throws RestaurantNotFoundException if the restaurant doesn't exist
+     * @throws SpaceNotFoundException if the space doesn't exist
+     */
+    public List<Reservation> getReservationsInWindow(ObjectId restaurantId, UUID spaceId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new InvalidDateRangeException(startTime, endTime, "End time must be after start time");
+        }
+
+        Restaurant restaurant = restaurantService.getRestaurantById(restaurantId)
+            .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+        boolean spaceExists = restaurant.getSpaces().stream().anyMatch(s -> s.getId().equals(spaceId));
+        if (!spaceExists) {
+            throw new SpaceNotFoundException(restaurantId, spaceId);
+        }
+
+        List<Reservation> reservations = reservationIntervalIndex.findOverlapping(
+                restaurantId, spaceId, startTime, endTime)
+            .orElseGet(() -> reservationRepository.findOverlappingReservations(
+                    restaurantId, spaceId, startTime, endTime).stream()
+                .sorted(Comparator.comparing(Reservation::getStartTime))
+                .toList());
+        if (!reservationArchiveService.reachesArchive(startTime)) {
+            return reservations;
+        }
+        return reservationArchiveService.withArchived(reservations, restaurantId, spaceId, startTime, endTime)
+            .stream()
+            .sorted(Comparator.comparing(Reservation::getStartTime))
+            .toList();
+    }
+
+    /**
+     * Validates that a reservation stays within one day, aligns its times to the slots of the space,
+     * and validates the aligned duration and operating hours.
+     */
+    private void alignAndValidateTimes(Reservation reservation, Space space) {
+        // Validate that reservation does not span multiple days
+        if (!reservation.getStartTime().toLocalDate().equals(reservation.getEndTime().toLocalDate())) {
+            throw new MultiDayReservationException(
+                reservation.getStartTime().toLocalDate(),
+                reservation.getEndTime().toLocalDate());
+        }
+
+        // Align reservation times to time slots
+        int slotDuration = space.getTimeSlotDurationMinutes();
+        LocalDateTime alignedStartTime = alignStartTimeToNearestSlot(reservation.getStartTime(), slotDuration);
+        LocalDateTime alignedEndTime = alignEndTimeToSlotCeiling(reservation.getEndTime(), slotDuration);
+
+        // Ensure minimum reservation duration of one slot
+        long durationMinutes = Duration.between(alignedStartTime, alignedEndTime).toMinutes();
+        if (durationMinutes < slotDuration) {
+            throw new InvalidReservationDurationException(slotDuration);
+        }
+
+        // Update reservation with aligned times
+        reservation.setStartTime(alignedStartTime);
+        reservation.setEndTime(alignedEndTime);
+
+        // Validate reservation is within operating hours (after alignment)
+        LocalTime reservationStartTime = reservation.getStartTime().toLocalTime();
+        LocalTime reservationEndTime = reservation.getEndTime().toLocalTime();
+        LocalTime operatingStart = space.getOperatingStartTime();
+        LocalTime operatingEnd = space.getOperatingEndTime();
+
+        if (reservationStartTime.isBefore(operatingStart) || reservationEndTime.isAfter(operatingEnd)) {
+            throw new OutsideOperatingHoursException(
+                reservationStartTime, reservationEndTime, operatingStart, operatingEnd);
+        }
+    }
+
+    /**
+     * Evicts the cached occupancy reports of a restaurant, whose keys start with its ID. The shared cache tier, if
+     * any, is evicted in the background, so the booking does not wait for it.
+     */
+    private void evictReports(ObjectId restaurantId) {
+        Cache reports = cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        if (reports instanceof RefreshAheadCache refreshAheadCache) {
+            refreshAheadCache.evictGroup(restaurantId);
+        } else if (reports != null) {
+            reports.clear();
+        }
+    }
+
+    /**
+     * Validates that the party size is within the capacity limits of the space.
+     */
+    private void validatePartySize(Reservation reservation, Space space) {
+        if (reservation.getPartySize() < space.getMinCapacity() ||
+            reservation.getPartySize() > space.getMaxCapacity()) {
+            throw new InvalidPartySizeException(
+                reservation.getPartySize(), space.getMinCapacity(), space.getMaxCapacity());
+        }
+    }
+
+    /**
+     * Attaches alternative slots to a rejection before it is thrown.
+     */
+    private <E extends SlotUnavailableException> E withAlternatives(E exception, Restaurant restaurant, Space space,
+                                                                   Reservation reservation) {
+        exception.setAlternatives(alternativeSlotService.findAlternatives(restaurant, space, reservation));
+        return exception;
+    }
 
     /**
      * Aligns start time to the nearest slot boundary.
      * Example with 60-min slots: 12:17 -> 12:00, 12:45 -> 13:00
      */
-    private LocalDateTime alignStartTimeToNearestSlot(LocalDateTime time, int slotMinutes) {
+    static LocalDateTime alignStartTimeToNearestSlot(LocalDateTime time, int slotMinutes) {
         int minute = time.getMinute();
         int remainder = minute % slotMinutes;
 
@@ -208,7 +449,7 @@ public class ReservationService {
      * Aligns end time by rounding up to the next slot boundary (ceiling).
      * Example with 60-min slots: 14:10 -> 15:00, 14:00 -> 14:00 (already aligned)
      */
-    private LocalDateTime alignEndTimeToSlotCeiling(LocalDateTime time, int slotMinutes) {
+    static LocalDateTime alignEndTimeToSlotCeiling(LocalDateTime time, int slotMinutes) {
         int minute = time.getMinute();
         int remainder = minute % slotMinutes;
 
@@ -1,5 +1,6 @@
 package com.opentable.privatedining.service;
 
+import com.opentable.privatedining.dto.SpaceUpdateDTO;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
 import com.opentable.privatedining.repository.RestaurantRepository;
@@ -7,25 +8,33 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Service class for managing restaurant operations.
+ * Deleting a restaurant or removing a space also removes its reservations through
+ * {@link ReservationCleanupService}.
  */
 @Service
 public class RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
+    private final ReservationCleanupService reservationCleanupService;
 
     /**
-     * Constructs a new RestaurantService with the required repository.
+     * Constructs a new RestaurantService with the required dependencies.
      *
      * @param restaurantRepository the repository for restaurant data access
+     * @param reservationCleanupService the service removing reservations of deleted restaurants and spaces
      */
-    public RestaurantService(RestaurantRepository restaurantRepository) {
+    public RestaurantService(RestaurantRepository restaurantRepository,
+                             ReservationCleanupService reservationCleanupService) {
         this.restaurantRepository = restaurantRepository;
+        this.reservationCleanupService = reservationCleanupService;
     }
 
     /**
@@ -58,23 +67,20 @@ public class RestaurantService {
     }
 
     /**
-     * Updates an existing restaurant.
+     * Updates the details of an existing restaurant with a single targeted {@code $set}.
+     * Spaces are left untouched; they are managed through the space operations.
      *
      * @param id the restaurant ID
      * @param restaurant the updated restaurant data
      * @return optional containing the updated restaurant if found
      */
     public Optional<Restaurant> updateRestaurant(ObjectId id, Restaurant restaurant) {
-        Optional<Restaurant> existingRestaurant = restaurantRepository.findById(id);
-        if (existingRestaurant.isPresent()) {
-            restaurant.setId(id);
-            return Optional.of(restaurantRepository.save(restaurant));
-        }
-        return Optional.empty();
+        return restaurantRepository.updateDetails(id, restaurant);
     }
 
     /**
-     * Deletes a restaurant by its ID.
+     * Deletes a restaurant by its ID, together with its reservations.
+     * Large tenants have their reservations removed in the background; see {@link ReservationCleanupService}.
      *
      * @param id the restaurant ID
      * @return true if the restaurant was deleted, false if not found
@@ -83,43 +89,62 @@ public class RestaurantService {
         Optional<Restaurant> existingRestaurant = restaurantRepository.findById(id);
         if (existingRestaurant.isPresent()) {
             restaurantRepository.deleteById(id);
+            reservationCleanupService.submitCleanup(id, null);
             return true;
         }
         return false;
     }
 
     /**
-     * Adds a space to a restaurant.
+     * Adds a space to a restaurant with a single {@code $push}.
      *
      * @param restaurantId the restaurant ID
      * @param space the space to add
      * @return optional containing the updated restaurant if found
      */
     public Optional<Restaurant> addSpaceToRestaurant(ObjectId restaurantId, Space space) {
-        Optional<Restaurant> restaurantOpt = restaurantRepository.findById(restaurantId);
-        if (restaurantOpt.isPresent()) {
-            Restaurant restaurant = restaurantOpt.get();
-            restaurant.getSpaces().add(space);
-            return Optional.of(restaurantRepository.save(restaurant));
-        }
-        return Optional.empty();
+        return restaurantRepository.pushSpace(restaurantId, space);
     }
 
     /**
-     * Removes a space from a restaurant.
+     * Removes a space from a restaurant with a single {@code $pull}, together with its reservations.
      *
      * @param restaurantId the restaurant ID
      * @param spaceId the UUID of the space to remove
      * @return optional containing the updated restaurant if found
      */
     public Optional<Restaurant> removeSpaceFromRestaurant(ObjectId restaurantId, UUID spaceId) {
-        Optional<Restaurant> restaurantOpt = restaurantRepository.findById(restaurantId);
-        if (restaurantOpt.isPresent()) {
-            Restaurant restaurant = restaurantOpt.get();
-            restaurant.getSpaces().removeIf(space -> space.getId().equals(spaceId));
-            return Optional.of(restaurantRepository.save(restaurant));
+        Optional<Restaurant> updatedRestaurant = restaurantRepository.pullSpace(restaurantId, spaceId);
+        if (updatedRestaurant.isPresent()) {
+            reservationCleanupService.submitCleanup(restaurantId, spaceId);
+            return updatedRestaurant;
         }
-        return Optional.empty();
+        // No such space: report the restaurant as it is, or empty if it doesn't exist either
+        return restaurantRepository.findById(restaurantId);
+    }
+
+    /**
+     * Partially updates a space in place with a single positional {@code $set} on {@code spaces.$[s]}.
+     * Only the fields present in the update are written.
+     *
+     * @param restaurantId the restaurant ID
+     * @param spaceId the UUID of the space to update
+     * @param spaceUpdate the fields to change
+     * @return optional containing the updated restaurant if the restaurant and space were found
+     */
+    public Optional<Restaurant> updateSpace(ObjectId restaurantId, UUID spaceId, SpaceUpdateDTO spaceUpdate) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "name", spaceUpdate.getName());
+        putIfPresent(fields, "minCapacity", spaceUpdate.getMinCapacity());
+        putIfPresent(fields, "maxCapacity", spaceUpdate.getMaxCapacity());
+        putIfPresent(fields, "operatingStartTime", spaceUpdate.getOperatingStartTime());
+        putIfPresent(fields, "operatingEndTime", spaceUpdate.getOperatingEndTime());
+        putIfPresent(fields, "timeSlotDurationMinutes", spaceUpdate.getTimeSlotDurationMinutes());
+        if (fields.isEmpty()) {
+            return restaurantRepository.findById(restaurantId)
+                    .filter(restaurant -> restaurant.getSpaces().stream().anyMatch(s -> s.getId().equals(spaceId)));
+        }
+        return restaurantRepository.updateSpace(restaurantId, spaceId, fields);
     }
 
     /**
@@ -149,4 +174,10 @@ public class RestaurantService {
     public boolean spaceExistsInRestaurant(ObjectId restaurantId, UUID spaceId) {
         return getSpaceById(restaurantId, spaceId).isPresent();
     }
+
+    private static void putIfPresent(Map<String, Object> fields, String property, Object value) {
+        if (value != null) {
+            fields.put(property, value);
+        }
+    }
 }
\ No newline at end of file
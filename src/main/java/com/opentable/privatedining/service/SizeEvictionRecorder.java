@@ -0,0 +1,98 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the statistics of Caffeine caches and counts, per cache, the entries evicted because the cache exceeded
+ * its maximum size or weight. Caffeine's own eviction count also includes expired entries, so on its own it cannot
+ * tell whether a cache is too small.
+ */
+@Component
+public class SizeEvictionRecorder {
+
+    private final Map<String, SizeEvictionStatsCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics counter of a cache, to pass to {@code Caffeine.recordStats}.
+     *
+     * @param cacheName the cache name
+     * @return the statistics counter of the cache
+     */
+    public StatsCounter statsCounter(String cacheName) {
+        return counters.computeIfAbsent(cacheName, name -> new SizeEvictionStatsCounter());
+    }
+
+    /**
+     * Returns the number of entries of a cache evicted for size.
+     *
+     * @param cacheName the cache name
+     * @return the number of entries, or 0 if the cache is not recorded
+     */
+    public long getEvictionCount(String cacheName) {
+        SizeEvictionStatsCounter counter = counters.get(cacheName);
+        return counter != null ? counter.evictions.sum() : 0;
+    }
+
+    /**
+     * Returns the total weight of the entries of a cache evicted for size.
+     *
+     * @param cacheName the cache name
+     * @return the total weight, or 0 if the cache is not recorded
+     */
+    public long getEvictionWeight(String cacheName) {
+        SizeEvictionStatsCounter counter = counters.get(cacheName);
+        return counter != null ? counter.evictionWeight.sum() : 0;
+    }
+
+    /**
+     * Caffeine's statistics counter, also counting evictions caused by size.
+     */
+    private static class SizeEvictionStatsCounter implements StatsCounter {
+
+        private final StatsCounter delegate = new ConcurrentStatsCounter();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder evictionWeight = new LongAdder();
+
+        @Override
+        public void recordHits(int count) {
+            delegate.recordHits(count);
+        }
+
+        @Override
+        public void recordMisses(int count) {
+            delegate.recordMisses(count);
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            delegate.recordLoadSuccess(loadTime);
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            delegate.recordLoadFailure(loadTime);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+            if (cause == RemovalCause.SIZE) {
+                evictions.increment();
+                evictionWeight.add(weight);
+            }
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
+}
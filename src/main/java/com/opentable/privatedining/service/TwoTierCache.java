@@ -0,0 +1,229 @@
+package com.opentable.privatedining.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentable.privatedining.repository.SharedCacheStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Cache with a local first tier (L1) backed by a {@link SharedCacheStore} shared by every instance (L2).
+ * <p>
+ * A lookup missing L1 checks L2 before the value is computed, and an L2 hit is copied into L1, so a report computed
+ * by one instance is reused by the others. Values are written to both tiers, as deflated JSON without null fields
+ * in L2. Keys are lists of parameters whose first element is the group (the restaurant ID); evicting a group
+ * removes its entries from both tiers. Group evictions are issued by booking writes, so L1 is evicted at once and
+ * L2 in the background; until the L2 eviction is done, lookups of that group skip L2 rather than read it back.
+ * <p>
+ * L2 is an optimisation: when it fails, lookups fall back to computing the value and writes only reach L1.
+ */
+public class TwoTierCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final Cache localCache;
+    private final SharedCacheStore sharedCacheStore;
+    private final ObjectMapper objectMapper;
+    private final Class<?> valueType;
+    private final Duration timeToLive;
+    private final Executor evictionExecutor;
+
+    private final ConcurrentHashMap<String, Integer> pendingGroupEvictions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new TwoTierCache.
+     *
+     * @param localCache the local cache used as L1
+     * @param sharedCacheStore the shared store used as L2
+     * @param objectMapper the mapper serialising values for L2
+     * @param valueType the type of the cached values
+     * @param timeToLive how long entries live in L2
+     * @param evictionExecutor the executor evicting groups from L2 in the background
+     */
+    public TwoTierCache(Cache localCache, SharedCacheStore sharedCacheStore, ObjectMapper objectMapper,
+                        Class<?> valueType, Duration timeToLive, Executor evictionExecutor) {
+        this.localCache = localCache;
+        this.sharedCacheStore = sharedCacheStore;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.valueType = valueType;
+        this.timeToLive = timeToLive;
+        this.evictionExecutor = evictionExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = localCache.get(key);
+        if (local != null) {
+            return local;
+        }
+        Object shared = readShared(key);
+        if (shared == null) {
+            return null;
+        }
+        localCache.put(key, shared);
+        return new SimpleValueWrapper(shared);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return localCache.get(key, () -> {
+            Object shared = readShared(key);
+            if (shared != null) {
+                return (T) shared;
+            }
+            T value = valueLoader.call();
+            writeShared(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+        writeShared(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        try {
+            sharedCacheStore.evict(getName(), sharedKey(key));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict {} from the shared {} cache", key, getName(), e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        try {
+            sharedCacheStore.clear(getName());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to clear the shared {} cache", getName(), e);
+        }
+    }
+
+    /**
+     * Evicts every entry of a group from both tiers. L1 is evicted before returning; L2 is evicted on the eviction
+     * executor, so the caller does not wait for the shared store.
+     *
+     * @param group the first element of the keys to evict
+     */
+    public void evictGroup(Object group) {
+        String sharedGroup = group.toString();
+        pendingGroupEvictions.merge(sharedGroup, 1, Integer::sum);
+        if (localCache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key ->
+                    key instanceof List<?> parts && !parts.isEmpty() && group.equals(parts.get(0)));
+        } else {
+            localCache.clear();
+        }
+        try {
+            evictionExecutor.execute(() -> evictSharedGroup(sharedGroup));
+        } catch (RejectedExecutionException e) {
+            evictSharedGroup(sharedGroup);
+        }
+    }
+
+    private void evictSharedGroup(String group) {
+        try {
+            sharedCacheStore.evictGroup(getName(), group);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict group {} from the shared {} cache", group, getName(), e);
+        } finally {
+            pendingGroupEvictions.computeIfPresent(group, (pending, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private Object readShared(Object key) {
+        if (pendingGroupEvictions.containsKey(group(key))) {
+            return null;
+        }
+        try {
+            Optional<byte[]> bytes = sharedCacheStore.get(getName(), sharedKey(key));
+            return bytes.isPresent() ? decode(bytes.get()) : null;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to read {} from the shared {} cache", key, getName(), e);
+            return null;
+        }
+    }
+
+    private void writeShared(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            sharedCacheStore.put(getName(), sharedKey(key), group(key), encode(value), timeToLive);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write {} to the shared {} cache", key, getName(), e);
+        }
+    }
+
+    private byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            objectMapper.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object decode(byte[] bytes) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return objectMapper.readValue(in, valueType);
+        }
+    }
+
+    /**
+     * Joins the elements of a list key, which hold IDs, times, numbers or nulls, into the L2 key.
+     */
+    static String sharedKey(Object key) {
+        if (key instanceof List<?> parts) {
+            return parts.stream().map(String::valueOf).collect(Collectors.joining("|"));
+        }
+        return String.valueOf(key);
+    }
+
+    private static String group(Object key) {
+        return key instanceof List<?> parts && !parts.isEmpty() ? String.valueOf(parts.get(0)) : "";
+    }
+}
@@ -0,0 +1,232 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.AvailabilityCalendarDTO;
+import com.opentable.privatedining.dto.CalendarDayDTO;
+import com.opentable.privatedining.dto.CalendarSlotDTO;
+import com.opentable.privatedining.dto.SpaceAvailabilityDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.InvalidPartySizeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.service.AvailabilityService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AvailabilityController.class)
+class AvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvailabilityService availabilityService;
+
+    private static final String AVAILABILITY_URL = "/v1/availability";
+    private static final String CALENDAR_URL = "/v1/availability/calendar";
+
+    // ==================== Success Tests ====================
+
+    @Test
+    void searchAvailability_WithValidParams_ShouldReturnResults() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        SpaceAvailabilityDTO result = new SpaceAvailabilityDTO(restaurantId.toString(), "Test Restaurant", "Italian",
+                UUID.randomUUID(), "Garden Room", 10, 40, 8, 32);
+        when(availabilityService.searchAvailability(eq(30), eq(LocalDateTime.of(2026, 1, 23, 18, 0)),
+                eq(LocalDateTime.of(2026, 1, 23, 21, 0)), eq("Italian"), isNull(), eq(20)))
+                .thenReturn(List.of(result));
+
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "30")
+                        .param("startTime", "2026-01-23T18:00:00")
+                        .param("endTime", "2026-01-23T21:00:00")
+                        .param("cuisineType", "Italian"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].restaurantId").value(restaurantId.toString()))
+                .andExpect(jsonPath("$[0].spaceName").value("Garden Room"))
+                .andExpect(jsonPath("$[0].remainingCapacity").value(32));
+    }
+
+    @Test
+    void searchAvailability_WithRestaurantFilter_ShouldPassRestaurantId() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        when(availabilityService.searchAvailability(eq(12), any(LocalDateTime.class), any(LocalDateTime.class),
+                isNull(), eq(restaurantId), eq(5)))
+                .thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "12")
+                        .param("startTime", "2026-01-23T18:00:00")
+                        .param("endTime", "2026-01-23T21:00:00")
+                        .param("restaurantId", restaurantId.toString())
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    // ==================== Validation Tests ====================
+
+    @Test
+    void searchAvailability_WithInvalidPartySize_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "0")
+                        .param("startTime", "2026-01-23T18:00:00")
+                        .param("endTime", "2026-01-23T21:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void searchAvailability_WithInvalidRestaurantId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "12")
+                        .param("startTime", "2026-01-23T18:00:00")
+                        .param("endTime", "2026-01-23T21:00:00")
+                        .param("restaurantId", "invalid-id"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchAvailability_WithInvalidWindow_ShouldReturn400() throws Exception {
+        // Given
+        when(availabilityService.searchAvailability(anyInt(), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(), any(), anyInt()))
+                .thenThrow(new InvalidDateRangeException("end time must be after start time"));
+
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "12")
+                        .param("startTime", "2026-01-23T21:00:00")
+                        .param("endTime", "2026-01-23T18:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchAvailability_WhenRestaurantNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        when(availabilityService.searchAvailability(anyInt(), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(), eq(restaurantId), anyInt()))
+                .thenThrow(new RestaurantNotFoundException(restaurantId));
+
+        // When & Then
+        mockMvc.perform(get(AVAILABILITY_URL)
+                        .param("partySize", "12")
+                        .param("startTime", "2026-01-23T18:00:00")
+                        .param("endTime", "2026-01-23T21:00:00")
+                        .param("restaurantId", restaurantId.toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    // ==================== Calendar Tests ====================
+
+    @Test
+    void getCalendar_WithValidParams_ShouldReturnCalendar() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDate startDate = LocalDate.of(2026, 1, 23);
+        CalendarDayDTO day = new CalendarDayDTO(startDate, 1, List.of(
+                new CalendarSlotDTO(LocalTime.of(18, 0), LocalTime.of(18, 30), 28, true)));
+        when(availabilityService.getCalendar(restaurantId, spaceId, 12, startDate, 7))
+                .thenReturn(new AvailabilityCalendarDTO(restaurantId.toString(), spaceId, "Garden Room", 12, 30,
+                        List.of(day)));
+
+        // When & Then
+        mockMvc.perform(get(CALENDAR_URL)
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("partySize", "12")
+                        .param("startDate", "2026-01-23")
+                        .param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slotDurationMinutes").value(30))
+                .andExpect(jsonPath("$.days[0].date").value("23-01-2026"))
+                .andExpect(jsonPath("$.days[0].slots[0].startTime").value("18:00"))
+                .andExpect(jsonPath("$.days[0].slots[0].available").value(true));
+    }
+
+    @Test
+    void getCalendar_WithoutStartDate_ShouldDefaultToThirtyDaysFromToday() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        when(availabilityService.getCalendar(eq(restaurantId), eq(spaceId), eq(12), any(LocalDate.class), eq(30)))
+                .thenReturn(new AvailabilityCalendarDTO(restaurantId.toString(), spaceId, "Garden Room", 12, 30,
+                        List.of()));
+
+        // When & Then
+        mockMvc.perform(get(CALENDAR_URL)
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("partySize", "12"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getCalendar_WithInvalidRestaurantId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CALENDAR_URL)
+                        .param("restaurantId", "invalid-id")
+                        .param("spaceId", UUID.randomUUID().toString())
+                        .param("partySize", "12"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void getCalendar_WithPartySizeOutsideLimits_ShouldReturn400() throws Exception {
+        // Given
+        when(availabilityService.getCalendar(any(ObjectId.class), any(UUID.class), anyInt(),
+                any(LocalDate.class), anyInt()))
+                .thenThrow(new InvalidPartySizeException(50, 10, 40));
+
+        // When & Then
+        mockMvc.perform(get(CALENDAR_URL)
+                        .param("restaurantId", new ObjectId().toString())
+                        .param("spaceId", UUID.randomUUID().toString())
+                        .param("partySize", "50"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCalendar_WhenSpaceNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        when(availabilityService.getCalendar(eq(restaurantId), eq(spaceId), anyInt(),
+                any(LocalDate.class), anyInt()))
+                .thenThrow(new SpaceNotFoundException(restaurantId, spaceId));
+
+        // When & Then
+        mockMvc.perform(get(CALENDAR_URL)
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("partySize", "12"))
+                .andExpect(status().isNotFound());
+    }
+}
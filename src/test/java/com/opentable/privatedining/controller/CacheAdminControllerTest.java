@@ -0,0 +1,119 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.CacheStatsDTO;
+import com.opentable.privatedining.exception.CacheNotFoundException;
+import com.opentable.privatedining.service.CacheAdminService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CacheAdminController.class)
+class CacheAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheAdminService cacheAdminService;
+
+    private static final String CACHES_URL = "/v1/admin/caches";
+    private static final String CACHE_NAME = "occupancyReports";
+
+    @Test
+    void getStats_ShouldReturnStatisticsOfEveryCache() throws Exception {
+        // Given
+        when(cacheAdminService.getStats()).thenReturn(List.of(createStats(100L, 40)));
+
+        // When & Then
+        mockMvc.perform(get(CACHES_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value(CACHE_NAME))
+                .andExpect(jsonPath("$[0].hitRate").value(0.75));
+    }
+
+    @Test
+    void getCacheStats_WhenCacheNotFound_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(cacheAdminService.getStats("missing")).thenThrow(new CacheNotFoundException("missing"));
+
+        // When & Then
+        mockMvc.perform(get(CACHES_URL + "/{name}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTopKeys_ShouldReturnKeys() throws Exception {
+        // Given
+        when(cacheAdminService.getTopKeys(CACHE_NAME, 2)).thenReturn(List.of("a|0", "b|0"));
+
+        // When & Then
+        mockMvc.perform(get(CACHES_URL + "/{name}/keys", CACHE_NAME).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("a|0"))
+                .andExpect(jsonPath("$[1]").value("b|0"));
+    }
+
+    @Test
+    void evictRestaurant_ShouldReturnNoContent() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+
+        // When & Then
+        mockMvc.perform(delete(CACHES_URL + "/{name}/restaurants/{restaurantId}", CACHE_NAME,
+                        restaurantId.toHexString()))
+                .andExpect(status().isNoContent());
+        verify(cacheAdminService).evictRestaurant(CACHE_NAME, restaurantId);
+    }
+
+    @Test
+    void evictRestaurant_WithInvalidId_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(delete(CACHES_URL + "/{name}/restaurants/{restaurantId}", CACHE_NAME, "invalid"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(cacheAdminService);
+    }
+
+    @Test
+    void resize_ShouldReturnUpdatedStatistics() throws Exception {
+        // Given
+        when(cacheAdminService.resize(CACHE_NAME, 500)).thenReturn(createStats(500L, 40));
+
+        // When & Then
+        mockMvc.perform(put(CACHES_URL + "/{name}/maximum-size", CACHE_NAME).param("maximumSize", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maximumSize").value(500));
+    }
+
+    @Test
+    void resize_WithNonPositiveSize_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(put(CACHES_URL + "/{name}/maximum-size", CACHE_NAME).param("maximumSize", "0"))
+                .andExpect(status().isBadRequest());
+        verify(cacheAdminService, never()).resize(anyString(), anyLong());
+    }
+
+    private CacheStatsDTO createStats(Long maximumSize, long estimatedSize) {
+        CacheStatsDTO stats = new CacheStatsDTO();
+        stats.setName(CACHE_NAME);
+        stats.setEstimatedSize(estimatedSize);
+        stats.setMaximumSize(maximumSize);
+        stats.setHitCount(75);
+        stats.setMissCount(25);
+        stats.setHitRate(0.75);
+        return stats;
+    }
+}
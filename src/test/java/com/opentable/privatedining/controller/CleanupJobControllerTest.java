@@ -0,0 +1,102 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.CleanupJobDTO;
+import com.opentable.privatedining.exception.CleanupJobNotFoundException;
+import com.opentable.privatedining.mapper.CleanupJobMapper;
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import com.opentable.privatedining.service.ReservationCleanupService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CleanupJobController.class)
+class CleanupJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReservationCleanupService reservationCleanupService;
+
+    @MockBean
+    private CleanupJobMapper cleanupJobMapper;
+
+    private static final String JOBS_URL = "/v1/restaurants/{id}/cleanup-jobs";
+
+    @Test
+    void getJobs_ShouldReturnJobsOfRestaurant() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        CleanupJob job = new CleanupJob(restaurantId, null, 2500L);
+        job.setId(jobId);
+
+        when(reservationCleanupService.getJobs(restaurantId)).thenReturn(List.of(job));
+        when(cleanupJobMapper.toDTO(job)).thenReturn(createJobDTO(jobId, restaurantId, CleanupJobStatus.RUNNING, 1000L));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL, restaurantId.toHexString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(jobId.toHexString()))
+                .andExpect(jsonPath("$[0].deletedReservations").value(1000));
+    }
+
+    @Test
+    void getJob_WhenJobExists_ShouldReturnProgress() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        CleanupJob job = new CleanupJob(restaurantId, null, 2500L);
+        job.setId(jobId);
+
+        when(reservationCleanupService.getJob(restaurantId, jobId)).thenReturn(job);
+        when(cleanupJobMapper.toDTO(job)).thenReturn(createJobDTO(jobId, restaurantId, CleanupJobStatus.COMPLETED, 2500L));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.totalReservations").value(2500));
+    }
+
+    @Test
+    void getJob_WhenJobNotFound_ShouldReturnNotFound() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        when(reservationCleanupService.getJob(restaurantId, jobId)).thenThrow(new CleanupJobNotFoundException(jobId));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getJob_WithInvalidJobId_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}", new ObjectId().toHexString(), "not-an-id"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CleanupJobDTO createJobDTO(ObjectId jobId, ObjectId restaurantId, CleanupJobStatus status,
+                                       long deletedReservations) {
+        CleanupJobDTO dto = new CleanupJobDTO();
+        dto.setId(jobId.toHexString());
+        dto.setRestaurantId(restaurantId.toHexString());
+        dto.setStatus(status);
+        dto.setTotalReservations(2500L);
+        dto.setDeletedReservations(deletedReservations);
+        return dto;
+    }
+}
@@ -1,36 +1,59 @@
 package com.opentable.privatedining.controller;
 
 import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.config.BulkheadConfig;
 import com.opentable.privatedining.dto.*;
 import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.RestaurantNotFoundException;
 import com.opentable.privatedining.exception.SpaceNotFoundException;
 import com.opentable.privatedining.mapper.RestaurantMapper;
 import com.opentable.privatedining.mapper.SpaceMapper;
+import com.opentable.privatedining.service.Bulkhead;
 import com.opentable.privatedining.service.OccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReactiveOccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReportWarmupService;
 import com.opentable.privatedining.service.RestaurantService;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(RestaurantController.class)
 class OccupancyAnalyticsControllerTest {
 
+    @TestConfiguration
+    static class BulkheadTestConfig {
+
+        @Bean(BulkheadConfig.ANALYTICS_BULKHEAD)
+        Bulkhead analyticsBulkhead() {
+            return new Bulkhead("analytics", 4, 4, 0, null);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -40,6 +63,12 @@ class OccupancyAnalyticsControllerTest {
     @MockBean
     private OccupancyAnalyticsService occupancyAnalyticsService;
 
+    @MockBean
+    private ReactiveOccupancyAnalyticsService reactiveOccupancyAnalyticsService;
+
+    @MockBean
+    private ReportWarmupService reportWarmupService;
+
     @MockBean
     private RestaurantMapper restaurantMapper;
 
@@ -50,6 +79,7 @@ class OccupancyAnalyticsControllerTest {
     private AnalyticsConfig analyticsConfig;
 
     private static final String ANALYTICS_URL = "/v1/restaurants/{id}/analytics/occupancy";
+    private static final String REACTIVE_ANALYTICS_URL = "/v1/restaurants/{id}/analytics/occupancy/reactive";
 
     // ==================== Success Tests ====================
 
@@ -73,7 +103,7 @@ class OccupancyAnalyticsControllerTest {
 
         OccupancyReportDTO response = new OccupancyReportDTO(
                 restaurantId.toHexString(), startTime, endTime, summary,
-                List.of(spaceReport), 0, 10, 1, 1);
+                List.of(spaceReport), 0, 10, 1, 1, null);
 
         when(occupancyAnalyticsService.generateOccupancyReport(
                 eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(0), eq(10)))
@@ -111,7 +141,7 @@ class OccupancyAnalyticsControllerTest {
 
         OccupancyReportDTO response = new OccupancyReportDTO(
                 restaurantId.toHexString(), startTime, endTime, summary,
-                List.of(spaceReport), 0, 10, 1, 1);
+                List.of(spaceReport), 0, 10, 1, 1, null);
 
         when(occupancyAnalyticsService.generateOccupancyReport(
                 eq(restaurantId), eq(startTime), eq(endTime), eq(spaceId), eq(0), eq(10)))
@@ -126,6 +156,32 @@ class OccupancyAnalyticsControllerTest {
                 .andExpect(jsonPath("$.spaceReports[0].spaceId").value(spaceId.toString()));
     }
 
+    @Test
+    void getOccupancyReport_WhenServedFromCache_ShouldReturnAgeHeader() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+        Instant generatedAt = Instant.now().minusSeconds(600);
+
+        OccupancyReportDTO response = new OccupancyReportDTO(
+                restaurantId.toHexString(), startTime, endTime, new OccupancySummaryDTO(0, 0, 0, 0.0, 0.0),
+                Collections.emptyList(), 0, 10, 0, 0, generatedAt);
+
+        when(occupancyAnalyticsService.generateOccupancyReport(
+                eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(0), eq(10)))
+                .thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get(ANALYTICS_URL, restaurantId.toHexString())
+                        .param("startTime", "2026-01-20T09:00:00")
+                        .param("endTime", "2026-01-20T18:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.AGE, matchesPattern("60\\d")))
+                .andExpect(jsonPath("$.generatedAt").value(generatedAt.toString()));
+        verify(reportWarmupService).recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+    }
+
     @Test
     void getOccupancyReport_WithPaginationParams_ShouldPassPaginationToService() throws Exception {
         // Given
@@ -136,7 +192,7 @@ class OccupancyAnalyticsControllerTest {
         OccupancySummaryDTO summary = new OccupancySummaryDTO(0, 0, 0, 0.0, 0.0);
         OccupancyReportDTO response = new OccupancyReportDTO(
                 restaurantId.toHexString(), startTime, endTime, summary,
-                Collections.emptyList(), 2, 5, 15, 3);
+                Collections.emptyList(), 2, 5, 15, 3, null);
 
         when(occupancyAnalyticsService.generateOccupancyReport(
                 eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(2), eq(5)))
@@ -209,6 +265,7 @@ class OccupancyAnalyticsControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value(
                         "Invalid date range from 2026-01-20T18:00 to 2026-01-20T09:00: End time must be after start time"));
+        verifyNoInteractions(reportWarmupService);
     }
 
     @Test
@@ -249,6 +306,7 @@ class OccupancyAnalyticsControllerTest {
                         .param("startTime", "2026-01-20T09:00:00")
                         .param("endTime", "2026-01-20T18:00:00"))
                 .andExpect(status().isNotFound());
+        verifyNoInteractions(reportWarmupService);
     }
 
     @Test
@@ -283,7 +341,7 @@ class OccupancyAnalyticsControllerTest {
         OccupancySummaryDTO summary = new OccupancySummaryDTO(0, 0, 0, 0.0, 0.0);
         OccupancyReportDTO response = new OccupancyReportDTO(
                 restaurantId.toHexString(), startTime, endTime, summary,
-                Collections.emptyList(), 0, 10, 0, 0);
+                Collections.emptyList(), 0, 10, 0, 0, null);
 
         when(occupancyAnalyticsService.generateOccupancyReport(
                 eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(0), eq(10)))
@@ -308,5 +366,60 @@ class OccupancyAnalyticsControllerTest {
                         .param("endTime", "2026-01-20T18:00:00"))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    // ==================== Reactive Endpoint Tests ====================
+
+    @Test
+    void getOccupancyReportReactive_WithValidParams_ShouldReturnReport() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+
+        OccupancySummaryDTO summary = new OccupancySummaryDTO(2, 12, 8, 30.0, 40.0);
+        OccupancyReportDTO response = new OccupancyReportDTO(
+                restaurantId.toHexString(), startTime, endTime, summary,
+                Collections.emptyList(), 0, 10, 0, 0, null);
+
+        when(reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(0), eq(10)))
+                .thenReturn(Mono.just(response));
+
+        // When
+        MvcResult asyncResult = mockMvc.perform(get(REACTIVE_ANALYTICS_URL, restaurantId.toHexString())
+                        .param("startTime", "2026-01-20T09:00:00")
+                        .param("endTime", "2026-01-20T18:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.restaurantId").value(restaurantId.toHexString()))
+                .andExpect(jsonPath("$.summary.totalReservations").value(2))
+                .andExpect(jsonPath("$.summary.totalGuests").value(12));
+    }
+
+    @Test
+    void getOccupancyReportReactive_WhenRestaurantNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+
+        when(reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                eq(restaurantId), eq(startTime), eq(endTime), isNull(), eq(0), eq(10)))
+                .thenReturn(Mono.error(new RestaurantNotFoundException(restaurantId)));
+
+        // When
+        MvcResult asyncResult = mockMvc.perform(get(REACTIVE_ANALYTICS_URL, restaurantId.toHexString())
+                        .param("startTime", "2026-01-20T09:00:00")
+                        .param("endTime", "2026-01-20T18:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isNotFound());
+    }
+}
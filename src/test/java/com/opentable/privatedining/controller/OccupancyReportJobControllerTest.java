@@ -0,0 +1,186 @@
+package com.opentable.privatedining.controller;
+
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.OccupancySummaryDTO;
+import com.opentable.privatedining.dto.ReportJobDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.ReportJobNotFoundException;
+import com.opentable.privatedining.exception.ReportJobNotReadyException;
+import com.opentable.privatedining.mapper.ReportJobMapper;
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.model.ReportJobStatus;
+import com.opentable.privatedining.service.OccupancyReportJobService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OccupancyReportJobController.class)
+class OccupancyReportJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OccupancyReportJobService occupancyReportJobService;
+
+    @MockBean
+    private ReportJobMapper reportJobMapper;
+
+    private static final String JOBS_URL = "/v1/restaurants/{id}/analytics/occupancy/jobs";
+
+    // ==================== Submit Tests ====================
+
+    @Test
+    void submitJob_WithValidRequest_ShouldReturnAccepted() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        LocalDate startDate = LocalDate.of(2026, 1, 1);
+        LocalDate endDate = LocalDate.of(2026, 3, 31);
+
+        ReportJob job = new ReportJob(restaurantId, null, startDate, endDate, 60);
+        job.setId(jobId);
+        ReportJobDTO jobDTO = createJobDTO(jobId, restaurantId, ReportJobStatus.PENDING, 0);
+
+        when(occupancyReportJobService.submitJob(restaurantId, startDate, endDate, null)).thenReturn(job);
+        when(reportJobMapper.toDTO(job)).thenReturn(jobDTO);
+
+        // When & Then
+        mockMvc.perform(post(JOBS_URL, restaurantId.toHexString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"startDate\":\"01-01-2026\",\"endDate\":\"31-03-2026\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(jobId.toHexString()))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.totalDays").value(90))
+                .andExpect(jsonPath("$.startDate").value("01-01-2026"));
+    }
+
+    @Test
+    void submitJob_WhenStartDateMissing_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post(JOBS_URL, new ObjectId().toHexString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"endDate\":\"31-03-2026\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.startDate").value("Start date is required"));
+
+        verify(occupancyReportJobService, never()).submitJob(any(), any(), any(), any());
+    }
+
+    @Test
+    void submitJob_WhenRangeInvalid_ShouldReturnBadRequest() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        when(occupancyReportJobService.submitJob(eq(restaurantId), any(), any(), isNull()))
+                .thenThrow(new InvalidDateRangeException(LocalDateTime.of(2026, 1, 1, 0, 0),
+                        LocalDateTime.of(2027, 6, 1, 0, 0), 366));
+
+        // When & Then
+        mockMvc.perform(post(JOBS_URL, restaurantId.toHexString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"startDate\":\"01-01-2026\",\"endDate\":\"31-05-2027\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ==================== Status Tests ====================
+
+    @Test
+    void getJob_WhenJobExists_ShouldReturnProgress() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        ReportJob job = new ReportJob(restaurantId, null, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), 60);
+        job.setId(jobId);
+
+        when(occupancyReportJobService.getJob(restaurantId, jobId)).thenReturn(job);
+        when(reportJobMapper.toDTO(job)).thenReturn(createJobDTO(jobId, restaurantId, ReportJobStatus.RUNNING, 42));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.completedDays").value(42));
+    }
+
+    @Test
+    void getJob_WhenJobNotFound_ShouldReturnNotFound() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        when(occupancyReportJobService.getJob(restaurantId, jobId)).thenThrow(new ReportJobNotFoundException(jobId));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isNotFound());
+    }
+
+    // ==================== Result Tests ====================
+
+    @Test
+    void getJobResult_WhenCompleted_ShouldReturnReport() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        OccupancyReportDTO report = new OccupancyReportDTO(restaurantId.toHexString(),
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 4, 1, 0, 0),
+                new OccupancySummaryDTO(120, 900, 20, 12.5, 80.0), List.of(), 0, 10, 0, 0, null);
+
+        when(occupancyReportJobService.getJobResult(restaurantId, jobId, 0, 10)).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}/result", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.restaurantId").value(restaurantId.toHexString()))
+                .andExpect(jsonPath("$.summary.totalReservations").value(120));
+    }
+
+    @Test
+    void getJobResult_WhenNotCompleted_ShouldReturnConflict() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        ObjectId jobId = new ObjectId();
+        when(occupancyReportJobService.getJobResult(restaurantId, jobId, 0, 10))
+                .thenThrow(new ReportJobNotReadyException(jobId, ReportJobStatus.RUNNING));
+
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}/result", restaurantId.toHexString(), jobId.toHexString()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getJobResult_WithInvalidJobId_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(JOBS_URL + "/{jobId}/result", new ObjectId().toHexString(), "not-an-id"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ReportJobDTO createJobDTO(ObjectId jobId, ObjectId restaurantId, ReportJobStatus status,
+                                      int completedDays) {
+        ReportJobDTO dto = new ReportJobDTO();
+        dto.setId(jobId.toHexString());
+        dto.setRestaurantId(restaurantId.toHexString());
+        dto.setStartDate(LocalDate.of(2026, 1, 1));
+        dto.setEndDate(LocalDate.of(2026, 3, 31));
+        dto.setStatus(status);
+        dto.setTotalDays(90);
+        dto.setCompletedDays(completedDays);
+        return dto;
+    }
+}
@@ -1,8 +1,13 @@
 package com.opentable.privatedining.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentable.privatedining.config.BulkheadConfig;
+import com.opentable.privatedining.dto.BulkCancellationDTO;
 import com.opentable.privatedining.dto.ReservationDTO;
+import com.opentable.privatedining.dto.ReservationUpdateDTO;
 import com.opentable.privatedining.exception.GlobalExceptionHandler;
+import com.opentable.privatedining.exception.IdempotencyKeyReusedException;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.InvalidPartySizeException;
 import com.opentable.privatedining.exception.ReservationConflictException;
 import com.opentable.privatedining.exception.ReservationNotFoundException;
@@ -10,12 +15,16 @@ import com.opentable.privatedining.exception.RestaurantNotFoundException;
 import com.opentable.privatedining.exception.SpaceNotFoundException;
 import com.opentable.privatedining.mapper.ReservationMapper;
 import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.service.Bulkhead;
+import com.opentable.privatedining.service.IdempotencyService;
 import com.opentable.privatedining.service.ReservationService;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -24,9 +33,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +47,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest({ReservationController.class, GlobalExceptionHandler.class})
 class ReservationControllerTest {
 
+    @TestConfiguration
+    static class BulkheadTestConfig {
+
+        @Bean(BulkheadConfig.BOOKING_BULKHEAD)
+        Bulkhead bookingBulkhead() {
+            return new Bulkhead("booking", 4, 4, 0, null);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -43,6 +65,9 @@ class ReservationControllerTest {
     @MockBean
     private ReservationMapper reservationMapper;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -149,6 +174,173 @@ class ReservationControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createReservation_WithoutIdempotencyKey_ShouldNotUseIdempotencyService() throws Exception {
+        // Given
+        Reservation reservation = createTestReservation("customer@example.com", 4);
+        when(reservationMapper.toModel(any(ReservationDTO.class))).thenReturn(reservation);
+        when(reservationService.createReservation(reservation)).thenReturn(reservation);
+        when(reservationMapper.toDTO(reservation)).thenReturn(createTestReservationDTO("customer@example.com", 4));
+
+        // When & Then
+        mockMvc.perform(post("/v1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTestReservationDTO("customer@example.com", 4))))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createReservation_WithIdempotencyKey_ShouldCreateThroughIdempotencyService() throws Exception {
+        // Given
+        Reservation reservation = createTestReservation("customer@example.com", 4);
+        Reservation savedReservation = createTestReservation("customer@example.com", 4);
+        savedReservation.setId(new ObjectId());
+        when(reservationMapper.toModel(any(ReservationDTO.class))).thenReturn(reservation);
+        when(reservationService.createReservation(reservation)).thenReturn(savedReservation);
+        when(idempotencyService.execute(eq("booking-42"), eq(reservation), any())).thenAnswer(invocation ->
+                new IdempotencyService.IdempotentResult(
+                        ((Supplier<Reservation>) invocation.getArgument(2)).get(), false));
+        when(reservationMapper.toDTO(savedReservation)).thenReturn(createTestReservationDTO("customer@example.com", 4));
+
+        // When & Then
+        mockMvc.perform(post("/v1/reservations")
+                        .header("Idempotency-Key", "booking-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTestReservationDTO("customer@example.com", 4))))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.customerEmail").value("customer@example.com"));
+        verify(reservationService).createReservation(reservation);
+    }
+
+    @Test
+    void createReservation_WhenIdempotentReplay_ShouldReturnStoredReservationWithReplayHeader() throws Exception {
+        // Given
+        Reservation reservation = createTestReservation("customer@example.com", 4);
+        Reservation storedReservation = createTestReservation("customer@example.com", 4);
+        storedReservation.setId(new ObjectId());
+        ReservationDTO storedReservationDTO = createTestReservationDTO("customer@example.com", 4);
+        storedReservationDTO.setId(storedReservation.getId().toString());
+        when(reservationMapper.toModel(any(ReservationDTO.class))).thenReturn(reservation);
+        when(idempotencyService.execute(eq("booking-42"), eq(reservation), any()))
+                .thenReturn(new IdempotencyService.IdempotentResult(storedReservation, true));
+        when(reservationMapper.toDTO(storedReservation)).thenReturn(storedReservationDTO);
+
+        // When & Then
+        mockMvc.perform(post("/v1/reservations")
+                        .header("Idempotency-Key", "booking-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTestReservationDTO("customer@example.com", 4))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(storedReservation.getId().toString()));
+        verify(reservationService, never()).createReservation(any(Reservation.class));
+    }
+
+    @Test
+    void createReservation_WhenIdempotencyKeyReused_ShouldReturn422() throws Exception {
+        // Given
+        Reservation reservation = createTestReservation("customer@example.com", 4);
+        when(reservationMapper.toModel(any(ReservationDTO.class))).thenReturn(reservation);
+        when(idempotencyService.execute(eq("booking-42"), eq(reservation), any()))
+                .thenThrow(new IdempotencyKeyReusedException("booking-42"));
+
+        // When & Then
+        mockMvc.perform(post("/v1/reservations")
+                        .header("Idempotency-Key", "booking-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTestReservationDTO("customer@example.com", 4))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void updateReservation_WhenValidUpdate_ShouldReturnUpdatedReservation() throws Exception {
+        // Given
+        ObjectId reservationId = new ObjectId();
+        Reservation updated = createTestReservation("customer@example.com", 6);
+        updated.setId(reservationId);
+        ReservationDTO updatedDTO = createTestReservationDTO("customer@example.com", 6);
+        updatedDTO.setId(reservationId.toString());
+
+        when(reservationService.updateReservation(reservationId, null, null, 6)).thenReturn(updated);
+        when(reservationMapper.toDTO(updated)).thenReturn(updatedDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/reservations/" + reservationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"partySize\": 6}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(reservationId.toString()))
+                .andExpect(jsonPath("$.partySize").value(6));
+    }
+
+    @Test
+    void updateReservation_WithPut_ShouldPassNewTimes() throws Exception {
+        // Given
+        ObjectId reservationId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(2).withHour(18).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime endTime = startTime.plusHours(2);
+        Reservation updated = createTestReservation("customer@example.com", 4);
+        when(reservationService.updateReservation(reservationId, startTime, endTime, null)).thenReturn(updated);
+        when(reservationMapper.toDTO(updated)).thenReturn(createTestReservationDTO("customer@example.com", 4));
+
+        // When & Then
+        mockMvc.perform(put("/v1/reservations/" + reservationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReservationUpdateDTO(startTime, endTime, null))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateReservation_WhenReservationNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId reservationId = new ObjectId();
+        when(reservationService.updateReservation(reservationId, null, null, 6))
+                .thenThrow(new ReservationNotFoundException(reservationId));
+
+        // When & Then
+        mockMvc.perform(patch("/v1/reservations/" + reservationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"partySize\": 6}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateReservation_WhenChangedConcurrently_ShouldReturn409() throws Exception {
+        // Given
+        ObjectId reservationId = new ObjectId();
+        when(reservationService.updateReservation(reservationId, null, null, 6))
+                .thenThrow(new ReservationConflictException("changed concurrently"));
+
+        // When & Then
+        mockMvc.perform(patch("/v1/reservations/" + reservationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"partySize\": 6}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void updateReservation_WhenInvalidPartySize_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/v1/reservations/" + new ObjectId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"partySize\": 0}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void updateReservation_WhenInvalidId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/v1/reservations/invalid-id")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"partySize\": 6}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteReservation_WhenReservationExists_ShouldReturn204() throws Exception {
         // Given
@@ -178,6 +370,123 @@ class ReservationControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void cancelReservations_ShouldReturnCancellationSummary() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+        when(reservationService.cancelReservations(restaurantId, spaceId, startTime, endTime))
+                .thenReturn(new BulkCancellationDTO(restaurantId.toString(), spaceId, startTime, endTime, 3, 14));
+
+        // When & Then
+        mockMvc.perform(delete("/v1/reservations")
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("startTime", "2026-01-20T12:00:00")
+                        .param("endTime", "2026-01-20T18:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cancelledReservations").value(3))
+                .andExpect(jsonPath("$.releasedGuests").value(14));
+    }
+
+    @Test
+    void cancelReservations_WhenInvalidRestaurantId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/v1/reservations")
+                        .param("restaurantId", "invalid-id")
+                        .param("startTime", "2026-01-20T12:00:00")
+                        .param("endTime", "2026-01-20T18:00:00"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void cancelReservations_WhenInvalidWindow_ShouldReturn400() throws Exception {
+        // Given
+        when(reservationService.cancelReservations(any(ObjectId.class), any(),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenThrow(new InvalidDateRangeException("End time must be after start time"));
+
+        // When & Then
+        mockMvc.perform(delete("/v1/reservations")
+                        .param("restaurantId", new ObjectId().toString())
+                        .param("startTime", "2026-01-20T18:00:00")
+                        .param("endTime", "2026-01-20T12:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReservationsInWindow_ShouldReturnOverlappingReservations() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 15, 0);
+        Reservation reservation = createTestReservation("customer@example.com", 4);
+        ReservationDTO reservationDTO = createTestReservationDTO("customer@example.com", 4);
+
+        when(reservationService.getReservationsInWindow(restaurantId, spaceId, startTime, endTime))
+                .thenReturn(List.of(reservation));
+        when(reservationMapper.toDTO(reservation)).thenReturn(reservationDTO);
+
+        // When & Then
+        mockMvc.perform(get("/v1/reservations/window")
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("startTime", "2026-01-20T12:00:00")
+                        .param("endTime", "2026-01-20T15:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].customerEmail").value("customer@example.com"));
+    }
+
+    @Test
+    void getReservationsInWindow_WhenInvalidRestaurantId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/reservations/window")
+                        .param("restaurantId", "invalid-id")
+                        .param("spaceId", UUID.randomUUID().toString())
+                        .param("startTime", "2026-01-20T12:00:00")
+                        .param("endTime", "2026-01-20T15:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReservationsInWindow_WhenInvalidWindow_ShouldReturn400() throws Exception {
+        // Given
+        when(reservationService.getReservationsInWindow(any(ObjectId.class), any(UUID.class),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenThrow(new InvalidDateRangeException("End time must be after start time"));
+
+        // When & Then
+        mockMvc.perform(get("/v1/reservations/window")
+                        .param("restaurantId", new ObjectId().toString())
+                        .param("spaceId", UUID.randomUUID().toString())
+                        .param("startTime", "2026-01-20T15:00:00")
+                        .param("endTime", "2026-01-20T12:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReservationsInWindow_WhenSpaceNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        when(reservationService.getReservationsInWindow(eq(restaurantId), eq(spaceId),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenThrow(new SpaceNotFoundException(restaurantId, spaceId));
+
+        // When & Then
+        mockMvc.perform(get("/v1/reservations/window")
+                        .param("restaurantId", restaurantId.toString())
+                        .param("spaceId", spaceId.toString())
+                        .param("startTime", "2026-01-20T12:00:00")
+                        .param("endTime", "2026-01-20T15:00:00"))
+                .andExpect(status().isNotFound());
+    }
+
     private Reservation createTestReservation(String customerEmail, int partySize) {
         Reservation reservation = new Reservation();
         reservation.setCustomerEmail(customerEmail);
@@ -1,19 +1,26 @@
 package com.opentable.privatedining.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opentable.privatedining.config.BulkheadConfig;
 import com.opentable.privatedining.dto.RestaurantDTO;
 import com.opentable.privatedining.dto.SpaceDTO;
+import com.opentable.privatedining.dto.SpaceUpdateDTO;
 import com.opentable.privatedining.mapper.RestaurantMapper;
 import com.opentable.privatedining.mapper.SpaceMapper;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.service.Bulkhead;
 import com.opentable.privatedining.service.OccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReactiveOccupancyAnalyticsService;
+import com.opentable.privatedining.service.ReportWarmupService;
 import com.opentable.privatedining.service.RestaurantService;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -23,7 +30,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +41,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(RestaurantController.class)
 class RestaurantControllerTest {
 
+    @TestConfiguration
+    static class BulkheadTestConfig {
+
+        @Bean(BulkheadConfig.ANALYTICS_BULKHEAD)
+        Bulkhead analyticsBulkhead() {
+            return new Bulkhead("analytics", 4, 4, 0, null);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -40,6 +59,12 @@ class RestaurantControllerTest {
     @MockBean
     private OccupancyAnalyticsService occupancyAnalyticsService;
 
+    @MockBean
+    private ReactiveOccupancyAnalyticsService reactiveOccupancyAnalyticsService;
+
+    @MockBean
+    private ReportWarmupService reportWarmupService;
+
     @MockBean
     private RestaurantMapper restaurantMapper;
 
@@ -330,4 +355,61 @@ class RestaurantControllerTest {
         mockMvc.perform(delete("/v1/restaurants/" + restaurantId.toString() + "/spaces/invalid-uuid"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateSpace_WhenSpaceExists_ShouldReturnUpdatedRestaurant() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        Restaurant updatedRestaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
+        SpaceDTO returnedSpaceDTO = new SpaceDTO(spaceId, "Private Room", 2, 16);
+        RestaurantDTO updatedRestaurantDTO = new RestaurantDTO(restaurantId.toString(), "Test Restaurant", "Test Address", "Test Cuisine", 50, Arrays.asList(returnedSpaceDTO));
+
+        when(restaurantService.updateSpace(eq(restaurantId), eq(spaceId), any(SpaceUpdateDTO.class)))
+                .thenReturn(Optional.of(updatedRestaurant));
+        when(restaurantMapper.toDTO(updatedRestaurant)).thenReturn(updatedRestaurantDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/restaurants/" + restaurantId + "/spaces/" + spaceId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxCapacity\":16}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spaces[0].maxCapacity").value(16));
+        verify(restaurantService).updateSpace(eq(restaurantId), eq(spaceId),
+                argThat(update -> update.getMaxCapacity() == 16 && update.getName() == null));
+    }
+
+    @Test
+    void updateSpace_WhenRestaurantOrSpaceNotFound_ShouldReturn404() throws Exception {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        when(restaurantService.updateSpace(eq(restaurantId), eq(spaceId), any(SpaceUpdateDTO.class)))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(patch("/v1/restaurants/" + restaurantId + "/spaces/" + spaceId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed Room\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateSpace_WhenInvalidCapacity_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/v1/restaurants/" + new ObjectId() + "/spaces/" + UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxCapacity\":0}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(restaurantService);
+    }
+
+    @Test
+    void updateSpace_WhenInvalidSpaceId_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/v1/restaurants/" + new ObjectId() + "/spaces/invalid-uuid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxCapacity\":16}"))
+                .andExpect(status().isBadRequest());
+    }
+}
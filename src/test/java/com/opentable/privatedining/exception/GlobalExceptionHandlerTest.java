@@ -1,6 +1,7 @@
 package com.opentable.privatedining.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.opentable.privatedining.dto.AlternativeSlotDTO;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
@@ -396,6 +397,40 @@ class GlobalExceptionHandlerTest {
         assertTrue(response.getBody().get("message").toString().contains("Cannot accommodate"));
     }
 
+    @Test
+    void handleCapacityExceeded_WithAlternatives_ShouldIncludeThemInBody() {
+        // Given
+        CapacityExceededException ex = new CapacityExceededException(
+            new ObjectId(), UUID.randomUUID(),
+            LocalDateTime.of(2026, 1, 20, 12, 0),
+            LocalDateTime.of(2026, 1, 20, 14, 0),
+            6, 8, 10);
+        AlternativeSlotDTO alternative = new AlternativeSlotDTO(UUID.randomUUID(), "Garden Room",
+            LocalDateTime.of(2026, 1, 20, 14, 0), LocalDateTime.of(2026, 1, 20, 16, 0), 10);
+        ex.setAlternatives(List.of(alternative));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleCapacityExceeded(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(alternative), response.getBody().get("alternatives"));
+    }
+
+    @Test
+    void handleCapacityExceeded_WithoutAlternatives_ShouldOmitField() {
+        // Given
+        CapacityExceededException ex = new CapacityExceededException("Capacity exceeded");
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleCapacityExceeded(ex, webRequest);
+
+        // Then
+        assertNotNull(response.getBody());
+        assertFalse(response.getBody().containsKey("alternatives"));
+    }
+
     // ==================== OutsideOperatingHoursException Tests ====================
 
     @Test
@@ -415,6 +450,25 @@ class GlobalExceptionHandlerTest {
         assertEquals("Bad Request", response.getBody().get("error"));
     }
 
+    @Test
+    void handleOutsideOperatingHours_WithAlternatives_ShouldIncludeThemInBody() {
+        // Given
+        OutsideOperatingHoursException ex = new OutsideOperatingHoursException(
+            LocalTime.of(8, 0), LocalTime.of(10, 0),
+            LocalTime.of(9, 0), LocalTime.of(22, 0));
+        AlternativeSlotDTO alternative = new AlternativeSlotDTO(UUID.randomUUID(), "Garden Room",
+            LocalDateTime.of(2026, 1, 20, 9, 0), LocalDateTime.of(2026, 1, 20, 11, 0), 10);
+        ex.setAlternatives(List.of(alternative));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleOutsideOperatingHours(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(alternative), response.getBody().get("alternatives"));
+    }
+
     // ==================== MultiDayReservationException Tests ====================
 
     @Test
@@ -472,6 +526,57 @@ class GlobalExceptionHandlerTest {
         assertEquals("Bad Request", response.getBody().get("error"));
     }
 
+    // ==================== BulkheadFullException Tests ====================
+
+    @Test
+    void handleBulkheadFull_ShouldReturnServiceUnavailableWithRetryAfter() {
+        // Given
+        BulkheadFullException ex = new BulkheadFullException("analytics", "queue depth 4 reached");
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleBulkheadFull(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().get("status"));
+        assertTrue(response.getBody().get("message").toString().contains("analytics"));
+    }
+
+    // ==================== Idempotency Tests ====================
+
+    @Test
+    void handleIdempotencyKeyInProgress_ShouldReturnConflictWithRetryAfter() {
+        // Given
+        IdempotencyKeyInProgressException ex = new IdempotencyKeyInProgressException("booking-42");
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleIdempotencyKeyInProgress(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().get("status"));
+        assertTrue(response.getBody().get("message").toString().contains("booking-42"));
+    }
+
+    @Test
+    void handleIdempotencyKeyReused_ShouldReturnUnprocessableEntity() {
+        // Given
+        IdempotencyKeyReusedException ex = new IdempotencyKeyReusedException("booking-42");
+
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleIdempotencyKeyReused(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(422, response.getBody().get("status"));
+        assertTrue(response.getBody().get("message").toString().contains("booking-42"));
+    }
+
     // ==================== IllegalArgumentException Tests ====================
 
     @Test
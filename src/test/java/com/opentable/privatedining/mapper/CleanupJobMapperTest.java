@@ -0,0 +1,66 @@
+package com.opentable.privatedining.mapper;
+
+import com.opentable.privatedining.dto.CleanupJobDTO;
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CleanupJobMapperTest {
+
+    private CleanupJobMapper cleanupJobMapper;
+
+    @BeforeEach
+    void setUp() {
+        cleanupJobMapper = new CleanupJobMapperImpl();
+    }
+
+    // ==================== toDTO Tests ====================
+
+    @Test
+    void toDTO_WhenCleanupJobIsNull_ShouldReturnNull() {
+        // When
+        CleanupJobDTO result = cleanupJobMapper.toDTO(null);
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    void toDTO_WhenCleanupJobIsValid_ShouldMapAllFields() {
+        // Given
+        ObjectId id = new ObjectId();
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 20, 9, 0);
+
+        CleanupJob job = new CleanupJob(restaurantId, spaceId, 2500L);
+        job.setId(id);
+        job.setStatus(CleanupJobStatus.RUNNING);
+        job.setDeletedReservations(1000L);
+        job.setCreatedAt(createdAt);
+        job.setUpdatedAt(createdAt.plusMinutes(1));
+
+        // When
+        CleanupJobDTO result = cleanupJobMapper.toDTO(job);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(id.toString(), result.getId());
+        assertEquals(restaurantId.toString(), result.getRestaurantId());
+        assertEquals(spaceId, result.getSpaceId());
+        assertEquals(CleanupJobStatus.RUNNING, result.getStatus());
+        assertEquals(2500L, result.getTotalReservations());
+        assertEquals(1000L, result.getDeletedReservations());
+        assertEquals(createdAt, result.getCreatedAt());
+        assertEquals(createdAt.plusMinutes(1), result.getUpdatedAt());
+        assertNull(result.getCompletedAt());
+        assertNull(result.getFailureReason());
+    }
+}
@@ -0,0 +1,83 @@
+package com.opentable.privatedining.mapper;
+
+import com.opentable.privatedining.dto.ReportJobDTO;
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.model.ReportJobStatus;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportJobMapperTest {
+
+    private ReportJobMapper reportJobMapper;
+
+    @BeforeEach
+    void setUp() {
+        reportJobMapper = new ReportJobMapperImpl();
+    }
+
+    // ==================== toDTO Tests ====================
+
+    @Test
+    void toDTO_WhenReportJobIsNull_ShouldReturnNull() {
+        // When
+        ReportJobDTO result = reportJobMapper.toDTO(null);
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    void toDTO_WhenReportJobIsValid_ShouldMapAllFields() {
+        // Given
+        ObjectId id = new ObjectId();
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 20, 9, 0);
+
+        ReportJob job = new ReportJob(restaurantId, spaceId, LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 3, 31), 60);
+        job.setId(id);
+        job.setStatus(ReportJobStatus.RUNNING);
+        job.setCompletedDays(42);
+        job.setCreatedAt(createdAt);
+        job.setUpdatedAt(createdAt.plusMinutes(1));
+
+        // When
+        ReportJobDTO result = reportJobMapper.toDTO(job);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(id.toString(), result.getId());
+        assertEquals(restaurantId.toString(), result.getRestaurantId());
+        assertEquals(spaceId, result.getSpaceId());
+        assertEquals(LocalDate.of(2026, 1, 1), result.getStartDate());
+        assertEquals(LocalDate.of(2026, 3, 31), result.getEndDate());
+        assertEquals(ReportJobStatus.RUNNING, result.getStatus());
+        assertEquals(90, result.getTotalDays());
+        assertEquals(42, result.getCompletedDays());
+        assertEquals(createdAt, result.getCreatedAt());
+        assertEquals(createdAt.plusMinutes(1), result.getUpdatedAt());
+        assertNull(result.getCompletedAt());
+        assertNull(result.getFailureReason());
+    }
+
+    @Test
+    void toDTO_WhenIdsAreNull_ShouldMapToNull() {
+        // Given
+        ReportJob job = new ReportJob();
+
+        // When
+        ReportJobDTO result = reportJobMapper.toDTO(job);
+
+        // Then
+        assertNull(result.getId());
+        assertNull(result.getRestaurantId());
+    }
+}
@@ -0,0 +1,125 @@
+package com.opentable.privatedining.model;
+
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationValueConvertersTest {
+
+    private final EpochMinuteConverter epochMinuteConverter = new EpochMinuteConverter();
+    private final StandardUuidConverter standardUuidConverter = new StandardUuidConverter();
+    private final ReservationStatusConverter reservationStatusConverter = new ReservationStatusConverter();
+
+    // ==================== EpochMinuteConverter Tests ====================
+
+    @Test
+    void epochMinute_WhenTimeOnWholeMinute_ShouldRoundTrip() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 12, 25, 19, 30);
+
+        // When
+        Integer stored = epochMinuteConverter.write(time, null);
+        LocalDateTime result = epochMinuteConverter.read(stored, null);
+
+        // Then
+        assertEquals(time, result);
+    }
+
+    @Test
+    void epochMinute_WhenTimeHasSeconds_ShouldRoundDown() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 12, 25, 19, 30, 45);
+
+        // When
+        Integer stored = epochMinuteConverter.write(time, null);
+
+        // Then
+        assertEquals(LocalDateTime.of(2025, 12, 25, 19, 30), epochMinuteConverter.read(stored, null));
+    }
+
+    @Test
+    void ceilToMinute_WhenTimeHasSeconds_ShouldRoundUp() {
+        // When
+        LocalDateTime result = EpochMinuteConverter.ceilToMinute(LocalDateTime.of(2025, 12, 25, 19, 30, 0, 1));
+
+        // Then
+        assertEquals(LocalDateTime.of(2025, 12, 25, 19, 31), result);
+    }
+
+    @Test
+    void ceilToMinute_WhenTimeOnWholeMinute_ShouldKeepIt() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2025, 12, 25, 19, 30);
+
+        // When
+        LocalDateTime result = EpochMinuteConverter.ceilToMinute(time);
+
+        // Then
+        assertEquals(time, result);
+    }
+
+    // ==================== StandardUuidConverter Tests ====================
+
+    @Test
+    void standardUuid_WhenWritten_ShouldStoreSubtypeFourAndRoundTrip() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        Binary stored = (Binary) standardUuidConverter.write(id, null);
+        UUID result = standardUuidConverter.read(stored, null);
+
+        // Then
+        assertEquals(BsonBinarySubType.UUID_STANDARD.getValue(), stored.getType());
+        assertEquals(16, stored.getData().length);
+        assertEquals(id, result);
+    }
+
+    @Test
+    void standardUuid_WhenDecodedByClient_ShouldReturnIt() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        UUID result = standardUuidConverter.read(id, null);
+
+        // Then
+        assertEquals(id, result);
+    }
+
+    @Test
+    void standardUuid_WhenLegacySubtype_ShouldThrow() {
+        // Given
+        Binary legacy = new Binary(BsonBinarySubType.UUID_LEGACY, new byte[16]);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> standardUuidConverter.read(legacy, null));
+    }
+
+    // ==================== ReservationStatusConverter Tests ====================
+
+    @Test
+    void status_WhenKnownStatus_ShouldStoreCodeAndRoundTrip() {
+        // When
+        Object stored = reservationStatusConverter.write("CONFIRMED", null);
+
+        // Then
+        assertEquals(ReservationStatus.CONFIRMED.getCode(), stored);
+        assertEquals("CONFIRMED", reservationStatusConverter.read(stored, null));
+    }
+
+    @Test
+    void status_WhenUnknownStatus_ShouldStoreString() {
+        // When
+        Object stored = reservationStatusConverter.write("WAITLISTED", null);
+
+        // Then
+        assertEquals("WAITLISTED", stored);
+        assertEquals("WAITLISTED", reservationStatusConverter.read(stored, null));
+    }
+}
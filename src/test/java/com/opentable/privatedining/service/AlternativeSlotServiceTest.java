@@ -0,0 +1,186 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AlternativeSlotConfig;
+import com.opentable.privatedining.dto.AlternativeSlotDTO;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlternativeSlotServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private AlternativeSlotConfig alternativeSlotConfig;
+    private AlternativeSlotService alternativeSlotService;
+
+    private final LocalDate date = LocalDate.of(2026, 1, 20);
+    private Restaurant restaurant;
+    private Space requestedSpace;
+    private Space siblingSpace;
+
+    @BeforeEach
+    void setUp() {
+        alternativeSlotConfig = new AlternativeSlotConfig();
+        alternativeSlotService = new AlternativeSlotService(reservationRepository, alternativeSlotConfig);
+
+        restaurant = new Restaurant("Test Restaurant", "Address", "Cuisine", 100);
+        restaurant.setId(new ObjectId());
+        requestedSpace = new Space(UUID.randomUUID(), "Main Hall", 2, 20, LocalTime.of(9, 0), LocalTime.of(22, 0), 60);
+        siblingSpace = new Space(UUID.randomUUID(), "Garden Room", 2, 20, LocalTime.of(9, 0), LocalTime.of(22, 0), 60);
+        restaurant.setSpaces(List.of(requestedSpace, siblingSpace));
+    }
+
+    // ==================== Search Tests ====================
+
+    @Test
+    void findAlternatives_ShouldRankByDistanceFromRequestedStart() {
+        // Given - Main Hall is full all evening, Garden Room is busy 18:00-19:00
+        stubDay(List.of(
+                createReservation(requestedSpace, 15, at(17, 0), at(21, 0)),
+                createReservation(siblingSpace, 15, at(18, 0), at(19, 0))));
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(18, 0), at(20, 0)));
+
+        // Then
+        assertEquals(3, alternatives.size());
+        assertAlternative(alternatives.get(0), siblingSpace, at(19, 0), at(21, 0));
+        assertAlternative(alternatives.get(1), siblingSpace, at(16, 0), at(18, 0));
+        assertAlternative(alternatives.get(2), siblingSpace, at(20, 0), at(22, 0));
+        assertEquals(20, alternatives.get(0).getRemainingCapacity());
+        verify(reservationRepository, times(1)).findByRestaurantIdAndTimeRange(
+                restaurant.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void findAlternatives_ShouldOfferSiblingAtSameTimeAndPreferRequestedSpaceOnTies() {
+        // Given
+        stubDay(List.of(createReservation(requestedSpace, 15, at(18, 0), at(19, 0))));
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(18, 0), at(19, 0)));
+
+        // Then
+        assertEquals(3, alternatives.size());
+        assertAlternative(alternatives.get(0), siblingSpace, at(18, 0), at(19, 0));
+        assertAlternative(alternatives.get(1), requestedSpace, at(17, 0), at(18, 0));
+        assertAlternative(alternatives.get(2), requestedSpace, at(19, 0), at(20, 0));
+    }
+
+    @Test
+    void findAlternatives_WhenOutsideOperatingHours_ShouldSuggestFirstSlotsOfDay() {
+        // Given
+        restaurant.setSpaces(List.of(requestedSpace));
+        stubDay(List.of());
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(6, 0), at(8, 0)));
+
+        // Then
+        assertEquals(3, alternatives.size());
+        assertAlternative(alternatives.get(0), requestedSpace, at(9, 0), at(11, 0));
+        assertAlternative(alternatives.get(1), requestedSpace, at(10, 0), at(12, 0));
+        assertAlternative(alternatives.get(2), requestedSpace, at(11, 0), at(13, 0));
+    }
+
+    @Test
+    void findAlternatives_ShouldSkipSpacesThatCannotHostParty() {
+        // Given
+        Space smallRoom = new Space(UUID.randomUUID(), "Snug", 2, 6, LocalTime.of(9, 0), LocalTime.of(22, 0), 60);
+        restaurant.setSpaces(List.of(requestedSpace, smallRoom));
+        alternativeSlotConfig.setMaxResults(10);
+        stubDay(List.of(createReservation(requestedSpace, 15, at(9, 0), at(22, 0))));
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(18, 0), at(20, 0)));
+
+        // Then
+        assertTrue(alternatives.isEmpty());
+    }
+
+    // ==================== Configuration and Failure Tests ====================
+
+    @Test
+    void findAlternatives_WhenDisabled_ShouldReturnEmptyWithoutQuery() {
+        // Given
+        alternativeSlotConfig.setEnabled(false);
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(18, 0), at(20, 0)));
+
+        // Then
+        assertTrue(alternatives.isEmpty());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void findAlternatives_WhenQueryFails_ShouldReturnEmpty() {
+        // Given
+        when(reservationRepository.findByRestaurantIdAndTimeRange(
+                restaurant.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenThrow(new RuntimeException("Database unavailable"));
+
+        // When
+        List<AlternativeSlotDTO> alternatives = alternativeSlotService.findAlternatives(
+                restaurant, requestedSpace, createReservation(requestedSpace, 10, at(18, 0), at(20, 0)));
+
+        // Then
+        assertTrue(alternatives.isEmpty());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void stubDay(List<Reservation> reservations) {
+        when(reservationRepository.findByRestaurantIdAndTimeRange(
+                restaurant.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenReturn(reservations);
+    }
+
+    private void assertAlternative(AlternativeSlotDTO alternative, Space space,
+                                   LocalDateTime startTime, LocalDateTime endTime) {
+        assertEquals(space.getId(), alternative.getSpaceId());
+        assertEquals(space.getName(), alternative.getSpaceName());
+        assertEquals(startTime, alternative.getStartTime());
+        assertEquals(endTime, alternative.getEndTime());
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return date.atTime(hour, minute);
+    }
+
+    private Reservation createReservation(Space space, int partySize, LocalDateTime startTime, LocalDateTime endTime) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurant.getId());
+        reservation.setSpaceId(space.getId());
+        reservation.setPartySize(partySize);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
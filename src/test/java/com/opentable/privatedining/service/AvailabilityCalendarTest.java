@@ -0,0 +1,268 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AvailabilityCalendarConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityCalendarTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private AvailabilityCalendarConfig calendarConfig;
+    private AvailabilityCalendar availabilityCalendar;
+
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        calendarConfig = new AvailabilityCalendarConfig();
+        availabilityCalendar = new AvailabilityCalendar(reservationRepository, calendarConfig);
+        restaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+        today = LocalDate.now();
+    }
+
+    // ==================== Load Tests ====================
+
+    @Test
+    void getSlotOccupancy_ShouldLoadRangeWithSingleQuery() {
+        // Given - 60-minute slots, second day has two overlapping parties from 18:00 to 20:00
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(3).atStartOfDay()))
+                .thenReturn(List.of(
+                        createReservation(4, at(1, 18, 0), at(1, 20, 0)),
+                        createReservation(6, at(1, 19, 0), at(1, 21, 0))));
+
+        // When
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 3);
+
+        // Then
+        assertEquals(3, occupancy.length);
+        assertEquals(24, occupancy[0].length);
+        assertEquals(0, occupancy[0][18]);
+        assertEquals(4, occupancy[1][18]);
+        assertEquals(10, occupancy[1][19]);
+        assertEquals(6, occupancy[1][20]);
+        assertEquals(0, occupancy[1][21]);
+        verify(reservationRepository, times(1)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void getSlotOccupancy_WhenDaysLoaded_ShouldNotQueryAgain() {
+        // Given
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(30).atStartOfDay()))
+                .thenReturn(Collections.emptyList());
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 30, today, 30);
+
+        // When
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 30, today.plusDays(5), 7);
+
+        // Then
+        assertEquals(7, occupancy.length);
+        assertEquals(48, occupancy[0].length);
+        verify(reservationRepository, times(1)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void getSlotOccupancy_ShouldReturnCopies() {
+        // Given
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(Collections.emptyList());
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1)[0][12] = 99;
+
+        // When
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // Then
+        assertEquals(0, occupancy[0][12]);
+    }
+
+    @Test
+    void getSlotOccupancy_WhenSlotDurationChanges_ShouldReload() {
+        // Given
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(createReservation(4, at(0, 12, 0), at(0, 13, 0))));
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // When
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 30, today, 1);
+
+        // Then
+        assertEquals(48, occupancy[0].length);
+        assertEquals(4, occupancy[0][24]);
+        assertEquals(4, occupancy[0][25]);
+        assertEquals(0, occupancy[0][26]);
+    }
+
+    // ==================== Delta Tests ====================
+
+    @Test
+    void onReservationChanged_ShouldApplyCreatedAndDeletedReservations() {
+        // Given
+        Reservation existing = createReservation(4, at(0, 18, 0), at(0, 20, 0));
+        Reservation created = createReservation(6, at(0, 19, 0), at(0, 21, 0));
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(existing));
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // When
+        availabilityCalendar.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, created));
+        int[][] afterCreate = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+        availabilityCalendar.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+        int[][] afterDelete = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // Then
+        assertEquals(10, afterCreate[0][19]);
+        assertEquals(6, afterCreate[0][20]);
+        assertEquals(0, afterDelete[0][18]);
+        assertEquals(6, afterDelete[0][19]);
+        verify(reservationRepository, times(1)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void onReservationChanged_WhenSpaceNotLoaded_ShouldIgnoreEvent() {
+        // When
+        availabilityCalendar.onReservationChanged(new ReservationChangedEvent(
+                ReservationChangedEvent.ChangeType.CREATED, createReservation(4, at(0, 18, 0), at(0, 20, 0))));
+
+        // Then
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void onReservationsDeleted_ShouldReleaseGuestsOfAllReservations() {
+        // Given
+        Reservation first = createReservation(4, at(0, 18, 0), at(0, 20, 0));
+        Reservation second = createReservation(6, at(0, 19, 0), at(0, 21, 0));
+        Reservation kept = createReservation(3, at(0, 19, 0), at(0, 20, 0));
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(first, second, kept));
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // When
+        availabilityCalendar.onReservationsDeleted(new ReservationsDeletedEvent(List.of(first, second)));
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // Then
+        assertEquals(0, occupancy[0][18]);
+        assertEquals(3, occupancy[0][19]);
+        assertEquals(0, occupancy[0][20]);
+        verify(reservationRepository, times(1)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void onRemoteReservationChange_ShouldReloadOnlyTouchedDays() {
+        // Given - two days loaded; another instance adds a party on the second one
+        Reservation remote = createReservation(6, at(1, 19, 0), at(1, 21, 0));
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of());
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.plusDays(1).atStartOfDay(), today.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of(remote));
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 2);
+
+        // When
+        availabilityCalendar.onRemoteReservationChange(new RemoteReservationChangeEvent(null, remote, true));
+        int[][] firstDay = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+        int[][] secondDay = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today.plusDays(1), 1);
+
+        // Then
+        assertEquals(0, firstDay[0][19]);
+        assertEquals(6, secondDay[0][19]);
+        verify(reservationRepository, times(2)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    // ==================== Refresh Tests ====================
+
+    @Test
+    void refresh_ShouldReloadLoadedDays() {
+        // Given
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(2).atStartOfDay()))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(createReservation(5, at(1, 12, 0), at(1, 13, 0))));
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 2);
+
+        // When
+        availabilityCalendar.refresh();
+        int[][] occupancy = availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 2);
+
+        // Then
+        assertEquals(5, occupancy[1][12]);
+        verify(reservationRepository, times(2)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void refresh_WhenSpaceIdle_ShouldDropIt() {
+        // Given
+        calendarConfig.setIdleMinutes(0);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(Collections.emptyList());
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // When
+        availabilityCalendar.refresh();
+        availabilityCalendar.getSlotOccupancy(restaurantId, spaceId, 60, today, 1);
+
+        // Then - dropped on refresh without a reload, loaded again on the next read
+        verify(reservationRepository, times(2)).findByRestaurantIdAndSpaceIdAndTimeRange(
+                any(), any(), any(), any());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private LocalDateTime at(int dayOffset, int hour, int minute) {
+        return today.plusDays(dayOffset).atTime(hour, minute);
+    }
+
+    private Reservation createReservation(int partySize, LocalDateTime startTime, LocalDateTime endTime) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurantId);
+        reservation.setSpaceId(spaceId);
+        reservation.setPartySize(partySize);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
@@ -0,0 +1,344 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AvailabilityCalendarConfig;
+import com.opentable.privatedining.dto.AvailabilityCalendarDTO;
+import com.opentable.privatedining.dto.CalendarDayDTO;
+import com.opentable.privatedining.dto.SpaceAvailabilityDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.InvalidPartySizeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private AvailabilityCalendar availabilityCalendar;
+
+    @Mock
+    private AvailabilityCalendarConfig calendarConfig;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    private final LocalDateTime startTime = LocalDateTime.of(2026, 1, 23, 18, 0);
+    private final LocalDateTime endTime = LocalDateTime.of(2026, 1, 23, 21, 0);
+
+    // ==================== Search Tests ====================
+
+    @Test
+    void searchAvailability_ShouldRankSpacesByTightestFit() {
+        // Given
+        Restaurant first = createRestaurant("Bistro", "French");
+        Space largeRoom = addSpace(first, "Ballroom", 10, 80);
+        Restaurant second = createRestaurant("Trattoria", "Italian");
+        Space snugRoom = addSpace(second, "Cellar", 10, 40);
+        when(restaurantRepository.findAll()).thenReturn(List.of(first, second));
+        when(reservationRepository.findByRestaurantIdInAndTimeRange(anyCollection(), eq(startTime), eq(endTime)))
+                .thenReturn(List.of());
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, null, null, 20);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(snugRoom.getId(), results.get(0).getSpaceId());
+        assertEquals(largeRoom.getId(), results.get(1).getSpaceId());
+        assertEquals("Trattoria", results.get(0).getRestaurantName());
+    }
+
+    @Test
+    void searchAvailability_ShouldExcludeSpacesThatCannotHostParty() {
+        // Given
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        addSpace(restaurant, "Too Small", 2, 20);
+        addSpace(restaurant, "Too Large", 40, 100);
+        Space closed = new Space(UUID.randomUUID(), "Lunch Room", 10, 50,
+                LocalTime.of(11, 0), LocalTime.of(16, 0), 30);
+        restaurant.getSpaces().add(closed);
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, null, null, 20);
+
+        // Then
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void searchAvailability_ShouldUseSingleRangeQueryForOccupancy() {
+        // Given
+        Restaurant first = createRestaurant("Bistro", "French");
+        Space booked = addSpace(first, "Salon", 10, 40);
+        Space partlyBooked = addSpace(first, "Library", 10, 50);
+        Restaurant second = createRestaurant("Trattoria", "Italian");
+        Space free = addSpace(second, "Cellar", 10, 60);
+        when(restaurantRepository.findAll()).thenReturn(List.of(first, second));
+        when(reservationRepository.findByRestaurantIdInAndTimeRange(anyCollection(), eq(startTime), eq(endTime)))
+                .thenReturn(List.of(
+                        createReservation(first, booked, 15),
+                        createReservation(first, partlyBooked, 10),
+                        createReservation(first, partlyBooked, 5)));
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, null, null, 20);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(partlyBooked.getId(), results.get(0).getSpaceId());
+        assertEquals(15, results.get(0).getCurrentOccupancy());
+        assertEquals(35, results.get(0).getRemainingCapacity());
+        assertEquals(free.getId(), results.get(1).getSpaceId());
+        assertEquals(0, results.get(1).getCurrentOccupancy());
+        verify(reservationRepository, times(1)).findByRestaurantIdInAndTimeRange(
+                eq(Set.of(first.getId(), second.getId())),
+                eq(startTime), eq(endTime));
+    }
+
+    @Test
+    void searchAvailability_ShouldApplyLimit() {
+        // Given
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        addSpace(restaurant, "Salon", 10, 40);
+        addSpace(restaurant, "Library", 10, 50);
+        addSpace(restaurant, "Cellar", 10, 60);
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+        when(reservationRepository.findByRestaurantIdInAndTimeRange(anyCollection(), eq(startTime), eq(endTime)))
+                .thenReturn(List.of());
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, null, null, 2);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals("Salon", results.get(0).getSpaceName());
+        assertEquals("Library", results.get(1).getSpaceName());
+    }
+
+    @Test
+    void searchAvailability_ShouldAlignWindowToSlotsOfEachSpace() {
+        // Given
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        Space hourly = new Space(UUID.randomUUID(), "Salon", 10, 50, LocalTime.of(9, 0), LocalTime.of(23, 0), 60);
+        restaurant.getSpaces().add(hourly);
+        Reservation earlier = createReservation(restaurant, hourly, 30);
+        earlier.setStartTime(LocalDateTime.of(2026, 1, 23, 18, 0));
+        earlier.setEndTime(LocalDateTime.of(2026, 1, 23, 19, 0));
+        LocalDateTime rawStart = LocalDateTime.of(2026, 1, 23, 18, 40);
+        LocalDateTime alignedStart = LocalDateTime.of(2026, 1, 23, 19, 0);
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+        when(reservationRepository.findByRestaurantIdInAndTimeRange(anyCollection(), eq(alignedStart), eq(endTime)))
+                .thenReturn(List.of(earlier));
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, rawStart, endTime, null, null, 20);
+
+        // Then
+        assertEquals(1, results.size());
+        assertEquals(0, results.get(0).getCurrentOccupancy());
+        assertEquals(50, results.get(0).getRemainingCapacity());
+    }
+
+    // ==================== Filter Tests ====================
+
+    @Test
+    void searchAvailability_WithCuisineFilter_ShouldQueryByCuisine() {
+        // Given
+        Restaurant restaurant = createRestaurant("Trattoria", "Italian");
+        addSpace(restaurant, "Cellar", 10, 40);
+        when(restaurantRepository.findByCuisineTypeIgnoreCase("italian")).thenReturn(List.of(restaurant));
+        when(reservationRepository.findByRestaurantIdInAndTimeRange(anyCollection(), eq(startTime), eq(endTime)))
+                .thenReturn(List.of());
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, "italian", null, 20);
+
+        // Then
+        assertEquals(1, results.size());
+        verify(restaurantRepository, never()).findAll();
+    }
+
+    @Test
+    void searchAvailability_WithRestaurantFilter_WhenCuisineDiffers_ShouldReturnEmpty() {
+        // Given
+        Restaurant restaurant = createRestaurant("Trattoria", "Italian");
+        addSpace(restaurant, "Cellar", 10, 40);
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+
+        // When
+        List<SpaceAvailabilityDTO> results = availabilityService.searchAvailability(
+                30, startTime, endTime, "French", restaurant.getId(), 20);
+
+        // Then
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void searchAvailability_WithUnknownRestaurant_ShouldThrowException() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RestaurantNotFoundException.class, () -> availabilityService.searchAvailability(
+                30, startTime, endTime, null, restaurantId, 20));
+    }
+
+    // ==================== Validation Tests ====================
+
+    @Test
+    void searchAvailability_WithEndBeforeStart_ShouldThrowException() {
+        // When & Then
+        assertThrows(InvalidDateRangeException.class, () -> availabilityService.searchAvailability(
+                30, endTime, startTime, null, null, 20));
+        verifyNoInteractions(restaurantRepository, reservationRepository);
+    }
+
+    @Test
+    void searchAvailability_WithMultiDayWindow_ShouldThrowException() {
+        // When & Then
+        assertThrows(InvalidDateRangeException.class, () -> availabilityService.searchAvailability(
+                30, startTime, endTime.plusDays(1), null, null, 20));
+        verifyNoInteractions(restaurantRepository, reservationRepository);
+    }
+
+    // ==================== Calendar Tests ====================
+
+    @Test
+    void getCalendar_ShouldMarkSlotsWithinOperatingHours() {
+        // Given - 30-minute slots, open 09:00-23:00, 30 guests already booked 18:00-19:00 on the second day
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        Space space = addSpace(restaurant, "Salon", 10, 40);
+        LocalDate startDate = LocalDate.of(2026, 1, 23);
+        int[][] occupancy = new int[2][48];
+        occupancy[1][36] = 30;
+        occupancy[1][37] = 30;
+        when(calendarConfig.getMaxDays()).thenReturn(31);
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(availabilityCalendar.getSlotOccupancy(restaurant.getId(), space.getId(), 30, startDate, 2))
+                .thenReturn(occupancy);
+
+        // When
+        AvailabilityCalendarDTO calendar = availabilityService.getCalendar(
+                restaurant.getId(), space.getId(), 12, startDate, 2);
+
+        // Then
+        assertEquals(30, calendar.getSlotDurationMinutes());
+        assertEquals(2, calendar.getDays().size());
+        CalendarDayDTO firstDay = calendar.getDays().get(0);
+        assertEquals(startDate, firstDay.getDate());
+        assertEquals(28, firstDay.getSlots().size());
+        assertEquals(28, firstDay.getAvailableSlots());
+        assertEquals(LocalTime.of(9, 0), firstDay.getSlots().get(0).getStartTime());
+        assertEquals(LocalTime.of(23, 0), firstDay.getSlots().get(27).getEndTime());
+        CalendarDayDTO secondDay = calendar.getDays().get(1);
+        assertEquals(26, secondDay.getAvailableSlots());
+        assertEquals(LocalTime.of(18, 0), secondDay.getSlots().get(18).getStartTime());
+        assertEquals(10, secondDay.getSlots().get(18).getRemainingCapacity());
+        assertFalse(secondDay.getSlots().get(18).isAvailable());
+        assertTrue(secondDay.getSlots().get(20).isAvailable());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void getCalendar_WithTooManyDays_ShouldThrowException() {
+        // Given
+        when(calendarConfig.getMaxDays()).thenReturn(31);
+
+        // When & Then
+        assertThrows(InvalidDateRangeException.class, () -> availabilityService.getCalendar(
+                new ObjectId(), UUID.randomUUID(), 12, LocalDate.of(2026, 1, 23), 60));
+        verifyNoInteractions(restaurantRepository, availabilityCalendar);
+    }
+
+    @Test
+    void getCalendar_WithUnknownSpace_ShouldThrowException() {
+        // Given
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        when(calendarConfig.getMaxDays()).thenReturn(31);
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+
+        // When & Then
+        assertThrows(SpaceNotFoundException.class, () -> availabilityService.getCalendar(
+                restaurant.getId(), UUID.randomUUID(), 12, LocalDate.of(2026, 1, 23), 30));
+    }
+
+    @Test
+    void getCalendar_WithPartySizeOutsideLimits_ShouldThrowException() {
+        // Given
+        Restaurant restaurant = createRestaurant("Bistro", "French");
+        Space space = addSpace(restaurant, "Salon", 10, 40);
+        when(calendarConfig.getMaxDays()).thenReturn(31);
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+
+        // When & Then
+        assertThrows(InvalidPartySizeException.class, () -> availabilityService.getCalendar(
+                restaurant.getId(), space.getId(), 50, LocalDate.of(2026, 1, 23), 30));
+        verifyNoInteractions(availabilityCalendar);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Restaurant createRestaurant(String name, String cuisineType) {
+        Restaurant restaurant = new Restaurant(name, "123 Main St", cuisineType, 200);
+        restaurant.setId(new ObjectId());
+        return restaurant;
+    }
+
+    private Space addSpace(Restaurant restaurant, String name, int minCapacity, int maxCapacity) {
+        Space space = new Space(UUID.randomUUID(), name, minCapacity, maxCapacity,
+                LocalTime.of(9, 0), LocalTime.of(23, 0), 30);
+        restaurant.getSpaces().add(space);
+        return space;
+    }
+
+    private Reservation createReservation(Restaurant restaurant, Space space, int partySize) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurant.getId());
+        reservation.setSpaceId(space.getId());
+        reservation.setPartySize(partySize);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
@@ -0,0 +1,115 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.exception.BulkheadFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_WhenPermitAvailable_ShouldReturnTaskResult() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("booking", 1, 0, 0, null);
+
+        // When
+        String result = bulkhead.execute(() -> "done");
+
+        // Then
+        assertEquals("done", result);
+        assertEquals(0, bulkhead.getActiveCount());
+    }
+
+    @Test
+    void execute_WhenTaskThrows_ShouldReleasePermit() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("booking", 1, 0, 0, null);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> bulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        assertEquals("ok", bulkhead.execute(() -> "ok"));
+    }
+
+    @Test
+    void execute_WhenPermitsAndQueueExhausted_ShouldReject() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("analytics", 1, 0, 0, null);
+        occupy(bulkhead);
+
+        // When & Then
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class,
+                () -> bulkhead.execute(() -> "rejected"));
+        assertEquals("analytics", exception.getBulkheadName());
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void execute_WhenHigherPriorityBulkheadIsQueuing_ShouldShedLoad() throws Exception {
+        // Given
+        Bulkhead booking = new Bulkhead("booking", 1, 1, 5000, null);
+        Bulkhead analytics = new Bulkhead("analytics", 4, 4, 0, booking);
+        occupy(booking);
+        executor.submit(() -> booking.execute(() -> "queued"));
+        waitUntil(() -> booking.getQueueDepth() == 1);
+
+        // When & Then
+        assertThrows(BulkheadFullException.class, () -> analytics.execute(() -> "shed"));
+        assertEquals(0, analytics.getActiveCount());
+    }
+
+    @Test
+    void execute_WhenHigherPriorityBulkheadIsIdle_ShouldRun() {
+        // Given
+        Bulkhead booking = new Bulkhead("booking", 1, 1, 0, null);
+        Bulkhead analytics = new Bulkhead("analytics", 1, 0, 0, booking);
+
+        // When & Then
+        assertEquals("report", analytics.execute(() -> "report"));
+    }
+
+    /**
+     * Holds one permit of the bulkhead until the test finishes.
+     */
+    private void occupy(Bulkhead bulkhead) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.dto.CacheStatsDTO;
+import com.opentable.privatedining.exception.CacheNotFoundException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAdminServiceTest {
+
+    private static final String UNBOUNDED_CACHE = "unbounded";
+
+    private RefreshAheadCache reportCache;
+    private CacheAdminService cacheAdminService;
+
+    private ObjectId restaurantId;
+    private ObjectId otherRestaurantId;
+
+    @BeforeEach
+    void setUp() {
+        SizeEvictionRecorder sizeEvictionRecorder = new SizeEvictionRecorder();
+        CaffeineCache delegate = new CaffeineCache(CacheConfig.OCCUPANCY_REPORTS_CACHE, Caffeine.newBuilder()
+                .maximumSize(100)
+                .recordStats(() -> sizeEvictionRecorder.statsCounter(CacheConfig.OCCUPANCY_REPORTS_CACHE))
+                .executor(Runnable::run)
+                .build());
+        reportCache = new RefreshAheadCache(delegate, value -> null, Duration.ofMinutes(5), Duration.ofMinutes(10),
+                Duration.ofMinutes(60), Runnable::run);
+        Cache unboundedCache = new CaffeineCache(UNBOUNDED_CACHE, Caffeine.newBuilder().recordStats().build());
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(reportCache, unboundedCache));
+        cacheManager.afterPropertiesSet();
+        cacheAdminService = new CacheAdminService(cacheManager, sizeEvictionRecorder);
+
+        restaurantId = new ObjectId();
+        otherRestaurantId = new ObjectId();
+    }
+
+    // ==================== Statistics Tests ====================
+
+    @Test
+    void getStats_ShouldReportHitsMissesAndLoads() {
+        // Given
+        reportCache.get(key(restaurantId, 0), () -> "report");
+        reportCache.get(key(restaurantId, 0), () -> "report");
+        reportCache.get(key(restaurantId, 0), () -> "report");
+
+        // When
+        CacheStatsDTO stats = cacheAdminService.getStats(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+
+        // Then
+        assertEquals(CacheConfig.OCCUPANCY_REPORTS_CACHE, stats.getName());
+        assertEquals(1, stats.getEstimatedSize());
+        assertEquals(100L, stats.getMaximumSize());
+        assertNull(stats.getWeightedSize());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(2.0 / 3, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void getStats_ShouldListEveryCache() {
+        // When
+        List<CacheStatsDTO> stats = cacheAdminService.getStats();
+
+        // Then
+        assertEquals(2, stats.size());
+        assertTrue(stats.stream().anyMatch(cache -> UNBOUNDED_CACHE.equals(cache.getName())
+                && cache.getMaximumSize() == null));
+    }
+
+    @Test
+    void getStats_WhenCacheNotFound_ShouldThrow() {
+        // When & Then
+        assertThrows(CacheNotFoundException.class, () -> cacheAdminService.getStats("missing"));
+    }
+
+    // ==================== Top Keys Tests ====================
+
+    @Test
+    void getTopKeys_ShouldReturnMostUsedKeysJoined() {
+        // Given
+        reportCache.put(key(restaurantId, 0), "first");
+        reportCache.put(key(restaurantId, 1), "second");
+        reportCache.get(key(restaurantId, 1));
+        reportCache.get(key(restaurantId, 1));
+
+        // When
+        List<String> keys = cacheAdminService.getTopKeys(CacheConfig.OCCUPANCY_REPORTS_CACHE, 1);
+
+        // Then
+        assertEquals(List.of(restaurantId.toHexString() + "|1"), keys);
+    }
+
+    // ==================== Eviction Tests ====================
+
+    @Test
+    void evictRestaurant_ShouldRemoveOnlyEntriesOfRestaurant() {
+        // Given
+        reportCache.put(key(restaurantId, 0), "report");
+        reportCache.put(key(otherRestaurantId, 0), "other report");
+
+        // When
+        cacheAdminService.evictRestaurant(CacheConfig.OCCUPANCY_REPORTS_CACHE, restaurantId);
+
+        // Then
+        assertNull(reportCache.get(key(restaurantId, 0)));
+        assertNotNull(reportCache.get(key(otherRestaurantId, 0)));
+    }
+
+    // ==================== Resize Tests ====================
+
+    @Test
+    void resize_WhenShrinking_ShouldEvictEntries() {
+        // Given
+        for (int page = 0; page < 10; page++) {
+            reportCache.put(key(restaurantId, page), "report");
+        }
+
+        // When
+        CacheStatsDTO stats = cacheAdminService.resize(CacheConfig.OCCUPANCY_REPORTS_CACHE, 5);
+
+        // Then
+        assertEquals(5L, stats.getMaximumSize());
+        assertEquals(5, stats.getEstimatedSize());
+        assertEquals(5, stats.getEvictionCount());
+        assertEquals(5, stats.getSizeEvictionCount());
+    }
+
+    @Test
+    void resize_WhenCacheUnbounded_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> cacheAdminService.resize(UNBOUNDED_CACHE, 5));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<Object> key(ObjectId restaurant, int page) {
+        return List.of(restaurant, page);
+    }
+}
@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +28,12 @@ class CapacityValidationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private OccupancyLedger occupancyLedger;
+
+    @Mock
+    private ReservationIntervalIndex reservationIntervalIndex;
+
     @InjectMocks
     private CapacityValidationService capacityValidationService;
 
@@ -250,6 +258,52 @@ class CapacityValidationServiceTest {
         assertTrue(exception.getMessage().contains("Current occupancy: 7"));
     }
 
+    // ==================== validateAdditionalGuests Tests ====================
+
+    @Test
+    void validateAdditionalGuests_WhenDeltaFits_ShouldPassUsingLedger() {
+        // Given: 8 of 10 seats taken, including the reservation itself; it grows by 2
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 14, 0);
+        Reservation reservation = createReservation(restaurantId, spaceId, 4, startTime, endTime);
+
+        Space space = new Space("Test Space", 2, 10);
+        space.setId(spaceId);
+
+        when(occupancyLedger.getOccupancy(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(OptionalInt.of(8));
+
+        // When & Then
+        assertDoesNotThrow(() -> capacityValidationService.validateAdditionalGuests(reservation, space, 2));
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void validateAdditionalGuests_WhenDeltaExceedsCapacity_ShouldThrowException() {
+        // Given: the reservation (4) and another (5) take 9 of 10 seats; it grows by 2
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 14, 0);
+        Reservation reservation = createReservation(restaurantId, spaceId, 4, startTime, endTime);
+        Reservation other = createReservation(restaurantId, spaceId, 5, startTime, endTime);
+
+        Space space = new Space("Test Space", 2, 10);
+        space.setId(spaceId);
+
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(Arrays.asList(reservation, other));
+
+        // When & Then
+        CapacityExceededException exception = assertThrows(CapacityExceededException.class, () ->
+            capacityValidationService.validateAdditionalGuests(reservation, space, 2));
+
+        assertTrue(exception.getMessage().contains("Cannot accommodate party of 2"));
+        assertTrue(exception.getMessage().contains("Current occupancy: 9"));
+    }
+
     // ==================== calculateCurrentOccupancy Tests ====================
 
     @Test
@@ -294,6 +348,51 @@ class CapacityValidationServiceTest {
         assertEquals(9, result); // 3 + 4 + 2 = 9
     }
 
+    @Test
+    void calculateCurrentOccupancy_WhenLedgerCanAnswer_ShouldNotQueryRepository() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 14, 0);
+
+        when(occupancyLedger.getOccupancy(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(OptionalInt.of(7));
+
+        // When
+        int result = capacityValidationService.calculateCurrentOccupancy(
+            restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertEquals(7, result);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void calculateCurrentOccupancyExcluding_WhenIndexEnabled_ShouldUseIndexedReservations() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 14, 0);
+
+        Reservation excluded = createReservation(restaurantId, spaceId, 3, startTime, endTime);
+        excluded.setId(new ObjectId());
+        Reservation other = createReservation(restaurantId, spaceId, 5, startTime, endTime);
+        other.setId(new ObjectId());
+
+        when(reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(Optional.of(List.of(excluded, other)));
+
+        // When
+        int result = capacityValidationService.calculateCurrentOccupancyExcluding(
+            restaurantId, spaceId, startTime, endTime, excluded.getId());
+
+        // Then
+        assertEquals(5, result);
+        verifyNoInteractions(reservationRepository);
+    }
+
     // ==================== getAvailableCapacity Tests ====================
 
     @Test
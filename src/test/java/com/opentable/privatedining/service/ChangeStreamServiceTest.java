@@ -0,0 +1,236 @@
+package com.opentable.privatedining.service;
+
+import com.mongodb.client.model.changestream.OperationType;
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.config.ChangeStreamConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoConverter mongoConverter;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Cache reports;
+    private ChangeStreamService changeStreamService;
+
+    private ObjectId restaurantId;
+    private ObjectId otherRestaurantId;
+    private UUID spaceId;
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        ChangeStreamConfig changeStreamConfig = new ChangeStreamConfig();
+        changeStreamConfig.setEnabled(true);
+        changeStreamConfig.setPreImagesEnabled(false);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        reports = cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        changeStreamService = new ChangeStreamService(mongoTemplate, reservationRepository, cacheManager,
+                eventPublisher, changeStreamConfig);
+
+        restaurantId = new ObjectId();
+        otherRestaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+        startTime = LocalDateTime.of(2026, 3, 14, 19, 0);
+        reports.put(List.of(restaurantId, startTime), "report");
+        reports.put(List.of(otherRestaurantId, startTime), "other report");
+    }
+
+    // ==================== Own Write Tests ====================
+
+    @Test
+    void onReservationChange_WhenEchoOfOwnWrite_ShouldSkipIt() {
+        // Given
+        Reservation written = createReservation(new ObjectId(), 4);
+        Document document = new Document("_id", written.getId());
+        when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        when(mongoConverter.read(Reservation.class, document)).thenReturn(copy(written));
+        changeStreamService.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, written));
+
+        // When
+        changeStreamService.onReservationChange("reservations", OperationType.INSERT, written.getId(),
+                document, null);
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        assertNotNull(reports.get(List.of(restaurantId, startTime)));
+    }
+
+    // ==================== Remote Write Tests ====================
+
+    @Test
+    void onReservationChange_WhenRemoteUpdateWithPreImage_ShouldPublishBothVersionsAndEvictRestaurantReports() {
+        // Given
+        ObjectId id = new ObjectId();
+        Reservation previous = createReservation(id, 4);
+        Reservation current = createReservation(id, 6);
+        Document before = new Document("p", 4);
+        Document after = new Document("p", 6);
+        when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        when(mongoConverter.read(Reservation.class, after)).thenReturn(current);
+        when(mongoConverter.read(Reservation.class, before)).thenReturn(previous);
+
+        // When
+        changeStreamService.onReservationChange("reservations_2026_03", OperationType.UPDATE, id, after, before);
+
+        // Then
+        ArgumentCaptor<RemoteReservationChangeEvent> captor =
+                ArgumentCaptor.forClass(RemoteReservationChangeEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertTrue(captor.getValue().isPreviousKnown());
+        assertSame(previous, captor.getValue().getPrevious());
+        assertSame(current, captor.getValue().getCurrent());
+        assertNull(reports.get(List.of(restaurantId, startTime)));
+        assertNotNull(reports.get(List.of(otherRestaurantId, startTime)));
+    }
+
+    @Test
+    void onReservationChange_WhenRemoteDeleteOfKnownReservation_ShouldUseRememberedVersion() {
+        // Given - written by this instance, then deleted by another one without a pre-image
+        Reservation written = createReservation(new ObjectId(), 4);
+        changeStreamService.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, written));
+
+        // When
+        changeStreamService.onReservationChange("reservations", OperationType.DELETE, written.getId(), null, null);
+
+        // Then
+        ArgumentCaptor<RemoteReservationChangeEvent> captor =
+                ArgumentCaptor.forClass(RemoteReservationChangeEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertTrue(captor.getValue().isPreviousKnown());
+        assertEquals(written.getId(), captor.getValue().getPrevious().getId());
+        assertEquals(written.getStartTime(), captor.getValue().getPrevious().getStartTime());
+        assertEquals(written.getPartySize(), captor.getValue().getPrevious().getPartySize());
+        assertNull(captor.getValue().getCurrent());
+        assertNull(reports.get(List.of(restaurantId, startTime)));
+        assertNotNull(reports.get(List.of(otherRestaurantId, startTime)));
+    }
+
+    @Test
+    void onReservationChange_WhenRemoteDeleteOfUnknownReservation_ShouldDropAllDerivedState() {
+        // When
+        changeStreamService.onReservationChange("reservations", OperationType.DELETE, new ObjectId(), null, null);
+
+        // Then
+        ArgumentCaptor<RemoteReservationChangeEvent> captor =
+                ArgumentCaptor.forClass(RemoteReservationChangeEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertFalse(captor.getValue().isPreviousKnown());
+        assertNull(reports.get(List.of(restaurantId, startTime)));
+        assertNull(reports.get(List.of(otherRestaurantId, startTime)));
+    }
+
+    @Test
+    void onReservationChange_WhenDeliveredTwice_ShouldPublishOnce() {
+        // Given
+        Reservation inserted = createReservation(new ObjectId(), 4);
+        Document document = new Document("_id", inserted.getId());
+        when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        when(mongoConverter.read(Reservation.class, document)).thenReturn(inserted);
+
+        // When
+        changeStreamService.onReservationChange("reservations", OperationType.INSERT, inserted.getId(),
+                document, null);
+        changeStreamService.onReservationChange("reservations", OperationType.INSERT, inserted.getId(),
+                document, null);
+
+        // Then
+        verify(eventPublisher, times(1)).publishEvent(any(RemoteReservationChangeEvent.class));
+    }
+
+    // ==================== Partition Move Tests ====================
+
+    @Test
+    void onReservationChange_WhenOwnMoveBetweenPartitions_ShouldIgnoreRemovalFromOldPartition() {
+        // Given - moved from March to April by this instance: inserted into April, then removed from March
+        Reservation moved = createReservation(new ObjectId(), 4);
+        moved.setStartTime(LocalDateTime.of(2026, 4, 2, 19, 0));
+        moved.setEndTime(LocalDateTime.of(2026, 4, 2, 21, 0));
+        Document document = new Document("_id", moved.getId());
+        when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+        when(mongoConverter.read(Reservation.class, document)).thenReturn(copy(moved));
+        changeStreamService.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, moved));
+        changeStreamService.onReservationChange("reservations_2026_04", OperationType.INSERT, moved.getId(),
+                document, null);
+
+        // When
+        changeStreamService.onReservationChange("reservations_2026_03", OperationType.DELETE, moved.getId(),
+                null, null);
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        verify(reservationRepository, never()).findById(any(ObjectId.class));
+        assertNotNull(reports.get(List.of(restaurantId, startTime)));
+    }
+
+    @Test
+    void onReservationChange_WhenRemovedReservationStillExistsElsewhere_ShouldIgnoreRemoval() {
+        // Given - moved by another instance before this one saw the reservation
+        Reservation moved = createReservation(new ObjectId(), 4);
+        when(reservationRepository.findById(moved.getId())).thenReturn(Optional.of(moved));
+
+        // When
+        changeStreamService.onReservationChange("reservations_2026_03", OperationType.DELETE, moved.getId(),
+                null, null);
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        assertNotNull(reports.get(List.of(restaurantId, startTime)));
+        assertNotNull(reports.get(List.of(otherRestaurantId, startTime)));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Reservation createReservation(ObjectId id, int partySize) {
+        Reservation reservation = new Reservation(restaurantId, spaceId, "test@example.com", startTime,
+                startTime.plusHours(2), partySize, "CONFIRMED");
+        reservation.setId(id);
+        return reservation;
+    }
+
+    private Reservation copy(Reservation reservation) {
+        Reservation copy = new Reservation(reservation.getRestaurantId(), reservation.getSpaceId(),
+                reservation.getCustomerEmail(), reservation.getStartTime(), reservation.getEndTime(),
+                reservation.getPartySize(), reservation.getStatus());
+        copy.setId(reservation.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,262 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.IdempotencyConfig;
+import com.opentable.privatedining.exception.CapacityExceededException;
+import com.opentable.privatedining.exception.IdempotencyKeyInProgressException;
+import com.opentable.privatedining.exception.IdempotencyKeyReusedException;
+import com.opentable.privatedining.model.IdempotencyRecord;
+import com.opentable.privatedining.model.IdempotencyStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.IdempotencyRecordRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "booking-42";
+
+    @Mock
+    private IdempotencyRecordRepository recordRepository;
+
+    private IdempotencyConfig idempotencyConfig;
+    private IdempotencyService idempotencyService;
+
+    private Reservation request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyConfig = new IdempotencyConfig();
+        idempotencyConfig.setPollIntervalMillis(1);
+        idempotencyService = new IdempotencyService(recordRepository, idempotencyConfig);
+
+        request = new Reservation(new ObjectId(), UUID.randomUUID(), "customer@example.com",
+                LocalDateTime.of(2026, 1, 20, 18, 0), LocalDateTime.of(2026, 1, 20, 20, 0), 8, "CONFIRMED");
+    }
+
+    // ==================== First Request Tests ====================
+
+    @Test
+    void execute_WhenKeyIsNew_ShouldRunActionAndStoreResult() {
+        // Given
+        Reservation created = createdReservation();
+
+        // When
+        IdempotencyService.IdempotentResult result = idempotencyService.execute(KEY, request, () -> created);
+
+        // Then
+        assertSame(created, result.reservation());
+        assertFalse(result.replayed());
+        ArgumentCaptor<IdempotencyRecord> pending = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).insert(pending.capture());
+        assertEquals(KEY, pending.getValue().getKey());
+        assertEquals(IdempotencyStatus.PENDING, pending.getValue().getStatus());
+        ArgumentCaptor<IdempotencyRecord> completed = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).save(completed.capture());
+        assertEquals(IdempotencyStatus.COMPLETED, completed.getValue().getStatus());
+        assertEquals(created.getId(), completed.getValue().getReservationId());
+        assertTrue(completed.getValue().getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+    }
+
+    @Test
+    void execute_WhenActionFails_ShouldReleaseKeyAndAllowRetry() {
+        // Given
+        Reservation created = createdReservation();
+
+        // When
+        assertThrows(CapacityExceededException.class, () -> idempotencyService.execute(KEY, request, () -> {
+            throw new CapacityExceededException("Capacity exceeded");
+        }));
+        IdempotencyService.IdempotentResult retry = idempotencyService.execute(KEY, request, () -> created);
+
+        // Then
+        ArgumentCaptor<IdempotencyRecord> claims = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository, times(2)).insert(claims.capture());
+        verify(recordRepository).deleteByKeyAndStatusAndClaimToken(KEY, IdempotencyStatus.PENDING,
+                claims.getAllValues().get(0).getClaimToken());
+        verify(recordRepository, never()).deleteById(KEY);
+        assertNotEquals(claims.getAllValues().get(0).getClaimToken(), claims.getAllValues().get(1).getClaimToken());
+        assertSame(created, retry.reservation());
+        assertFalse(retry.replayed());
+    }
+
+    @Test
+    void execute_WhenStoringResultFails_ShouldStillReturnCreatedReservation() {
+        // Given
+        Reservation created = createdReservation();
+        when(recordRepository.save(any(IdempotencyRecord.class))).thenThrow(new RuntimeException("Mongo unavailable"));
+
+        // When
+        IdempotencyService.IdempotentResult result = idempotencyService.execute(KEY, request, () -> created);
+        IdempotencyService.IdempotentResult replay = idempotencyService.execute(KEY, request, failingAction());
+
+        // Then
+        assertSame(created, result.reservation());
+        assertTrue(replay.replayed());
+    }
+
+    // ==================== Replay Tests ====================
+
+    @Test
+    void execute_WhenKeyCompletedOnThisInstance_ShouldReplayFromCache() {
+        // Given
+        Reservation created = createdReservation();
+        idempotencyService.execute(KEY, request, () -> created);
+
+        // When
+        IdempotencyService.IdempotentResult replay = idempotencyService.execute(KEY, request, failingAction());
+
+        // Then
+        assertTrue(replay.replayed());
+        assertEquals(created.getId(), replay.reservation().getId());
+        verify(recordRepository, times(1)).insert(any(IdempotencyRecord.class));
+        verify(recordRepository, never()).findById(any());
+    }
+
+    @Test
+    void execute_WhenKeyCompletedOnAnotherInstance_ShouldReplayStoredReservation() {
+        // Given
+        IdempotencyRecord stored = completedRecord(IdempotencyService.fingerprint(request));
+        when(recordRepository.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("duplicate"));
+        when(recordRepository.findById(KEY)).thenReturn(java.util.Optional.of(stored));
+
+        // When
+        IdempotencyService.IdempotentResult replay = idempotencyService.execute(KEY, request, failingAction());
+
+        // Then
+        assertTrue(replay.replayed());
+        assertEquals(stored.getReservationId(), replay.reservation().getId());
+        verify(recordRepository, never()).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_WhenKeyReusedWithDifferentRequest_ShouldThrowIdempotencyKeyReusedException() {
+        // Given
+        idempotencyService.execute(KEY, request, this::createdReservation);
+        Reservation otherRequest = new Reservation(request.getRestaurantId(), request.getSpaceId(),
+                "customer@example.com", request.getStartTime(), request.getEndTime(), 12, "CONFIRMED");
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute(KEY, otherRequest, failingAction()));
+    }
+
+    // ==================== In-Flight Tests ====================
+
+    @Test
+    void execute_WhenDuplicateArrivesWhileOriginalRuns_ShouldWaitForOriginal() throws Exception {
+        // Given
+        Reservation created = createdReservation();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<IdempotencyService.IdempotentResult> original = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, request, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                    return created;
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        CompletableFuture<IdempotencyService.IdempotentResult> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, request, () -> {
+                    executions.incrementAndGet();
+                    return createdReservation();
+                }));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertFalse(original.get(5, TimeUnit.SECONDS).replayed());
+        IdempotencyService.IdempotentResult replay = duplicate.get(5, TimeUnit.SECONDS);
+        assertTrue(replay.replayed());
+        assertSame(created, replay.reservation());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_WhenKeyPendingOnAnotherInstance_ShouldThrowInProgressAfterWaitTimeout() {
+        // Given
+        idempotencyConfig.setWaitTimeoutSeconds(0);
+        IdempotencyRecord pending = new IdempotencyRecord(KEY, IdempotencyService.fingerprint(request),
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        when(recordRepository.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("duplicate"));
+        when(recordRepository.findById(KEY)).thenReturn(java.util.Optional.of(pending));
+
+        // When & Then
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> idempotencyService.execute(KEY, request, failingAction()));
+    }
+
+    @Test
+    void execute_WhenPendingKeyLeaseExpired_ShouldTakeOverKey() {
+        // Given
+        Reservation created = createdReservation();
+        IdempotencyRecord abandoned = new IdempotencyRecord(KEY, IdempotencyService.fingerprint(request),
+                LocalDateTime.now().minusMinutes(2), LocalDateTime.now().minusMinutes(1));
+        when(recordRepository.insert(any(IdempotencyRecord.class)))
+                .thenThrow(new DuplicateKeyException("duplicate"))
+                .thenReturn(abandoned);
+        when(recordRepository.findById(KEY)).thenReturn(java.util.Optional.of(abandoned));
+
+        // When
+        IdempotencyService.IdempotentResult result = idempotencyService.execute(KEY, request, () -> created);
+
+        // Then
+        assertFalse(result.replayed());
+        assertSame(created, result.reservation());
+        verify(recordRepository).deleteByKeyAndStatusAndExpiresAtBefore(eq(KEY), eq(IdempotencyStatus.PENDING),
+                any(LocalDateTime.class));
+    }
+
+    private Reservation createdReservation() {
+        Reservation created = new Reservation(request.getRestaurantId(), request.getSpaceId(),
+                request.getCustomerEmail(), request.getStartTime(), request.getEndTime(), request.getPartySize(),
+                request.getStatus());
+        created.setId(new ObjectId());
+        return created;
+    }
+
+    private IdempotencyRecord completedRecord(String fingerprint) {
+        IdempotencyRecord record = new IdempotencyRecord(KEY, fingerprint, LocalDateTime.now(),
+                LocalDateTime.now().plusHours(24));
+        Reservation created = createdReservation();
+        record.setStatus(IdempotencyStatus.COMPLETED);
+        record.setReservationId(created.getId());
+        created.setId(null);
+        record.setReservation(created);
+        return record;
+    }
+
+    private static Supplier<Reservation> failingAction() {
+        return () -> fail("Action must not run for a replayed key");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -182,6 +182,7 @@ class OccupancyAnalyticsCacheTest {
         ObjectId reservationId = new ObjectId();
         Reservation reservation = new Reservation();
         reservation.setId(reservationId);
+        reservation.setRestaurantId(restaurantId);
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
         doNothing().when(reservationRepository).deleteById(reservationId);
 
@@ -196,6 +197,36 @@ class OccupancyAnalyticsCacheTest {
         verify(restaurantRepository, times(2)).findById(restaurantId);
     }
 
+    @Test
+    void deleteReservation_ShouldKeepCachedReportsOfOtherRestaurants() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        // Populate cache
+        occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Setup for deleteReservation in another restaurant
+        ObjectId reservationId = new ObjectId();
+        Reservation reservation = new Reservation();
+        reservation.setId(reservationId);
+        reservation.setRestaurantId(new ObjectId());
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+        doNothing().when(reservationRepository).deleteById(reservationId);
+
+        // When - Delete a reservation of another restaurant
+        reservationService.deleteReservation(reservationId);
+
+        // Then - Call analytics again
+        occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Repository should be called once because the report stayed cached
+        verify(restaurantRepository, times(1)).findById(restaurantId);
+    }
+
     @Test
     void generateOccupancyReport_WithDifferentPagination_ShouldUseSeparateCacheEntries() {
         // Given
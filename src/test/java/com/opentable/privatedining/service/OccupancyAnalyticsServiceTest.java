@@ -7,9 +7,11 @@ import com.opentable.privatedining.dto.TimeSlotOccupancyDTO;
 import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.RestaurantNotFoundException;
 import com.opentable.privatedining.exception.SpaceNotFoundException;
+import com.opentable.privatedining.model.DailyOccupancyRollup;
 import com.opentable.privatedining.model.Reservation;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
 import com.opentable.privatedining.repository.ReservationRepository;
 import com.opentable.privatedining.repository.RestaurantRepository;
 import org.bson.types.ObjectId;
@@ -20,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -35,6 +38,15 @@ class OccupancyAnalyticsServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private DailyOccupancyRollupRepository rollupRepository;
+
+    @Mock
+    private ReservationColumnStore columnStore;
+
+    @Mock
+    private ReservationArchiveService reservationArchiveService;
+
     @Mock
     private AnalyticsConfig analyticsConfig;
 
@@ -463,8 +475,202 @@ class OccupancyAnalyticsServiceTest {
         assertEquals(0.0, spaceReport.getAverageUtilization(), 0.01);
     }
 
+    // ==================== Rollup Stitching Tests ====================
+
+    @Test
+    void generateOccupancyReport_WithRollupForPastDay_ShouldStitchRollupWithLiveParts() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 9, 20, 0);
+        LocalDateTime endTime = LocalDateTime.of(2025, 3, 11, 10, 0);
+        LocalDateTime rolledUpDayStart = LocalDateTime.of(2025, 3, 10, 0, 0);
+        LocalDateTime rolledUpDayEnd = LocalDateTime.of(2025, 3, 11, 0, 0);
+
+        DailyOccupancyRollup rollup = createRollup(LocalDate.of(2025, 3, 10), 1, 10, 0, 0);
+        rollup.getSpaces().add(createSpaceRollup(space1.getId(), 12, 10, 0, 0));
+
+        Reservation leading = createReservation(restaurantId, space2.getId(), 5,
+                LocalDateTime.of(2025, 3, 9, 21, 0), LocalDateTime.of(2025, 3, 9, 22, 0));
+        Reservation trailing = createReservation(restaurantId, space1.getId(), 4,
+                LocalDateTime.of(2025, 3, 11, 9, 0), LocalDateTime.of(2025, 3, 11, 10, 0));
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(true);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(rollupRepository.findByRestaurantIdAndDayRange(restaurantId, 60,
+                LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 11)))
+                .thenReturn(List.of(rollup));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, rolledUpDayStart))
+                .thenReturn(List.of(leading));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, rolledUpDayEnd, endTime))
+                .thenReturn(List.of(trailing));
+
+        // When
+        OccupancyReportDTO response = occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertEquals(3, response.getSummary().getTotalReservations());
+        assertEquals(19, response.getSummary().getTotalGuests());
+        assertEquals(10, response.getSummary().getPeakOccupancy());
+
+        SpaceOccupancyReportDTO space1Report = response.getSpaceReports().get(0);
+        assertEquals(38, space1Report.getHourlyBreakdown().size());
+        assertEquals(2, space1Report.getTotalReservations());
+        assertEquals(10, space1Report.getHourlyBreakdown().get(16).getOccupancy());
+        assertEquals(4, space1Report.getHourlyBreakdown().get(37).getOccupancy());
+
+        SpaceOccupancyReportDTO space2Report = response.getSpaceReports().get(1);
+        assertEquals(5, space2Report.getHourlyBreakdown().get(1).getOccupancy());
+        verify(reservationRepository, never()).findByRestaurantIdAndTimeRange(
+                restaurantId, rolledUpDayStart, rolledUpDayEnd);
+    }
+
+    @Test
+    void generateOccupancyReport_WhenRollupOpensReport_ShouldCountCarriedOverReservations() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 10, 0, 0);
+        LocalDateTime endTime = LocalDateTime.of(2025, 3, 11, 0, 0);
+
+        DailyOccupancyRollup rollup = createRollup(LocalDate.of(2025, 3, 10), 2, 12, 1, 6);
+        rollup.getSpaces().add(createSpaceRollup(space1.getId(), 0, 6, 1, 6));
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(true);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(rollupRepository.findByRestaurantIdAndDayRange(restaurantId, 60,
+                LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 11)))
+                .thenReturn(List.of(rollup));
+
+        // When
+        OccupancyReportDTO response = occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, space1.getId(), 0, 10);
+
+        // Then - the space's own counters apply, including the reservation carried over from the previous day
+        assertEquals(1, response.getSummary().getTotalReservations());
+        assertEquals(6, response.getSummary().getTotalGuests());
+        assertEquals(1, response.getSpaceReports().get(0).getTotalReservations());
+        assertEquals(6, response.getSpaceReports().get(0).getHourlyBreakdown().get(0).getOccupancy());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void generateOccupancyReport_WhenNoRollupsExist_ShouldComputeWholeRangeLive() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 9, 20, 0);
+        LocalDateTime endTime = LocalDateTime.of(2025, 3, 11, 10, 0);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(true);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(rollupRepository.findByRestaurantIdAndDayRange(eq(restaurantId), eq(60), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        OccupancyReportDTO response = occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertEquals(0, response.getSummary().getTotalReservations());
+        verify(reservationRepository, times(1)).findByRestaurantIdAndTimeRange(any(), any(), any());
+    }
+
+    // ==================== Column Store Tests ====================
+
+    @Test
+    void generateOccupancyReport_WhenColumnStoreEnabled_ShouldScanColumnStoreInsteadOfQuerying() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(columnStore.scan(any(OccupancyAccumulator.class), eq(restaurantId), eq(startTime), eq(endTime),
+                isNull(), eq(true)))
+                .thenAnswer(invocation -> {
+                    OccupancyAccumulator accumulator = invocation.getArgument(0);
+                    accumulator.add(space1.getId(), startTime, startTime.plusHours(1), 8);
+                    return true;
+                });
+
+        // When
+        OccupancyReportDTO response = occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertEquals(1, response.getSummary().getTotalReservations());
+        assertEquals(8, response.getSpaceReports().get(0).getHourlyBreakdown().get(0).getOccupancy());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    // ==================== Archive Tests ====================
+
+    @Test
+    void generateOccupancyReport_WhenRangeReachesArchive_ShouldAddArchivedReservationsAndSkipColumnStore() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        Reservation live = createReservation(restaurantId, space1.getId(), 4, startTime, startTime.plusHours(1));
+        Reservation archived = createReservation(restaurantId, space1.getId(), 6,
+                startTime.plusHours(1), endTime);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reservationArchiveService.reachesArchive(startTime)).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(List.of(live));
+        when(reservationArchiveService.withArchived(List.of(live), restaurantId, null, startTime, endTime))
+                .thenReturn(List.of(archived, live));
+
+        // When
+        OccupancyReportDTO response = occupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertEquals(2, response.getSummary().getTotalReservations());
+        assertEquals(10, response.getSummary().getTotalGuests());
+        List<TimeSlotOccupancyDTO> hourlyBreakdown = response.getSpaceReports().get(0).getHourlyBreakdown();
+        assertEquals(4, hourlyBreakdown.get(0).getOccupancy());
+        assertEquals(6, hourlyBreakdown.get(1).getOccupancy());
+        verifyNoInteractions(columnStore);
+    }
+
     // ==================== Helper Methods ====================
 
+    private DailyOccupancyRollup createRollup(LocalDate day, int reservations, int guests,
+                                              int carriedOverReservations, int carriedOverGuests) {
+        DailyOccupancyRollup rollup = new DailyOccupancyRollup(restaurantId, day, 60);
+        rollup.setTotalReservations(reservations);
+        rollup.setTotalGuests(guests);
+        rollup.setCarriedOverReservations(carriedOverReservations);
+        rollup.setCarriedOverGuests(carriedOverGuests);
+        return rollup;
+    }
+
+    private DailyOccupancyRollup.SpaceRollup createSpaceRollup(UUID spaceId, int slot, int partySize,
+                                                               int carriedOverReservations, int carriedOverGuests) {
+        int[] slotReservations = new int[24];
+        int[] slotOccupancy = new int[24];
+        slotReservations[slot] = 1;
+        slotOccupancy[slot] = partySize;
+
+        DailyOccupancyRollup.SpaceRollup spaceRollup = new DailyOccupancyRollup.SpaceRollup();
+        spaceRollup.setSpaceId(spaceId);
+        spaceRollup.setReservationCount(1 - carriedOverReservations);
+        spaceRollup.setGuestCount(partySize - carriedOverGuests);
+        spaceRollup.setCarriedOverReservations(carriedOverReservations);
+        spaceRollup.setCarriedOverGuests(carriedOverGuests);
+        spaceRollup.setSlotReservations(slotReservations);
+        spaceRollup.setSlotOccupancy(slotOccupancy);
+        return spaceRollup;
+    }
+
     private Reservation createReservation(ObjectId restaurantId, UUID spaceId, int partySize,
                                           LocalDateTime startTime, LocalDateTime endTime) {
         Reservation reservation = new Reservation();
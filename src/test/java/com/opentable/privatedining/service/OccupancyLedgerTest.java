@@ -0,0 +1,295 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.OccupancyLedgerConfig;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyLedgerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private OccupancyLedgerConfig ledgerConfig;
+    private OccupancyLedger occupancyLedger;
+
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private LocalDateTime dayStart;
+    private LocalDateTime dayEnd;
+
+    @BeforeEach
+    void setUp() {
+        ledgerConfig = new OccupancyLedgerConfig();
+        ledgerConfig.setEnabled(true);
+        ledgerConfig.setPath(tempDir.resolve("ledger.bin").toString());
+        ledgerConfig.setMaxSpaces(8);
+        ledgerConfig.setDaysPerSpace(4);
+
+        restaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+        dayStart = LocalDateTime.of(2026, 1, 20, 0, 0);
+        dayEnd = dayStart.plusDays(1);
+
+        occupancyLedger = new OccupancyLedger(reservationRepository, ledgerConfig);
+        occupancyLedger.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        occupancyLedger.close();
+    }
+
+    // ==================== Lookup Tests ====================
+
+    @Test
+    void getOccupancy_WhenDisabled_ShouldReturnEmptyWithoutCreatingFile() {
+        // Given
+        OccupancyLedgerConfig disabledConfig = new OccupancyLedgerConfig();
+        disabledConfig.setPath(tempDir.resolve("disabled.bin").toString());
+        OccupancyLedger disabledLedger = new OccupancyLedger(reservationRepository, disabledConfig);
+        disabledLedger.open();
+
+        // When
+        OptionalInt occupancy = disabledLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+
+        // Then
+        assertTrue(occupancy.isEmpty());
+        assertFalse(Files.exists(tempDir.resolve("disabled.bin")));
+        assertEquals(0, disabledLedger.verify());
+    }
+
+    @Test
+    void getOccupancy_WhenDayNotLoaded_ShouldReturnEmptyAndBuildInBackground() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(createReservation(4, at(12, 0), at(14, 0))));
+
+        // When
+        OptionalInt beforeBuild = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+        int built = occupancyLedger.verify();
+        OptionalInt afterBuild = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+
+        // Then
+        assertTrue(beforeBuild.isEmpty());
+        assertEquals(1, built);
+        assertEquals(OptionalInt.of(4), afterBuild);
+    }
+
+    @Test
+    void getOccupancy_ShouldSumAllReservationsOverlappingWindow() {
+        // Given - the first two never overlap each other, but both overlap 12:00-15:00
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(
+                        createReservation(3, at(11, 0), at(12, 30)),
+                        createReservation(5, at(13, 0), at(14, 0)),
+                        createReservation(2, at(14, 45), at(16, 0)),
+                        createReservation(6, at(15, 0), at(17, 0)),
+                        createReservation(7, at(9, 0), at(12, 0))));
+        loadDay();
+
+        // When
+        OptionalInt occupancy = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(15, 0));
+
+        // Then
+        assertEquals(OptionalInt.of(10), occupancy); // 3 + 5 + 2
+    }
+
+    @Test
+    void getOccupancy_WhenWindowNotOnSlotBoundaries_ShouldReturnEmpty() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(Collections.emptyList());
+        loadDay();
+
+        // When
+        OptionalInt occupancy = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 10), at(14, 0));
+
+        // Then
+        assertTrue(occupancy.isEmpty());
+    }
+
+    @Test
+    void getOccupancy_WhenDayHoldsMisalignedReservation_ShouldReturnEmpty() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(createReservation(4, at(12, 5), at(14, 0))));
+        loadDay();
+
+        // When
+        OptionalInt occupancy = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+
+        // Then
+        assertTrue(occupancy.isEmpty());
+    }
+
+    @Test
+    void getOccupancy_WhenWindowEndsAtMidnight_ShouldAnswer() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(createReservation(4, at(22, 0), dayEnd)));
+        loadDay();
+
+        // When
+        OptionalInt occupancy = occupancyLedger.getOccupancy(restaurantId, spaceId, at(23, 0), dayEnd);
+
+        // Then
+        assertEquals(OptionalInt.of(4), occupancy);
+    }
+
+    // ==================== Delta Tests ====================
+
+    @Test
+    void onReservationChanged_ShouldApplyCreatedAndDeletedReservations() {
+        // Given
+        Reservation existing = createReservation(4, at(12, 0), at(14, 0));
+        Reservation created = createReservation(6, at(13, 0), at(15, 0));
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(existing));
+        loadDay();
+
+        // When
+        occupancyLedger.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, created));
+        OptionalInt afterCreate = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+        occupancyLedger.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+        OptionalInt afterDelete = occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+
+        // Then
+        assertEquals(OptionalInt.of(10), afterCreate);
+        assertEquals(OptionalInt.of(6), afterDelete);
+    }
+
+    @Test
+    void onReservationChanged_WhenReservationMisaligned_ShouldStopAnsweringForDay() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(Collections.emptyList());
+        loadDay();
+
+        // When
+        occupancyLedger.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED,
+                createReservation(4, at(12, 5), at(14, 0))));
+
+        // Then
+        assertTrue(occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0)).isEmpty());
+    }
+
+    @Test
+    void onReservationsDeleted_ShouldReleaseGuestsOfAllReservations() {
+        // Given
+        Reservation first = createReservation(4, at(12, 0), at(14, 0));
+        Reservation second = createReservation(6, at(13, 0), at(15, 0));
+        Reservation kept = createReservation(3, at(12, 0), at(13, 0));
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(first, second, kept));
+        loadDay();
+
+        // When
+        occupancyLedger.onReservationsDeleted(new ReservationsDeletedEvent(List.of(first, second)));
+
+        // Then
+        assertEquals(OptionalInt.of(3), occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(15, 0)));
+    }
+
+    // ==================== Persistence Tests ====================
+
+    @Test
+    void open_ShouldAnswerFromPreviousRunAndReverifyInBackground() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(createReservation(4, at(12, 0), at(14, 0))))
+                .thenReturn(List.of(createReservation(4, at(12, 0), at(14, 0)),
+                        createReservation(3, at(13, 0), at(14, 0))));
+        loadDay();
+        occupancyLedger.close();
+
+        // When
+        OccupancyLedger restarted = new OccupancyLedger(reservationRepository, ledgerConfig);
+        restarted.open();
+        OptionalInt beforeVerification = restarted.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+        int verified = restarted.verify();
+        OptionalInt afterVerification = restarted.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+
+        // Then
+        assertEquals(OptionalInt.of(4), beforeVerification);
+        assertEquals(1, verified);
+        assertEquals(OptionalInt.of(7), afterVerification);
+        restarted.close();
+    }
+
+    @Test
+    void open_WhenLayoutChanged_ShouldResetLedger() {
+        // Given
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, dayStart, dayEnd))
+                .thenReturn(List.of(createReservation(4, at(12, 0), at(14, 0))));
+        loadDay();
+        occupancyLedger.close();
+
+        // When
+        ledgerConfig.setSlotDurationMinutes(30);
+        OccupancyLedger restarted = new OccupancyLedger(reservationRepository, ledgerConfig);
+        restarted.open();
+
+        // Then
+        assertTrue(restarted.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0)).isEmpty());
+        restarted.close();
+    }
+
+    @Test
+    void open_WhenSlotDurationDoesNotDivideDay_ShouldThrowException() {
+        // Given
+        ledgerConfig.setSlotDurationMinutes(7);
+        OccupancyLedger invalid = new OccupancyLedger(reservationRepository, ledgerConfig);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, invalid::open);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void loadDay() {
+        occupancyLedger.getOccupancy(restaurantId, spaceId, at(12, 0), at(14, 0));
+        occupancyLedger.verify();
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return dayStart.withHour(hour).withMinute(minute);
+    }
+
+    private Reservation createReservation(int partySize, LocalDateTime startTime, LocalDateTime endTime) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurantId);
+        reservation.setSpaceId(spaceId);
+        reservation.setPartySize(partySize);
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
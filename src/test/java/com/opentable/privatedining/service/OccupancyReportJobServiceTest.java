@@ -0,0 +1,356 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.ReportJobNotFoundException;
+import com.opentable.privatedining.exception.ReportJobNotReadyException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.model.ReportJob;
+import com.opentable.privatedining.model.ReportJobChunk;
+import com.opentable.privatedining.model.ReportJobStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
+import com.opentable.privatedining.repository.ReportJobChunkRepository;
+import com.opentable.privatedining.repository.ReportJobRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyReportJobServiceTest {
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ReportJobChunkRepository reportJobChunkRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DailyOccupancyRollupRepository rollupRepository;
+
+    @Mock
+    private ReservationColumnStore columnStore;
+
+    @Mock
+    private ReservationArchiveService reservationArchiveService;
+
+    @Mock
+    private AnalyticsConfig analyticsConfig;
+
+    private OccupancyReportJobService occupancyReportJobService;
+
+    private List<Runnable> scheduledTasks;
+    private ObjectId restaurantId;
+    private Restaurant restaurant;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        scheduledTasks = new ArrayList<>();
+        OccupancyAnalyticsService occupancyAnalyticsService = new OccupancyAnalyticsService(
+                reservationRepository, restaurantRepository, rollupRepository, columnStore, reservationArchiveService,
+                analyticsConfig);
+        occupancyReportJobService = new OccupancyReportJobService(reportJobRepository, reportJobChunkRepository,
+                reservationRepository, restaurantRepository, occupancyAnalyticsService, reservationArchiveService,
+                analyticsConfig, scheduledTasks::add);
+
+        restaurantId = new ObjectId();
+        space = new Space("Garden Room", 2, 20);
+        space.setId(UUID.randomUUID());
+
+        restaurant = new Restaurant("Test Restaurant", "123 Main St", "Italian", 100);
+        restaurant.setId(restaurantId);
+        restaurant.setSpaces(Arrays.asList(space));
+    }
+
+    // ==================== Submit Tests ====================
+
+    @Test
+    void submitJob_WithValidRange_ShouldPersistPendingJobAndSchedule() {
+        // Given
+        ObjectId jobId = new ObjectId();
+        when(analyticsConfig.getJobMaxRangeDays()).thenReturn(366);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reportJobRepository.save(any(ReportJob.class))).thenAnswer(invocation -> {
+            ReportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+
+        // When
+        ReportJob job = occupancyReportJobService.submitJob(
+                restaurantId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), null);
+
+        // Then
+        assertEquals(jobId, job.getId());
+        assertEquals(ReportJobStatus.PENDING, job.getStatus());
+        assertEquals(365, job.getTotalDays());
+        assertEquals(0, job.getCompletedDays());
+        assertEquals(60, job.getSlotDurationMinutes());
+        assertNotNull(job.getCreatedAt());
+        assertEquals(1, scheduledTasks.size());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void submitJob_WhenRangeExceedsJobLimit_ShouldThrowException() {
+        // Given
+        when(analyticsConfig.getJobMaxRangeDays()).thenReturn(366);
+
+        // When & Then
+        assertThrows(InvalidDateRangeException.class,
+                () -> occupancyReportJobService.submitJob(
+                        restaurantId, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 2), null));
+
+        verifyNoInteractions(restaurantRepository, reportJobRepository);
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    void submitJob_WhenEndDateBeforeStartDate_ShouldThrowException() {
+        // When & Then
+        InvalidDateRangeException exception = assertThrows(InvalidDateRangeException.class,
+                () -> occupancyReportJobService.submitJob(
+                        restaurantId, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 2, 1), null));
+
+        assertTrue(exception.getMessage().contains("End date must not be before start date"));
+        verifyNoInteractions(restaurantRepository, reportJobRepository);
+    }
+
+    @Test
+    void submitJob_WhenRestaurantNotFound_ShouldThrowException() {
+        // Given
+        when(analyticsConfig.getJobMaxRangeDays()).thenReturn(366);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RestaurantNotFoundException.class,
+                () -> occupancyReportJobService.submitJob(
+                        restaurantId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), null));
+
+        verifyNoInteractions(reportJobRepository);
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    // ==================== Processing Tests ====================
+
+    @Test
+    void runJob_ShouldCheckpointEachDayAndComplete() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        Reservation reservation = createReservation(8, LocalDateTime.of(2026, 1, 20, 10, 0),
+                LocalDateTime.of(2026, 1, 20, 12, 0));
+
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reportJobChunkRepository.findByJobId(job.getId())).thenReturn(List.of());
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenReturn(List.of(reservation), List.of());
+
+        // When
+        occupancyReportJobService.runJob(job.getId());
+
+        // Then
+        ArgumentCaptor<ReportJobChunk> chunkCaptor = ArgumentCaptor.forClass(ReportJobChunk.class);
+        verify(reportJobChunkRepository, times(2)).save(chunkCaptor.capture());
+
+        ReportJobChunk firstDay = chunkCaptor.getAllValues().get(0);
+        assertEquals(LocalDate.of(2026, 1, 20), firstDay.getDay());
+        assertEquals(1, firstDay.getTotalReservations());
+        assertEquals(8, firstDay.getTotalGuests());
+        ReportJobChunk.SpaceSlots slots = firstDay.getSpaces().get(0);
+        assertEquals(24, slots.getOccupancy().length);
+        assertEquals(8, slots.getOccupancy()[10]);
+        assertEquals(8, slots.getOccupancy()[11]);
+        assertEquals(0, slots.getOccupancy()[12]);
+
+        assertEquals(LocalDate.of(2026, 1, 21), chunkCaptor.getAllValues().get(1).getDay());
+        assertEquals(ReportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getCompletedDays());
+        assertNotNull(job.getCompletedAt());
+    }
+
+    @Test
+    void runJob_WhenDaysAlreadyCheckpointed_ShouldResumeFromMissingDays() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        job.setStatus(ReportJobStatus.RUNNING);
+        ReportJobChunk existing = new ReportJobChunk(job.getId(), LocalDate.of(2026, 1, 20), 0, 0);
+
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reportJobChunkRepository.findByJobId(job.getId())).thenReturn(List.of(existing));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        occupancyReportJobService.runJob(job.getId());
+
+        // Then
+        verify(reservationRepository).findByRestaurantIdAndTimeRange(restaurantId,
+                LocalDateTime.of(2026, 1, 21, 0, 0), LocalDateTime.of(2026, 1, 22, 0, 0));
+        verify(reservationRepository, never()).findByRestaurantIdAndTimeRange(restaurantId,
+                LocalDateTime.of(2026, 1, 20, 0, 0), LocalDateTime.of(2026, 1, 21, 0, 0));
+        verify(reportJobChunkRepository, times(1)).save(any(ReportJobChunk.class));
+        assertEquals(ReportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getCompletedDays());
+    }
+
+    @Test
+    void runJob_WhenQueryFails_ShouldMarkJobFailed() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reportJobChunkRepository.findByJobId(job.getId())).thenReturn(List.of());
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        // When
+        occupancyReportJobService.runJob(job.getId());
+
+        // Then
+        assertEquals(ReportJobStatus.FAILED, job.getStatus());
+        assertEquals("connection reset", job.getFailureReason());
+        verify(reportJobChunkRepository, never()).save(any(ReportJobChunk.class));
+    }
+
+    @Test
+    void runJob_WhenJobAlreadyCompleted_ShouldDoNothing() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        job.setStatus(ReportJobStatus.COMPLETED);
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // When
+        occupancyReportJobService.runJob(job.getId());
+
+        // Then
+        verifyNoInteractions(restaurantRepository, reservationRepository, reportJobChunkRepository);
+    }
+
+    @Test
+    void resumeUnfinishedJobs_ShouldScheduleEachUnfinishedJob() {
+        // Given
+        ReportJob pending = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        ReportJob running = createJob(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+        running.setStatus(ReportJobStatus.RUNNING);
+        when(reportJobRepository.findByStatusIn(List.of(ReportJobStatus.PENDING, ReportJobStatus.RUNNING)))
+                .thenReturn(List.of(pending, running));
+
+        // When
+        occupancyReportJobService.resumeUnfinishedJobs();
+
+        // Then
+        assertEquals(2, scheduledTasks.size());
+    }
+
+    // ==================== Retrieval Tests ====================
+
+    @Test
+    void getJob_WhenJobBelongsToAnotherRestaurant_ShouldThrowNotFound() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // When & Then
+        assertThrows(ReportJobNotFoundException.class,
+                () -> occupancyReportJobService.getJob(new ObjectId(), job.getId()));
+    }
+
+    @Test
+    void getJobResult_WhenJobNotCompleted_ShouldThrowNotReady() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        job.setStatus(ReportJobStatus.RUNNING);
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // When & Then
+        ReportJobNotReadyException exception = assertThrows(ReportJobNotReadyException.class,
+                () -> occupancyReportJobService.getJobResult(restaurantId, job.getId(), 0, 10));
+
+        assertEquals(ReportJobStatus.RUNNING, exception.getStatus());
+        verifyNoInteractions(reportJobChunkRepository);
+    }
+
+    @Test
+    void getJobResult_WhenCompleted_ShouldMergeChunksIntoReport() {
+        // Given
+        ReportJob job = createJob(LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21));
+        job.setStatus(ReportJobStatus.COMPLETED);
+
+        int[] reservations = new int[24];
+        int[] occupancy = new int[24];
+        reservations[10] = 1;
+        occupancy[10] = 8;
+        ReportJobChunk secondDay = new ReportJobChunk(job.getId(), LocalDate.of(2026, 1, 21), 1, 8);
+        secondDay.getSpaces().add(new ReportJobChunk.SpaceSlots(space.getId(), 1, reservations, occupancy));
+        ReportJobChunk firstDay = new ReportJobChunk(job.getId(), LocalDate.of(2026, 1, 20), 0, 0);
+        firstDay.getSpaces().add(new ReportJobChunk.SpaceSlots(space.getId(), 0, new int[24], new int[24]));
+
+        when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(reportJobChunkRepository.findByJobId(job.getId())).thenReturn(List.of(secondDay, firstDay));
+
+        // When
+        OccupancyReportDTO report = occupancyReportJobService.getJobResult(restaurantId, job.getId(), 0, 10);
+
+        // Then
+        assertEquals(LocalDateTime.of(2026, 1, 20, 0, 0), report.getReportStartTime());
+        assertEquals(LocalDateTime.of(2026, 1, 22, 0, 0), report.getReportEndTime());
+        assertEquals(1, report.getSummary().getTotalReservations());
+        assertEquals(8, report.getSummary().getTotalGuests());
+        assertEquals(8, report.getSummary().getPeakOccupancy());
+
+        SpaceOccupancyReportDTO spaceReport = report.getSpaceReports().get(0);
+        assertEquals(48, spaceReport.getHourlyBreakdown().size());
+        assertEquals(8, spaceReport.getHourlyBreakdown().get(34).getOccupancy());
+        assertEquals(LocalDateTime.of(2026, 1, 21, 10, 0), spaceReport.getHourlyBreakdown().get(34).getSlotStart());
+        assertEquals(1, spaceReport.getTotalReservations());
+    }
+
+    private ReportJob createJob(LocalDate startDate, LocalDate endDate) {
+        ReportJob job = new ReportJob(restaurantId, null, startDate, endDate, 60);
+        job.setId(new ObjectId());
+        return job;
+    }
+
+    private Reservation createReservation(int partySize, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation(restaurantId, space.getId(), "guest@example.com",
+                start, end, partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+}
@@ -0,0 +1,89 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+import com.opentable.privatedining.dto.TimeSlotOccupancyDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyReportWeigherTest {
+
+    private final OccupancyReportWeigher weigher = new OccupancyReportWeigher();
+
+    // ==================== Weight Tests ====================
+
+    @Test
+    void weigh_ShouldGrowWithSpacesTimesSlots() {
+        // Given
+        OccupancyReportDTO small = report(1, 9);
+        OccupancyReportDTO large = report(20, 24 * 31);
+
+        // When
+        int smallWeight = weigher.weigh("small", small);
+        int largeWeight = weigher.weigh("large", large);
+
+        // Then
+        assertEquals(OccupancyReportWeigher.REPORT_BYTES + OccupancyReportWeigher.SPACE_BYTES
+                + 9 * OccupancyReportWeigher.SLOT_BYTES, smallWeight);
+        assertEquals(OccupancyReportWeigher.REPORT_BYTES + 20 * OccupancyReportWeigher.SPACE_BYTES
+                + 20 * 24 * 31 * OccupancyReportWeigher.SLOT_BYTES, largeWeight);
+    }
+
+    @Test
+    void weigh_WhenReportHasNoSpaces_ShouldWeighFixedCost() {
+        // Given
+        OccupancyReportDTO report = new OccupancyReportDTO();
+
+        // When & Then
+        assertEquals(OccupancyReportWeigher.REPORT_BYTES, weigher.weigh("key", report));
+        assertEquals(OccupancyReportWeigher.REPORT_BYTES, weigher.weigh("key", "not a report"));
+    }
+
+    // ==================== Eviction Tests ====================
+
+    @Test
+    void weigh_WhenCacheBoundedByBytes_ShouldKeepWeightWithinBudget() {
+        // Given
+        OccupancyReportDTO large = report(20, 24 * 31);
+        long budget = 2 * OccupancyReportWeigher.estimateBytes(large);
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(budget)
+                .weigher(weigher)
+                .executor(Runnable::run)
+                .build();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, report(20, 24 * 31));
+        }
+        cache.cleanUp();
+
+        // Then
+        assertTrue(cache.estimatedSize() <= 2);
+        assertTrue(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow() <= budget);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private OccupancyReportDTO report(int spaces, int slotsPerSpace) {
+        List<SpaceOccupancyReportDTO> spaceReports = new ArrayList<>();
+        for (int space = 0; space < spaces; space++) {
+            SpaceOccupancyReportDTO spaceReport = new SpaceOccupancyReportDTO();
+            List<TimeSlotOccupancyDTO> slots = new ArrayList<>();
+            for (int slot = 0; slot < slotsPerSpace; slot++) {
+                slots.add(new TimeSlotOccupancyDTO());
+            }
+            spaceReport.setHourlyBreakdown(slots);
+            spaceReports.add(spaceReport);
+        }
+        OccupancyReportDTO report = new OccupancyReportDTO();
+        report.setSpaceReports(spaceReports);
+        return report;
+    }
+}
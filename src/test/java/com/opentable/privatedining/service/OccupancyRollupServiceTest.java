@@ -0,0 +1,251 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.DailyOccupancyChange;
+import com.opentable.privatedining.model.DailyOccupancyRollup;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyChangeRepository;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyRollupServiceTest {
+
+    @Mock
+    private DailyOccupancyRollupRepository rollupRepository;
+
+    @Mock
+    private DailyOccupancyChangeRepository changeRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private AnalyticsConfig analyticsConfig;
+
+    @InjectMocks
+    private OccupancyRollupService occupancyRollupService;
+
+    private ObjectId restaurantId;
+    private Restaurant restaurant;
+    private Space space1;
+    private Space space2;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = new ObjectId();
+
+        space1 = new Space("Garden Room", 5, 25);
+        space1.setId(UUID.randomUUID());
+
+        space2 = new Space("Wine Cellar", 2, 10);
+        space2.setId(UUID.randomUUID());
+
+        restaurant = new Restaurant("Test Restaurant", "123 Main St", "Italian", 100);
+        restaurant.setId(restaurantId);
+        restaurant.setSpaces(Arrays.asList(space1, space2));
+    }
+
+    // ==================== Compaction Tests ====================
+
+    @Test
+    void compactRollups_ShouldWriteOnlyMissingPastDays() {
+        // Given
+        LocalDate today = LocalDate.now();
+        DailyOccupancyRollup existing = new DailyOccupancyRollup(restaurantId, today.minusDays(2), 60);
+
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(true);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(analyticsConfig.getRollupBackfillDays()).thenReturn(2);
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+        when(rollupRepository.findByRestaurantIdAndDayRange(restaurantId, 60, today.minusDays(2), today))
+                .thenReturn(List.of(existing));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        int written = occupancyRollupService.compactRollups();
+
+        // Then
+        assertEquals(1, written);
+        ArgumentCaptor<DailyOccupancyRollup> rollupCaptor = ArgumentCaptor.forClass(DailyOccupancyRollup.class);
+        verify(rollupRepository).insert(rollupCaptor.capture());
+        assertEquals(today.minusDays(1), rollupCaptor.getValue().getDay());
+        verify(reservationRepository).findByRestaurantIdAndTimeRange(restaurantId,
+                today.minusDays(1).atStartOfDay(), today.atStartOfDay());
+    }
+
+    @Test
+    void compactRollups_WhenDayChangesWhileCompacting_ShouldDropRollup() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate day = today.minusDays(1);
+        String changeKey = DailyOccupancyChange.key(restaurantId, day);
+        DailyOccupancyChange changed = new DailyOccupancyChange();
+        changed.setVersion(1);
+
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(true);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(analyticsConfig.getRollupBackfillDays()).thenReturn(1);
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+        when(rollupRepository.findByRestaurantIdAndDayRange(restaurantId, 60, day, today)).thenReturn(List.of());
+        when(reservationRepository.findByRestaurantIdAndTimeRange(eq(restaurantId), any(), any()))
+                .thenReturn(List.of());
+        when(changeRepository.findById(changeKey))
+                .thenReturn(Optional.empty(), Optional.empty(), Optional.of(changed));
+
+        // When
+        int written = occupancyRollupService.compactRollups();
+
+        // Then
+        assertEquals(0, written);
+        InOrder inOrder = inOrder(rollupRepository);
+        inOrder.verify(rollupRepository).insert(any(DailyOccupancyRollup.class));
+        inOrder.verify(rollupRepository).deleteByRestaurantIdAndDay(restaurantId, day);
+    }
+
+    @Test
+    void compactRollups_WhenDisabled_ShouldDoNothing() {
+        // Given
+        when(analyticsConfig.isRollupsEnabled()).thenReturn(false);
+
+        // When
+        int written = occupancyRollupService.compactRollups();
+
+        // Then
+        assertEquals(0, written);
+        verifyNoInteractions(restaurantRepository, reservationRepository, rollupRepository);
+    }
+
+    @Test
+    void buildRollup_ShouldSummariseSpacesAndSeparateCarriedOverReservations() {
+        // Given
+        LocalDate day = LocalDate.of(2025, 3, 10);
+        Reservation carriedOver = createReservation(space1.getId(), 4,
+                LocalDateTime.of(2025, 3, 9, 23, 0), LocalDateTime.of(2025, 3, 10, 1, 0));
+        Reservation lunch = createReservation(space1.getId(), 10,
+                LocalDateTime.of(2025, 3, 10, 12, 0), LocalDateTime.of(2025, 3, 10, 14, 0));
+        Reservation dinner = createReservation(space2.getId(), 5,
+                LocalDateTime.of(2025, 3, 10, 19, 0), LocalDateTime.of(2025, 3, 10, 20, 0));
+
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId,
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(carriedOver, lunch, dinner));
+
+        // When
+        DailyOccupancyRollup rollup = occupancyRollupService.buildRollup(restaurant, day, 60);
+
+        // Then
+        assertEquals(day, rollup.getDay());
+        assertEquals(2, rollup.getTotalReservations());
+        assertEquals(15, rollup.getTotalGuests());
+        assertEquals(1, rollup.getCarriedOverReservations());
+        assertEquals(4, rollup.getCarriedOverGuests());
+        assertNotNull(rollup.getCompactedAt());
+
+        DailyOccupancyRollup.SpaceRollup space1Rollup = rollup.getSpaces().get(0);
+        assertEquals(space1.getId(), space1Rollup.getSpaceId());
+        assertEquals(1, space1Rollup.getReservationCount());
+        assertEquals(1, space1Rollup.getCarriedOverReservations());
+        assertEquals(24, space1Rollup.getSlotOccupancy().length);
+        assertEquals(4, space1Rollup.getSlotOccupancy()[0]);
+        assertEquals(10, space1Rollup.getSlotOccupancy()[12]);
+        assertEquals(10, space1Rollup.getSlotOccupancy()[13]);
+        assertEquals(10, space1Rollup.getPeakOccupancy());
+        assertEquals(25, space1Rollup.getMaxCapacity());
+
+        DailyOccupancyRollup.SpaceRollup space2Rollup = rollup.getSpaces().get(1);
+        assertEquals(1, space2Rollup.getReservationCount());
+        assertEquals(5, space2Rollup.getGuestCount());
+        assertEquals(5, space2Rollup.getSlotOccupancy()[19]);
+        assertEquals(2.08, space2Rollup.getAverageUtilization(), 0.01);
+    }
+
+    // ==================== Invalidation Tests ====================
+
+    @Test
+    void onReservationChanged_WhenReservationIsOnPastDay_ShouldDropThatDaysRollup() {
+        // Given
+        Reservation reservation = createReservation(space1.getId(), 4,
+                LocalDateTime.of(2025, 3, 10, 12, 0), LocalDateTime.of(2025, 3, 10, 14, 0));
+
+        // When
+        occupancyRollupService.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, reservation));
+
+        // Then
+        verify(changeRepository).recordChange(restaurantId, LocalDate.of(2025, 3, 10));
+        verify(rollupRepository).deleteByRestaurantIdAndDay(restaurantId, LocalDate.of(2025, 3, 10));
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void onReservationChanged_WhenReservationIsInFuture_ShouldKeepRollups() {
+        // Given
+        LocalDateTime start = LocalDate.now().plusDays(3).atTime(12, 0);
+        Reservation reservation = createReservation(space1.getId(), 4, start, start.plusHours(2));
+
+        // When
+        occupancyRollupService.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, reservation));
+
+        // Then
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void onReservationsDeleted_ShouldDropEachPastDayRollupOnce() {
+        // Given
+        Reservation first = createReservation(space1.getId(), 4,
+                LocalDateTime.of(2025, 3, 10, 12, 0), LocalDateTime.of(2025, 3, 10, 14, 0));
+        Reservation second = createReservation(space2.getId(), 5,
+                LocalDateTime.of(2025, 3, 10, 18, 0), LocalDateTime.of(2025, 3, 10, 20, 0));
+        LocalDateTime future = LocalDate.now().plusDays(3).atTime(12, 0);
+        Reservation upcoming = createReservation(space1.getId(), 2, future, future.plusHours(2));
+
+        // When
+        occupancyRollupService.onReservationsDeleted(new ReservationsDeletedEvent(List.of(first, second, upcoming)));
+
+        // Then
+        verify(rollupRepository, times(1)).deleteByRestaurantIdAndDay(restaurantId, LocalDate.of(2025, 3, 10));
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Reservation createReservation(UUID spaceId, int partySize, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation(restaurantId, spaceId, "guest@example.com",
+                start, end, partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+}
@@ -0,0 +1,223 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.dto.SpaceOccupancyReportDTO;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Restaurant;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.DailyOccupancyRollupRepository;
+import com.opentable.privatedining.repository.ReactiveArchivedReservationRepository;
+import com.opentable.privatedining.repository.ReactiveReservationRepository;
+import com.opentable.privatedining.repository.ReactiveRestaurantRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import com.opentable.privatedining.repository.RestaurantRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOccupancyAnalyticsServiceTest {
+
+    @Mock
+    private ReactiveReservationRepository reactiveReservationRepository;
+
+    @Mock
+    private ReactiveArchivedReservationRepository reactiveArchivedReservationRepository;
+
+    @Mock
+    private ReactiveRestaurantRepository reactiveRestaurantRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DailyOccupancyRollupRepository rollupRepository;
+
+    @Mock
+    private ReservationColumnStore columnStore;
+
+    @Mock
+    private ReservationArchiveService reservationArchiveService;
+
+    @Mock
+    private AnalyticsConfig analyticsConfig;
+
+    private ReactiveOccupancyAnalyticsService reactiveOccupancyAnalyticsService;
+
+    private ObjectId restaurantId;
+    private Restaurant restaurant;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        OccupancyAnalyticsService occupancyAnalyticsService = new OccupancyAnalyticsService(
+                reservationRepository, restaurantRepository, rollupRepository, columnStore, reservationArchiveService,
+                analyticsConfig);
+        reactiveOccupancyAnalyticsService = new ReactiveOccupancyAnalyticsService(
+                reactiveReservationRepository, reactiveArchivedReservationRepository, reactiveRestaurantRepository,
+                occupancyAnalyticsService, reservationArchiveService, analyticsConfig);
+
+        restaurantId = new ObjectId();
+        space = new Space("Garden Room", 2, 20);
+        space.setId(UUID.randomUUID());
+
+        restaurant = new Restaurant("Test Restaurant", "123 Main St", "Italian", 100);
+        restaurant.setId(restaurantId);
+        restaurant.setSpaces(Arrays.asList(space));
+    }
+
+    @Test
+    void generateOccupancyReport_ShouldAggregateStreamedReservations() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 13, 0);
+
+        Reservation first = createReservation(8, LocalDateTime.of(2026, 1, 20, 10, 0),
+                LocalDateTime.of(2026, 1, 20, 12, 0));
+        Reservation second = createReservation(6, LocalDateTime.of(2026, 1, 20, 11, 0),
+                LocalDateTime.of(2026, 1, 20, 13, 0));
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(reactiveRestaurantRepository.findById(restaurantId)).thenReturn(Mono.just(restaurant));
+        when(reactiveReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(Flux.just(first, second));
+
+        // When
+        OccupancyReportDTO report = reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10).block();
+
+        // Then
+        assertNotNull(report);
+        assertEquals(2, report.getSummary().getTotalReservations());
+        assertEquals(14, report.getSummary().getTotalGuests());
+        assertEquals(14, report.getSummary().getPeakOccupancy());
+
+        SpaceOccupancyReportDTO spaceReport = report.getSpaceReports().get(0);
+        assertEquals(3, spaceReport.getHourlyBreakdown().size());
+        assertEquals(8, spaceReport.getHourlyBreakdown().get(0).getOccupancy());
+        assertEquals(14, spaceReport.getHourlyBreakdown().get(1).getOccupancy());
+        assertEquals(6, spaceReport.getHourlyBreakdown().get(2).getOccupancy());
+    }
+
+    @Test
+    void generateOccupancyReport_WhenRangeReachesArchive_ShouldStreamArchivedReservationsOnce() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 13, 0);
+
+        Reservation live = createReservation(8, LocalDateTime.of(2026, 1, 20, 10, 0),
+                LocalDateTime.of(2026, 1, 20, 12, 0));
+        Reservation staleCopy = createReservation(3, live.getStartTime(), live.getEndTime());
+        staleCopy.setId(live.getId());
+        Reservation archivedOnly = createReservation(6, LocalDateTime.of(2026, 1, 20, 11, 0),
+                LocalDateTime.of(2026, 1, 20, 13, 0));
+        LocalDateTime archivedAt = LocalDateTime.of(2026, 4, 21, 3, 0);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(reservationArchiveService.reachesArchive(startTime)).thenReturn(true);
+        when(reservationArchiveService.archiveCutoff()).thenReturn(LocalDateTime.of(2026, 4, 21, 0, 0));
+        when(reactiveRestaurantRepository.findById(restaurantId)).thenReturn(Mono.just(restaurant));
+        when(reactiveReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(Flux.just(live));
+        when(reactiveArchivedReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(Flux.just(new ArchivedReservation(staleCopy, archivedAt),
+                        new ArchivedReservation(archivedOnly, archivedAt)));
+
+        // When
+        OccupancyReportDTO report = reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10).block();
+
+        // Then
+        assertNotNull(report);
+        assertEquals(2, report.getSummary().getTotalReservations());
+        assertEquals(14, report.getSummary().getTotalGuests());
+
+        SpaceOccupancyReportDTO spaceReport = report.getSpaceReports().get(0);
+        assertEquals(8, spaceReport.getHourlyBreakdown().get(0).getOccupancy());
+        assertEquals(14, spaceReport.getHourlyBreakdown().get(1).getOccupancy());
+        assertEquals(6, spaceReport.getHourlyBreakdown().get(2).getOccupancy());
+    }
+
+    @Test
+    void generateOccupancyReport_WhenRangeAfterArchiveHorizon_ShouldNotQueryArchive() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 10, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 13, 0);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(analyticsConfig.getTimeSlotDurationMinutes()).thenReturn(60);
+        when(reactiveRestaurantRepository.findById(restaurantId)).thenReturn(Mono.just(restaurant));
+        when(reactiveReservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+                .thenReturn(Flux.empty());
+
+        // When
+        OccupancyReportDTO report = reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10).block();
+
+        // Then
+        assertNotNull(report);
+        assertEquals(0, report.getSummary().getTotalReservations());
+        verifyNoInteractions(reactiveArchivedReservationRepository);
+    }
+
+    @Test
+    void generateOccupancyReport_WhenRestaurantNotFound_ShouldEmitError() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+
+        when(analyticsConfig.getMaxRangeDays()).thenReturn(31);
+        when(reactiveRestaurantRepository.findById(restaurantId)).thenReturn(Mono.empty());
+
+        // When
+        Mono<OccupancyReportDTO> result = reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertThrows(RestaurantNotFoundException.class, result::block);
+        verifyNoInteractions(reactiveReservationRepository);
+    }
+
+    @Test
+    void generateOccupancyReport_WhenDateRangeInvalid_ShouldEmitErrorWithoutQuerying() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+
+        // When
+        Mono<OccupancyReportDTO> result = reactiveOccupancyAnalyticsService.generateOccupancyReport(
+                restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertThrows(InvalidDateRangeException.class, result::block);
+        verifyNoInteractions(reactiveRestaurantRepository, reactiveReservationRepository);
+    }
+
+    private Reservation createReservation(int partySize, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation(restaurantId, space.getId(), "guest@example.com",
+                start, end, partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+}
@@ -0,0 +1,299 @@
+package com.opentable.privatedining.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class RefreshAheadCacheTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(5);
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final Duration STALE_IF_ERROR = Duration.ofMinutes(60);
+
+    private CaffeineCache delegate;
+    private RefreshAheadCache cache;
+
+    private ObjectId restaurantId;
+    private ObjectId otherRestaurantId;
+    private AtomicInteger computations;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CaffeineCache(CacheConfig.OCCUPANCY_REPORTS_CACHE, Caffeine.newBuilder().build());
+        cache = new RefreshAheadCache(delegate,
+                value -> value instanceof OccupancyReportDTO report ? report.getGeneratedAt() : null,
+                REFRESH_AFTER, TIME_TO_LIVE, STALE_IF_ERROR, Runnable::run);
+
+        restaurantId = new ObjectId();
+        otherRestaurantId = new ObjectId();
+        computations = new AtomicInteger();
+    }
+
+    // ==================== Fresh Entry Tests ====================
+
+    @Test
+    void get_WhenMissing_ShouldComputeAndCacheValue() {
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> compute(restaurantId));
+
+        // Then
+        assertEquals(1, computations.get());
+        assertSame(report, delegate.get(key(restaurantId), OccupancyReportDTO.class));
+    }
+
+    @Test
+    void get_WhenMissingAndRequestedConcurrently_ShouldComputeOnceOutsideDelegateLoader() throws Exception {
+        // Given
+        Cache lockingDelegate = spy(delegate);
+        cache = new RefreshAheadCache(lockingDelegate,
+                value -> value instanceof OccupancyReportDTO report ? report.getGeneratedAt() : null,
+                REFRESH_AFTER, TIME_TO_LIVE, STALE_IF_ERROR, Runnable::run);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<OccupancyReportDTO> first = CompletableFuture.supplyAsync(
+                () -> cache.get(key(restaurantId), () -> {
+                    started.countDown();
+                    release.await();
+                    return compute(restaurantId);
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<OccupancyReportDTO> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> second.complete(cache.get(key(restaurantId), () -> compute(restaurantId))));
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && waiter.isAlive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        release.countDown();
+
+        // Then
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, computations.get());
+        verify(lockingDelegate, never()).get(any(), any(Callable.class));
+    }
+
+    @Test
+    void get_WhenYoungerThanRefreshAge_ShouldServeCachedValueWithoutRecomputing() {
+        // Given
+        OccupancyReportDTO cached = report(restaurantId, Duration.ofMinutes(1));
+        delegate.put(key(restaurantId), cached);
+
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> compute(restaurantId));
+
+        // Then
+        assertSame(cached, report);
+        assertEquals(0, computations.get());
+    }
+
+    // ==================== Refresh-Ahead Tests ====================
+
+    @Test
+    void get_WhenPastRefreshAge_ShouldServeCachedValueAndRecomputeInBackground() {
+        // Given
+        OccupancyReportDTO cached = report(restaurantId, Duration.ofMinutes(7));
+        delegate.put(key(restaurantId), cached);
+
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> compute(restaurantId));
+
+        // Then
+        assertSame(cached, report);
+        assertEquals(1, computations.get());
+        assertNotSame(cached, delegate.get(key(restaurantId), OccupancyReportDTO.class));
+    }
+
+    @Test
+    void get_WhenEvictedWhileRefreshing_ShouldDropRefreshedValue() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(7)));
+
+        // When
+        cache.get(key(restaurantId), () -> {
+            cache.evictGroup(restaurantId);
+            return compute(restaurantId);
+        });
+
+        // Then
+        assertEquals(1, computations.get());
+        assertNull(delegate.get(key(restaurantId)));
+    }
+
+    @Test
+    void get_WhenRefreshFails_ShouldKeepCachedValue() {
+        // Given
+        OccupancyReportDTO cached = report(restaurantId, Duration.ofMinutes(7));
+        delegate.put(key(restaurantId), cached);
+
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> {
+            throw new CacheOperationInvoker.ThrowableWrapper(new DataAccessResourceFailureException("down"));
+        });
+
+        // Then
+        assertSame(cached, report);
+        assertSame(cached, delegate.get(key(restaurantId), OccupancyReportDTO.class));
+    }
+
+    @Test
+    void get_WhenRefreshingAndServingStale_ShouldCountThem() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(7)));
+        delegate.put(key(otherRestaurantId), report(otherRestaurantId, Duration.ofMinutes(15)));
+
+        // When
+        cache.get(key(restaurantId), () -> compute(restaurantId));
+        cache.get(key(otherRestaurantId), () -> {
+            throw new CacheOperationInvoker.ThrowableWrapper(new DataAccessResourceFailureException("down"));
+        });
+
+        // Then
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(0, cache.getRefreshFailureCount());
+        assertEquals(1, cache.getStaleServedCount());
+    }
+
+    // ==================== Stale-If-Error Tests ====================
+
+    @Test
+    void get_WhenExpired_ShouldRecomputeBeforeServing() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(15)));
+
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> compute(restaurantId));
+
+        // Then
+        assertEquals(1, computations.get());
+        assertTrue(Duration.between(report.getGeneratedAt(), Instant.now()).compareTo(REFRESH_AFTER) < 0);
+    }
+
+    @Test
+    void get_WhenExpiredAndRequestedConcurrently_ShouldRecomputeOnce() throws Exception {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(15)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<OccupancyReportDTO> first = CompletableFuture.supplyAsync(
+                () -> cache.get(key(restaurantId), () -> {
+                    started.countDown();
+                    release.await();
+                    return compute(restaurantId);
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<OccupancyReportDTO> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> second.complete(cache.get(key(restaurantId), () -> compute(restaurantId))));
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && waiter.isAlive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        release.countDown();
+
+        // Then
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void get_WhenExpiredAndDatabaseUnavailable_ShouldServeStaleValue() {
+        // Given
+        OccupancyReportDTO cached = report(restaurantId, Duration.ofMinutes(15));
+        delegate.put(key(restaurantId), cached);
+
+        // When
+        OccupancyReportDTO report = cache.get(key(restaurantId), () -> {
+            throw new CacheOperationInvoker.ThrowableWrapper(new DataAccessResourceFailureException("down"));
+        });
+
+        // Then
+        assertSame(cached, report);
+    }
+
+    @Test
+    void get_WhenExpiredAndRecomputeFailsForOtherReason_ShouldPropagateFailure() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(15)));
+
+        // When & Then
+        Cache.ValueRetrievalException exception = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(key(restaurantId), () -> {
+                    throw new CacheOperationInvoker.ThrowableWrapper(new RestaurantNotFoundException(restaurantId));
+                }));
+        assertInstanceOf(RestaurantNotFoundException.class, exception.getCause().getCause());
+    }
+
+    @Test
+    void get_WhenPastStaleIfErrorWindow_ShouldPropagateFailure() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ofMinutes(80)));
+
+        // When & Then
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(key(restaurantId), () -> {
+            throw new CacheOperationInvoker.ThrowableWrapper(new DataAccessResourceFailureException("down"));
+        }));
+    }
+
+    // ==================== Eviction Tests ====================
+
+    @Test
+    void evictGroup_ShouldRemoveOnlyEntriesOfRestaurant() {
+        // Given
+        delegate.put(key(restaurantId), report(restaurantId, Duration.ZERO));
+        delegate.put(key(otherRestaurantId), report(otherRestaurantId, Duration.ZERO));
+
+        // When
+        cache.evictGroup(restaurantId);
+
+        // Then
+        assertNull(cache.get(key(restaurantId)));
+        assertNotNull(cache.get(key(otherRestaurantId)));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<Object> key(ObjectId restaurant) {
+        return List.of(restaurant, 0, 10);
+    }
+
+    private OccupancyReportDTO compute(ObjectId restaurant) {
+        computations.incrementAndGet();
+        return report(restaurant, Duration.ZERO);
+    }
+
+    private OccupancyReportDTO report(ObjectId restaurant, Duration age) {
+        OccupancyReportDTO report = new OccupancyReportDTO();
+        report.setRestaurantId(restaurant.toHexString());
+        report.setSpaceReports(new ArrayList<>());
+        report.setGeneratedAt(Instant.now().minus(age));
+        return report;
+    }
+}
@@ -0,0 +1,177 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.CacheWarmupConfig;
+import com.opentable.privatedining.exception.RestaurantNotFoundException;
+import com.opentable.privatedining.model.ReportRequestStat;
+import com.opentable.privatedining.repository.ReportRequestStatRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportWarmupServiceTest {
+
+    @Mock
+    private ReportRequestStatRepository reportRequestStatRepository;
+
+    @Mock
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+
+    private CacheWarmupConfig cacheWarmupConfig;
+    private ReportWarmupService reportWarmupService;
+
+    private ObjectId restaurantId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @BeforeEach
+    void setUp() {
+        cacheWarmupConfig = new CacheWarmupConfig();
+        cacheWarmupConfig.setTopReports(2);
+        reportWarmupService = new ReportWarmupService(reportRequestStatRepository, occupancyAnalyticsService,
+                cacheWarmupConfig, Runnable::run);
+
+        restaurantId = new ObjectId();
+        startTime = LocalDateTime.of(2026, 1, 20, 9, 0);
+        endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+    }
+
+    // ==================== Request Count Tests ====================
+
+    @Test
+    void flushRequestCounts_ShouldPersistOneCountPerReport() {
+        // Given
+        UUID spaceId = UUID.randomUUID();
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, spaceId, 0, 10);
+
+        // When
+        int flushed = reportWarmupService.flushRequestCounts();
+
+        // Then
+        assertEquals(2, flushed);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ReportRequestStat>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(reportRequestStatRepository).addRequests(captor.capture());
+        List<ReportRequestStat> stats = new ArrayList<>(captor.getValue());
+        ReportRequestStat wholeRestaurant = stats.stream()
+                .filter(stat -> stat.getSpaceId() == null)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(3, wholeRestaurant.getRequestCount());
+        assertNotNull(wholeRestaurant.getExpiresAt());
+        assertTrue(stats.stream().anyMatch(stat -> spaceId.equals(stat.getSpaceId()) && stat.getRequestCount() == 1));
+    }
+
+    @Test
+    void flushRequestCounts_WhenFlushedTwice_ShouldOnlyPersistNewRequests() {
+        // Given
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        reportWarmupService.flushRequestCounts();
+
+        // When
+        int flushed = reportWarmupService.flushRequestCounts();
+
+        // Then
+        assertEquals(0, flushed);
+        verify(reportRequestStatRepository, times(1)).addRequests(any());
+    }
+
+    @Test
+    void flushRequestCounts_WhenPersistingFails_ShouldKeepCountsForNextFlush() {
+        // Given
+        doThrow(new RuntimeException("Mongo unavailable")).doNothing()
+                .when(reportRequestStatRepository).addRequests(any());
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+        assertEquals(0, reportWarmupService.flushRequestCounts());
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+
+        // When
+        int flushed = reportWarmupService.flushRequestCounts();
+
+        // Then
+        assertEquals(1, flushed);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ReportRequestStat>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(reportRequestStatRepository, times(2)).addRequests(captor.capture());
+        ReportRequestStat retried = captor.getAllValues().get(1).iterator().next();
+        assertEquals(3, retried.getRequestCount());
+    }
+
+    @Test
+    void recordRequest_WhenDisabled_ShouldNotCount() {
+        // Given
+        cacheWarmupConfig.setEnabled(false);
+
+        // When
+        reportWarmupService.recordRequest(restaurantId, startTime, endTime, null, 0, 10);
+
+        // Then
+        assertEquals(0, reportWarmupService.flushRequestCounts());
+        verifyNoInteractions(reportRequestStatRepository);
+    }
+
+    // ==================== Warm-Up Tests ====================
+
+    @Test
+    void warmUp_ShouldPrecomputeMostRequestedReports() {
+        // Given
+        ReportRequestStat first = new ReportRequestStat(restaurantId, startTime, endTime, null, 0, 10);
+        ReportRequestStat second = new ReportRequestStat(restaurantId, startTime, endTime, null, 1, 10);
+        when(reportRequestStatRepository.findByOrderByRequestCountDesc(Limit.of(2))).thenReturn(List.of(first, second));
+
+        // When
+        int warmed = reportWarmupService.warmUp().join();
+
+        // Then
+        assertEquals(2, warmed);
+        verify(occupancyAnalyticsService).generateOccupancyReport(restaurantId, startTime, endTime, null, 0, 10);
+        verify(occupancyAnalyticsService).generateOccupancyReport(restaurantId, startTime, endTime, null, 1, 10);
+    }
+
+    @Test
+    void warmUp_WhenRestaurantDeleted_ShouldForgetReport() {
+        // Given
+        ReportRequestStat stat = new ReportRequestStat(restaurantId, startTime, endTime, null, 0, 10);
+        when(reportRequestStatRepository.findByOrderByRequestCountDesc(Limit.of(2))).thenReturn(List.of(stat));
+        when(occupancyAnalyticsService.generateOccupancyReport(restaurantId, startTime, endTime, null, 0, 10))
+                .thenThrow(new RestaurantNotFoundException(restaurantId));
+
+        // When
+        int warmed = reportWarmupService.warmUp().join();
+
+        // Then
+        assertEquals(0, warmed);
+        verify(reportRequestStatRepository).deleteById(stat.getKey());
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldNotWarmUp() {
+        // Given
+        cacheWarmupConfig.setEnabled(false);
+
+        // When
+        reportWarmupService.run(null);
+
+        // Then
+        verifyNoInteractions(reportRequestStatRepository, occupancyAnalyticsService);
+    }
+}
@@ -0,0 +1,201 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.ArchiveConfig;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ArchivedReservationRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationArchiveServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ArchivedReservationRepository archivedReservationRepository;
+
+    private ArchiveConfig archiveConfig;
+    private ReservationArchiveService archiveService;
+
+    private ObjectId restaurantId;
+    private UUID spaceId;
+
+    @BeforeEach
+    void setUp() {
+        archiveConfig = new ArchiveConfig();
+        archiveConfig.setHorizonDays(90);
+        archiveConfig.setBatchSize(2);
+        archiveService = new ReservationArchiveService(reservationRepository, archivedReservationRepository,
+                archiveConfig);
+
+        restaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+    }
+
+    // ==================== Archival Tests ====================
+
+    @Test
+    void archivePastReservations_ShouldCopyEachBatchToArchiveBeforeDeletingIt() {
+        // Given
+        LocalDateTime cutoff = LocalDate.now().minusDays(90).atStartOfDay();
+        Reservation first = createReservation(spaceId, 4, cutoff.minusDays(10));
+        Reservation second = createReservation(spaceId, 6, cutoff.minusDays(9));
+        Reservation third = createReservation(UUID.randomUUID(), 2, cutoff.minusDays(1));
+        when(reservationRepository.findByEndTimeBefore(cutoff, Limit.of(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third))
+                .thenReturn(List.of());
+        when(reservationRepository.deleteByIdIn(List.of(first.getId(), second.getId()))).thenReturn(2L);
+        when(reservationRepository.deleteByIdIn(List.of(third.getId()))).thenReturn(1L);
+
+        // When
+        long archived = archiveService.archivePastReservations();
+
+        // Then
+        assertEquals(3, archived);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedReservation>> saved = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(archivedReservationRepository, reservationRepository);
+        inOrder.verify(archivedReservationRepository).saveAll(saved.capture());
+        inOrder.verify(reservationRepository).deleteByIdIn(List.of(first.getId(), second.getId()));
+        inOrder.verify(archivedReservationRepository).saveAll(saved.capture());
+        inOrder.verify(reservationRepository).deleteByIdIn(List.of(third.getId()));
+        ArchivedReservation copy = saved.getAllValues().get(0).get(0);
+        assertEquals(first.getId(), copy.getId());
+        assertEquals(first.getStartTime(), copy.getStartTime());
+        assertEquals(4, copy.getPartySize());
+        assertNotNull(copy.getArchivedAt());
+    }
+
+    @Test
+    void archivePastReservations_WhenMonthlyPartitionEnded_ShouldCopyItAndDropIt() {
+        // Given
+        YearMonth month = YearMonth.from(LocalDate.now().minusDays(90)).minusMonths(2);
+        Reservation first = createReservation(spaceId, 4, month.atDay(3).atTime(12, 0));
+        Reservation second = createReservation(spaceId, 6, month.atDay(4).atTime(12, 0));
+        Reservation third = createReservation(spaceId, 2, month.atDay(5).atTime(12, 0));
+        when(reservationRepository.findPartitionsEndedBefore(any(LocalDateTime.class))).thenReturn(List.of(month));
+        when(reservationRepository.findInPartition(month, null, Limit.of(2))).thenReturn(List.of(first, second));
+        when(reservationRepository.findInPartition(month, second.getId(), Limit.of(2))).thenReturn(List.of(third));
+        when(reservationRepository.findInPartition(month, third.getId(), Limit.of(2))).thenReturn(List.of());
+
+        // When
+        long archived = archiveService.archivePastReservations();
+
+        // Then
+        assertEquals(3, archived);
+        InOrder inOrder = inOrder(archivedReservationRepository, reservationRepository);
+        inOrder.verify(archivedReservationRepository, times(2)).saveAll(any());
+        inOrder.verify(reservationRepository).dropPartition(month);
+        verify(reservationRepository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    void archivePastReservations_WhenBatchCannotBeDeleted_ShouldStop() {
+        // Given
+        Reservation reservation = createReservation(spaceId, 4, LocalDateTime.now().minusDays(200));
+        when(reservationRepository.findByEndTimeBefore(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(reservation));
+
+        // When
+        long archived = archiveService.archivePastReservations();
+
+        // Then
+        assertEquals(0, archived);
+        verify(reservationRepository, times(1)).findByEndTimeBefore(any(LocalDateTime.class), any(Limit.class));
+    }
+
+    @Test
+    void archivePastReservations_WhenDisabled_ShouldDoNothing() {
+        // Given
+        archiveConfig.setEnabled(false);
+
+        // When
+        long archived = archiveService.archivePastReservations();
+
+        // Then
+        assertEquals(0, archived);
+        verifyNoInteractions(reservationRepository, archivedReservationRepository);
+    }
+
+    // ==================== Read Tests ====================
+
+    @Test
+    void reachesArchive_ShouldCompareWithHorizon() {
+        // Given
+        LocalDateTime cutoff = LocalDate.now().minusDays(90).atStartOfDay();
+
+        // When & Then
+        assertTrue(archiveService.reachesArchive(cutoff.minusMinutes(1)));
+        assertFalse(archiveService.reachesArchive(cutoff));
+    }
+
+    @Test
+    void withArchived_ShouldAddArchivedReservationsAndPreferLiveCopies() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2025, 1, 20, 0, 0);
+        LocalDateTime endTime = startTime.plusDays(1);
+        Reservation live = createReservation(spaceId, 4, startTime.plusHours(12));
+        Reservation archivedOnly = createReservation(spaceId, 6, startTime.plusHours(18));
+        ArchivedReservation leftover = new ArchivedReservation(live, LocalDateTime.now());
+        leftover.setPartySize(99);
+        when(archivedReservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(
+                restaurantId, spaceId, startTime, endTime))
+                .thenReturn(List.of(new ArchivedReservation(archivedOnly, LocalDateTime.now()), leftover));
+
+        // When
+        List<Reservation> reservations = archiveService.withArchived(List.of(live), restaurantId, spaceId,
+                startTime, endTime);
+
+        // Then
+        assertEquals(2, reservations.size());
+        assertEquals(archivedOnly.getId(), reservations.get(0).getId());
+        assertEquals(6, reservations.get(0).getPartySize());
+        assertSame(live, reservations.get(1));
+    }
+
+    @Test
+    void withArchived_WhenNothingArchived_ShouldReturnLiveReservations() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2025, 1, 20, 0, 0);
+        List<Reservation> live = List.of(createReservation(spaceId, 4, startTime.plusHours(12)));
+
+        // When
+        List<Reservation> reservations = archiveService.withArchived(live, restaurantId, null,
+                startTime, startTime.plusDays(1));
+
+        // Then
+        assertSame(live, reservations);
+        verify(archivedReservationRepository).findByRestaurantIdAndTimeRange(restaurantId, startTime,
+                startTime.plusDays(1));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Reservation createReservation(UUID spaceId, int partySize, LocalDateTime startTime) {
+        Reservation reservation = new Reservation(restaurantId, spaceId, "guest@example.com",
+                startTime, startTime.plusHours(2), partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+}
@@ -0,0 +1,320 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.config.CleanupConfig;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.exception.CleanupJobNotFoundException;
+import com.opentable.privatedining.model.ArchivedReservation;
+import com.opentable.privatedining.model.CleanupJob;
+import com.opentable.privatedining.model.CleanupJobStatus;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ArchivedReservationRepository;
+import com.opentable.privatedining.repository.CleanupJobRepository;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationCleanupServiceTest {
+
+    @Mock
+    private CleanupJobRepository cleanupJobRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ArchivedReservationRepository archivedReservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheManager cacheManager;
+    private CleanupConfig cleanupConfig;
+    private ReservationCleanupService cleanupService;
+
+    private List<Runnable> scheduledTasks;
+    private ObjectId restaurantId;
+    private UUID spaceId;
+
+    @BeforeEach
+    void setUp() {
+        scheduledTasks = new ArrayList<>();
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+        cleanupConfig = new CleanupConfig();
+        cleanupConfig.setAsyncThreshold(3);
+        cleanupConfig.setBatchSize(2);
+        cleanupService = new ReservationCleanupService(cleanupJobRepository, reservationRepository,
+                archivedReservationRepository, eventPublisher, cacheManager, cleanupConfig, scheduledTasks::add);
+
+        restaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+        lenient().when(cleanupJobRepository.save(any(CleanupJob.class))).thenAnswer(invocation -> {
+            CleanupJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(new ObjectId());
+            }
+            return job;
+        });
+        lenient().when(cleanupJobRepository.saveProgress(any(CleanupJob.class))).thenReturn(true);
+    }
+
+    // ==================== Submit Tests ====================
+
+    @Test
+    void submitCleanup_WhenSpaceFitsOneBatch_ShouldDeleteInlineWithOneBulkDelete() {
+        // Given
+        cleanupConfig.setBatchSize(1000);
+        Reservation first = createReservation(spaceId, 4);
+        Reservation second = createReservation(spaceId, 6);
+        when(reservationRepository.countByRestaurantIdAndSpaceId(restaurantId, spaceId)).thenReturn(2L);
+        when(reservationRepository.findByRestaurantIdAndSpaceId(eq(restaurantId), eq(spaceId), any(Limit.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        when(reservationRepository.deleteByIdIn(List.of(first.getId(), second.getId()))).thenReturn(2L);
+        cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE).put("report", "stale");
+
+        // When
+        CleanupJob job = cleanupService.submitCleanup(restaurantId, spaceId);
+
+        // Then
+        assertEquals(CleanupJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2L, job.getTotalReservations());
+        assertEquals(2L, job.getDeletedReservations());
+        assertNotNull(job.getCompletedAt());
+        assertNotNull(job.getOwner());
+        assertTrue(scheduledTasks.isEmpty());
+        verify(reservationRepository, times(1)).deleteByIdIn(any());
+        verify(eventPublisher, times(1)).publishEvent(any(ReservationsDeletedEvent.class));
+        assertNull(cacheManager.getCache(CacheConfig.OCCUPANCY_REPORTS_CACHE).get("report"));
+    }
+
+    @Test
+    void submitCleanup_WhenRestaurantHasNoReservations_ShouldCompleteWithoutDeleting() {
+        // When
+        CleanupJob job = cleanupService.submitCleanup(restaurantId, null);
+
+        // Then
+        assertEquals(CleanupJobStatus.COMPLETED, job.getStatus());
+        assertEquals(0L, job.getDeletedReservations());
+        verify(reservationRepository, never()).deleteByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void submitCleanup_WhenAboveAsyncThreshold_ShouldScheduleInBackground() {
+        // Given
+        when(reservationRepository.countByRestaurantId(restaurantId)).thenReturn(5L);
+
+        // When
+        CleanupJob job = cleanupService.submitCleanup(restaurantId, null);
+
+        // Then
+        assertEquals(CleanupJobStatus.PENDING, job.getStatus());
+        assertEquals(5L, job.getTotalReservations());
+        assertEquals(1, scheduledTasks.size());
+        verify(reservationRepository, never()).deleteByIdIn(any());
+    }
+
+    // ==================== Processing Tests ====================
+
+    @Test
+    void runJob_ShouldDeleteBatchByBatchAndRecordProgress() {
+        // Given
+        CleanupJob job = createJob(null, 3L);
+        Reservation first = createReservation(spaceId, 4);
+        Reservation second = createReservation(UUID.randomUUID(), 6);
+        Reservation third = createReservation(spaceId, 2);
+        stubClaim(job);
+        when(reservationRepository.findByRestaurantId(restaurantId, Limit.of(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third))
+                .thenReturn(List.of());
+        when(reservationRepository.deleteByIdIn(List.of(first.getId(), second.getId()))).thenReturn(2L);
+        when(reservationRepository.deleteByIdIn(List.of(third.getId()))).thenReturn(1L);
+
+        // When
+        cleanupService.runJob(job.getId());
+
+        // Then
+        assertEquals(CleanupJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3L, job.getDeletedReservations());
+        verify(eventPublisher, times(2)).publishEvent(any(ReservationsDeletedEvent.class));
+        verify(cleanupJobRepository, times(3)).saveProgress(job);
+        verify(cleanupJobRepository, never()).save(any(CleanupJob.class));
+    }
+
+    @Test
+    void runJob_ShouldAlsoDeleteArchivedReservationsWithoutPublishingEvents() {
+        // Given
+        when(reservationRepository.countByRestaurantIdAndSpaceId(restaurantId, spaceId)).thenReturn(1L);
+        when(archivedReservationRepository.countByRestaurantIdAndSpaceId(restaurantId, spaceId)).thenReturn(1L);
+        Reservation live = createReservation(spaceId, 4);
+        ArchivedReservation archived = new ArchivedReservation(createReservation(spaceId, 2), LocalDateTime.now());
+        when(reservationRepository.findByRestaurantIdAndSpaceId(eq(restaurantId), eq(spaceId), any(Limit.class)))
+                .thenReturn(List.of(live))
+                .thenReturn(List.of());
+        when(reservationRepository.deleteByIdIn(List.of(live.getId()))).thenReturn(1L);
+        when(archivedReservationRepository.findByRestaurantIdAndSpaceId(eq(restaurantId), eq(spaceId),
+                any(Limit.class)))
+                .thenReturn(List.of(archived))
+                .thenReturn(List.of());
+        when(archivedReservationRepository.deleteByIdIn(List.of(archived.getId()))).thenReturn(1L);
+
+        // When
+        CleanupJob job = cleanupService.submitCleanup(restaurantId, spaceId);
+
+        // Then
+        assertEquals(CleanupJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2L, job.getTotalReservations());
+        assertEquals(2L, job.getDeletedReservations());
+        verify(eventPublisher, times(1)).publishEvent(any(ReservationsDeletedEvent.class));
+    }
+
+    @Test
+    void runJob_WhenBatchDeletesNothing_ShouldCompleteQuietly() {
+        // Given
+        CleanupJob job = createJob(spaceId, 1L);
+        Reservation reservation = createReservation(spaceId, 4);
+        stubClaim(job);
+        when(reservationRepository.findByRestaurantIdAndSpaceId(eq(restaurantId), eq(spaceId), any(Limit.class)))
+                .thenReturn(List.of(reservation));
+
+        // When
+        cleanupService.runJob(job.getId());
+
+        // Then
+        assertEquals(CleanupJobStatus.COMPLETED, job.getStatus());
+        assertNull(job.getFailureReason());
+        assertEquals(0L, job.getDeletedReservations());
+        verify(reservationRepository, times(1)).deleteByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void runJob_WhenTakenOverByAnotherInstance_ShouldStopWithoutOverwritingJob() {
+        // Given
+        CleanupJob job = createJob(null, 3L);
+        Reservation first = createReservation(spaceId, 4);
+        Reservation second = createReservation(spaceId, 6);
+        stubClaim(job);
+        when(reservationRepository.findByRestaurantId(restaurantId, Limit.of(2)))
+                .thenReturn(List.of(first, second));
+        when(reservationRepository.deleteByIdIn(List.of(first.getId(), second.getId()))).thenReturn(2L);
+        when(cleanupJobRepository.saveProgress(job)).thenReturn(false);
+
+        // When
+        cleanupService.runJob(job.getId());
+
+        // Then
+        assertEquals(CleanupJobStatus.RUNNING, job.getStatus());
+        verify(reservationRepository, times(1)).deleteByIdIn(any());
+        verify(cleanupJobRepository, times(1)).saveProgress(job);
+        verifyNoInteractions(archivedReservationRepository);
+    }
+
+    @Test
+    void runJob_WhenJobFinishedOrHeldElsewhere_ShouldDoNothing() {
+        // Given
+        CleanupJob job = createJob(null, 0L);
+        job.setStatus(CleanupJobStatus.COMPLETED);
+
+        // When
+        cleanupService.runJob(job.getId());
+
+        // Then
+        verify(cleanupJobRepository).claim(eq(job.getId()), anyString(), any(), any());
+        verifyNoInteractions(reservationRepository, eventPublisher);
+        verify(cleanupJobRepository, never()).saveProgress(any());
+    }
+
+    @Test
+    void resumeUnfinishedJobs_ShouldScheduleEachUnfinishedJob() {
+        // Given
+        when(cleanupJobRepository.findByStatusIn(List.of(CleanupJobStatus.PENDING, CleanupJobStatus.RUNNING)))
+                .thenReturn(List.of(createJob(null, 10L), createJob(spaceId, 5L)));
+
+        // When
+        cleanupService.resumeUnfinishedJobs();
+
+        // Then
+        assertEquals(2, scheduledTasks.size());
+    }
+
+    @Test
+    void resumeUnfinishedJobs_ShouldSkipJobsLeasedByAnotherInstance() {
+        // Given
+        CleanupJob leased = createJob(null, 10L);
+        leased.setStatus(CleanupJobStatus.RUNNING);
+        leased.setOwner("other-instance");
+        leased.setLeaseUntil(LocalDateTime.now().plusMinutes(5));
+        CleanupJob lapsed = createJob(spaceId, 5L);
+        lapsed.setStatus(CleanupJobStatus.RUNNING);
+        lapsed.setOwner("stopped-instance");
+        lapsed.setLeaseUntil(LocalDateTime.now().minusMinutes(1));
+        when(cleanupJobRepository.findByStatusIn(List.of(CleanupJobStatus.PENDING, CleanupJobStatus.RUNNING)))
+                .thenReturn(List.of(leased, lapsed));
+
+        // When
+        cleanupService.resumeUnfinishedJobs();
+
+        // Then
+        assertEquals(1, scheduledTasks.size());
+    }
+
+    // ==================== Lookup Tests ====================
+
+    @Test
+    void getJob_WhenJobBelongsToAnotherRestaurant_ShouldThrowException() {
+        // Given
+        CleanupJob job = createJob(null, 0L);
+        when(cleanupJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        // When & Then
+        assertThrows(CleanupJobNotFoundException.class, () -> cleanupService.getJob(new ObjectId(), job.getId()));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void stubClaim(CleanupJob job) {
+        when(cleanupJobRepository.claim(eq(job.getId()), anyString(), any(), any())).thenAnswer(invocation -> {
+            job.setStatus(CleanupJobStatus.RUNNING);
+            job.setOwner(invocation.getArgument(1));
+            job.setLeaseUntil(invocation.getArgument(3));
+            return Optional.of(job);
+        });
+    }
+
+    private CleanupJob createJob(UUID spaceId, long totalReservations) {
+        CleanupJob job = new CleanupJob(restaurantId, spaceId, totalReservations);
+        job.setId(new ObjectId());
+        return job;
+    }
+
+    private Reservation createReservation(UUID spaceId, int partySize) {
+        Reservation reservation = new Reservation(restaurantId, spaceId, "guest@example.com",
+                LocalDateTime.of(2026, 1, 20, 12, 0), LocalDateTime.of(2026, 1, 20, 14, 0), partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+}
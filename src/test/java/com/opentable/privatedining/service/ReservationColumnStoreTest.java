@@ -0,0 +1,336 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.AnalyticsConfig;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.model.Space;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationColumnStoreTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private AnalyticsConfig analyticsConfig;
+
+    @InjectMocks
+    private ReservationColumnStore columnStore;
+
+    private ObjectId restaurantId;
+    private Space space1;
+    private Space space2;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = new ObjectId();
+
+        space1 = new Space("Garden Room", 2, 20);
+        space1.setId(UUID.randomUUID());
+
+        space2 = new Space("Wine Cellar", 2, 12);
+        space2.setId(UUID.randomUUID());
+
+        startTime = LocalDate.now().minusDays(1).atTime(10, 0);
+        endTime = startTime.plusHours(4);
+    }
+
+    // ==================== Scan Tests ====================
+
+    @Test
+    void scan_WhenDisabled_ShouldReturnFalseWithoutLoading() {
+        // Given
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+
+        // When
+        boolean scanned = columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertFalse(scanned);
+        assertEquals(0, accumulator.getTotalReservations());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void scan_ShouldAddOnlyOverlappingReservations() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of(
+                createReservation(space1.getId(), 4, startTime.minusHours(2), startTime),
+                createReservation(space1.getId(), 6, startTime.minusHours(1), startTime.plusHours(1)),
+                createReservation(space2.getId(), 3, startTime.plusHours(2), startTime.plusMinutes(210)),
+                createReservation(space2.getId(), 5, endTime, endTime.plusHours(1))));
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+
+        // When
+        boolean scanned = columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertTrue(scanned);
+        assertEquals(2, accumulator.getTotalReservations());
+        assertEquals(9, accumulator.getTotalGuests());
+        assertArrayEquals(new int[]{6, 0, 0, 0}, accumulator.getSlotOccupancy(space1.getId()));
+        assertArrayEquals(new int[]{0, 0, 3, 3}, accumulator.getSlotOccupancy(space2.getId()));
+    }
+
+    @Test
+    void scan_WithSpaceFilter_ShouldSkipOtherSpaces() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of(
+                createReservation(space1.getId(), 4, startTime, startTime.plusHours(1)),
+                createReservation(space2.getId(), 3, startTime, startTime.plusHours(1))));
+        OccupancyAccumulator accumulator = new OccupancyAccumulator(List.of(space2), startTime, endTime, 60);
+
+        // When
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, space2.getId(), true);
+
+        // Then
+        assertEquals(1, accumulator.getTotalReservations());
+        assertEquals(3, accumulator.getTotalGuests());
+    }
+
+    @Test
+    void scan_WhenNotCountingCarriedOver_ShouldOnlyAddOccupancyOfEarlierReservations() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of(
+                createReservation(space1.getId(), 4, startTime.minusHours(1), startTime.plusHours(1)),
+                createReservation(space1.getId(), 2, startTime.plusHours(1), startTime.plusHours(2))));
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+
+        // When
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, null, false);
+
+        // Then
+        assertEquals(1, accumulator.getTotalReservations());
+        assertEquals(2, accumulator.getTotalGuests());
+        assertArrayEquals(new int[]{4, 2, 0, 0}, accumulator.getSlotOccupancy(space1.getId()));
+    }
+
+    @Test
+    void scan_WhenRangeStartsBeforeWindow_ShouldReturnFalseWithoutLoading() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        LocalDateTime from = LocalDateTime.now().minusDays(91);
+        OccupancyAccumulator accumulator = newAccumulator(from, from.plusHours(4));
+
+        // When
+        boolean scanned = columnStore.scan(accumulator, restaurantId, from, from.plusHours(4), null, true);
+
+        // Then
+        assertFalse(scanned);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void scan_ShouldLoadOnlyReservationsEndingWithinWindow() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        ArgumentCaptor<LocalDateTime> windowStart = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), windowStart.capture()))
+                .thenReturn(List.of());
+
+        // When
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // Then
+        LocalDateTime expected = LocalDateTime.now().minusDays(90);
+        assertTrue(Duration.between(windowStart.getValue(), expected).abs().compareTo(Duration.ofMinutes(1)) < 0);
+    }
+
+    @Test
+    void scan_ShouldLoadRestaurantOnlyOnce() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of());
+
+        // When
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // Then
+        verify(reservationRepository, times(1)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    // ==================== Delta Tests ====================
+
+    @Test
+    void onReservationChanged_ShouldApplyCreatedAndDeletedReservations() {
+        // Given
+        Reservation existing = createReservation(space1.getId(), 4, startTime, startTime.plusHours(2));
+        Reservation created = createReservation(space2.getId(), 7, startTime.plusHours(1), startTime.plusHours(2));
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of(existing));
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // When
+        columnStore.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, created));
+        columnStore.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertEquals(1, accumulator.getTotalReservations());
+        assertEquals(7, accumulator.getTotalGuests());
+        assertArrayEquals(new int[]{0, 0, 0, 0}, accumulator.getSlotOccupancy(space1.getId()));
+        assertArrayEquals(new int[]{0, 7, 0, 0}, accumulator.getSlotOccupancy(space2.getId()));
+        verify(reservationRepository, times(1)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    @Test
+    void onReservationChanged_WhenManyChangesBuildUp_ShouldMergeThemIntoSnapshot() {
+        // Given
+        Reservation existing = createReservation(space1.getId(), 4, startTime, startTime.plusHours(1));
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any()))
+                .thenReturn(List.of(existing));
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+        List<Reservation> created = new ArrayList<>();
+        for (int i = 0; i < ReservationColumns.MAX_PENDING_CHANGES + 10; i++) {
+            Reservation reservation = createReservation(i % 2 == 0 ? space1.getId() : space2.getId(), 1,
+                    startTime.plusHours(i % 4), startTime.plusHours(i % 4 + 1));
+            created.add(reservation);
+            columnStore.onReservationChanged(
+                    new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, reservation));
+        }
+
+        // When
+        columnStore.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+        columnStore.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, created.get(0)));
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertEquals(ReservationColumns.MAX_PENDING_CHANGES + 9, accumulator.getTotalReservations());
+        assertEquals(ReservationColumns.MAX_PENDING_CHANGES + 9, accumulator.getTotalGuests());
+        verify(reservationRepository, times(1)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    @Test
+    void onReservationChanged_WhenDeletedReservationUnknown_ShouldReloadOnNextScan() {
+        // Given
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any())).thenReturn(List.of());
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+        Reservation unknown = createReservation(space1.getId(), 4, startTime, startTime.plusHours(1));
+
+        // When
+        columnStore.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, unknown));
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // Then
+        verify(reservationRepository, times(2)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    @Test
+    void onReservationChanged_WhenRestaurantNotLoaded_ShouldIgnoreEvent() {
+        // Given
+        Reservation created = createReservation(space1.getId(), 4, startTime, startTime.plusHours(1));
+
+        // When
+        columnStore.onReservationChanged(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, created));
+
+        // Then
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void onReservationsDeleted_ShouldReloadRestaurantOnNextScan() {
+        // Given
+        Reservation first = createReservation(space1.getId(), 4, startTime, startTime.plusHours(1));
+        Reservation second = createReservation(space2.getId(), 7, startTime, startTime.plusHours(1));
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // When
+        columnStore.onReservationsDeleted(new ReservationsDeletedEvent(List.of(first, second)));
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertEquals(0, accumulator.getTotalReservations());
+        verify(reservationRepository, times(2)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    // ==================== Refresh Tests ====================
+
+    @Test
+    void refresh_ShouldReloadLoadedRestaurants() {
+        // Given
+        Reservation reservation = createReservation(space1.getId(), 4, startTime, startTime.plusHours(1));
+        when(analyticsConfig.isColumnStoreEnabled()).thenReturn(true);
+        when(analyticsConfig.getColumnStoreWindowDays()).thenReturn(90);
+        when(reservationRepository.findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(reservation));
+        columnStore.scan(newAccumulator(startTime, endTime), restaurantId, startTime, endTime, null, true);
+
+        // When
+        columnStore.refresh();
+        OccupancyAccumulator accumulator = newAccumulator(startTime, endTime);
+        columnStore.scan(accumulator, restaurantId, startTime, endTime, null, true);
+
+        // Then
+        assertEquals(1, accumulator.getTotalReservations());
+        verify(reservationRepository, times(2)).findByRestaurantIdAndEndTimeAfter(eq(restaurantId), any());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private OccupancyAccumulator newAccumulator(LocalDateTime from, LocalDateTime to) {
+        return new OccupancyAccumulator(Arrays.asList(space1, space2), from, to, 60);
+    }
+
+    private Reservation createReservation(UUID spaceId, int partySize, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurantId);
+        reservation.setSpaceId(spaceId);
+        reservation.setPartySize(partySize);
+        reservation.setStartTime(start);
+        reservation.setEndTime(end);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
@@ -0,0 +1,273 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.config.ReservationIndexConfig;
+import com.opentable.privatedining.event.RemoteReservationChangeEvent;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
+import com.opentable.privatedining.model.Reservation;
+import com.opentable.privatedining.repository.ReservationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIntervalIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationIndexConfig indexConfig;
+
+    @InjectMocks
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    private ObjectId restaurantId;
+    private UUID spaceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = new ObjectId();
+        spaceId = UUID.randomUUID();
+        startTime = LocalDate.now().plusDays(1).atTime(12, 0);
+        endTime = startTime.plusHours(3);
+        lenient().when(indexConfig.getWindowDays()).thenReturn(90);
+    }
+
+    // ==================== Query Tests ====================
+
+    @Test
+    void findOverlapping_WhenDisabled_ShouldReturnEmpty() {
+        // When
+        Optional<List<Reservation>> result = reservationIntervalIndex.findOverlapping(
+                restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void findOverlapping_ShouldLoadSpaceOnceAndAnswerFromTree() {
+        // Given
+        Reservation overlapping = createReservation(startTime.minusHours(1), startTime.plusHours(1));
+        Reservation outside = createReservation(endTime, endTime.plusHours(2));
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(overlapping, outside));
+
+        // When
+        Optional<List<Reservation>> first = reservationIntervalIndex.findOverlapping(
+                restaurantId, spaceId, startTime, endTime);
+        Optional<List<Reservation>> second = reservationIntervalIndex.findOverlapping(
+                restaurantId, spaceId, endTime, endTime.plusHours(1));
+
+        // Then
+        assertEquals(Optional.of(List.of(overlapping)), first);
+        assertEquals(Optional.of(List.of(outside)), second);
+        verify(reservationRepository, times(1))
+                .findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any());
+    }
+
+    @Test
+    void findOverlapping_ShouldLoadOnlyReservationsEndingWithinWindow() {
+        // Given
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of());
+
+        // When
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        ArgumentCaptor<LocalDateTime> windowStart = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reservationRepository).findByRestaurantIdAndSpaceIdAndEndTimeAfter(
+                eq(restaurantId), eq(spaceId), windowStart.capture());
+        LocalDateTime expected = LocalDateTime.now().minusDays(90);
+        assertTrue(Duration.between(windowStart.getValue(), expected).abs().toMinutes() < 1);
+    }
+
+    @Test
+    void findOverlapping_WhenWindowStartsBeforeIndexedWindow_ShouldReturnEmpty() {
+        // Given
+        when(indexConfig.isEnabled()).thenReturn(true);
+        LocalDateTime pastStart = LocalDate.now().minusDays(120).atTime(12, 0);
+
+        // When
+        Optional<List<Reservation>> result = reservationIntervalIndex.findOverlapping(
+                restaurantId, spaceId, pastStart, pastStart.plusHours(3));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    // ==================== Delta Tests ====================
+
+    @Test
+    void onReservationChanged_ShouldApplyCreatedAndDeletedReservations() {
+        // Given
+        Reservation existing = createReservation(startTime, startTime.plusHours(2));
+        Reservation created = createReservation(startTime.plusHours(1), endTime);
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(existing));
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // When
+        reservationIntervalIndex.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, created));
+        reservationIntervalIndex.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.DELETED, existing));
+
+        // Then
+        assertEquals(Optional.of(List.of(created)),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+        verify(reservationRepository, times(1))
+                .findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any());
+    }
+
+    @Test
+    void onReservationChanged_WhenCreatedReservationAlreadyLoaded_ShouldNotDuplicateIt() {
+        // Given - the reservation was saved before the load read it, and its event arrives afterwards
+        Reservation reservation = createReservation(startTime, endTime);
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(reservation));
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // When
+        reservationIntervalIndex.onReservationChanged(
+                new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CREATED, reservation));
+
+        // Then
+        assertEquals(Optional.of(List.of(reservation)),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+    }
+
+    @Test
+    void onReservationChanged_WhenSpaceNotLoaded_ShouldIgnoreEvent() {
+        // When
+        reservationIntervalIndex.onReservationChanged(new ReservationChangedEvent(
+                ReservationChangedEvent.ChangeType.CREATED, createReservation(startTime, endTime)));
+
+        // Then
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void onReservationsDeleted_ShouldRemoveAllReservationsOfLoadedSpace() {
+        // Given
+        Reservation first = createReservation(startTime, startTime.plusHours(1));
+        Reservation second = createReservation(startTime.plusHours(1), endTime);
+        Reservation kept = createReservation(startTime, endTime);
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(first, second, kept));
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // When
+        reservationIntervalIndex.onReservationsDeleted(new ReservationsDeletedEvent(List.of(first, second)));
+
+        // Then
+        assertEquals(Optional.of(List.of(kept)),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+        verify(reservationRepository, times(1))
+                .findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any());
+    }
+
+    @Test
+    void onRemoteReservationChange_WhenDeliveredTwice_ShouldApplyItOnce() {
+        // Given - the remote instance moved the reservation from the first hour to the second
+        Reservation previous = createReservation(startTime, startTime.plusHours(1));
+        Reservation current = createReservation(startTime.plusHours(1), startTime.plusHours(2));
+        current.setId(previous.getId());
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(previous));
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+        RemoteReservationChangeEvent event = new RemoteReservationChangeEvent(previous, current, true);
+
+        // When
+        reservationIntervalIndex.onRemoteReservationChange(event);
+        reservationIntervalIndex.onRemoteReservationChange(event);
+
+        // Then
+        assertEquals(Optional.of(List.of(current)),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+        verify(reservationRepository, times(1))
+                .findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any());
+    }
+
+    @Test
+    void onRemoteReservationChange_WhenPreviousUnknown_ShouldReloadOnNextQuery() {
+        // Given
+        Reservation reservation = createReservation(startTime, endTime);
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of(reservation))
+                .thenReturn(List.of());
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // When
+        reservationIntervalIndex.onRemoteReservationChange(new RemoteReservationChangeEvent(null, null, false));
+
+        // Then
+        assertEquals(Optional.of(List.of()),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+        verify(reservationRepository, times(2))
+                .findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any());
+    }
+
+    // ==================== Refresh Tests ====================
+
+    @Test
+    void refresh_ShouldReloadLoadedSpaces() {
+        // Given
+        Reservation reservation = createReservation(startTime, endTime);
+        when(indexConfig.isEnabled()).thenReturn(true);
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndEndTimeAfter(eq(restaurantId), eq(spaceId), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(reservation));
+        reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime);
+
+        // When
+        reservationIntervalIndex.refresh();
+
+        // Then
+        assertEquals(Optional.of(List.of(reservation)),
+                reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Reservation createReservation(LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setRestaurantId(restaurantId);
+        reservation.setSpaceId(spaceId);
+        reservation.setPartySize(4);
+        reservation.setStartTime(start);
+        reservation.setEndTime(end);
+        reservation.setCustomerEmail("test@example.com");
+        reservation.setStatus("CONFIRMED");
+        return reservation;
+    }
+}
@@ -0,0 +1,149 @@
+package com.opentable.privatedining.service;
+
+import com.opentable.privatedining.model.Reservation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationIntervalTreeTest {
+
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2026, 1, 20, 0, 0);
+
+    // ==================== Query Tests ====================
+
+    @Test
+    void findOverlapping_ShouldReturnReservationsIntersectingWindowInStartOrder() {
+        // Given
+        Reservation endsAtWindowStart = createReservation(9, 12);
+        Reservation spansWindowStart = createReservation(11, 13);
+        Reservation insideWindow = createReservation(13, 14);
+        Reservation startsAtWindowEnd = createReservation(15, 17);
+        Reservation longAndEarly = createReservation(8, 20);
+        ReservationIntervalTree tree = ReservationIntervalTree.of(
+                List.of(startsAtWindowEnd, insideWindow, endsAtWindowStart, longAndEarly, spansWindowStart));
+
+        // When
+        List<Reservation> result = tree.findOverlapping(at(12), at(15));
+
+        // Then
+        assertEquals(List.of(longAndEarly, spansWindowStart, insideWindow), result);
+    }
+
+    @Test
+    void findContaining_ShouldReturnReservationsInProgressAtInstant() {
+        // Given
+        Reservation startsAtInstant = createReservation(12, 14);
+        Reservation endsAtInstant = createReservation(10, 12);
+        Reservation spansInstant = createReservation(11, 13);
+        ReservationIntervalTree tree = ReservationIntervalTree.of(List.of(startsAtInstant, endsAtInstant, spansInstant));
+
+        // When
+        List<Reservation> result = tree.findContaining(at(12));
+
+        // Then
+        assertEquals(List.of(spansInstant, startsAtInstant), result);
+    }
+
+    @Test
+    void findOverlapping_ShouldMatchBruteForceAfterRandomInsertsAndRemovals() {
+        // Given
+        Random random = new Random(42);
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+        List<Reservation> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int startMinute = random.nextInt(24 * 60 - 15);
+            Reservation reservation = createReservation(DAY_START.plusMinutes(startMinute),
+                    DAY_START.plusMinutes(startMinute + 15 + random.nextInt(240)));
+            tree.insert(reservation);
+            expected.add(reservation);
+        }
+        for (int i = 0; i < 200; i++) {
+            Reservation removed = expected.remove(random.nextInt(expected.size()));
+            assertTrue(tree.remove(removed));
+        }
+
+        // When & Then
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime start = DAY_START.plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(180));
+            List<Reservation> bruteForce = expected.stream()
+                    .filter(r -> r.getStartTime().isBefore(end) && r.getEndTime().isAfter(start))
+                    .sorted(Comparator.comparing(Reservation::getStartTime).thenComparing(Reservation::getId))
+                    .toList();
+            assertEquals(bruteForce, tree.findOverlapping(start, end));
+        }
+    }
+
+    // ==================== Update Tests ====================
+
+    @Test
+    void insert_WhenSameReservationInsertedTwice_ShouldKeepOneEntry() {
+        // Given
+        Reservation reservation = createReservation(12, 14);
+        ReservationIntervalTree tree = new ReservationIntervalTree();
+
+        // When
+        tree.insert(reservation);
+        tree.insert(reservation);
+
+        // Then
+        assertEquals(1, tree.size());
+        assertEquals(List.of(reservation), tree.findOverlapping(at(12), at(13)));
+    }
+
+    @Test
+    void remove_WhenReservationNotPresent_ShouldReturnFalse() {
+        // Given
+        ReservationIntervalTree tree = ReservationIntervalTree.of(List.of(createReservation(12, 14)));
+
+        // When
+        boolean removed = tree.remove(createReservation(12, 14));
+
+        // Then
+        assertFalse(removed);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void remove_ShouldStopReturningReservation() {
+        // Given
+        Reservation first = createReservation(12, 14);
+        Reservation second = createReservation(12, 16);
+        ReservationIntervalTree tree = ReservationIntervalTree.of(List.of(first, second));
+
+        // When
+        boolean removed = tree.remove(second);
+
+        // Then
+        assertTrue(removed);
+        assertEquals(List.of(first), tree.findOverlapping(at(12), at(20)));
+        assertTrue(tree.findOverlapping(at(14), at(16)).isEmpty());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private LocalDateTime at(int hour) {
+        return DAY_START.withHour(hour);
+    }
+
+    private Reservation createReservation(int startHour, int endHour) {
+        return createReservation(at(startHour), at(endHour));
+    }
+
+    private Reservation createReservation(LocalDateTime startTime, LocalDateTime endTime) {
+        Reservation reservation = new Reservation();
+        reservation.setId(new ObjectId());
+        reservation.setStartTime(startTime);
+        reservation.setEndTime(endTime);
+        reservation.setPartySize(2);
+        return reservation;
+    }
+}
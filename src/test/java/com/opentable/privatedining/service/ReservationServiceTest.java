@@ -1,6 +1,11 @@
 package com.opentable.privatedining.service;
 
+import com.opentable.privatedining.dto.AlternativeSlotDTO;
+import com.opentable.privatedining.dto.BulkCancellationDTO;
+import com.opentable.privatedining.event.ReservationChangedEvent;
+import com.opentable.privatedining.event.ReservationsDeletedEvent;
 import com.opentable.privatedining.exception.CapacityExceededException;
+import com.opentable.privatedining.exception.InvalidDateRangeException;
 import com.opentable.privatedining.exception.InvalidPartySizeException;
 import com.opentable.privatedining.exception.InvalidReservationDurationException;
 import com.opentable.privatedining.exception.MultiDayReservationException;
@@ -18,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -28,6 +35,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +51,21 @@ class ReservationServiceTest {
     @Mock
     private CapacityValidationService capacityValidationService;
 
+    @Mock
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Mock
+    private AlternativeSlotService alternativeSlotService;
+
+    @Mock
+    private ReservationArchiveService reservationArchiveService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -98,6 +121,44 @@ class ReservationServiceTest {
         verify(reservationRepository).findById(reservationId);
     }
 
+    @Test
+    void getReservationById_WhenReservationArchived_ShouldReturnArchivedReservation() {
+        // Given
+        ObjectId reservationId = new ObjectId();
+        Reservation archived = createTestReservation("archived@example.com", 4);
+        archived.setId(reservationId);
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
+        when(reservationArchiveService.findArchived(reservationId)).thenReturn(Optional.of(archived));
+
+        // When
+        Optional<Reservation> result = reservationService.getReservationById(reservationId);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals("archived@example.com", result.get().getCustomerEmail());
+    }
+
+    @Test
+    void getAllReservations_ShouldIncludeArchivedReservationsOnce() {
+        // Given
+        Reservation live = createTestReservation("live@example.com", 4);
+        live.setId(new ObjectId());
+        Reservation archived = createTestReservation("archived@example.com", 2);
+        archived.setId(new ObjectId());
+        Reservation archivedCopyOfLive = createTestReservation("live@example.com", 4);
+        archivedCopyOfLive.setId(live.getId());
+        when(reservationRepository.findAll()).thenReturn(List.of(live));
+        when(reservationArchiveService.findAllArchived()).thenReturn(List.of(archived, archivedCopyOfLive));
+
+        // When
+        List<Reservation> result = reservationService.getAllReservations();
+
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.contains(live));
+        assertTrue(result.contains(archived));
+    }
+
     @Test
     void createReservation_WhenValidReservation_ShouldReturnSavedReservation() {
         // Given
@@ -127,6 +188,10 @@ class ReservationServiceTest {
         assertNotNull(result.getId());
         verify(restaurantService).getRestaurantById(restaurantId);
         verify(reservationRepository).save(reservation);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.getChangeType() == ReservationChangedEvent.ChangeType.CREATED
+                && changed.getReservation() == savedReservation));
     }
 
     @Test
@@ -245,6 +310,43 @@ class ReservationServiceTest {
         verify(reservationRepository, never()).save(any(Reservation.class));
     }
 
+    @Test
+    void createReservation_WhenCapacityExceeded_ShouldAttachAlternatives() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 14, 0);
+
+        Reservation newReservation = createTestReservation("customer@example.com", 4);
+        newReservation.setRestaurantId(restaurantId);
+        newReservation.setSpaceId(spaceId);
+        newReservation.setStartTime(startTime);
+        newReservation.setEndTime(endTime);
+
+        com.opentable.privatedining.model.Restaurant restaurant = new com.opentable.privatedining.model.Restaurant("Test Restaurant", "Address", "Cuisine", 50);
+        Space space = new Space("Test Space", 2, 8);
+        space.setId(spaceId);
+        restaurant.setSpaces(List.of(space));
+        AlternativeSlotDTO alternative = new AlternativeSlotDTO(spaceId, "Test Space",
+            startTime.plusHours(2), endTime.plusHours(2), 8);
+
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(Optional.of(restaurant));
+        doThrow(new CapacityExceededException(
+            restaurantId, spaceId, startTime, endTime, 4, 6, 8))
+            .when(capacityValidationService).validateCapacity(any(Reservation.class), any(Space.class));
+        when(alternativeSlotService.findAlternatives(restaurant, space, newReservation))
+            .thenReturn(List.of(alternative));
+
+        // When
+        CapacityExceededException exception = assertThrows(CapacityExceededException.class, () ->
+            reservationService.createReservation(newReservation));
+
+        // Then
+        assertEquals(List.of(alternative), exception.getAlternatives());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
     @Test
     void deleteReservation_WhenReservationExists_ShouldReturnTrue() {
         // Given
@@ -261,6 +363,10 @@ class ReservationServiceTest {
         assertTrue(result);
         verify(reservationRepository).findById(reservationId);
         verify(reservationRepository).deleteById(reservationId);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.getChangeType() == ReservationChangedEvent.ChangeType.DELETED
+                && changed.getReservation() == reservation));
     }
 
     @Test
@@ -276,6 +382,7 @@ class ReservationServiceTest {
         assertFalse(result);
         verify(reservationRepository).findById(reservationId);
         verify(reservationRepository, never()).deleteById(reservationId);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -1151,4 +1258,389 @@ class ReservationServiceTest {
         assertEquals(1, result.size());
         assertEquals("match@example.com", result.get(0).getCustomerEmail());
     }
-}
\ No newline at end of file
+
+    // ==================== Reservation Window Tests ====================
+
+    @Test
+    void getReservationsInWindow_WhenIndexEnabled_ShouldReturnIndexedReservations() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 15, 0);
+        Reservation indexed = createTestReservation("customer@example.com", 4);
+
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(Optional.of(createRestaurantWithSpace(spaceId)));
+        when(reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(Optional.of(List.of(indexed)));
+
+        // When
+        List<Reservation> result = reservationService.getReservationsInWindow(restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertEquals(List.of(indexed), result);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void getReservationsInWindow_WhenIndexDisabled_ShouldQueryRepositoryAndSortByStartTime() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 15, 0);
+
+        Reservation later = createTestReservation("later@example.com", 4);
+        later.setStartTime(LocalDateTime.of(2026, 1, 20, 14, 0));
+        Reservation earlier = createTestReservation("earlier@example.com", 2);
+        earlier.setStartTime(LocalDateTime.of(2026, 1, 20, 11, 0));
+
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(Optional.of(createRestaurantWithSpace(spaceId)));
+        when(reservationRepository.findOverlappingReservations(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(List.of(later, earlier));
+
+        // When
+        List<Reservation> result = reservationService.getReservationsInWindow(restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertEquals(List.of(earlier, later), result);
+    }
+
+    @Test
+    void getReservationsInWindow_WhenWindowReachesArchive_ShouldIncludeArchivedReservations() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2025, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2025, 1, 20, 15, 0);
+
+        Reservation live = createTestReservation("live@example.com", 4);
+        live.setStartTime(LocalDateTime.of(2025, 1, 20, 14, 0));
+        Reservation archived = createTestReservation("archived@example.com", 2);
+        archived.setStartTime(LocalDateTime.of(2025, 1, 20, 12, 0));
+
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(Optional.of(createRestaurantWithSpace(spaceId)));
+        when(reservationIntervalIndex.findOverlapping(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(Optional.of(List.of(live)));
+        when(reservationArchiveService.reachesArchive(startTime)).thenReturn(true);
+        when(reservationArchiveService.withArchived(List.of(live), restaurantId, spaceId, startTime, endTime))
+            .thenReturn(List.of(live, archived));
+
+        // When
+        List<Reservation> result = reservationService.getReservationsInWindow(restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertEquals(List.of(archived, live), result);
+    }
+
+    @Test
+    void getReservationsInWindow_WhenEndNotAfterStart_ShouldThrowException() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime time = LocalDateTime.of(2026, 1, 20, 12, 0);
+
+        // When & Then
+        assertThrows(InvalidDateRangeException.class,
+            () -> reservationService.getReservationsInWindow(restaurantId, spaceId, time, time));
+        verifyNoInteractions(restaurantService, reservationRepository, reservationIntervalIndex);
+    }
+
+    @Test
+    void getReservationsInWindow_WhenSpaceNotFound_ShouldThrowException() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 15, 0);
+
+        when(restaurantService.getRestaurantById(restaurantId))
+            .thenReturn(Optional.of(createRestaurantWithSpace(UUID.randomUUID())));
+
+        // When & Then
+        assertThrows(SpaceNotFoundException.class,
+            () -> reservationService.getReservationsInWindow(restaurantId, spaceId, startTime, endTime));
+        verifyNoInteractions(reservationIntervalIndex);
+    }
+
+    // ==================== Reservation Update Tests ====================
+
+    @Test
+    void updateReservation_WhenOnlyPartySizeGrows_ShouldValidateAddedGuestsOnly() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        ObjectId id = existing.getId();
+        Space space = stubRestaurantOf(existing);
+        when(reservationRepository.updateTimeAndPartySize(eq(id), any(), any(), any(), any(), any(), any()))
+            .thenReturn(1L);
+
+        // When
+        Reservation updated = reservationService.updateReservation(id, null, null, 6);
+
+        // Then
+        assertEquals(6, updated.getPartySize());
+        assertEquals(existing.getStartTime(), updated.getStartTime());
+        verify(capacityValidationService).validateAdditionalGuests(existing, space, 2);
+        verify(capacityValidationService, never()).validateCapacityExcluding(any(), any(), any());
+        verify(reservationRepository).updateTimeAndPartySize(id, existing.getStartTime(), existing.getEndTime(), 4,
+            existing.getStartTime(), existing.getEndTime(), 6);
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.getChangeType() == ReservationChangedEvent.ChangeType.DELETED
+                && changed.getReservation() == existing));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.getChangeType() == ReservationChangedEvent.ChangeType.CREATED
+                && changed.getReservation() == updated));
+    }
+
+    @Test
+    void updateReservation_WhenPartySizeShrinks_ShouldSkipCapacityValidation() {
+        // Given
+        Reservation existing = createPersistedReservation(6);
+        stubRestaurantOf(existing);
+        when(reservationRepository.updateTimeAndPartySize(eq(existing.getId()), any(), any(), any(), any(), any(), any()))
+            .thenReturn(1L);
+
+        // When
+        Reservation updated = reservationService.updateReservation(existing.getId(), null, null, 3);
+
+        // Then
+        assertEquals(3, updated.getPartySize());
+        verifyNoInteractions(capacityValidationService);
+    }
+
+    @Test
+    void updateReservation_WhenTimesChange_ShouldAlignAndValidateExcludingItself() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        ObjectId id = existing.getId();
+        Space space = stubRestaurantOf(existing);
+        when(reservationRepository.updateTimeAndPartySize(eq(id), any(), any(), any(), any(), any(), any()))
+            .thenReturn(1L);
+
+        // When
+        Reservation updated = reservationService.updateReservation(id,
+            LocalDateTime.of(2026, 1, 20, 15, 10), LocalDateTime.of(2026, 1, 20, 16, 40), null);
+
+        // Then
+        assertEquals(LocalDateTime.of(2026, 1, 20, 15, 0), updated.getStartTime());
+        assertEquals(LocalDateTime.of(2026, 1, 20, 17, 0), updated.getEndTime());
+        assertEquals(4, updated.getPartySize());
+        verify(capacityValidationService).validateCapacityExcluding(updated, space, id);
+        verify(capacityValidationService, never()).validateAdditionalGuests(any(), any(), anyInt());
+    }
+
+    @Test
+    void updateReservation_WhenNothingChanges_ShouldNotWrite() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        stubRestaurantOf(existing);
+
+        // When
+        Reservation result = reservationService.updateReservation(existing.getId(),
+            existing.getStartTime(), existing.getEndTime(), 4);
+
+        // Then
+        assertSame(existing, result);
+        verify(reservationRepository, never()).updateTimeAndPartySize(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(capacityValidationService, eventPublisher);
+    }
+
+    @Test
+    void updateReservation_WhenReservationNotFound_ShouldThrowException() {
+        // Given
+        ObjectId id = new ObjectId();
+        when(reservationRepository.findById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ReservationNotFoundException.class,
+            () -> reservationService.updateReservation(id, null, null, 6));
+        verifyNoInteractions(restaurantService, eventPublisher);
+    }
+
+    @Test
+    void updateReservation_WhenAddedGuestsExceedCapacity_ShouldThrowWithoutWriting() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        Space space = stubRestaurantOf(existing);
+        doThrow(new CapacityExceededException("Capacity exceeded"))
+            .when(capacityValidationService).validateAdditionalGuests(existing, space, 3);
+
+        // When & Then
+        assertThrows(CapacityExceededException.class,
+            () -> reservationService.updateReservation(existing.getId(), null, null, 7));
+        verify(reservationRepository, never()).updateTimeAndPartySize(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateReservation_WhenPartySizeAboveMaxCapacity_ShouldThrowException() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        stubRestaurantOf(existing);
+
+        // When & Then
+        assertThrows(InvalidPartySizeException.class,
+            () -> reservationService.updateReservation(existing.getId(), null, null, 9));
+        verifyNoInteractions(capacityValidationService);
+    }
+
+    @Test
+    void updateReservation_WhenNewTimesOutsideOperatingHours_ShouldThrowException() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        stubRestaurantOf(existing);
+
+        // When & Then
+        assertThrows(OutsideOperatingHoursException.class, () -> reservationService.updateReservation(
+            existing.getId(), LocalDateTime.of(2026, 1, 20, 21, 0), LocalDateTime.of(2026, 1, 20, 23, 0), null));
+        verifyNoInteractions(capacityValidationService, alternativeSlotService);
+    }
+
+    @Test
+    void updateReservation_WhenChangedConcurrently_ShouldThrowConflict() {
+        // Given
+        Reservation existing = createPersistedReservation(4);
+        stubRestaurantOf(existing);
+        when(reservationRepository.updateTimeAndPartySize(eq(existing.getId()), any(), any(), any(), any(), any(), any()))
+            .thenReturn(0L);
+
+        // When & Then
+        assertThrows(ReservationConflictException.class,
+            () -> reservationService.updateReservation(existing.getId(), null, null, 5));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    // ==================== Bulk Cancellation Tests ====================
+
+    @Test
+    void cancelReservations_WhenSpaceGiven_ShouldDeleteMatchingReservationsInOneCall() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+        Reservation lunch = createCancellableReservation(restaurantId, spaceId, 4);
+        Reservation tea = createCancellableReservation(restaurantId, spaceId, 6);
+
+        when(restaurantService.getRestaurantById(restaurantId))
+            .thenReturn(Optional.of(createRestaurantWithSpace(spaceId)));
+        when(reservationRepository.findByRestaurantIdAndSpaceIdAndTimeRange(restaurantId, spaceId, startTime, endTime))
+            .thenReturn(List.of(lunch, tea));
+
+        // When
+        BulkCancellationDTO result = reservationService.cancelReservations(restaurantId, spaceId, startTime, endTime);
+
+        // Then
+        assertEquals(2, result.getCancelledReservations());
+        assertEquals(10, result.getReleasedGuests());
+        assertEquals(spaceId, result.getSpaceId());
+        verify(reservationRepository).deleteByIdIn(List.of(lunch.getId(), tea.getId()));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReservationsDeletedEvent deleted
+            && deleted.getReservations().equals(List.of(lunch, tea))));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void cancelReservations_WhenNoSpaceGiven_ShouldCancelAcrossRestaurant() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 21, 12, 0);
+        Reservation reservation = createCancellableReservation(restaurantId, UUID.randomUUID(), 5);
+
+        when(restaurantService.getRestaurantById(restaurantId))
+            .thenReturn(Optional.of(createRestaurantWithSpace(UUID.randomUUID())));
+        when(reservationRepository.findByRestaurantIdAndTimeRange(restaurantId, startTime, endTime))
+            .thenReturn(List.of(reservation));
+
+        // When
+        BulkCancellationDTO result = reservationService.cancelReservations(restaurantId, null, startTime, endTime);
+
+        // Then
+        assertEquals(1, result.getCancelledReservations());
+        assertEquals(5, result.getReleasedGuests());
+        verify(reservationRepository).deleteByIdIn(List.of(reservation.getId()));
+    }
+
+    @Test
+    void cancelReservations_WhenNothingMatches_ShouldNotDeleteOrPublish() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+
+        when(restaurantService.getRestaurantById(restaurantId))
+            .thenReturn(Optional.of(createRestaurantWithSpace(UUID.randomUUID())));
+
+        // When
+        BulkCancellationDTO result = reservationService.cancelReservations(restaurantId, null, startTime, endTime);
+
+        // Then
+        assertEquals(0, result.getCancelledReservations());
+        assertEquals(0, result.getReleasedGuests());
+        verify(reservationRepository, never()).deleteByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void cancelReservations_WhenEndNotAfterStart_ShouldThrowException() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        LocalDateTime time = LocalDateTime.of(2026, 1, 20, 12, 0);
+
+        // When & Then
+        assertThrows(InvalidDateRangeException.class,
+            () -> reservationService.cancelReservations(restaurantId, null, time, time));
+        verifyNoInteractions(restaurantService, reservationRepository, eventPublisher);
+    }
+
+    @Test
+    void cancelReservations_WhenSpaceNotFound_ShouldThrowException() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2026, 1, 20, 12, 0);
+        LocalDateTime endTime = LocalDateTime.of(2026, 1, 20, 18, 0);
+
+        when(restaurantService.getRestaurantById(restaurantId))
+            .thenReturn(Optional.of(createRestaurantWithSpace(UUID.randomUUID())));
+
+        // When & Then
+        assertThrows(SpaceNotFoundException.class,
+            () -> reservationService.cancelReservations(restaurantId, spaceId, startTime, endTime));
+        verifyNoInteractions(reservationRepository, eventPublisher);
+    }
+
+    private Reservation createCancellableReservation(ObjectId restaurantId, UUID spaceId, int partySize) {
+        Reservation reservation = new Reservation(restaurantId, spaceId, "customer@example.com",
+            LocalDateTime.of(2026, 1, 20, 13, 0), LocalDateTime.of(2026, 1, 20, 15, 0), partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        return reservation;
+    }
+
+    private Reservation createPersistedReservation(int partySize) {
+        Reservation reservation = new Reservation(new ObjectId(), UUID.randomUUID(), "customer@example.com",
+            LocalDateTime.of(2026, 1, 20, 12, 0), LocalDateTime.of(2026, 1, 20, 14, 0), partySize, "CONFIRMED");
+        reservation.setId(new ObjectId());
+        when(reservationRepository.findById(reservation.getId())).thenReturn(Optional.of(reservation));
+        return reservation;
+    }
+
+    private Space stubRestaurantOf(Reservation reservation) {
+        com.opentable.privatedining.model.Restaurant restaurant = createRestaurantWithSpace(reservation.getSpaceId());
+        when(restaurantService.getRestaurantById(reservation.getRestaurantId())).thenReturn(Optional.of(restaurant));
+        return restaurant.getSpaces().get(0);
+    }
+
+    private com.opentable.privatedining.model.Restaurant createRestaurantWithSpace(UUID spaceId) {
+        com.opentable.privatedining.model.Restaurant restaurant =
+            new com.opentable.privatedining.model.Restaurant("Test Restaurant", "Address", "Cuisine", 50);
+        Space space = new Space("Test Space", 2, 8);
+        space.setId(spaceId);
+        restaurant.setSpaces(List.of(space));
+        return restaurant;
+    }
+}
@@ -1,5 +1,6 @@
 package com.opentable.privatedining.service;
 
+import com.opentable.privatedining.dto.SpaceUpdateDTO;
 import com.opentable.privatedining.model.Restaurant;
 import com.opentable.privatedining.model.Space;
 import com.opentable.privatedining.repository.RestaurantRepository;
@@ -10,8 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +29,9 @@ class RestaurantServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private ReservationCleanupService reservationCleanupService;
+
     @InjectMocks
     private RestaurantService restaurantService;
 
@@ -104,14 +110,10 @@ class RestaurantServiceTest {
     void updateRestaurant_WhenRestaurantExists_ShouldReturnUpdatedRestaurant() {
         // Given
         ObjectId restaurantId = new ObjectId();
-        Restaurant existingRestaurant = new Restaurant("Old Restaurant", "Old Address", "Old Cuisine", 50);
-        existingRestaurant.setId(restaurantId);
-
         Restaurant updatedRestaurant = new Restaurant("Updated Restaurant", "Updated Address", "Updated Cuisine", 70);
         updatedRestaurant.setId(restaurantId);
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(existingRestaurant));
-        when(restaurantRepository.save(any(Restaurant.class))).thenReturn(updatedRestaurant);
+        when(restaurantRepository.updateDetails(restaurantId, updatedRestaurant)).thenReturn(Optional.of(updatedRestaurant));
 
         // When
         Optional<Restaurant> result = restaurantService.updateRestaurant(restaurantId, updatedRestaurant);
@@ -120,8 +122,8 @@ class RestaurantServiceTest {
         assertTrue(result.isPresent());
         assertEquals("Updated Restaurant", result.get().getName());
         assertEquals(restaurantId, result.get().getId());
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(updatedRestaurant);
+        verify(restaurantRepository).updateDetails(restaurantId, updatedRestaurant);
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
     @Test
@@ -130,14 +132,13 @@ class RestaurantServiceTest {
         ObjectId restaurantId = new ObjectId();
         Restaurant updatedRestaurant = new Restaurant("Updated Restaurant", "Updated Address", "Updated Cuisine", 70);
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.updateDetails(restaurantId, updatedRestaurant)).thenReturn(Optional.empty());
 
         // When
         Optional<Restaurant> result = restaurantService.updateRestaurant(restaurantId, updatedRestaurant);
 
         // Then
         assertFalse(result.isPresent());
-        verify(restaurantRepository).findById(restaurantId);
         verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
@@ -157,6 +158,7 @@ class RestaurantServiceTest {
         assertTrue(result);
         verify(restaurantRepository).findById(restaurantId);
         verify(restaurantRepository).deleteById(restaurantId);
+        verify(reservationCleanupService).submitCleanup(restaurantId, null);
     }
 
     @Test
@@ -172,22 +174,19 @@ class RestaurantServiceTest {
         assertFalse(result);
         verify(restaurantRepository).findById(restaurantId);
         verify(restaurantRepository, never()).deleteById(restaurantId);
+        verifyNoInteractions(reservationCleanupService);
     }
 
     @Test
     void addSpaceToRestaurant_WhenRestaurantExists_ShouldReturnUpdatedRestaurant() {
         // Given
         ObjectId restaurantId = new ObjectId();
-        Restaurant restaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
-        restaurant.setId(restaurantId);
-
         Space space = new Space("Private Room", 2, 10);
         Restaurant updatedRestaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
         updatedRestaurant.setId(restaurantId);
         updatedRestaurant.getSpaces().add(space);
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
-        when(restaurantRepository.save(restaurant)).thenReturn(updatedRestaurant);
+        when(restaurantRepository.pushSpace(restaurantId, space)).thenReturn(Optional.of(updatedRestaurant));
 
         // When
         Optional<Restaurant> result = restaurantService.addSpaceToRestaurant(restaurantId, space);
@@ -196,8 +195,8 @@ class RestaurantServiceTest {
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getSpaces().size());
         assertEquals("Private Room", result.get().getSpaces().get(0).getName());
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(restaurant);
+        verify(restaurantRepository).pushSpace(restaurantId, space);
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
     @Test
@@ -206,14 +205,13 @@ class RestaurantServiceTest {
         ObjectId restaurantId = new ObjectId();
         Space space = new Space("Private Room", 2, 10);
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.pushSpace(restaurantId, space)).thenReturn(Optional.empty());
 
         // When
         Optional<Restaurant> result = restaurantService.addSpaceToRestaurant(restaurantId, space);
 
         // Then
         assertFalse(result.isPresent());
-        verify(restaurantRepository).findById(restaurantId);
         verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
@@ -223,27 +221,39 @@ class RestaurantServiceTest {
         ObjectId restaurantId = new ObjectId();
         UUID spaceId = UUID.randomUUID();
 
-        Space space = new Space("Private Room", 2, 10);
-        space.setId(spaceId);
+        Restaurant updatedRestaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
+        updatedRestaurant.setId(restaurantId);
+
+        when(restaurantRepository.pullSpace(restaurantId, spaceId)).thenReturn(Optional.of(updatedRestaurant));
+
+        // When
+        Optional<Restaurant> result = restaurantService.removeSpaceFromRestaurant(restaurantId, spaceId);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(0, result.get().getSpaces().size());
+        verify(restaurantRepository).pullSpace(restaurantId, spaceId);
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+        verify(reservationCleanupService).submitCleanup(restaurantId, spaceId);
+    }
 
+    @Test
+    void removeSpaceFromRestaurant_WhenSpaceNotInRestaurant_ShouldNotCleanUpReservations() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
         Restaurant restaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
         restaurant.setId(restaurantId);
-        restaurant.getSpaces().add(space);
-
-        Restaurant updatedRestaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
-        updatedRestaurant.setId(restaurantId);
 
+        when(restaurantRepository.pullSpace(restaurantId, spaceId)).thenReturn(Optional.empty());
         when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
-        when(restaurantRepository.save(restaurant)).thenReturn(updatedRestaurant);
 
         // When
         Optional<Restaurant> result = restaurantService.removeSpaceFromRestaurant(restaurantId, spaceId);
 
         // Then
         assertTrue(result.isPresent());
-        assertEquals(0, restaurant.getSpaces().size());
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(restaurant);
+        verifyNoInteractions(reservationCleanupService);
     }
 
     @Test
@@ -263,6 +273,65 @@ class RestaurantServiceTest {
         verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
+    @Test
+    void updateSpace_ShouldSetOnlyProvidedFields() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        Restaurant updatedRestaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
+        SpaceUpdateDTO spaceUpdate = new SpaceUpdateDTO();
+        spaceUpdate.setMaxCapacity(16);
+        spaceUpdate.setOperatingEndTime(LocalTime.of(23, 0));
+
+        when(restaurantRepository.updateSpace(restaurantId, spaceId,
+                Map.of("maxCapacity", 16, "operatingEndTime", LocalTime.of(23, 0))))
+                .thenReturn(Optional.of(updatedRestaurant));
+
+        // When
+        Optional<Restaurant> result = restaurantService.updateSpace(restaurantId, spaceId, spaceUpdate);
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+    }
+
+    @Test
+    void updateSpace_WhenRestaurantOrSpaceNotFound_ShouldReturnEmpty() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        UUID spaceId = UUID.randomUUID();
+        SpaceUpdateDTO spaceUpdate = new SpaceUpdateDTO();
+        spaceUpdate.setName("Renamed Room");
+
+        when(restaurantRepository.updateSpace(restaurantId, spaceId, Map.of("name", "Renamed Room")))
+                .thenReturn(Optional.empty());
+
+        // When
+        Optional<Restaurant> result = restaurantService.updateSpace(restaurantId, spaceId, spaceUpdate);
+
+        // Then
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void updateSpace_WhenNothingToChange_ShouldNotWrite() {
+        // Given
+        ObjectId restaurantId = new ObjectId();
+        Space space = new Space("Private Room", 2, 10);
+        Restaurant restaurant = new Restaurant("Test Restaurant", "Test Address", "Test Cuisine", 50);
+        restaurant.getSpaces().add(space);
+
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+
+        // When
+        Optional<Restaurant> result = restaurantService.updateSpace(restaurantId, space.getId(), new SpaceUpdateDTO());
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(restaurantRepository, never()).updateSpace(any(), any(), any());
+    }
+
     @Test
     void getSpaceById_WhenSpaceExists_ShouldReturnSpace() {
         // Given
@@ -0,0 +1,283 @@
+package com.opentable.privatedining.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opentable.privatedining.config.CacheConfig;
+import com.opentable.privatedining.config.JacksonConfig;
+import com.opentable.privatedining.dto.OccupancyReportDTO;
+import com.opentable.privatedining.repository.SharedCacheStore;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private InMemorySharedCacheStore sharedCacheStore;
+    private ObjectMapper objectMapper;
+    private TwoTierCache nodeA;
+    private TwoTierCache nodeB;
+
+    private ObjectId restaurantId;
+    private ObjectId otherRestaurantId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheStore = new InMemorySharedCacheStore();
+        objectMapper = new JacksonConfig().objectMapper();
+        nodeA = createNode(sharedCacheStore);
+        nodeB = createNode(sharedCacheStore);
+
+        restaurantId = new ObjectId();
+        otherRestaurantId = new ObjectId();
+        startTime = LocalDateTime.of(2026, 3, 14, 9, 0);
+        endTime = LocalDateTime.of(2026, 3, 14, 18, 0);
+    }
+
+    // ==================== Lookup Tests ====================
+
+    @Test
+    void get_WhenMissingLocallyButComputedByAnotherNode_ShouldReuseSharedValue() {
+        // Given
+        AtomicInteger computations = new AtomicInteger();
+        nodeA.get(key(restaurantId), () -> compute(restaurantId, computations));
+
+        // When
+        OccupancyReportDTO report = nodeB.get(key(restaurantId), () -> compute(restaurantId, computations));
+
+        // Then
+        assertEquals(1, computations.get());
+        assertEquals(restaurantId.toHexString(), report.getRestaurantId());
+        assertEquals(startTime, report.getReportStartTime());
+        assertEquals(endTime, report.getReportEndTime());
+        assertEquals(3, report.getTotalElements());
+    }
+
+    @Test
+    void get_WhenSharedHit_ShouldCopyValueIntoLocalTier() {
+        // Given
+        nodeA.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+        nodeB.get(key(restaurantId));
+        sharedCacheStore.clear(CacheConfig.OCCUPANCY_REPORTS_CACHE);
+
+        // When
+        OccupancyReportDTO report = nodeB.get(key(restaurantId), OccupancyReportDTO.class);
+
+        // Then
+        assertNotNull(report);
+        assertEquals(restaurantId.toHexString(), report.getRestaurantId());
+    }
+
+    @Test
+    void get_WhenMissingInBothTiers_ShouldReturnNull() {
+        // When & Then
+        assertNull(nodeA.get(key(restaurantId)));
+    }
+
+    @Test
+    void get_WhenSharedStoreFails_ShouldComputeValue() {
+        // Given
+        sharedCacheStore.failing = true;
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        OccupancyReportDTO report = nodeA.get(key(restaurantId), () -> compute(restaurantId, computations));
+
+        // Then
+        assertEquals(1, computations.get());
+        assertNotNull(report);
+        assertNotNull(nodeA.get(key(restaurantId)));
+    }
+
+    // ==================== Serialisation Tests ====================
+
+    @Test
+    void put_ShouldStoreDeflatedJsonWithoutNullFields() throws Exception {
+        // When
+        nodeA.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+
+        // Then
+        byte[] stored = sharedCacheStore.get(CacheConfig.OCCUPANCY_REPORTS_CACHE,
+                TwoTierCache.sharedKey(key(restaurantId))).orElseThrow();
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(stored))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"restaurantId\":\"" + restaurantId.toHexString() + "\""));
+            assertFalse(json.contains("summary"));
+        }
+    }
+
+    @Test
+    void sharedKey_ShouldJoinKeyElementsIncludingNulls() {
+        // When
+        String sharedKey = TwoTierCache.sharedKey(key(restaurantId));
+
+        // Then
+        assertEquals(restaurantId.toHexString() + "|" + startTime + "|" + endTime + "|null|0|10", sharedKey);
+    }
+
+    // ==================== Eviction Tests ====================
+
+    @Test
+    void evictGroup_ShouldRemoveOnlyEntriesOfRestaurantFromBothTiers() {
+        // Given
+        nodeA.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+        nodeA.put(key(otherRestaurantId), compute(otherRestaurantId, new AtomicInteger()));
+
+        // When
+        nodeA.evictGroup(restaurantId);
+
+        // Then
+        assertNull(nodeA.get(key(restaurantId)));
+        assertNull(nodeB.get(key(restaurantId)));
+        assertNotNull(nodeA.get(key(otherRestaurantId)));
+        assertNotNull(nodeB.get(key(otherRestaurantId)));
+    }
+
+    @Test
+    void evictGroup_ShouldEvictSharedTierInBackgroundAndSkipItUntilDone() {
+        // Given
+        List<Runnable> evictions = new ArrayList<>();
+        TwoTierCache node = createNode(sharedCacheStore, evictions::add);
+        node.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+        node.put(key(otherRestaurantId), compute(otherRestaurantId, new AtomicInteger()));
+
+        // When
+        node.evictGroup(restaurantId);
+
+        // Then
+        String sharedKey = TwoTierCache.sharedKey(key(restaurantId));
+        assertEquals(1, evictions.size());
+        assertTrue(sharedCacheStore.get(CacheConfig.OCCUPANCY_REPORTS_CACHE, sharedKey).isPresent());
+        assertNull(node.get(key(restaurantId)));
+        assertNotNull(node.get(key(otherRestaurantId)));
+
+        evictions.get(0).run();
+        assertTrue(sharedCacheStore.get(CacheConfig.OCCUPANCY_REPORTS_CACHE, sharedKey).isEmpty());
+        assertNull(nodeB.get(key(restaurantId)));
+        assertNotNull(nodeB.get(key(otherRestaurantId)));
+    }
+
+    @Test
+    void clear_ShouldRemoveEntriesFromBothTiers() {
+        // Given
+        nodeA.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+
+        // When
+        nodeA.clear();
+
+        // Then
+        assertNull(nodeA.get(key(restaurantId)));
+        assertNull(nodeB.get(key(restaurantId)));
+    }
+
+    @Test
+    void get_WhenSharedEntryExpired_ShouldComputeValue() {
+        // Given
+        TwoTierCache shortLived = new TwoTierCache(new CaffeineCache(CacheConfig.OCCUPANCY_REPORTS_CACHE,
+                Caffeine.newBuilder().build()),
+                sharedCacheStore, objectMapper, OccupancyReportDTO.class, Duration.ZERO, Runnable::run);
+        shortLived.put(key(restaurantId), compute(restaurantId, new AtomicInteger()));
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        nodeB.get(key(restaurantId), () -> compute(restaurantId, computations));
+
+        // Then
+        assertEquals(1, computations.get());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private TwoTierCache createNode(SharedCacheStore store) {
+        return createNode(store, Runnable::run);
+    }
+
+    private TwoTierCache createNode(SharedCacheStore store, Executor evictionExecutor) {
+        return new TwoTierCache(new CaffeineCache(CacheConfig.OCCUPANCY_REPORTS_CACHE,
+                Caffeine.newBuilder().build()),
+                store, new JacksonConfig().objectMapper(), OccupancyReportDTO.class, Duration.ofMinutes(5),
+                evictionExecutor);
+    }
+
+    private List<Object> key(ObjectId restaurant) {
+        return Arrays.asList(restaurant, startTime, endTime, null, 0, 10);
+    }
+
+    private OccupancyReportDTO compute(ObjectId restaurant, AtomicInteger computations) {
+        computations.incrementAndGet();
+        return new OccupancyReportDTO(restaurant.toHexString(), startTime, endTime, null, new ArrayList<>(),
+                0, 10, 3, 1, Instant.now());
+    }
+
+    /**
+     * In-process stand-in for the shared store, as a second instance would see it.
+     */
+    private static class InMemorySharedCacheStore implements SharedCacheStore {
+
+        private record Entry(String group, byte[] value, long expiresAt) {
+        }
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private boolean failing;
+
+        @Override
+        public Optional<byte[]> get(String cacheName, String key) {
+            check();
+            Entry entry = entries.get(cacheName + ":" + key);
+            return entry != null && entry.expiresAt() > System.currentTimeMillis()
+                    ? Optional.of(entry.value())
+                    : Optional.empty();
+        }
+
+        @Override
+        public void put(String cacheName, String key, String group, byte[] value, Duration timeToLive) {
+            check();
+            entries.put(cacheName + ":" + key,
+                    new Entry(cacheName + ":" + group, value, System.currentTimeMillis() + timeToLive.toMillis()));
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            check();
+            entries.remove(cacheName + ":" + key);
+        }
+
+        @Override
+        public void evictGroup(String cacheName, String group) {
+            check();
+            entries.values().removeIf(entry -> entry.group().equals(cacheName + ":" + group));
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            check();
+            entries.keySet().removeIf(id -> id.startsWith(cacheName + ":"));
+        }
+
+        private void check() {
+            if (failing) {
+                throw new IllegalStateException("Shared store unavailable");
+            }
+        }
+    }
+}